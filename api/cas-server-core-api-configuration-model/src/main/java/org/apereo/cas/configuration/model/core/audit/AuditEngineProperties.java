@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -107,6 +108,13 @@ public class AuditEngineProperties implements Serializable {
      */
     private AuditFormatTypes auditFormat = AuditFormatTypes.DEFAULT;
 
+    /**
+     * Settings that control how audit records are queued and written
+     * in batches by audit trail managers that operate asynchronously.
+     */
+    @NestedConfigurationProperty
+    private AuditPipelineProperties pipeline = new AuditPipelineProperties();
+
     /**
      * The audit format types.
      */
@@ -0,0 +1,79 @@
+package org.apereo.cas.configuration.model.core.audit;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link AuditPipelineProperties}. Controls how audit records
+ * are queued and written in batches by audit trail managers that are set
+ * to record audit records asynchronously.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@RequiresModule(name = "cas-server-core-audit", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("AuditPipelineProperties")
+public class AuditPipelineProperties implements Serializable {
+
+    private static final long serialVersionUID = 4391864272543915783L;
+
+    /**
+     * Maximum number of audit records that can be queued
+     * for asynchronous storage at any given time. Once the queue
+     * is full, the overflow policy determines what should happen to new records.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Maximum number of audit records that are written
+     * to the audit storage service at once.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Maximum amount of time an audit record is allowed to wait in
+     * the queue before the current batch is written, even if the batch is not full.
+     */
+    @DurationCapable
+    private String flushInterval = "PT1S";
+
+    /**
+     * Decide what should happen to audit records once the queue is full.
+     */
+    private OverflowPolicyTypes overflowPolicy = OverflowPolicyTypes.BLOCK;
+
+    /**
+     * Directory on the local file system used to store audit records
+     * when the queue is full and the overflow policy is set to spill records to disk.
+     * Spilled records are picked up and written once the queue has drained.
+     */
+    private String spillDirectory = System.getProperty("java.io.tmpdir") + "/cas-audit";
+
+    /**
+     * Overflow policy types.
+     */
+    public enum OverflowPolicyTypes {
+        /**
+         * Block the caller until there is room in the queue.
+         */
+        BLOCK,
+        /**
+         * Drop the audit record and keep track of the number of dropped records.
+         */
+        DROP,
+        /**
+         * Spill the audit record to local disk to be written later.
+         */
+        SPILL
+    }
+}
@@ -36,4 +36,10 @@ public class AuthenticationEngineProperties implements Serializable {
     @NestedConfigurationProperty
     private GroovyAuthenticationEngineProcessorProperties groovyPostProcessor = new GroovyAuthenticationEngineProcessorProperties();
 
+    /**
+     * Control how authentication handlers are executed.
+     */
+    @NestedConfigurationProperty
+    private AuthenticationHandlerExecutionProperties handlerExecution = new AuthenticationHandlerExecutionProperties();
+
 }
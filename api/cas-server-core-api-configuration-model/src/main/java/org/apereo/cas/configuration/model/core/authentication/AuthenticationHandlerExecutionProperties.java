@@ -0,0 +1,72 @@
+package org.apereo.cas.configuration.model.core.authentication;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link AuthenticationHandlerExecutionProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@RequiresModule(name = "cas-server-core-authentication", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("AuthenticationHandlerExecutionProperties")
+public class AuthenticationHandlerExecutionProperties implements Serializable {
+    private static final long serialVersionUID = 4413290575467152231L;
+
+    /**
+     * Control how authentication handlers that support the same credential are executed.
+     * Accepted values are:
+     * <ul>
+     *     <li>{@code SEQUENTIAL}: Handlers are executed one after another, in order.</li>
+     *     <li>{@code PARALLEL}: Handlers are executed concurrently. Results are evaluated against
+     *     the authentication policy as they arrive, outstanding attempts are cancelled
+     *     once the policy is satisfied, and results that arrive together are evaluated in handler order.</li>
+     * </ul>
+     */
+    private AuthenticationHandlerExecutionModes mode = AuthenticationHandlerExecutionModes.SEQUENTIAL;
+
+    /**
+     * Maximum number of threads used to execute authentication handlers concurrently.
+     */
+    private int poolSize = 20;
+
+    /**
+     * Maximum number of authentication handler executions that may wait for a thread
+     * when all threads are busy. Once the queue is full, handlers are executed
+     * by the thread that submits them.
+     */
+    private int queueCapacity = 100;
+
+    /**
+     * Maximum amount of time to wait for authentication handlers to produce a result
+     * when handlers are executed concurrently. Handlers that do not finish in time are
+     * cancelled and recorded as failures.
+     */
+    @DurationCapable
+    private String timeout = "PT30S";
+
+    /**
+     * Authentication handler execution modes.
+     */
+    public enum AuthenticationHandlerExecutionModes {
+        /**
+         * Execute handlers one after another.
+         */
+        SEQUENTIAL,
+        /**
+         * Execute handlers concurrently.
+         */
+        PARALLEL
+    }
+}
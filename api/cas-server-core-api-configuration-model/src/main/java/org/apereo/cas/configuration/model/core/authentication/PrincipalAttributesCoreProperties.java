@@ -1,5 +1,6 @@
 package org.apereo.cas.configuration.model.core.authentication;
 
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import com.fasterxml.jackson.annotation.JsonFilter;
@@ -46,12 +47,42 @@ public class PrincipalAttributesCoreProperties implements Serializable {
      */
     private int maximumCacheSize = 10000;
 
+    /**
+     * Indicates the maximum amount of memory, in bytes, that may be used
+     * to cache attributes for services whose attribute release policy
+     * caches principal attributes. The footprint of each cached entry is estimated
+     * from the size of attribute names and values, and entries are evicted once the limit is reached.
+     */
+    private long maximumCacheWeight = 64L * 1024 * 1024;
+
     /**
      * Recover from LDAP exceptions and continue with partial results. Otherwise,
-     * die and do not allow to log in.
+     * die and do not allow to log in. When attribute repositories are queried concurrently,
+     * this setting also controls whether attribute repositories that do not produce a result
+     * in time are skipped in favor of partial results.
      */
     private boolean recoverExceptions = true;
 
+    /**
+     * Maximum amount of time each attribute repository is given to produce a result
+     * when attribute repositories are queried concurrently. Attribute repositories that
+     * do not finish in time are cancelled, and are treated as failures.
+     */
+    @DurationCapable
+    private String timeout = "PT5S";
+
+    /**
+     * Maximum number of threads used to query attribute repositories concurrently.
+     */
+    private int poolSize = 20;
+
+    /**
+     * Maximum number of attribute repository queries that may wait for a thread
+     * when all threads are busy. Once the queue is full, attribute repositories are queried
+     * by the thread that submits them.
+     */
+    private int queueCapacity = 100;
+
     /**
      * Merging strategies can be used to resolve conflicts when the same attribute are found from multiple sources.
      */
@@ -97,7 +128,13 @@ public class PrincipalAttributesCoreProperties implements Serializable {
          *  the attributes from the first query in the result set are
          *  used as the query for the next repository.
          */
-        CASCADE
+        CASCADE,
+        /**
+         * Query multiple repositories concurrently, each within the configured timeout,
+         * and merge the results into a single result set in the order in which repositories are defined.
+         * Repositories that depend on the results of other repositories should be cascaded instead.
+         */
+        CONCURRENT
     }
 
     /**
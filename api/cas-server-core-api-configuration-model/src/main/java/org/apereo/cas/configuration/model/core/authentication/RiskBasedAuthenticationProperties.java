@@ -2,6 +2,7 @@ package org.apereo.cas.configuration.model.core.authentication;
 
 import org.apereo.cas.configuration.model.support.email.EmailProperties;
 import org.apereo.cas.configuration.model.support.sms.SmsProperties;
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import lombok.Getter;
@@ -51,6 +52,12 @@ public class RiskBasedAuthenticationProperties implements Serializable {
      */
     private Response response = new Response();
 
+    /**
+     * Control how authentication history of each principal
+     * is summarized and kept in memory to calculate risky authentication attempts.
+     */
+    private Profile profile = new Profile();
+
     /**
      * The risk threshold factor beyond which the authentication
      * event may be considered risky.
@@ -170,4 +177,26 @@ public class RiskBasedAuthenticationProperties implements Serializable {
         @NestedConfigurationProperty
         private SmsProperties sms = new SmsProperties();
     }
+
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    @RequiresModule(name = "cas-server-support-electrofence")
+    public static class Profile implements Serializable {
+
+        private static final long serialVersionUID = -2195460187249364561L;
+
+        /**
+         * Maximum number of principal profiles that are kept in memory.
+         * Profiles that are evicted are rebuilt from the events repository when needed.
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * Amount of time after which a principal profile that is kept in memory
+         * expires and is rebuilt from the events repository when needed.
+         */
+        @DurationCapable
+        private String expiration = "PT30M";
+    }
 }
@@ -1,11 +1,14 @@
 package org.apereo.cas.configuration.model.core.events;
 
+import org.apereo.cas.configuration.model.support.quartz.ScheduledJobProperties;
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.io.Serializable;
 
@@ -42,4 +45,20 @@ public class CoreEventsProperties implements Serializable {
      * configuration files and reloading context conditionally if there are any changes.
      */
     private boolean trackConfigurationModifications;
+
+    /**
+     * How long recorded events should be kept in the events repository.
+     * Events created before this period are removed by the background cleaner process,
+     * if the events repository supports removing events. Leaving this setting
+     * undefined keeps all events indefinitely.
+     */
+    @DurationCapable
+    private String retention;
+
+    /**
+     * Settings that control the background cleaner process
+     * that removes events beyond the retention period.
+     */
+    @NestedConfigurationProperty
+    private ScheduledJobProperties cleaner = new ScheduledJobProperties("PT1M", "PT1H");
 }
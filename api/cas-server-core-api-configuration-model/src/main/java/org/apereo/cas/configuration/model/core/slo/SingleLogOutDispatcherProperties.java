@@ -0,0 +1,81 @@
+package org.apereo.cas.configuration.model.core.slo;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link SingleLogOutDispatcherProperties}. Controls how back-channel
+ * logout messages are queued, persisted and delivered to applications
+ * when asynchronous single logout is turned on.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@RequiresModule(name = "cas-server-core-logout", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("SingleLogOutDispatcherProperties")
+public class SingleLogOutDispatcherProperties implements Serializable {
+
+    private static final long serialVersionUID = 2871635408290815271L;
+
+    /**
+     * Whether asynchronous back-channel logout messages should be handed off
+     * to a dedicated dispatcher that persists messages on disk, limits the number of
+     * concurrent requests per application endpoint and retries failed deliveries.
+     * When false, messages are posted directly via the HTTP client.
+     */
+    private boolean enabled;
+
+    /**
+     * Directory on the local file system used to store logout messages
+     * until they are delivered. Messages that are left in this directory
+     * when CAS shuts down are picked up and sent again on startup.
+     */
+    private String queueDirectory = System.getProperty("java.io.tmpdir") + "/cas-slo";
+
+    /**
+     * Number of threads used to deliver logout messages.
+     */
+    private int threads = 8;
+
+    /**
+     * Maximum number of logout messages that may be sent
+     * to the same application endpoint at the same time.
+     */
+    private int maxConcurrentRequestsPerEndpoint = 2;
+
+    /**
+     * Maximum number of logout messages that can be waiting
+     * for delivery at any given time. Once the limit is reached,
+     * new messages are posted directly via the HTTP client.
+     */
+    private int queueCapacity = 100_000;
+
+    /**
+     * Maximum number of delivery attempts for a logout message
+     * before the message is discarded.
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * Amount of time to wait before a failed logout message is retried.
+     * The delay doubles with every failed attempt.
+     */
+    @DurationCapable
+    private String retryDelay = "PT5S";
+
+    /**
+     * Maximum amount of time to wait before a failed logout message is retried.
+     */
+    @DurationCapable
+    private String maxRetryDelay = "PT5M";
+}
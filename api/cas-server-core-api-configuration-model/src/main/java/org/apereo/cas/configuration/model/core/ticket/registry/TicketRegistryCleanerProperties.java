@@ -0,0 +1,53 @@
+package org.apereo.cas.configuration.model.core.ticket.registry;
+
+import org.apereo.cas.configuration.model.support.quartz.ScheduledJobProperties;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * This is {@link TicketRegistryCleanerProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@RequiresModule(name = "cas-server-core-tickets", automated = true)
+@Getter
+@Setter
+@NoArgsConstructor
+@Accessors(chain = true)
+@JsonFilter("TicketRegistryCleanerProperties")
+public class TicketRegistryCleanerProperties extends ScheduledJobProperties {
+
+    private static final long serialVersionUID = -2297467406158632951L;
+
+    /**
+     * Number of threads used to scan the partitions of the ticket registry
+     * for expired tickets, and the number of threads used to remove expired tickets.
+     * Ticket registries that store tickets in separate partitions, such as a collection
+     * per ticket type, allow partitions to be scanned in parallel.
+     */
+    private int poolSize = 4;
+
+    /**
+     * Number of expired tickets that are collected and removed together
+     * by the same thread.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Whether single logout for expired ticket-granting tickets should be carried out
+     * in the background, independent of removing the ticket from the registry.
+     * When false, the cleaner waits for logout notifications to be processed
+     * before the ticket-granting ticket is removed.
+     */
+    private boolean asynchronousLogout = true;
+
+    public TicketRegistryCleanerProperties(final String startDelay, final String repeatInterval) {
+        super(startDelay, repeatInterval);
+    }
+}
@@ -0,0 +1,108 @@
+package org.apereo.cas.configuration.model.core.ticket.registry;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link TicketRegistryCoreProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@RequiresModule(name = "cas-server-core-tickets", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("TicketRegistryCoreProperties")
+public class TicketRegistryCoreProperties implements Serializable {
+    private static final long serialVersionUID = 7615238712893475216L;
+
+    /**
+     * Determine how ticket operations that must be exclusive,
+     * such as the validation of a service ticket, are locked.
+     * Accepted values are the following:
+     *
+     * <ul>
+     * <li>NONE: Do not lock ticket operations.</li>
+     * <li>LOCAL: Lock ticket operations per ticket id using in-memory striped locks.</li>
+     * <li>DISTRIBUTED: Lock ticket operations per ticket id across the cluster,
+     * using the locking facilities of the ticket registry in use, if any.</li>
+     * </ul>
+     */
+    private TicketRegistryLockingModes lockingMode = TicketRegistryLockingModes.LOCAL;
+
+    /**
+     * Number of in-memory lock stripes used when locking is local.
+     * Operations on different tickets contend with each other only
+     * when their ids map onto the same stripe.
+     */
+    private int lockStripes = 1024;
+
+    /**
+     * Maximum amount of time to wait for a ticket lock
+     * to be obtained.
+     */
+    @DurationCapable
+    private String lockTimeout = "PT3S";
+
+    /**
+     * Amount of time a distributed ticket lock may be held
+     * before it is considered expired and released automatically,
+     * so that nodes that crash while holding a lock never block others indefinitely.
+     * This should be longer than the time it takes to complete any locked ticket operation.
+     */
+    @DurationCapable
+    private String lockLeaseDuration = "PT30S";
+
+    /**
+     * Determine how tickets are serialized by ticket registries
+     * that store tickets as strings, such as JPA, MongoDb, CouchDb or DynamoDb.
+     * Accepted values are the following:
+     *
+     * <ul>
+     * <li>JSON: Serialize tickets as JSON documents.</li>
+     * <li>BINARY: Serialize tickets using a compact, versioned binary format.
+     * Tickets that were previously stored as JSON can still be read.</li>
+     * </ul>
+     */
+    private TicketSerializationFormats serializationFormat = TicketSerializationFormats.JSON;
+
+    /**
+     * Types of locking modes that one can control.
+     */
+    public enum TicketRegistryLockingModes {
+        /**
+         * Do not lock ticket operations.
+         */
+        NONE,
+        /**
+         * Lock ticket operations in memory.
+         */
+        LOCAL,
+        /**
+         * Lock ticket operations across the cluster.
+         */
+        DISTRIBUTED
+    }
+
+    /**
+     * Types of ticket serialization formats.
+     */
+    public enum TicketSerializationFormats {
+        /**
+         * Serialize tickets as JSON.
+         */
+        JSON,
+        /**
+         * Serialize tickets in a compact binary format.
+         */
+        BINARY
+    }
+}
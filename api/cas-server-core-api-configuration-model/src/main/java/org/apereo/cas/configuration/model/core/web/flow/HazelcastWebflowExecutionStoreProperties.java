@@ -0,0 +1,28 @@
+package org.apereo.cas.configuration.model.core.web.flow;
+
+import org.apereo.cas.configuration.model.support.hazelcast.BaseHazelcastProperties;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * This is {@link HazelcastWebflowExecutionStoreProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@RequiresModule(name = "cas-server-support-webflow-hazelcast")
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("HazelcastWebflowExecutionStoreProperties")
+public class HazelcastWebflowExecutionStoreProperties extends BaseHazelcastProperties {
+    private static final long serialVersionUID = -4172526237307441207L;
+
+    public HazelcastWebflowExecutionStoreProperties() {
+        getCluster().getCore().setInstanceName("localhost-webflow-executions");
+    }
+}
@@ -0,0 +1,24 @@
+package org.apereo.cas.configuration.model.core.web.flow;
+
+import org.apereo.cas.configuration.model.support.redis.BaseRedisProperties;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * This is {@link RedisWebflowExecutionStoreProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@RequiresModule(name = "cas-server-support-webflow-redis")
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("RedisWebflowExecutionStoreProperties")
+public class RedisWebflowExecutionStoreProperties extends BaseRedisProperties {
+    private static final long serialVersionUID = 6254118723165208396L;
+}
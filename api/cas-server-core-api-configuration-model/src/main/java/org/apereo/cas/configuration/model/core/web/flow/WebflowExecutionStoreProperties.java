@@ -0,0 +1,71 @@
+package org.apereo.cas.configuration.model.core.web.flow;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link WebflowExecutionStoreProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Getter
+@Setter
+@RequiresModule(name = "cas-server-core-webflow")
+@Accessors(chain = true)
+@JsonFilter("WebflowExecutionStoreProperties")
+public class WebflowExecutionStoreProperties implements Serializable {
+
+    private static final long serialVersionUID = -3519633282383312540L;
+
+    /**
+     * Whether flow executions that are managed on the server should be stored
+     * in a key-value store rather than in the container session.
+     * Flow executions are identified by a short opaque key, and any CAS server node
+     * that has access to the store is able to continue the flow. Unless a distributed store
+     * is configured, flow executions are kept in memory on each node.
+     * Only relevant if session storage is done on the server.
+     */
+    private boolean enabled;
+
+    /**
+     * How long a flow execution snapshot is kept in the store
+     * before it expires, if it is not used to continue the flow.
+     */
+    @DurationCapable
+    private String timeToLive = "PT30M";
+
+    /**
+     * Maximum number of snapshots that are kept for each flow execution.
+     * Snapshots allow the flow to be continued from a previous step, for example
+     * when the browser back button is used. Older snapshots are removed from the store
+     * once the limit is exceeded.
+     */
+    private int maxSnapshots = 5;
+
+    /**
+     * Maximum number of flow execution snapshots that are kept in memory,
+     * when flow executions are not stored in a distributed store.
+     */
+    private long maximumSize = 100_000;
+
+    /**
+     * Store flow executions in Redis.
+     */
+    @NestedConfigurationProperty
+    private RedisWebflowExecutionStoreProperties redis = new RedisWebflowExecutionStoreProperties();
+
+    /**
+     * Store flow executions in Hazelcast.
+     */
+    @NestedConfigurationProperty
+    private HazelcastWebflowExecutionStoreProperties hazelcast = new HazelcastWebflowExecutionStoreProperties();
+}
@@ -7,6 +7,7 @@ import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 
@@ -58,6 +59,23 @@ public class WebflowSessionManagementProperties implements Serializable {
      */
     private boolean storage;
 
+    /**
+     * Whether flow state that is managed on the client side should be encoded
+     * in a compact format before it is signed and encrypted, producing smaller payloads
+     * that are faster to process on each request. Flow state that was encoded in the
+     * default format remains readable. All CAS server nodes must agree on this setting.
+     * Only relevant if session storage is done on the client.
+     */
+    private boolean compact;
+
+    /**
+     * Settings that control storing flow executions in a key-value store,
+     * as an alternative to binding flow executions to the container session.
+     * Only relevant if session storage is done on the server.
+     */
+    @NestedConfigurationProperty
+    private WebflowExecutionStoreProperties store = new WebflowExecutionStoreProperties();
+
     /**
      * If sessions are to be replicated via Hazelcast, defines the location of a {@code hazelcast.xml}
      * file that defines how state should be replicated.
@@ -0,0 +1,61 @@
+package org.apereo.cas.configuration.model.support.hazelcast;
+
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link HazelcastNearCacheProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@RequiresModule(name = "cas-server-support-hazelcast-ticket-registry")
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("HazelcastNearCacheProperties")
+public class HazelcastNearCacheProperties implements Serializable {
+    private static final long serialVersionUID = 2718328367243948362L;
+
+    /**
+     * Whether a near cache should be kept for ticket-granting tickets.
+     * A near cache keeps entries that are frequently read on the member that reads them,
+     * which avoids a network round trip for entries that are owned by other members.
+     * Entries are invalidated in the near cache of all members once they change.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum number of entries kept in the near cache.
+     */
+    private int maxSize = 10_000;
+
+    /**
+     * Maximum number of seconds an entry can stay in the near cache,
+     * before it is removed and read again from the cluster. A value of zero means infinite.
+     */
+    private int timeToLiveSeconds = 60;
+
+    /**
+     * Maximum number of seconds an entry can stay in the near cache without being read.
+     * A value of zero means infinite.
+     */
+    private int maxIdleSeconds;
+
+    /**
+     * Eviction policy used once the near cache reaches its maximum size.
+     * Accepted values are {@code LRU}, {@code LFU}, {@code RANDOM} and {@code NONE}.
+     */
+    private String evictionPolicy = "LRU";
+
+    /**
+     * Whether entries owned by the current member should also be kept in the near cache.
+     */
+    private boolean cacheLocalEntries;
+}
@@ -25,10 +25,17 @@ public class HazelcastTicketRegistryProperties extends BaseHazelcastProperties {
     private static final long serialVersionUID = -1095208036374406772L;
 
     /**
-     * Page size is used by a special Predicate which helps to get a page-by-page result of a query.
+     * Page size is used when tickets are read from the registry, and controls the number of
+     * entries that are fetched at a time from each partition of a ticket map.
      */
     private long pageSize = 500;
 
+    /**
+     * Near cache settings for ticket-granting tickets.
+     */
+    @NestedConfigurationProperty
+    private HazelcastNearCacheProperties nearCache = new HazelcastNearCacheProperties();
+
     /**
      * Crypto settings for the registry.
      */
@@ -46,6 +46,14 @@ public class JpaTicketRegistryProperties extends AbstractJpaProperties {
     @DurationCapable
     private String jpaLockingTimeout = DEFAULT_LOCK_TIMEOUT;
 
+    /**
+     * Number of expired ticket candidates that are fetched and processed
+     * by the cleaner at a time. Candidates are located using the indexed
+     * expiration time of each ticket, and are removed in pages of this size
+     * to avoid loading the entire ticket table at once.
+     */
+    private int cleanerPageSize = 500;
+
     /**
      * Crypto settings for the registry.
      */
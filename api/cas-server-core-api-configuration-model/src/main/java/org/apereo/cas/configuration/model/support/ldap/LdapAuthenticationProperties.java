@@ -102,6 +102,16 @@ public class LdapAuthenticationProperties extends AbstractLdapAuthenticationProp
      */
     private boolean collectDnAttribute;
 
+    /**
+     * Whether the entry fetched during authentication should be reused for principal resolution
+     * in place of querying LDAP attribute repositories again. An LDAP attribute repository is
+     * only skipped if it is assigned an identifier, defines an explicit attribute mapping and
+     * searches the same LDAP servers with the same base DN, search filter and search scope as this authentication handler,
+     * without any search entry handlers. Attributes mapped by such attribute repositories
+     * are fetched as part of authentication.
+     */
+    private boolean reuseEntryForAttributeRepositories;
+
     /**
      * Order of the authentication handler in the chain.
      */
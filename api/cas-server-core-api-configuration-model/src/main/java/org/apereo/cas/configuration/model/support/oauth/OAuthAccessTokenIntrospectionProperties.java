@@ -0,0 +1,49 @@
+package org.apereo.cas.configuration.model.support.oauth;
+
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link OAuthAccessTokenIntrospectionProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@RequiresModule(name = "cas-server-support-oauth")
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("OAuthAccessTokenIntrospectionProperties")
+public class OAuthAccessTokenIntrospectionProperties implements Serializable {
+
+    private static final long serialVersionUID = 3574136290254832519L;
+
+    /**
+     * Introspect access tokens that are created as signed JWTs from the claims of the token,
+     * once the token signature is verified, without looking up the access token in the ticket registry.
+     * The ticket registry is only consulted when the token is reported as possibly revoked.
+     * Access tokens introspected this way are considered active until the expiration
+     * time recorded in the token, regardless of the idle timeout of the access token.
+     */
+    private boolean stateless;
+
+    /**
+     * Expected number of access tokens revoked during the lifetime of an access token.
+     * This controls the size of the revocation filter that tracks revoked
+     * access tokens for stateless introspection.
+     */
+    private long revocationFilterCapacity = 100_000;
+
+    /**
+     * The acceptable probability of the revocation filter reporting
+     * a valid access token as possibly revoked, which forces a ticket registry lookup
+     * for that token.
+     */
+    private double revocationFilterFalsePositiveProbability = 0.01;
+}
@@ -52,6 +52,12 @@ public class OAuthAccessTokenProperties implements Serializable {
     @NestedConfigurationProperty
     private EncryptionOptionalSigningOptionalJwtCryptographyProperties crypto = new EncryptionOptionalSigningOptionalJwtCryptographyProperties();
 
+    /**
+     * Settings that control introspection of access tokens.
+     */
+    @NestedConfigurationProperty
+    private OAuthAccessTokenIntrospectionProperties introspection = new OAuthAccessTokenIntrospectionProperties();
+
     public OAuthAccessTokenProperties() {
         crypto.getEncryption().setKeySize(CipherExecutor.DEFAULT_STRINGABLE_ENCRYPTION_KEY_SIZE);
         crypto.getSigning().setKeySize(CipherExecutor.DEFAULT_STRINGABLE_SIGNING_KEY_SIZE);
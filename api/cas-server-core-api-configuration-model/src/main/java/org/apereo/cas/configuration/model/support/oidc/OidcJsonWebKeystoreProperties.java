@@ -28,9 +28,19 @@ public class OidcJsonWebKeystoreProperties implements Serializable {
 
     /**
      * Timeout that indicates how long should the JWKS file be kept in cache.
+     * Once the timeout has passed, the JWKS file is reloaded in the background
+     * while the keys that are already loaded remain in use, so that rotated keys
+     * are picked up without holding up requests.
      */
     private int jwksCacheInMinutes = 60;
 
+    /**
+     * Maximum number of keystores that belong to registered services
+     * to keep in cache, so that keys are not loaded and parsed again
+     * for each token issued to an application.
+     */
+    private long jwksCacheSize = 1000;
+
     /**
      * Path to the JWKS file resource used to handle signing/encryption of authentication tokens.
      */
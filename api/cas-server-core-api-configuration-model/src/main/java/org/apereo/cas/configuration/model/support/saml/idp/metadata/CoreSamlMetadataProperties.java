@@ -37,6 +37,22 @@ public class CoreSamlMetadataProperties implements Serializable {
     @DurationCapable
     private String cacheExpiration = "PT24H";
 
+    /**
+     * Whether metadata aggregates fetched from URLs or read from the file system
+     * should be indexed by entity id. Indexed aggregates are parsed once, and only
+     * the entity descriptors that are requested are materialized for each service provider,
+     * rather than building the entire aggregate for every entity found in the aggregate.
+     */
+    private boolean aggregateIndexEnabled;
+
+    /**
+     * How long should metadata aggregate indexes be kept before the aggregate
+     * is fetched and indexed again. Aggregates read from the file system are also
+     * indexed again once the file changes.
+     */
+    @DurationCapable
+    private String aggregateIndexExpiration = "PT1H";
+
     /**
      * Whether valid metadata is required.
      */
@@ -96,4 +96,21 @@ public interface CasEventRepository {
      * @return the events for principal
      */
     Collection<? extends CasEvent> getEventsForPrincipal(String id, ZonedDateTime dateTime);
+
+    /**
+     * Gets events that match the given query criteria.
+     *
+     * @param query the query
+     * @return the events
+     */
+    Collection<? extends CasEvent> getEvents(CasEventRepositoryQuery query);
+
+    /**
+     * Remove events created before the given date.
+     * Repositories that are unable to remove events ignore this operation.
+     *
+     * @param dateTime the date time
+     */
+    default void removeEventsBefore(final ZonedDateTime dateTime) {
+    }
 }
@@ -0,0 +1,58 @@
+package org.apereo.cas.support.events;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.time.ZonedDateTime;
+
+/**
+ * This is {@link CasEventRepositoryQuery} that describes the criteria
+ * used to look up events in a {@link CasEventRepository}. Criteria that are left undefined
+ * do not restrict the results. When a limit is defined, the most recent events are returned first.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Getter
+@ToString
+@Builder
+public class CasEventRepositoryQuery implements Serializable {
+
+    private static final long serialVersionUID = 5026376473925863117L;
+
+    /**
+     * The event type.
+     */
+    private final String type;
+
+    /**
+     * The principal linked to the event.
+     */
+    private final String principal;
+
+    /**
+     * Events created on or after this date.
+     */
+    private final ZonedDateTime from;
+
+    /**
+     * Events created before this date.
+     */
+    private final ZonedDateTime to;
+
+    /**
+     * Maximum number of events to return; zero or less does not limit the results.
+     */
+    private final long limit;
+
+    /**
+     * Is there a limit on the number of events to return?
+     *
+     * @return true/false
+     */
+    public boolean isLimited() {
+        return limit > 0;
+    }
+}
@@ -0,0 +1,27 @@
+package org.apereo.cas.support.events.dao;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * This is {@link CasEventSavedEvent}, published once a {@link CasEvent}
+ * is saved in the events repository, allowing interested components to keep track
+ * of recorded events without having to query the repository.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@ToString(callSuper = true)
+@Getter
+public class CasEventSavedEvent extends ApplicationEvent {
+
+    private static final long serialVersionUID = -6283715946071325187L;
+
+    private final CasEvent event;
+
+    public CasEventSavedEvent(final Object source, final CasEvent event) {
+        super(source);
+        this.event = event;
+    }
+}
@@ -2,8 +2,11 @@ package org.apereo.cas.authentication.principal;
 
 import org.apereo.cas.services.RegisteredService;
 
+import lombok.val;
+
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * This is {@link PrincipalAttributesRepositoryCache}.
@@ -34,6 +37,41 @@ public interface PrincipalAttributesRepositoryCache {
                                               RegisteredServicePrincipalAttributesRepository repository,
                                               Principal principal);
 
+    /**
+     * Fetch attributes from the cache, or load and cache them via the given loader
+     * if none are found. Implementations should make sure that concurrent requests
+     * for attributes of the same principal and service only invoke the loader once.
+     *
+     * @param registeredService the registered service
+     * @param repository        the repository
+     * @param principal         the principal
+     * @param loader            the loader
+     * @return the map
+     */
+    default Map<String, List<Object>> fetchAttributes(final RegisteredService registeredService,
+                                                      final RegisteredServicePrincipalAttributesRepository repository,
+                                                      final Principal principal,
+                                                      final Supplier<Map<String, List<Object>>> loader) {
+        val cachedAttributes = fetchAttributes(registeredService, repository, principal);
+        if (cachedAttributes != null && !cachedAttributes.isEmpty()) {
+            return cachedAttributes;
+        }
+        val attributes = loader.get();
+        if (attributes != null && !attributes.isEmpty()) {
+            putAttributes(registeredService, repository, principal.getId(), attributes);
+        }
+        return attributes;
+    }
+
+    /**
+     * Collect statistics about the cache, such as hit and miss counts.
+     *
+     * @return the statistics
+     */
+    default Map<String, Object> getStatistics() {
+        return Map.of();
+    }
+
     /**
      * Put attributes.
      *
@@ -1,8 +1,10 @@
 package org.apereo.cas.ticket.registry;
 
 import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -120,6 +122,20 @@ public interface TicketRegistry {
      */
     Ticket updateTicket(Ticket ticket);
 
+    /**
+     * Update the ticket-granting ticket once it has granted the given ticket,
+     * typically a service or proxy ticket that is now tracked by the ticket-granting ticket.
+     * Registries that store tracked services separately from the ticket-granting ticket may
+     * only record the newly granted ticket rather than rewriting all tracked services.
+     *
+     * @param ticketGrantingTicket the ticket-granting ticket
+     * @param grantedTicket        the granted ticket
+     * @return the updated ticket
+     */
+    default Ticket updateTicketGrantingTicket(final TicketGrantingTicket ticketGrantingTicket, final Ticket grantedTicket) {
+        return updateTicket(ticketGrantingTicket);
+    }
+
     /**
      * Computes the number of SSO sessions stored in the ticket registry.
      *
@@ -146,6 +162,18 @@ public interface TicketRegistry {
         return getTickets().stream();
     }
 
+    /**
+     * Gets the partitions of the ticket registry that can be read
+     * independently of one another, for example by the ticket registry cleaner.
+     * Together, the partitions must cover all tickets in the registry.
+     * By default, the entire registry is treated as a single partition.
+     *
+     * @return the partitions
+     */
+    default Collection<TicketRegistryPartition> getPartitions() {
+        return List.of(TicketRegistryPartition.of(getClass().getSimpleName(), this::stream));
+    }
+
     /**
      * Count the number of single sign-on sessions
      * that are recorded in the ticket registry for
@@ -155,4 +183,20 @@ public interface TicketRegistry {
      * @return the count
      */
     long countSessionsFor(String principalId);
+
+    /**
+     * Gets the single sign-on sessions
+     * that are recorded in the ticket registry for
+     * the given user name.
+     * <p>
+     * The returning stream may be bound to an IO channel (such as database connection),
+     * so it should be properly closed after usage.
+     *
+     * @param principalId the principal id
+     * @return the ticket-granting tickets
+     */
+    default Stream<? extends Ticket> getSessionsFor(final String principalId) {
+        return getTickets(ticket -> ticket instanceof TicketGrantingTicket
+            && ((TicketGrantingTicket) ticket).getAuthentication().getPrincipal().getId().equalsIgnoreCase(principalId));
+    }
 }
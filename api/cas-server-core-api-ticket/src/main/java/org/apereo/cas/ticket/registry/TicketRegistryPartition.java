@@ -0,0 +1,58 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link TicketRegistryPartition} that represents a portion of the ticket registry,
+ * such as a table, collection or cache that holds tickets of a given type,
+ * which can be read independently of and in parallel with other partitions.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@FunctionalInterface
+public interface TicketRegistryPartition {
+
+    /**
+     * Build a partition with the given name.
+     *
+     * @param name    the name
+     * @param tickets the tickets
+     * @return the ticket registry partition
+     */
+    static TicketRegistryPartition of(final String name, final Supplier<Stream<? extends Ticket>> tickets) {
+        return new TicketRegistryPartition() {
+            @Override
+            public Stream<? extends Ticket> stream() {
+                return tickets.get();
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+
+    /**
+     * Gets tickets stored in this partition.
+     * <p>
+     * The returning stream may be bound to an IO channel (such as database connection),
+     * so it should be properly closed after usage.
+     *
+     * @return the tickets stream
+     */
+    Stream<? extends Ticket> stream();
+
+    /**
+     * Gets the name of this partition.
+     *
+     * @return the name
+     */
+    default String getName() {
+        return getClass().getSimpleName();
+    }
+}
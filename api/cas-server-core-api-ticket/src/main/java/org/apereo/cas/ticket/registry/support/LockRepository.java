@@ -0,0 +1,45 @@
+package org.apereo.cas.ticket.registry.support;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * This is {@link LockRepository} that allows callers to execute
+ * a unit of work exclusively, keyed by an identifier such as a ticket id.
+ * Implementations may be local to the running JVM or distributed
+ * across all nodes that share the same ticket registry.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+public interface LockRepository {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "ticketRegistryLockRepository";
+
+    /**
+     * Execute the given unit of work while holding the lock for the given key.
+     *
+     * @param <T>      the type parameter
+     * @param lockKey  the lock key
+     * @param consumer the consumer
+     * @return the result of the execution, or empty if the lock could not be obtained.
+     */
+    <T> Optional<T> execute(String lockKey, Supplier<T> consumer);
+
+    /**
+     * Lock repository that does not lock anything
+     * and simply executes the given unit of work.
+     *
+     * @return the lock repository
+     */
+    static LockRepository noOp() {
+        return new LockRepository() {
+            @Override
+            public <T> Optional<T> execute(final String lockKey, final Supplier<T> consumer) {
+                return Optional.ofNullable(consumer.get());
+            }
+        };
+    }
+}
@@ -1,7 +1,8 @@
 package org.apereo.cas.audit.spi;
 
+import org.apereo.cas.configuration.model.core.audit.AuditPipelineProperties;
+
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -9,8 +10,8 @@ import org.apereo.inspektr.audit.AuditActionContext;
 import org.apereo.inspektr.audit.AuditTrailManager;
 import org.springframework.beans.factory.DisposableBean;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * This is {@link AbstractAuditTrailManager}.
@@ -21,7 +22,6 @@ import java.util.concurrent.Executors;
 @Setter
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@AllArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class AbstractAuditTrailManager implements AuditTrailManager, DisposableBean {
 
     /**
@@ -29,13 +29,24 @@ public abstract class AbstractAuditTrailManager implements AuditTrailManager, Di
      */
     protected boolean asynchronous;
 
-    private final ExecutorService executorService = Executors.newSingleThreadExecutor(
-        r -> new Thread(r, "AuditTrailManagerThread"));
+    /**
+     * Settings that control how records are queued and written in batches
+     * when records are saved asynchronously.
+     */
+    protected AuditPipelineProperties pipelineProperties = new AuditPipelineProperties();
+
+    @Setter(AccessLevel.NONE)
+    @Getter(AccessLevel.NONE)
+    private volatile AuditRecordPipeline pipeline;
+
+    protected AbstractAuditTrailManager(final boolean asynchronous) {
+        this.asynchronous = asynchronous;
+    }
 
     @Override
     public void record(final AuditActionContext audit) {
         if (this.asynchronous) {
-            this.executorService.execute(() -> saveAuditRecord(audit));
+            getOrCreatePipeline().submit(audit);
         } else {
             saveAuditRecord(audit);
         }
@@ -43,7 +54,30 @@ public abstract class AbstractAuditTrailManager implements AuditTrailManager, Di
 
     @Override
     public void destroy() {
-        this.executorService.shutdown();
+        if (this.pipeline != null) {
+            this.pipeline.close();
+        }
+    }
+
+    /**
+     * Gets the pipeline that queues and writes audit records,
+     * if records are saved asynchronously and the pipeline has started.
+     *
+     * @return the audit record pipeline
+     */
+    public Optional<AuditRecordPipeline> getAuditRecordPipeline() {
+        return Optional.ofNullable(this.pipeline);
+    }
+
+    /**
+     * Save a batch of audit records. Audit managers whose storage
+     * supports bulk writes should override this method to save
+     * all records in a single round trip.
+     *
+     * @param audits the audit records to be saved
+     */
+    protected void saveAuditRecords(final List<AuditActionContext> audits) {
+        audits.forEach(this::saveAuditRecord);
     }
 
     /**
@@ -51,4 +85,15 @@ public abstract class AbstractAuditTrailManager implements AuditTrailManager, Di
      * @param audit Audit record to be saved.
      */
     protected abstract void saveAuditRecord(AuditActionContext audit);
+
+    private AuditRecordPipeline getOrCreatePipeline() {
+        if (this.pipeline == null) {
+            synchronized (this) {
+                if (this.pipeline == null) {
+                    this.pipeline = new AuditRecordPipeline(this::saveAuditRecords, this.pipelineProperties);
+                }
+            }
+        }
+        return this.pipeline;
+    }
 }
@@ -0,0 +1,241 @@
+package org.apereo.cas.audit.spi;
+
+import org.apereo.cas.configuration.model.core.audit.AuditPipelineProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.inspektr.audit.AuditActionContext;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link AuditRecordPipeline} that accepts audit records into a bounded queue
+ * and writes them in batches on a dedicated thread. A batch is written once it is full
+ * or once the flush interval has passed since the first record in the batch was received,
+ * whichever comes first. When the queue is full, records are handled according to the
+ * configured overflow policy.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Slf4j
+public class AuditRecordPipeline implements AutoCloseable {
+    private static final String SPILL_FILE_PREFIX = "audit-";
+
+    private static final String SPILL_FILE_SUFFIX = ".json";
+
+    private static final AuditActionContextJsonSerializer SERIALIZER = new AuditActionContextJsonSerializer();
+
+    @Getter
+    private final AtomicLong droppedRecordCount = new AtomicLong();
+
+    @Getter
+    private final AtomicLong spilledRecordCount = new AtomicLong();
+
+    @Getter
+    private final AtomicLong writtenRecordCount = new AtomicLong();
+
+    @Getter
+    private final AtomicLong failedRecordCount = new AtomicLong();
+
+    private final Consumer<List<AuditActionContext>> writer;
+
+    private final AuditPipelineProperties properties;
+
+    private final BlockingQueue<AuditActionContext> queue;
+
+    private final long flushIntervalInMillis;
+
+    private final Thread worker;
+
+    private volatile boolean running = true;
+
+    @Getter
+    private volatile int lastBatchSize;
+
+    @Getter
+    private volatile long lastFlushLatencyInMillis;
+
+    public AuditRecordPipeline(final Consumer<List<AuditActionContext>> writer,
+                               final AuditPipelineProperties properties) {
+        this.writer = writer;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity()));
+        this.flushIntervalInMillis = Math.max(1, Beans.newDuration(properties.getFlushInterval()).toMillis());
+        this.worker = new Thread(this::process, "AuditTrailManagerThread");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Submit the audit record to the pipeline.
+     *
+     * @param audit the audit
+     */
+    public void submit(final AuditActionContext audit) {
+        if (!running) {
+            LOGGER.debug("Audit pipeline is shut down; writing audit record directly");
+            write(List.of(audit));
+            return;
+        }
+        switch (properties.getOverflowPolicy()) {
+            case DROP:
+                if (!queue.offer(audit)) {
+                    LOGGER.warn("Audit queue is full; dropping audit record [{}]. Total dropped records: [{}]",
+                        audit.getActionPerformed(), droppedRecordCount.incrementAndGet());
+                }
+                break;
+            case SPILL:
+                if (!queue.offer(audit)) {
+                    spill(audit);
+                }
+                break;
+            case BLOCK:
+            default:
+                try {
+                    queue.put(audit);
+                } catch (final InterruptedException e) {
+                    LOGGER.warn("Interrupted while waiting to queue audit record; writing audit record directly");
+                    Thread.currentThread().interrupt();
+                    write(List.of(audit));
+                }
+                break;
+        }
+    }
+
+    /**
+     * Number of audit records waiting in the queue.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            worker.join(Math.max(flushIntervalInMillis * 2, TimeUnit.SECONDS.toMillis(1)));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        val remaining = new ArrayList<AuditActionContext>(queue.size());
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            write(remaining);
+        }
+    }
+
+    private void process() {
+        while (running || !queue.isEmpty()) {
+            try {
+                val batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    write(batch);
+                } else if (properties.getOverflowPolicy() == AuditPipelineProperties.OverflowPolicyTypes.SPILL) {
+                    recoverSpilledRecords();
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (final Exception e) {
+                LoggingUtils.error(LOGGER, e);
+            }
+        }
+    }
+
+    private List<AuditActionContext> nextBatch() throws InterruptedException {
+        val batchSize = Math.max(1, properties.getBatchSize());
+        val batch = new ArrayList<AuditActionContext>(batchSize);
+        val first = queue.poll(flushIntervalInMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+        val deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalInMillis);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            val remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                break;
+            }
+            val next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void write(final List<AuditActionContext> batch) {
+        val start = System.nanoTime();
+        try {
+            writer.accept(batch);
+            writtenRecordCount.addAndGet(batch.size());
+        } catch (final Exception e) {
+            failedRecordCount.addAndGet(batch.size());
+            LoggingUtils.error(LOGGER, e);
+        } finally {
+            lastBatchSize = batch.size();
+            lastFlushLatencyInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            LOGGER.trace("Wrote [{}] audit record(s) in [{}] ms", lastBatchSize, lastFlushLatencyInMillis);
+        }
+    }
+
+    private void spill(final AuditActionContext audit) {
+        try {
+            val directory = new File(properties.getSpillDirectory());
+            Files.createDirectories(directory.toPath());
+            val file = new File(directory, SPILL_FILE_PREFIX + System.currentTimeMillis() + '-' + UUID.randomUUID() + SPILL_FILE_SUFFIX);
+            SERIALIZER.to(file, audit);
+            LOGGER.debug("Audit queue is full; spilled audit record to [{}]", file);
+            spilledRecordCount.incrementAndGet();
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to spill audit record to disk; dropping audit record [{}]. Total dropped records: [{}]",
+                audit.getActionPerformed(), droppedRecordCount.incrementAndGet());
+            LoggingUtils.error(LOGGER, e);
+        }
+    }
+
+    private void recoverSpilledRecords() {
+        val directory = new File(properties.getSpillDirectory());
+        val files = directory.listFiles((dir, name) -> name.startsWith(SPILL_FILE_PREFIX) && name.endsWith(SPILL_FILE_SUFFIX));
+        if (files == null || files.length == 0) {
+            return;
+        }
+        val batch = Arrays.stream(files)
+            .sorted(Comparator.comparing(File::getName))
+            .limit(Math.max(1, properties.getBatchSize()))
+            .map(file -> {
+                val audit = SERIALIZER.from(file);
+                if (!file.delete()) {
+                    LOGGER.warn("Unable to delete spilled audit record file [{}]", file);
+                }
+                return audit;
+            })
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+        if (!batch.isEmpty()) {
+            LOGGER.debug("Writing [{}] audit record(s) previously spilled to disk", batch.size());
+            write(batch);
+        }
+    }
+}
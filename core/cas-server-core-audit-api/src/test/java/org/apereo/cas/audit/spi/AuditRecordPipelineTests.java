@@ -0,0 +1,137 @@
+package org.apereo.cas.audit.spi;
+
+import org.apereo.cas.configuration.model.core.audit.AuditPipelineProperties;
+
+import lombok.val;
+import org.apereo.inspektr.audit.AuditActionContext;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link AuditRecordPipelineTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Tag("Audits")
+@SuppressWarnings("JavaUtilDate")
+public class AuditRecordPipelineTests {
+
+    private static AuditActionContext getAuditRecord(final int index) {
+        return new AuditActionContext("casuser-" + index, "TEST", "TEST",
+            "CAS", new Date(), "1.2.3.4", "1.2.3.4");
+    }
+
+    @Test
+    public void verifyRecordsWrittenInBatches() throws Exception {
+        val batches = new CopyOnWriteArrayList<List<AuditActionContext>>();
+        val properties = new AuditPipelineProperties()
+            .setBatchSize(10)
+            .setFlushInterval("PT0.2S");
+        try (val pipeline = new AuditRecordPipeline(batches::add, properties)) {
+            for (var i = 0; i < 25; i++) {
+                pipeline.submit(getAuditRecord(i));
+            }
+        }
+        assertEquals(25, batches.stream().mapToInt(List::size).sum());
+        assertTrue(batches.stream().allMatch(batch -> batch.size() <= 10));
+        assertTrue(batches.size() < 25);
+    }
+
+    @Test
+    public void verifyRecordsDroppedWhenQueueIsFull() throws Exception {
+        val latch = new CountDownLatch(1);
+        val written = new CopyOnWriteArrayList<AuditActionContext>();
+        val properties = new AuditPipelineProperties()
+            .setQueueCapacity(2)
+            .setBatchSize(1)
+            .setFlushInterval("PT0.1S")
+            .setOverflowPolicy(AuditPipelineProperties.OverflowPolicyTypes.DROP);
+        try (val pipeline = new AuditRecordPipeline(batch -> {
+            try {
+                latch.await(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            written.addAll(batch);
+        }, properties)) {
+            for (var i = 0; i < 10; i++) {
+                pipeline.submit(getAuditRecord(i));
+            }
+            assertTrue(pipeline.getDroppedRecordCount().get() > 0);
+            latch.countDown();
+        }
+        assertFalse(written.isEmpty());
+        assertTrue(written.size() < 10);
+    }
+
+    @Test
+    public void verifyRecordsSpilledWhenQueueIsFull() throws Exception {
+        val latch = new CountDownLatch(1);
+        val written = new CopyOnWriteArrayList<AuditActionContext>();
+        val directory = Files.createTempDirectory("audit-spill").toFile();
+        val properties = new AuditPipelineProperties()
+            .setQueueCapacity(1)
+            .setBatchSize(1)
+            .setFlushInterval("PT0.1S")
+            .setSpillDirectory(directory.getAbsolutePath())
+            .setOverflowPolicy(AuditPipelineProperties.OverflowPolicyTypes.SPILL);
+        try (val pipeline = new AuditRecordPipeline(batch -> {
+            try {
+                latch.await(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            written.addAll(batch);
+        }, properties)) {
+            for (var i = 0; i < 5; i++) {
+                pipeline.submit(getAuditRecord(i));
+            }
+            assertTrue(pipeline.getSpilledRecordCount().get() > 0);
+            latch.countDown();
+            var attempts = 0;
+            while (written.size() < 5 && attempts++ < 50) {
+                Thread.sleep(100);
+            }
+        }
+        assertEquals(5, written.size());
+        assertEquals(0, directory.list().length);
+    }
+
+    @Test
+    public void verifyAsynchronousManagerUsesPipeline() {
+        val written = new ArrayList<AuditActionContext>();
+        val manager = new AbstractAuditTrailManager(true) {
+            @Override
+            protected void saveAuditRecord(final AuditActionContext audit) {
+                written.add(audit);
+            }
+
+            @Override
+            public Set<? extends AuditActionContext> getAuditRecordsSince(final LocalDate localDate) {
+                return Set.of();
+            }
+
+            @Override
+            public void removeAll() {
+            }
+        };
+        assertTrue(manager.getAuditRecordPipeline().isEmpty());
+        manager.record(getAuditRecord(1));
+        assertTrue(manager.getAuditRecordPipeline().isPresent());
+        manager.destroy();
+        assertEquals(1, written.size());
+    }
+}
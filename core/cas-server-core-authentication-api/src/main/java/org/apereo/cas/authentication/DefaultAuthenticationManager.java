@@ -3,6 +3,7 @@ package org.apereo.cas.authentication;
 import org.apereo.cas.audit.AuditActionResolvers;
 import org.apereo.cas.audit.AuditResourceResolvers;
 import org.apereo.cas.audit.AuditableActions;
+import org.apereo.cas.authentication.attribute.PrincipalAttributeRepositoryContext;
 import org.apereo.cas.authentication.exceptions.UnresolvedPrincipalException;
 import org.apereo.cas.authentication.metadata.BasicCredentialMetaData;
 import org.apereo.cas.authentication.principal.NullPrincipal;
@@ -18,26 +19,41 @@ import org.apereo.cas.util.function.FunctionUtils;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.apereo.inspektr.audit.annotation.Audit;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import java.security.GeneralSecurityException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
  * This is {@link DefaultAuthenticationManager}, which provides common operations
  * around an authentication manager implementation.
+ * Authentication handlers that support the same credential are executed one after another,
+ * unless an executor is assigned in which case they are executed concurrently.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
@@ -53,6 +69,19 @@ public class DefaultAuthenticationManager implements AuthenticationManager {
 
     private final ConfigurableApplicationContext applicationContext;
 
+    /**
+     * Executor used to run authentication handlers concurrently.
+     * If undefined, handlers are executed sequentially.
+     */
+    @Setter
+    private ExecutorService authenticationHandlerExecutor;
+
+    /**
+     * Maximum amount of time to wait for handlers executed concurrently.
+     */
+    @Setter
+    private Duration authenticationHandlerExecutionTimeout = Duration.ofSeconds(30);
+
     @Override
     @Audit(
         action = AuditableActions.AUTHENTICATION,
@@ -197,8 +226,25 @@ public class DefaultAuthenticationManager implements AuthenticationManager {
                                                    final AuthenticationHandler handler) throws GeneralSecurityException, PreventedException {
 
         publishEvent(new CasAuthenticationTransactionStartedEvent(this, credential));
-
         val result = handler.authenticate(credential);
+        resolvePrincipalForAuthenticationResult(builder, credential, resolver, handler, result);
+    }
+
+    /**
+     * Record the successful result produced by the authentication handler and resolve the principal.
+     *
+     * @param builder    the builder
+     * @param credential the credential
+     * @param resolver   the resolver
+     * @param handler    the handler
+     * @param result     the result produced by the handler
+     * @throws GeneralSecurityException the general security exception
+     */
+    protected void resolvePrincipalForAuthenticationResult(final AuthenticationBuilder builder,
+                                                           final Credential credential,
+                                                           final PrincipalResolver resolver,
+                                                           final AuthenticationHandler handler,
+                                                           final AuthenticationHandlerExecutionResult result) throws GeneralSecurityException {
         val authenticationHandlerName = handler.getName();
         builder.addSuccess(authenticationHandlerName, result);
         LOGGER.debug("Authentication handler [{}] successfully authenticated [{}]", authenticationHandlerName, credential);
@@ -291,6 +337,11 @@ public class DefaultAuthenticationManager implements AuthenticationManager {
                 val credential = it.next();
                 LOGGER.debug("Attempting to authenticate credential [{}]", credential);
 
+                if (authenticationHandlerExecutor != null) {
+                    authenticateConcurrently(builder, credential, transaction, handlerSet);
+                    continue;
+                }
+
                 val itHandlers = handlerSet.iterator();
                 var proceedWithNextHandler = true;
                 while (proceedWithNextHandler && itHandlers.hasNext()) {
@@ -327,6 +378,91 @@ public class DefaultAuthenticationManager implements AuthenticationManager {
             return builder;
         } finally {
             AuthenticationCredentialsThreadLocalBinder.clearInProgressAuthentication();
+            PrincipalAttributeRepositoryContext.clear();
+        }
+    }
+
+    /**
+     * Execute all authentication handlers that support the credential concurrently.
+     * Results are evaluated against the authentication policy as they arrive; results that arrive
+     * together are evaluated in handler order. Once the policy is satisfied, or the authentication chain
+     * should not proceed, outstanding attempts are cancelled.
+     *
+     * @param builder     the builder
+     * @param credential  the credential
+     * @param transaction the transaction
+     * @param handlerSet  the handler set
+     */
+    protected void authenticateConcurrently(final AuthenticationBuilder builder,
+                                            final Credential credential,
+                                            final AuthenticationTransaction transaction,
+                                            final Set<AuthenticationHandler> handlerSet) {
+        val handlers = handlerSet.stream()
+            .filter(handler -> {
+                val supported = handler.supports(credential);
+                if (!supported) {
+                    LOGGER.debug("Authentication handler [{}] does not support the credential type [{}].", handler.getName(), credential);
+                }
+                return supported;
+            })
+            .collect(Collectors.toList());
+        if (handlers.isEmpty()) {
+            return;
+        }
+
+        val clientInfo = ClientInfoHolder.getClientInfo();
+        val requestAttributes = RequestContextHolder.getRequestAttributes();
+        val submitter = Thread.currentThread();
+        val completionService = new ExecutorCompletionService<AuthenticationHandlerExecutionAttempt>(authenticationHandlerExecutor);
+        val futures = new ArrayList<Future<AuthenticationHandlerExecutionAttempt>>(handlers.size());
+        for (var i = 0; i < handlers.size(); i++) {
+            val attempt = new AuthenticationHandlerExecutionAttempt(i, handlers.get(i));
+            LOGGER.debug("Attempting authentication of [{}] using [{}]", credential.getId(), attempt.getHandler().getName());
+            publishEvent(new CasAuthenticationTransactionStartedEvent(this, credential));
+            futures.add(completionService.submit(() -> attempt.execute(credential, transaction.getCredentials(),
+                clientInfo, requestAttributes, submitter)));
+        }
+
+        val completed = new boolean[handlers.size()];
+        val deadline = System.nanoTime() + authenticationHandlerExecutionTimeout.toNanos();
+        var pending = handlers.size();
+        var proceedWithNextHandler = true;
+        try {
+            while (proceedWithNextHandler && pending > 0) {
+                var future = completionService.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (future == null) {
+                    break;
+                }
+                val attempts = new ArrayList<AuthenticationHandlerExecutionAttempt>();
+                while (future != null) {
+                    attempts.add(getAuthenticationHandlerExecutionAttempt(future));
+                    future = completionService.poll();
+                }
+                pending -= attempts.size();
+                attempts.sort(Comparator.comparingInt(AuthenticationHandlerExecutionAttempt::getOrder));
+
+                val it = attempts.iterator();
+                while (proceedWithNextHandler && it.hasNext()) {
+                    val attempt = it.next();
+                    completed[attempt.getOrder()] = true;
+                    proceedWithNextHandler = evaluateAuthenticationHandlerExecutionAttempt(builder, credential, transaction, handlerSet, attempt);
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while waiting for authentication handlers to authenticate [{}]", credential);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+
+        if (proceedWithNextHandler) {
+            for (var i = 0; i < handlers.size(); i++) {
+                if (!completed[i]) {
+                    val name = handlers.get(i).getName();
+                    handleAuthenticationException(new PreventedException("Authentication handler " + name
+                        + " did not complete within " + authenticationHandlerExecutionTimeout), name, builder);
+                }
+            }
         }
     }
 
@@ -427,12 +563,101 @@ public class DefaultAuthenticationManager implements AuthenticationManager {
         }
     }
 
+    private static AuthenticationHandlerExecutionAttempt getAuthenticationHandlerExecutionAttempt(
+        final Future<AuthenticationHandlerExecutionAttempt> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private boolean evaluateAuthenticationHandlerExecutionAttempt(final AuthenticationBuilder builder,
+                                                                  final Credential credential,
+                                                                  final AuthenticationTransaction transaction,
+                                                                  final Set<AuthenticationHandler> handlerSet,
+                                                                  final AuthenticationHandlerExecutionAttempt attempt) {
+        val handler = attempt.getHandler();
+        try {
+            if (attempt.getFailure() != null) {
+                throw attempt.getFailure();
+            }
+            val resolver = getPrincipalResolverLinkedToHandlerIfAny(handler, transaction);
+            PrincipalAttributeRepositoryContext.restore(attempt.getPublishedAttributes());
+            resolvePrincipalForAuthenticationResult(builder, credential, resolver, handler, attempt.getResult());
+
+            val authnResult = builder.build();
+            AuthenticationCredentialsThreadLocalBinder.bindInProgress(authnResult);
+            val executionResult = evaluateAuthenticationPolicies(authnResult, transaction, handlerSet);
+            return !executionResult.isSuccess();
+        } catch (final GeneralSecurityException e) {
+            handleAuthenticationException(e, handler.getName(), builder);
+            return shouldAuthenticationChainProceedOnFailure(transaction, e);
+        } catch (final Throwable e) {
+            LOGGER.error("Authentication has failed. Credentials may be incorrect or CAS cannot "
+                + "find authentication handler that supports [{}] of type [{}]. Examine the configuration to "
+                + "ensure a method of authentication is defined and analyze CAS logs at DEBUG level to trace "
+                + "the authentication event.", credential, credential.getClass().getSimpleName());
+            handleAuthenticationException(e, handler.getName(), builder);
+            return shouldAuthenticationChainProceedOnFailure(transaction, e);
+        }
+    }
+
     private boolean shouldAuthenticationChainProceedOnFailure(final AuthenticationTransaction transaction,
                                                               final Throwable failure) {
         val policies = authenticationEventExecutionPlan.getAuthenticationPolicies(transaction);
         return policies.stream().anyMatch(policy -> policy.shouldResumeOnFailure(failure));
     }
 
+    @Getter
+    @RequiredArgsConstructor
+    private static class AuthenticationHandlerExecutionAttempt {
+        private final int order;
+
+        private final AuthenticationHandler handler;
+
+        private AuthenticationHandlerExecutionResult result;
+
+        private Throwable failure;
+
+        private Map<String, PrincipalAttributeRepositoryContext.PublishedAttributes> publishedAttributes;
+
+        /**
+         * Execute the authentication handler. Request state is carried over to worker threads and cleared
+         * afterwards; when the executor is saturated and the attempt runs on the submitting thread instead,
+         * that thread already holds the request state, which is left untouched.
+         */
+        AuthenticationHandlerExecutionAttempt execute(final Credential credential,
+                                                      final Collection<Credential> credentials,
+                                                      final ClientInfo clientInfo,
+                                                      final RequestAttributes requestAttributes,
+                                                      final Thread submitter) {
+            val callerRuns = Thread.currentThread() == submitter;
+            val published = PrincipalAttributeRepositoryContext.getCurrent();
+            try {
+                PrincipalAttributeRepositoryContext.clear();
+                if (!callerRuns) {
+                    ClientInfoHolder.setClientInfo(clientInfo);
+                    RequestContextHolder.setRequestAttributes(requestAttributes);
+                    AuthenticationCredentialsThreadLocalBinder.bindCurrent(credentials);
+                }
+                this.result = handler.authenticate(credential);
+                this.publishedAttributes = PrincipalAttributeRepositoryContext.getCurrent();
+            } catch (final Throwable e) {
+                this.failure = e;
+            } finally {
+                PrincipalAttributeRepositoryContext.clear();
+                PrincipalAttributeRepositoryContext.restore(published);
+                if (!callerRuns) {
+                    AuthenticationCredentialsThreadLocalBinder.clear();
+                    RequestContextHolder.resetRequestAttributes();
+                    ClientInfoHolder.clear();
+                }
+            }
+            return this;
+        }
+    }
+
     @Getter
     private static class ChainingAuthenticationPolicyExecutionResult {
         private List<AuthenticationPolicyExecutionResult> results = new ArrayList<>();
@@ -0,0 +1,84 @@
+package org.apereo.cas.authentication.attribute;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is {@link AttributeRepositoryStatistics} that keeps track of the time it takes
+ * for each attribute repository to produce a result, and of attribute repositories that
+ * fail to produce a result in time.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Getter
+@ToString
+public class AttributeRepositoryStatistics {
+    /**
+     * Default bean name.
+     */
+    public static final String BEAN_NAME = "attributeRepositoryStatistics";
+
+    private final AtomicLong queryCount = new AtomicLong();
+
+    private final AtomicLong timeoutCount = new AtomicLong();
+
+    @ToString.Exclude
+    @Getter(AccessLevel.NONE)
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Record a query against an attribute repository.
+     *
+     * @param repositoryId    the attribute repository id
+     * @param durationInNanos the time it took to query the attribute repository
+     */
+    public void recordQuery(final String repositoryId, final long durationInNanos) {
+        queryCount.incrementAndGet();
+        listeners.forEach(listener -> listener.queried(repositoryId, durationInNanos));
+    }
+
+    /**
+     * Record an attribute repository that did not produce a result in time.
+     *
+     * @param repositoryId the attribute repository id
+     */
+    public void recordTimeout(final String repositoryId) {
+        timeoutCount.incrementAndGet();
+        listeners.forEach(listener -> listener.timedOut(repositoryId));
+    }
+
+    /**
+     * Register a listener that is notified each time an attribute repository is queried or times out.
+     *
+     * @param listener the listener
+     */
+    public void registerListener(final Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Listener that is notified each time an attribute repository is queried or times out.
+     */
+    public interface Listener {
+        /**
+         * Attribute repository was queried.
+         *
+         * @param repositoryId    the attribute repository id
+         * @param durationInNanos the time it took to query the attribute repository
+         */
+        void queried(String repositoryId, long durationInNanos);
+
+        /**
+         * Attribute repository did not produce a result in time.
+         *
+         * @param repositoryId the attribute repository id
+         */
+        void timedOut(String repositoryId);
+    }
+}
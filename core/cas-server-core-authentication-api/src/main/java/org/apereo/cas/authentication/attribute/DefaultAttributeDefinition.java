@@ -202,7 +202,6 @@ public class DefaultAttributeDefinition implements AttributeDefinition {
         val args = CollectionUtils.<String, Object>wrap("attributeName", Objects.requireNonNull(attributeKey),
             "attributeValues", currentValues, "logger", LOGGER,
             "registeredService", registeredService, "attributes", attributes);
-        scriptToExec.setBinding(args);
-        return scriptToExec.execute(args.values().toArray(), List.class);
+        return scriptToExec.execute(args, args.values().toArray(), List.class, true);
     }
 }
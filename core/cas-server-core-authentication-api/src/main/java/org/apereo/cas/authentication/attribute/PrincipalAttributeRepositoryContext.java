@@ -0,0 +1,136 @@
+package org.apereo.cas.authentication.attribute;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ThreadLocal based holder for person attributes that are already fetched by an authentication handler
+ * during the current authentication transaction, on behalf of attribute repositories. An authentication handler that
+ * fetches the very same record that an attribute repository would query may publish the attributes here,
+ * keyed by the identifier of that attribute repository. Principal resolution consults this context
+ * before querying attribute repositories, and skips those whose attributes are already published for the principal.
+ * <p>
+ * The state carried by this class is cleared by the authentication manager at the end of each authentication transaction.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PrincipalAttributeRepositoryContext {
+    private static final ThreadLocal<Map<String, PublishedAttributes>> PUBLISHED_ATTRIBUTES = new ThreadLocal<>();
+
+    private static final AtomicLong AVOIDED_LOOKUPS = new AtomicLong();
+
+    /**
+     * Publish attributes on behalf of an attribute repository.
+     *
+     * @param attributeRepositoryId the attribute repository id
+     * @param principalIds          the principal identifiers for which the attributes are valid
+     * @param attributes            the attributes
+     */
+    public static void publish(final String attributeRepositoryId, final Collection<String> principalIds,
+                               final Map<String, List<Object>> attributes) {
+        var published = PUBLISHED_ATTRIBUTES.get();
+        if (published == null) {
+            published = new LinkedHashMap<>();
+            PUBLISHED_ATTRIBUTES.set(published);
+        }
+        LOGGER.trace("Publishing attributes [{}] for [{}] on behalf of attribute repository [{}]",
+            attributes, principalIds, attributeRepositoryId);
+        published.put(attributeRepositoryId, new PublishedAttributes(Set.copyOf(principalIds), Map.copyOf(attributes)));
+    }
+
+    /**
+     * Gets attributes published for the given principal, keyed by attribute repository id.
+     *
+     * @param principalId the principal id
+     * @return the published attributes
+     */
+    public static Map<String, Map<String, List<Object>>> getPublishedAttributes(final String principalId) {
+        val results = new LinkedHashMap<String, Map<String, List<Object>>>();
+        val published = PUBLISHED_ATTRIBUTES.get();
+        if (published != null) {
+            published.forEach((attributeRepositoryId, entry) -> {
+                if (entry.getPrincipalIds().stream().anyMatch(id -> StringUtils.equalsIgnoreCase(id, principalId))) {
+                    results.put(attributeRepositoryId, entry.getAttributes());
+                }
+            });
+        }
+        return results;
+    }
+
+    /**
+     * Gets the state of the current thread, so it can be carried over to another thread.
+     *
+     * @return the current state, or null
+     */
+    public static Map<String, PublishedAttributes> getCurrent() {
+        val published = PUBLISHED_ATTRIBUTES.get();
+        return published == null ? null : new LinkedHashMap<>(published);
+    }
+
+    /**
+     * Restore state obtained from {@link #getCurrent()}, possibly on another thread.
+     *
+     * @param published the published attributes
+     */
+    public static void restore(final Map<String, PublishedAttributes> published) {
+        if (published != null && !published.isEmpty()) {
+            val current = PUBLISHED_ATTRIBUTES.get();
+            if (current == null) {
+                PUBLISHED_ATTRIBUTES.set(new LinkedHashMap<>(published));
+            } else {
+                current.putAll(published);
+            }
+        }
+    }
+
+    /**
+     * Record attribute repository lookups that were avoided.
+     *
+     * @param count the count
+     */
+    public static void recordAvoidedLookups(final long count) {
+        AVOIDED_LOOKUPS.addAndGet(count);
+    }
+
+    /**
+     * Gets the total number of attribute repository lookups that were avoided.
+     *
+     * @return the avoided lookups
+     */
+    public static long getAvoidedLookups() {
+        return AVOIDED_LOOKUPS.get();
+    }
+
+    /**
+     * Clear the state of the current thread.
+     */
+    public static void clear() {
+        PUBLISHED_ATTRIBUTES.remove();
+    }
+
+    /**
+     * Attributes published on behalf of an attribute repository.
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class PublishedAttributes {
+        private final Set<String> principalIds;
+
+        private final Map<String, List<Object>> attributes;
+    }
+}
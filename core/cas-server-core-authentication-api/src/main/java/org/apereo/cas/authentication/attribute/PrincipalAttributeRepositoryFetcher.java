@@ -1,6 +1,8 @@
 package org.apereo.cas.authentication.attribute;
 
+import org.apereo.cas.authentication.CoreAuthenticationUtils;
 import org.apereo.cas.authentication.principal.Principal;
+import org.apereo.cas.util.spring.ApplicationContextProvider;
 
 import lombok.Builder;
 import lombok.Getter;
@@ -11,6 +13,8 @@ import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apereo.services.persondir.IPersonAttributeDao;
 import org.apereo.services.persondir.IPersonAttributeDaoFilter;
+import org.apereo.services.persondir.support.merger.IAttributeMerger;
+import org.apereo.services.persondir.support.merger.ReplacingAttributeAdder;
 
 import java.util.Arrays;
 import java.util.HashMap;
@@ -41,20 +45,35 @@ public class PrincipalAttributeRepositoryFetcher {
 
     private final Principal currentPrincipal;
 
+    /**
+     * Merges attributes already published for the principal with those fetched from attribute repositories.
+     * Defaults to the merging strategy configured for attribute repositories.
+     */
+    private final IAttributeMerger attributeMerger;
+
     /**
      * Retrieve person attributes.
+     * Attribute repositories whose attributes are already published for the principal
+     * via {@link PrincipalAttributeRepositoryContext} are not queried, and the published attributes are used instead.
      *
      * @return the map
      */
     public Map<String, List<Object>> retrieve() {
+        val publishedAttributes = PrincipalAttributeRepositoryContext.getPublishedAttributes(principalId.trim());
+        publishedAttributes.keySet().removeIf(repositoryId -> !isActiveAttributeRepository(repositoryId));
+        val satisfiedRepositoryIds = publishedAttributes.keySet().toArray(ArrayUtils.EMPTY_STRING_ARRAY);
+        if (satisfiedRepositoryIds.length > 0) {
+            LOGGER.debug("Attribute repositories [{}] are satisfied by attributes already fetched for [{}] and will not be queried",
+                publishedAttributes.keySet(), principalId);
+            PrincipalAttributeRepositoryContext.recordAvoidedLookups(satisfiedRepositoryIds.length);
+        }
+
         var filter = IPersonAttributeDaoFilter.alwaysChoose();
-        if (!activeAttributeRepositoryIdentifiers.isEmpty()) {
-            val repoIdsArray = activeAttributeRepositoryIdentifiers.toArray(ArrayUtils.EMPTY_STRING_ARRAY);
+        if (!activeAttributeRepositoryIdentifiers.isEmpty() || satisfiedRepositoryIds.length > 0) {
             LOGGER.trace("Active attribute repository identifiers [{}]", activeAttributeRepositoryIdentifiers);
-            filter = dao -> Arrays.stream(dao.getId())
-                .anyMatch(daoId -> daoId.equalsIgnoreCase(IPersonAttributeDao.WILDCARD)
-                    || StringUtils.equalsAnyIgnoreCase(daoId, repoIdsArray)
-                    || StringUtils.equalsAnyIgnoreCase(IPersonAttributeDao.WILDCARD, repoIdsArray));
+            filter = dao -> (activeAttributeRepositoryIdentifiers.isEmpty()
+                || Arrays.stream(dao.getId()).anyMatch(this::isActiveAttributeRepository))
+                && Arrays.stream(dao.getId()).noneMatch(daoId -> StringUtils.equalsAnyIgnoreCase(daoId, satisfiedRepositoryIds));
         }
 
         val query = new HashMap<String, Object>();
@@ -65,11 +84,19 @@ public class PrincipalAttributeRepositoryFetcher {
         }
         query.putAll(queryAttributes);
 
+        val merger = getAttributeMergerOrDefault();
+        Map<String, List<Object>> attributes = new HashMap<>();
+        for (val published : publishedAttributes.values()) {
+            attributes = merger.mergeAttributes(attributes, new HashMap<>(published));
+        }
+
         LOGGER.trace("Fetching person attributes for query [{}]", query);
         val people = attributeRepository.getPeople(query, filter);
         if (people == null || people.isEmpty()) {
-            LOGGER.warn("No person records were fetched from attribute repositories for [{}]", query);
-            return new HashMap<>(0);
+            if (attributes.isEmpty()) {
+                LOGGER.warn("No person records were fetched from attribute repositories for [{}]", query);
+            }
+            return attributes;
         }
 
         if (people.size() > 1) {
@@ -80,6 +107,28 @@ public class PrincipalAttributeRepositoryFetcher {
 
         val person = people.iterator().next();
         LOGGER.debug("Retrieved person [{}] from attribute repositories for query [{}]", person, query);
-        return person.getAttributes();
+        if (attributes.isEmpty()) {
+            return person.getAttributes();
+        }
+        return merger.mergeAttributes(attributes, new HashMap<>(person.getAttributes()));
+    }
+
+    private IAttributeMerger getAttributeMergerOrDefault() {
+        if (attributeMerger != null) {
+            return attributeMerger;
+        }
+        return ApplicationContextProvider.getCasConfigurationProperties()
+            .map(properties -> CoreAuthenticationUtils.getAttributeMerger(properties.getAuthn().getAttributeRepository().getCore().getMerger()))
+            .orElseGet(ReplacingAttributeAdder::new);
+    }
+
+    private boolean isActiveAttributeRepository(final String repositoryId) {
+        if (activeAttributeRepositoryIdentifiers.isEmpty()) {
+            return true;
+        }
+        val repoIdsArray = activeAttributeRepositoryIdentifiers.toArray(ArrayUtils.EMPTY_STRING_ARRAY);
+        return repositoryId.equalsIgnoreCase(IPersonAttributeDao.WILDCARD)
+            || StringUtils.equalsAnyIgnoreCase(repositoryId, repoIdsArray)
+            || StringUtils.equalsAnyIgnoreCase(IPersonAttributeDao.WILDCARD, repoIdsArray);
     }
 }
@@ -71,8 +71,12 @@ public class GroovyScriptAuthenticationPolicy extends BaseAuthenticationPolicy {
     public boolean shouldResumeOnFailure(final Throwable failure) {
         initializeWatchableScriptIfNeeded();
         val args = CollectionUtils.wrap("failure", failure, "logger", LOGGER);
-        executableScript.setBinding(args);
-        return executableScript.execute("shouldResumeOnFailure", Boolean.class, args.values().toArray());
+        try {
+            executableScript.setBinding(args);
+            return executableScript.execute("shouldResumeOnFailure", Boolean.class, args.values().toArray());
+        } finally {
+            executableScript.clearBinding();
+        }
     }
 
     @SneakyThrows
@@ -89,7 +93,6 @@ public class GroovyScriptAuthenticationPolicy extends BaseAuthenticationPolicy {
 
     private Optional<Exception> getScriptExecutionResult(final Authentication auth) {
         val args = CollectionUtils.wrap("principal", auth.getPrincipal(), "logger", LOGGER);
-        executableScript.setBinding(args);
-        return executableScript.execute(args.values().toArray(), Optional.class);
+        return executableScript.execute(args, args.values().toArray(), Optional.class, true);
     }
 }
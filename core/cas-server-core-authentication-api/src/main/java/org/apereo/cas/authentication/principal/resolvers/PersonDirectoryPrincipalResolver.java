@@ -198,6 +198,7 @@ public class PersonDirectoryPrincipalResolver implements PrincipalResolver {
             .activeAttributeRepositoryIdentifiers(context.getActiveAttributeRepositoryIdentifiers())
             .currentPrincipal(currentPrincipal.orElse(null))
             .queryAttributes(queryAttributes)
+            .attributeMerger(context.getAttributeMerger())
             .build()
             .retrieve();
     }
@@ -3,6 +3,7 @@ package org.apereo.cas.authentication.principal.resolvers;
 import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
 import org.apereo.cas.authentication.CoreAuthenticationUtils;
 import org.apereo.cas.authentication.Credential;
+import org.apereo.cas.authentication.attribute.PrincipalAttributeRepositoryContext;
 import org.apereo.cas.authentication.handler.support.SimpleTestUsernamePasswordAuthenticationHandler;
 import org.apereo.cas.authentication.principal.DefaultPrincipalElectionStrategy;
 import org.apereo.cas.authentication.principal.PrincipalFactoryUtils;
@@ -13,6 +14,7 @@ import org.apereo.cas.util.CollectionUtils;
 import lombok.val;
 import org.apereo.services.persondir.IPersonAttributeDao;
 import org.apereo.services.persondir.IPersonAttributeDaoFilter;
+import org.apereo.services.persondir.support.MergingPersonAttributeDaoImpl;
 import org.apereo.services.persondir.support.StubPersonAttributeDao;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -418,4 +420,70 @@ public class PersonDirectoryPrincipalResolverTests {
             });
 
     }
+
+    @Test
+    public void verifyPublishedAttributesSkipAttributeRepository() {
+        val stub = new StubPersonAttributeDao(Map.of("repositoryAttribute", List.of("value")));
+        stub.setId("LdapRepository");
+        val dao = new MergingPersonAttributeDaoImpl();
+        dao.setPersonAttributeDaos(List.of(stub));
+
+        val context = PrincipalResolutionContext.builder()
+            .attributeMerger(CoreAuthenticationUtils.getAttributeMerger(casProperties.getAuthn().getAttributeRepository().getCore().getMerger()))
+            .attributeRepository(dao)
+            .principalFactory(PrincipalFactoryUtils.newPrincipalFactory())
+            .returnNullIfNoAttributes(false)
+            .resolveAttributes(true)
+            .build();
+        val resolver = new PersonDirectoryPrincipalResolver(context);
+        val credential = CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword("casuser");
+
+        var principal = resolver.resolve(credential, Optional.empty(), Optional.empty());
+        assertTrue(principal.getAttributes().containsKey("repositoryAttribute"));
+
+        try {
+            val avoidedLookups = PrincipalAttributeRepositoryContext.getAvoidedLookups();
+            PrincipalAttributeRepositoryContext.publish("LdapRepository", List.of("casuser"), Map.of("entryAttribute", List.of("value")));
+            principal = resolver.resolve(credential, Optional.empty(), Optional.empty());
+            assertTrue(principal.getAttributes().containsKey("entryAttribute"));
+            assertFalse(principal.getAttributes().containsKey("repositoryAttribute"));
+            assertEquals(avoidedLookups + 1, PrincipalAttributeRepositoryContext.getAvoidedLookups());
+
+            principal = resolver.resolve(CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword("other"),
+                Optional.empty(), Optional.empty());
+            assertTrue(principal.getAttributes().containsKey("repositoryAttribute"));
+        } finally {
+            PrincipalAttributeRepositoryContext.clear();
+        }
+    }
+
+    @Test
+    public void verifyPublishedAttributesMergedWithConfiguredMerger() {
+        val skipped = new StubPersonAttributeDao(Map.of("mail", List.of("skipped@example.org")));
+        skipped.setId("LdapRepository");
+        val other = new StubPersonAttributeDao(Map.of("mail", List.of("other@example.org")));
+        other.setId("OtherRepository");
+        val dao = new MergingPersonAttributeDaoImpl();
+        dao.setPersonAttributeDaos(List.of(skipped, other));
+
+        val context = PrincipalResolutionContext.builder()
+            .attributeMerger(CoreAuthenticationUtils.getAttributeMerger(PrincipalAttributesCoreProperties.MergingStrategyTypes.MULTIVALUED))
+            .attributeRepository(dao)
+            .principalFactory(PrincipalFactoryUtils.newPrincipalFactory())
+            .returnNullIfNoAttributes(false)
+            .resolveAttributes(true)
+            .build();
+        val resolver = new PersonDirectoryPrincipalResolver(context);
+        try {
+            PrincipalAttributeRepositoryContext.publish("LdapRepository", List.of("casuser"), Map.of("mail", List.of("casuser@example.org")));
+            val principal = resolver.resolve(CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword("casuser"),
+                Optional.empty(), Optional.empty());
+            val mail = principal.getAttributes().get("mail");
+            assertTrue(mail.contains("casuser@example.org"));
+            assertTrue(mail.contains("other@example.org"));
+            assertFalse(mail.contains("skipped@example.org"));
+        } finally {
+            PrincipalAttributeRepositoryContext.clear();
+        }
+    }
 }
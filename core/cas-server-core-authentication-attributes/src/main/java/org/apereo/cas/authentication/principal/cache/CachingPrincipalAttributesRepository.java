@@ -54,15 +54,36 @@ public class CachingPrincipalAttributesRepository extends AbstractPrincipalAttri
 
     @Override
     public Map<String, List<Object>> getAttributes(final Principal principal, final RegisteredService registeredService) {
+        return ApplicationContextProvider.getPrincipalAttributesRepositoryCache()
+            .map(cache -> {
+                val attributes = cache.fetchAttributes(registeredService, this, principal, () -> fetchPrincipalAttributes(principal));
+                LOGGER.debug("Found [{}] attributes for principal [{}] that are [{}]", attributes.size(), principal.getId(), attributes);
+                return attributes;
+            })
+            .orElseGet(() -> fetchPrincipalAttributes(principal));
+    }
+
+    @Override
+    public void update(final String id, final Map<String, List<Object>> attributes,
+                       final RegisteredService registeredService) {
+        ApplicationContextProvider.getPrincipalAttributesRepositoryCache()
+            .ifPresent(cache -> {
+                cache.putAttributes(registeredService, this, id, attributes);
+                LOGGER.trace("Cached attributes for [{}] and [{}]", id, registeredService.getName());
+            });
+    }
+
+    /**
+     * Fetch principal attributes from the principal and the attribute repository,
+     * bypassing the cache.
+     *
+     * @param principal the principal
+     * @return the attributes
+     */
+    protected Map<String, List<Object>> fetchPrincipalAttributes(final Principal principal) {
         val mergeStrategy = determineMergingStrategy();
         LOGGER.trace("Determined merging strategy as [{}]", mergeStrategy);
 
-        val cachedAttributes = fetchCachedPrincipalAttributes(principal, registeredService);
-        if (cachedAttributes != null && !cachedAttributes.isEmpty()) {
-            LOGGER.debug("Found [{}] cached attributes for principal [{}] that are [{}]", cachedAttributes.size(), principal.getId(), cachedAttributes);
-            return cachedAttributes;
-        }
-
         val principalAttributes = getPrincipalAttributes(principal);
         LOGGER.trace("Principal attributes extracted for [{}] are [{}]", principal.getId(), principalAttributes);
 
@@ -73,19 +94,9 @@ public class CachingPrincipalAttributesRepository extends AbstractPrincipalAttri
             LOGGER.debug("Merging current principal attributes with that of the repository via strategy [{}]", mergeStrategy);
             val mergedAttributes = CoreAuthenticationUtils.getAttributeMerger(mergeStrategy)
                 .mergeAttributes(principalAttributes, personDirectoryAttributes);
-            return convertAttributesToPrincipalAttributesAndCache(principal, mergedAttributes, registeredService);
+            return convertPersonAttributesToPrincipalAttributes(mergedAttributes);
         }
-        return convertAttributesToPrincipalAttributesAndCache(principal, principalAttributes, registeredService);
-    }
-
-    @Override
-    public void update(final String id, final Map<String, List<Object>> attributes,
-                       final RegisteredService registeredService) {
-        ApplicationContextProvider.getPrincipalAttributesRepositoryCache()
-            .ifPresent(cache -> {
-                cache.putAttributes(registeredService, this, id, attributes);
-                LOGGER.trace("Cached attributes for [{}] and [{}]", id, registeredService.getName());
-            });
+        return convertPersonAttributesToPrincipalAttributes(principalAttributes);
     }
 
     /**
@@ -4,60 +4,109 @@ import org.apereo.cas.authentication.principal.Principal;
 import org.apereo.cas.authentication.principal.PrincipalAttributesRepositoryCache;
 import org.apereo.cas.authentication.principal.RegisteredServicePrincipalAttributesRepository;
 import org.apereo.cas.services.RegisteredService;
-import org.apereo.cas.util.DigestUtils;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.Closeable;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * This is {@link DefaultPrincipalAttributesRepositoryCache}.
+ * Attributes of all services are kept in a single concurrent cache whose capacity is bounded
+ * by the estimated memory footprint of the cached attributes rather than by the number of principals.
+ * Cached entries expire according to the expiration policy of the attribute repository assigned to each service,
+ * and concurrent requests for attributes of the same principal and service are coalesced into a single fetch.
  *
  * @author Misagh Moayyed
  * @since 6.1.0
  */
 @Slf4j
 public class DefaultPrincipalAttributesRepositoryCache implements PrincipalAttributesRepositoryCache, Closeable {
-    private static final int DEFAULT_MAXIMUM_CACHE_SIZE = 1_000;
+    /**
+     * Default maximum estimated size, in bytes, of all cached attributes.
+     */
+    public static final long DEFAULT_MAXIMUM_CACHE_WEIGHT = 64L * 1024 * 1024;
 
     private static final String DEFAULT_CACHE_EXPIRATION_UNIT = TimeUnit.HOURS.name();
 
-    private final Map<String, Cache<String, Map<String, List<Object>>>> registeredServicesCache = new HashMap<>(0);
+    private static final int ENTRY_OVERHEAD = 64;
 
-    /**
-     * Build registered service cache key string.
-     *
-     * @param registeredService the registered service
-     * @return the string
-     */
-    private static String buildRegisteredServiceCacheKey(final RegisteredService registeredService) {
-        val key = registeredService.getId() + '@' + registeredService.getName();
-        return DigestUtils.sha512(key);
+    private static final int OBJECT_OVERHEAD = 16;
+
+    private final Cache<CacheKey, CachedAttributes> cache;
+
+    public DefaultPrincipalAttributesRepositoryCache() {
+        this(DEFAULT_MAXIMUM_CACHE_WEIGHT);
+    }
+
+    public DefaultPrincipalAttributesRepositoryCache(final long maximumCacheWeight) {
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maximumCacheWeight)
+            .weigher((CacheKey key, CachedAttributes value) -> value.getWeight())
+            .expireAfter(new CachedAttributesExpiry())
+            .recordStats()
+            .build();
     }
 
     /**
-     * Initialize cache cache.
+     * Estimate the memory footprint of the given attributes in bytes.
      *
-     * @param repository the repository
-     * @return the cache
+     * @param attributes the attributes
+     * @return the estimated size
      */
-    private static Cache<String, Map<String, List<Object>>> initializeCache(final RegisteredServicePrincipalAttributesRepository repository) {
+    protected static int estimateWeight(final Map<String, List<Object>> attributes) {
+        var weight = (long) ENTRY_OVERHEAD;
+        for (val entry : attributes.entrySet()) {
+            weight += ENTRY_OVERHEAD + estimateWeight(entry.getKey());
+            if (entry.getValue() != null) {
+                for (val value : entry.getValue()) {
+                    weight += OBJECT_OVERHEAD + estimateWeight(value);
+                }
+            }
+        }
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    private static long estimateWeight(final Object value) {
+        if (value instanceof CharSequence) {
+            return OBJECT_OVERHEAD + 2L * ((CharSequence) value).length();
+        }
+        if (value instanceof byte[]) {
+            return OBJECT_OVERHEAD + ((byte[]) value).length;
+        }
+        if (value instanceof Collection) {
+            return ((Collection<?>) value).stream().mapToLong(v -> OBJECT_OVERHEAD + estimateWeight(v)).sum();
+        }
+        return OBJECT_OVERHEAD;
+    }
+
+    private static CacheKey buildCacheKey(final RegisteredService registeredService, final String principalId) {
+        return new CacheKey(registeredService.getId(), registeredService.getName(), principalId);
+    }
+
+    private static long getExpirationInNanos(final RegisteredServicePrincipalAttributesRepository repository) {
         val cachedRepository = CachingPrincipalAttributesRepository.class.cast(repository);
         val unit = TimeUnit.valueOf(StringUtils.defaultString(cachedRepository.getTimeUnit(), DEFAULT_CACHE_EXPIRATION_UNIT));
-        return Caffeine.newBuilder()
-            .initialCapacity(DEFAULT_MAXIMUM_CACHE_SIZE)
-            .maximumSize(DEFAULT_MAXIMUM_CACHE_SIZE)
-            .expireAfterWrite(cachedRepository.getExpiration(), unit)
-            .build(s -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+        return Math.max(0, unit.toNanos(cachedRepository.getExpiration()));
+    }
+
+    private static Map<String, List<Object>> newAttributesMap() {
+        return new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
     }
 
     @Override
@@ -70,44 +119,100 @@ public class DefaultPrincipalAttributesRepositoryCache implements PrincipalAttri
      */
     @Override
     public void invalidate() {
-        registeredServicesCache.values().forEach(Cache::invalidateAll);
+        cache.invalidateAll();
     }
 
     @Override
     public Map<String, List<Object>> fetchAttributes(final RegisteredService registeredService,
                                                      final RegisteredServicePrincipalAttributesRepository repository,
                                                      final Principal principal) {
-        val cache = getRegisteredServiceCacheInstance(registeredService, repository);
-        return cache.get(principal.getId(), s -> {
+        val cached = cache.getIfPresent(buildCacheKey(registeredService, principal.getId()));
+        if (cached == null) {
             LOGGER.debug("No cached attributes could be found for [{}]", principal.getId());
-            return new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            return newAttributesMap();
+        }
+        return cached.getAttributes();
+    }
+
+    @Override
+    public Map<String, List<Object>> fetchAttributes(final RegisteredService registeredService,
+                                                     final RegisteredServicePrincipalAttributesRepository repository,
+                                                     final Principal principal,
+                                                     final Supplier<Map<String, List<Object>>> loader) {
+        val key = buildCacheKey(registeredService, principal.getId());
+        val cached = cache.get(key, k -> {
+            LOGGER.debug("No cached attributes could be found for [{}]; fetching attributes", principal.getId());
+            val attributes = loader.get();
+            if (attributes == null || attributes.isEmpty()) {
+                return null;
+            }
+            return new CachedAttributes(attributes, estimateWeight(attributes), getExpirationInNanos(repository));
         });
+        return cached != null ? cached.getAttributes() : newAttributesMap();
     }
 
     @Override
     public void putAttributes(final RegisteredService registeredService,
                               final RegisteredServicePrincipalAttributesRepository repository,
                               final String id, final Map<String, List<Object>> attributes) {
-        val cache = getRegisteredServiceCacheInstance(registeredService, repository);
-        cache.put(id, attributes);
+        cache.put(buildCacheKey(registeredService, id),
+            new CachedAttributes(attributes, estimateWeight(attributes), getExpirationInNanos(repository)));
     }
 
-    /**
-     * Gets registered service cache instance.
-     *
-     * @param registeredService the registered service
-     * @param repository        the repository
-     * @return the registered service cache instance
-     */
-    private Cache<String, Map<String, List<Object>>> getRegisteredServiceCacheInstance(
-        final RegisteredService registeredService, final RegisteredServicePrincipalAttributesRepository repository) {
-        
-        val key = buildRegisteredServiceCacheKey(registeredService);
-        if (registeredServicesCache.containsKey(key)) {
-            return registeredServicesCache.get(key);
+    @Override
+    public Map<String, Object> getStatistics() {
+        val stats = cache.stats();
+        val results = new LinkedHashMap<String, Object>();
+        results.put("size", cache.estimatedSize());
+        results.put("weight", cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L));
+        results.put("hitCount", stats.hitCount());
+        results.put("missCount", stats.missCount());
+        results.put("hitRate", stats.hitRate());
+        results.put("loadSuccessCount", stats.loadSuccessCount());
+        results.put("loadFailureCount", stats.loadFailureCount());
+        results.put("averageLoadPenaltyInNanos", stats.averageLoadPenalty());
+        results.put("evictionCount", stats.evictionCount());
+        results.put("evictionWeight", stats.evictionWeight());
+        return results;
+    }
+
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    @ToString
+    private static class CacheKey {
+        private final long serviceId;
+
+        private final String serviceName;
+
+        private final String principalId;
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    private static class CachedAttributes {
+        private final Map<String, List<Object>> attributes;
+
+        private final int weight;
+
+        private final long expirationInNanos;
+    }
+
+    private static class CachedAttributesExpiry implements Expiry<CacheKey, CachedAttributes> {
+        @Override
+        public long expireAfterCreate(final CacheKey key, final CachedAttributes value, final long currentTime) {
+            return value.getExpirationInNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(final CacheKey key, final CachedAttributes value,
+                                      final long currentTime, final long currentDuration) {
+            return value.getExpirationInNanos();
+        }
+
+        @Override
+        public long expireAfterRead(final CacheKey key, final CachedAttributes value,
+                                    final long currentTime, final long currentDuration) {
+            return currentDuration;
         }
-        val cache = initializeCache(repository);
-        registeredServicesCache.put(key, cache);
-        return cache;
     }
 }
@@ -125,8 +125,7 @@ public class ReturnMappedAttributeReleasePolicy extends AbstractRegisteredServic
                                                       final Map<String, List<Object>> resolvedAttributes,
                                                       final Map<String, List<Object>> attributesToRelease) {
         val args = CollectionUtils.wrap("attributes", resolvedAttributes, "logger", LOGGER);
-        script.setBinding(args);
-        val result = script.execute(args.values().toArray(), Object.class, false);
+        val result = script.execute(args, args.values().toArray(), Object.class, false);
         if (result != null) {
             LOGGER.debug("Mapped attribute [{}] to [{}] from script", attributeName, result);
             attributesToRelease.put(attributeName, CollectionUtils.wrapList(result));
@@ -1,6 +1,7 @@
 package org.apereo.cas;
 
 import org.apereo.cas.authentication.DefaultAuthenticationAttributeReleasePolicyTests;
+import org.apereo.cas.authentication.principal.cache.DefaultPrincipalAttributesRepositoryCacheTests;
 import org.apereo.cas.services.ChainingAttributeReleasePolicyTests;
 import org.apereo.cas.services.DefaultRegisteredServiceAcceptableUsagePolicyTests;
 import org.apereo.cas.services.DenyAllAttributeReleasePolicyTests;
@@ -36,7 +37,8 @@ import org.junit.platform.suite.api.Suite;
     ChainingAttributeReleasePolicyTests.class,
     ChainingRegisteredServiceConsentPolicyTests.class,
     DefaultRegisteredServiceAcceptableUsagePolicyTests.class,
-    DefaultRegisteredServiceConsentPolicyTests.class
+    DefaultRegisteredServiceConsentPolicyTests.class,
+    DefaultPrincipalAttributesRepositoryCacheTests.class
 })
 @Suite
 public class AllAuthenticationAttributesTestsSuite {
@@ -0,0 +1,99 @@
+package org.apereo.cas.authentication.principal.cache;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link DefaultPrincipalAttributesRepositoryCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Tag("Attributes")
+public class DefaultPrincipalAttributesRepositoryCacheTests {
+
+    @Test
+    public void verifyConcurrentFetchesAreCoalesced() throws Exception {
+        try (val cache = new DefaultPrincipalAttributesRepositoryCache()) {
+            val service = CoreAuthenticationTestUtils.getRegisteredService();
+            val principal = CoreAuthenticationTestUtils.getPrincipal("casuser");
+            val repository = new CachingPrincipalAttributesRepository(TimeUnit.MINUTES.name(), 5);
+            val loads = new AtomicInteger();
+            val start = new CountDownLatch(1);
+            val futures = new ArrayList<CompletableFuture<Map<String, List<Object>>>>();
+            for (var i = 0; i < 8; i++) {
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return cache.fetchAttributes(service, repository, principal, () -> {
+                        loads.incrementAndGet();
+                        return Map.of("uid", List.of("casuser"));
+                    });
+                }));
+            }
+            start.countDown();
+            for (val future : futures) {
+                assertEquals(List.of("casuser"), future.get().get("uid"));
+            }
+            assertEquals(1, loads.get());
+            assertEquals(1L, cache.getStatistics().get("size"));
+        }
+    }
+
+    @Test
+    public void verifyEmptyAttributesAreNotCached() {
+        val cache = new DefaultPrincipalAttributesRepositoryCache();
+        val service = CoreAuthenticationTestUtils.getRegisteredService();
+        val principal = CoreAuthenticationTestUtils.getPrincipal("casuser");
+        val repository = new CachingPrincipalAttributesRepository(TimeUnit.MINUTES.name(), 5);
+        val loads = new AtomicInteger();
+        for (var i = 0; i < 2; i++) {
+            val results = cache.fetchAttributes(service, repository, principal, () -> {
+                loads.incrementAndGet();
+                return Map.of();
+            });
+            assertTrue(results.isEmpty());
+        }
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void verifyInvalidation() {
+        val cache = new DefaultPrincipalAttributesRepositoryCache();
+        val service = CoreAuthenticationTestUtils.getRegisteredService();
+        val principal = CoreAuthenticationTestUtils.getPrincipal("casuser");
+        val repository = new CachingPrincipalAttributesRepository(TimeUnit.MINUTES.name(), 5);
+        cache.putAttributes(service, repository, principal.getId(), Map.of("uid", List.of("casuser")));
+        assertFalse(cache.fetchAttributes(service, repository, principal).isEmpty());
+        cache.invalidate();
+        assertTrue(cache.fetchAttributes(service, repository, principal).isEmpty());
+    }
+
+    @Test
+    public void verifyWeightIsBounded() {
+        val cache = new DefaultPrincipalAttributesRepositoryCache(1024);
+        val service = CoreAuthenticationTestUtils.getRegisteredService();
+        val repository = new CachingPrincipalAttributesRepository(TimeUnit.MINUTES.name(), 5);
+        for (var i = 0; i < 100; i++) {
+            cache.putAttributes(service, repository, "user" + i, Map.of("uid", List.of("user" + i)));
+        }
+        val weight = (Long) cache.getStatistics().get("weight");
+        assertTrue(weight <= 1024);
+    }
+}
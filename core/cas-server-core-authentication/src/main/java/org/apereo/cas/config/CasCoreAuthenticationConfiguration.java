@@ -13,17 +13,21 @@ import org.apereo.cas.authentication.DefaultAuthenticationResultBuilderFactory;
 import org.apereo.cas.authentication.DefaultAuthenticationTransactionFactory;
 import org.apereo.cas.authentication.DefaultAuthenticationTransactionManager;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.util.model.TriStateBoolean;
 import org.apereo.cas.validation.AuthenticationAttributeReleasePolicy;
 
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.jooq.lambda.Unchecked;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.AutoConfigureOrder;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.ConfigurableApplicationContext;
@@ -35,6 +39,10 @@ import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This is {@link CasCoreAuthenticationConfiguration}.
@@ -87,6 +95,22 @@ public class CasCoreAuthenticationConfiguration {
     @Configuration(value = "CasCoreAuthenticationManagerConfiguration", proxyBeanMethods = false)
     @AutoConfigureOrder(Ordered.LOWEST_PRECEDENCE)
     public static class CasCoreAuthenticationManagerConfiguration {
+        @ConditionalOnMissingBean(name = "authenticationHandlerExecutor")
+        @ConditionalOnProperty(prefix = "cas.authn.core.engine.handler-execution", name = "mode", havingValue = "PARALLEL")
+        @Bean
+        @Autowired
+        public ExecutorService authenticationHandlerExecutor(final CasConfigurationProperties casProperties) {
+            val execution = casProperties.getAuthn().getCore().getEngine().getHandlerExecution();
+            val threadFactory = new BasicThreadFactory.Builder()
+                .namingPattern("cas-authn-handler-%d")
+                .daemon(true)
+                .build();
+            val poolSize = Math.max(1, execution.getPoolSize());
+            return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, execution.getQueueCapacity())),
+                threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+        }
+
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         @Autowired
@@ -106,9 +130,17 @@ public class CasCoreAuthenticationConfiguration {
             final CasConfigurationProperties casProperties,
             final ConfigurableApplicationContext applicationContext,
             @Qualifier(AuthenticationEventExecutionPlan.DEFAULT_BEAN_NAME)
-            final AuthenticationEventExecutionPlan authenticationEventExecutionPlan) {
+            final AuthenticationEventExecutionPlan authenticationEventExecutionPlan,
+            @Qualifier("authenticationHandlerExecutor")
+            final ObjectProvider<ExecutorService> authenticationHandlerExecutor) {
             val isFatal = casProperties.getPersonDirectory().getPrincipalResolutionFailureFatal() == TriStateBoolean.TRUE;
-            return new DefaultAuthenticationManager(authenticationEventExecutionPlan, isFatal, applicationContext);
+            val manager = new DefaultAuthenticationManager(authenticationEventExecutionPlan, isFatal, applicationContext);
+            authenticationHandlerExecutor.ifAvailable(executor -> {
+                val execution = casProperties.getAuthn().getCore().getEngine().getHandlerExecution();
+                manager.setAuthenticationHandlerExecutor(executor);
+                manager.setAuthenticationHandlerExecutionTimeout(Beans.newDuration(execution.getTimeout()));
+            });
+            return manager;
         }
     }
 
@@ -51,8 +51,10 @@ public class CasCoreAuthenticationSupportConfiguration {
 
         @ConditionalOnMissingBean(name = PrincipalAttributesRepositoryCache.DEFAULT_BEAN_NAME)
         @Bean
-        public PrincipalAttributesRepositoryCache principalAttributesRepositoryCache() {
-            return new DefaultPrincipalAttributesRepositoryCache();
+        @Autowired
+        public PrincipalAttributesRepositoryCache principalAttributesRepositoryCache(final CasConfigurationProperties casProperties) {
+            val core = casProperties.getAuthn().getAttributeRepository().getCore();
+            return new DefaultPrincipalAttributesRepositoryCache(core.getMaximumCacheWeight());
         }
     }
 
@@ -21,15 +21,25 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import javax.security.auth.login.FailedLoginException;
 import java.security.GeneralSecurityException;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -418,4 +428,142 @@ public class DefaultAuthenticationManagerTests {
         assertEquals(1, auth.getFailures().size());
         assertEquals(2, auth.getCredentials().size());
     }
+
+    @Test
+    public void verifyAuthenticateAnySuccessInParallel() {
+        val map = new LinkedHashMap<AuthenticationHandler, PrincipalResolver>();
+        map.put(newMockHandler(HANDLER_A, false), null);
+        map.put(newMockHandler(HANDLER_B, true), null);
+
+        val authenticationExecutionPlan = getAuthenticationExecutionPlan(map);
+        authenticationExecutionPlan.registerAuthenticationPolicy(new AtLeastOneCredentialValidatedAuthenticationPolicy());
+        val manager = new DefaultAuthenticationManager(authenticationExecutionPlan, false, applicationContext);
+        val executor = Executors.newFixedThreadPool(2);
+        try {
+            manager.setAuthenticationHandlerExecutor(executor);
+            val auth = manager.authenticate(transaction);
+            assertTrue(auth.getSuccesses().containsKey(HANDLER_B));
+            assertEquals(2, auth.getCredentials().size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void verifyParallelAuthenticationCancelsOutstandingHandlers() {
+        val blocked = new CountDownLatch(1);
+        val slowHandler = mock(AuthenticationHandler.class);
+        when(slowHandler.getName()).thenReturn(HANDLER_A);
+        when(slowHandler.supports(any(Credential.class))).thenReturn(true);
+        when(slowHandler.getState()).thenCallRealMethod();
+        when(slowHandler.authenticate(any(Credential.class))).thenAnswer(invocation -> {
+            try {
+                blocked.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new PreventedException("interrupted");
+        });
+
+        val map = new LinkedHashMap<AuthenticationHandler, PrincipalResolver>();
+        map.put(slowHandler, null);
+        map.put(newMockHandler(HANDLER_B, true), null);
+
+        val authenticationExecutionPlan = getAuthenticationExecutionPlan(map);
+        authenticationExecutionPlan.registerAuthenticationPolicy(new RequiredAuthenticationHandlerAuthenticationPolicy(HANDLER_B));
+        val manager = new DefaultAuthenticationManager(authenticationExecutionPlan, false, applicationContext);
+        val executor = Executors.newFixedThreadPool(2);
+        try {
+            manager.setAuthenticationHandlerExecutor(executor);
+            manager.setAuthenticationHandlerExecutionTimeout(Duration.ofMinutes(1));
+            val auth = manager.authenticate(transaction);
+            assertTrue(auth.getSuccesses().containsKey(HANDLER_B));
+            assertFalse(auth.getFailures().containsKey(HANDLER_A));
+        } finally {
+            blocked.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void verifyParallelAuthenticationTimesOut() {
+        val blocked = new CountDownLatch(1);
+        val slowHandler = mock(AuthenticationHandler.class);
+        when(slowHandler.getName()).thenReturn(HANDLER_A);
+        when(slowHandler.supports(any(Credential.class))).thenReturn(true);
+        when(slowHandler.getState()).thenCallRealMethod();
+        when(slowHandler.authenticate(any(Credential.class))).thenAnswer(invocation -> {
+            blocked.await();
+            return null;
+        });
+
+        val map = new LinkedHashMap<AuthenticationHandler, PrincipalResolver>();
+        map.put(slowHandler, null);
+
+        val authenticationExecutionPlan = getAuthenticationExecutionPlan(map);
+        authenticationExecutionPlan.registerAuthenticationPolicy(new AtLeastOneCredentialValidatedAuthenticationPolicy());
+        val manager = new DefaultAuthenticationManager(authenticationExecutionPlan, false, applicationContext);
+        val executor = Executors.newFixedThreadPool(1);
+        try {
+            manager.setAuthenticationHandlerExecutor(executor);
+            manager.setAuthenticationHandlerExecutionTimeout(Duration.ofMillis(200));
+            val ex = assertThrows(AuthenticationException.class, () -> manager.authenticate(transaction));
+            assertTrue(ex.getHandlerErrors().containsKey(HANDLER_A));
+        } finally {
+            blocked.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void verifyParallelAuthenticationPropagatesRequestContext() {
+        val requestAttributes = mock(RequestAttributes.class);
+        val workerRecorded = new CountDownLatch(1);
+        val seen = new ConcurrentHashMap<String, Optional<RequestAttributes>>();
+
+        val handlerA = newMockHandler(HANDLER_A, true);
+        val resultA = handlerA.authenticate(mock(Credential.class));
+        when(handlerA.authenticate(any(Credential.class))).thenAnswer(invocation -> {
+            seen.put(HANDLER_A, Optional.ofNullable(RequestContextHolder.getRequestAttributes()));
+            workerRecorded.countDown();
+            return resultA;
+        });
+        val handlerB = newMockHandler(HANDLER_B, true);
+        val resultB = handlerB.authenticate(mock(Credential.class));
+        when(handlerB.authenticate(any(Credential.class))).thenAnswer(invocation -> {
+            seen.put(HANDLER_B, Optional.ofNullable(RequestContextHolder.getRequestAttributes()));
+            assertTrue(workerRecorded.await(5, TimeUnit.SECONDS));
+            return resultB;
+        });
+
+        val map = new LinkedHashMap<AuthenticationHandler, PrincipalResolver>();
+        map.put(handlerA, null);
+        map.put(handlerB, null);
+
+        val authenticationExecutionPlan = getAuthenticationExecutionPlan(map);
+        authenticationExecutionPlan.registerAuthenticationPolicy(new AtLeastOneCredentialValidatedAuthenticationPolicy());
+        val manager = new DefaultAuthenticationManager(authenticationExecutionPlan, false, applicationContext);
+        /*
+         * A single worker with no queue: the first handler runs on the worker
+         * and the second is rejected and runs on the calling thread.
+         */
+        val executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new SynchronousQueue<>(), new ThreadPoolExecutor.CallerRunsPolicy());
+        try {
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            manager.setAuthenticationHandlerExecutor(executor);
+            manager.setAuthenticationHandlerExecutionTimeout(Duration.ofMinutes(1));
+            val auth = manager.authenticate(transaction);
+            assertFalse(auth.getSuccesses().isEmpty());
+            assertSame(requestAttributes, seen.get(HANDLER_A).orElseThrow());
+            assertSame(requestAttributes, seen.get(HANDLER_B).orElseThrow());
+            assertSame(requestAttributes, RequestContextHolder.getRequestAttributes());
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+            executor.shutdownNow();
+        }
+    }
 }
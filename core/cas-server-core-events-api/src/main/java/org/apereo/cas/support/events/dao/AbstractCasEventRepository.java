@@ -2,6 +2,7 @@ package org.apereo.cas.support.events.dao;
 
 import org.apereo.cas.support.events.CasEventRepository;
 import org.apereo.cas.support.events.CasEventRepositoryFilter;
+import org.apereo.cas.support.events.CasEventRepositoryQuery;
 import org.apereo.cas.util.DateTimeUtils;
 
 import lombok.AccessLevel;
@@ -15,6 +16,7 @@ import org.springframework.context.ApplicationEventPublisherAware;
 
 import java.time.ZonedDateTime;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -28,6 +30,12 @@ import java.util.stream.Collectors;
 @Getter
 public abstract class AbstractCasEventRepository implements CasEventRepository, ApplicationEventPublisherAware {
 
+    /**
+     * Maximum number of events removed at a time by repositories
+     * that remove events in pages.
+     */
+    public static final int REMOVAL_PAGE_SIZE = 500;
+
     /**
      * Field name to track event type.
      */
@@ -51,6 +59,21 @@ public abstract class AbstractCasEventRepository implements CasEventRepository,
         return DateTimeUtils.convertToZonedDateTime(event.getCreationTime());
     }
 
+    private static boolean matches(final CasEventRepositoryQuery query, final CasEvent event) {
+        if (query.getType() != null && !query.getType().equals(event.getType())) {
+            return false;
+        }
+        if (query.getPrincipal() != null && !query.getPrincipal().equalsIgnoreCase(event.getPrincipalId())) {
+            return false;
+        }
+        if (query.getFrom() != null || query.getTo() != null) {
+            val dt = convertEventCreationTime(event);
+            return (query.getFrom() == null || !dt.isBefore(query.getFrom()))
+                && (query.getTo() == null || dt.isBefore(query.getTo()));
+        }
+        return true;
+    }
+
     @Override
     public void save(final CasEvent event) {
         if (getEventRepositoryFilter().shouldSaveEvent(event)) {
@@ -59,74 +82,64 @@ public abstract class AbstractCasEventRepository implements CasEventRepository,
             if (applicationEventPublisher != null) {
                 val auditEvent = new AuditEvent(event.getPrincipalId(), event.getType(), (Map) event.getProperties());
                 applicationEventPublisher.publishEvent(new AuditApplicationEvent(auditEvent));
+                applicationEventPublisher.publishEvent(new CasEventSavedEvent(this, event));
             }
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Events are loaded and then filtered in memory. Repositories that are able to
+     * look up events by the query criteria natively should override this operation.
+     */
     @Override
-    public Collection<? extends CasEvent> load(final ZonedDateTime dateTime) {
-        return load()
+    public Collection<? extends CasEvent> getEvents(final CasEventRepositoryQuery query) {
+        val events = load()
             .stream()
-            .filter(e -> {
-                val dt = convertEventCreationTime(e);
-                return dt.isEqual(dateTime) || dt.isAfter(dateTime);
-            })
-            .collect(Collectors.toSet());
+            .filter(event -> matches(query, event));
+        if (query.isLimited()) {
+            return events
+                .sorted(Comparator.comparing(AbstractCasEventRepository::convertEventCreationTime).reversed())
+                .limit(query.getLimit())
+                .collect(Collectors.toList());
+        }
+        return events.collect(Collectors.toSet());
+    }
+
+    @Override
+    public Collection<? extends CasEvent> load(final ZonedDateTime dateTime) {
+        return getEvents(CasEventRepositoryQuery.builder().from(dateTime).build());
     }
 
     @Override
     public Collection<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
-        return getEventsForPrincipal(principal)
-            .stream()
-            .filter(event -> event.getType().equals(type))
-            .collect(Collectors.toSet());
+        return getEvents(CasEventRepositoryQuery.builder().type(type).principal(principal).build());
     }
 
     @Override
     public Collection<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal, final ZonedDateTime dateTime) {
-        return getEventsOfTypeForPrincipal(type, principal)
-            .stream()
-            .filter(e -> {
-                val dt = convertEventCreationTime(e);
-                return dt.isEqual(dateTime) || dt.isAfter(dateTime);
-            })
-            .collect(Collectors.toSet());
+        return getEvents(CasEventRepositoryQuery.builder().type(type).principal(principal).from(dateTime).build());
     }
 
     @Override
     public Collection<? extends CasEvent> getEventsOfType(final String type) {
-        val events = load();
-        return events.stream().filter(event -> event.getType().equals(type)).collect(Collectors.toSet());
+        return getEvents(CasEventRepositoryQuery.builder().type(type).build());
     }
 
     @Override
     public Collection<? extends CasEvent> getEventsOfType(final String type, final ZonedDateTime dateTime) {
-        return getEventsOfType(type)
-            .stream()
-            .filter(e -> {
-                val dt = convertEventCreationTime(e);
-                return dt.isEqual(dt) || dt.isAfter(dt);
-            })
-            .collect(Collectors.toSet());
+        return getEvents(CasEventRepositoryQuery.builder().type(type).from(dateTime).build());
     }
 
     @Override
     public Collection<? extends CasEvent> getEventsForPrincipal(final String id) {
-        return load()
-            .stream()
-            .filter(e -> e.getPrincipalId().equalsIgnoreCase(id))
-            .collect(Collectors.toSet());
+        return getEvents(CasEventRepositoryQuery.builder().principal(id).build());
     }
 
     @Override
     public Collection<? extends CasEvent> getEventsForPrincipal(final String id, final ZonedDateTime dateTime) {
-        return getEventsForPrincipal(id)
-            .stream()
-            .filter(e -> {
-                val dt = convertEventCreationTime(e);
-                return dt.isEqual(dateTime) || dt.isAfter(dateTime);
-            })
-            .collect(Collectors.toSet());
+        return getEvents(CasEventRepositoryQuery.builder().principal(id).from(dateTime).build());
     }
 
     @Override
@@ -0,0 +1,45 @@
+package org.apereo.cas.support.events.dao;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.util.function.FunctionUtils;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+/**
+ * This is {@link CasEventRepositoryCleaner} that removes events
+ * created before the configured retention period from the events repository.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Getter
+public class CasEventRepositoryCleaner {
+    private final CasEventRepository casEventRepository;
+
+    private final CasConfigurationProperties casProperties;
+
+    /**
+     * Clean up events beyond the retention period.
+     */
+    @Scheduled(initialDelayString = "${cas.events.core.cleaner.schedule.start-delay:PT1M}",
+        fixedDelayString = "${cas.events.core.cleaner.schedule.repeat-interval:PT1H}")
+    public void clean() {
+        FunctionUtils.doAndIgnore(o -> {
+            val retention = Beans.newDuration(casProperties.getEvents().getCore().getRetention());
+            val dateTime = ZonedDateTime.now(ZoneOffset.UTC).minus(retention);
+            LOGGER.trace("Proceeding to clean up events created before [{}]...", dateTime);
+            casEventRepository.removeEventsBefore(dateTime);
+        });
+    }
+}
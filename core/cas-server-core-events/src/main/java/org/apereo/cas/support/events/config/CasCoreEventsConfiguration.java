@@ -2,11 +2,13 @@ package org.apereo.cas.support.events.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.dao.CasEventRepositoryCleaner;
 import org.apereo.cas.support.events.dao.NoOpCasEventRepository;
 import org.apereo.cas.support.events.listener.DefaultCasEventListener;
 import org.apereo.cas.support.events.listener.LoggingCasEventListener;
 import org.apereo.cas.support.events.web.CasEventsReportEndpoint;
 import org.apereo.cas.util.spring.CasEventListener;
+import org.apereo.cas.util.spring.boot.ConditionalOnMatchingHostname;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -73,4 +75,20 @@ public class CasCoreEventsConfiguration {
         }
     }
 
+    @Configuration(value = "CasCoreEventsSchedulerConfiguration", proxyBeanMethods = false)
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
+    @ConditionalOnProperty(prefix = "cas.events.core", name = "retention")
+    public static class CasCoreEventsSchedulerConfiguration {
+        @ConditionalOnMatchingHostname(name = "cas.events.core.cleaner.schedule.enabled-on-host")
+        @ConditionalOnProperty(prefix = "cas.events.core.cleaner.schedule", name = "enabled", havingValue = "true", matchIfMissing = true)
+        @ConditionalOnMissingBean(name = "casEventRepositoryCleaner")
+        @Bean
+        @Autowired
+        public CasEventRepositoryCleaner casEventRepositoryCleaner(
+            final CasConfigurationProperties casProperties,
+            @Qualifier("casEventRepository")
+            final CasEventRepository casEventRepository) {
+            return new CasEventRepositoryCleaner(casEventRepository, casProperties);
+        }
+    }
 }
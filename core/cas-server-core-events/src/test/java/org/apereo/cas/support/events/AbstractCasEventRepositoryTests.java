@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -80,6 +81,60 @@ public abstract class AbstractCasEventRepositoryTests {
         });
     }
 
+    @Test
+    public void verifyQueryByCriteria() {
+        val eventRepository = getEventRepository();
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        val principal = UUID.randomUUID().toString();
+        val oldest = saveCasEvent(eventRepository, principal, now.minusDays(10), 1);
+        saveCasEvent(eventRepository, principal, now.minusDays(1), 2);
+        val latest = saveCasEvent(eventRepository, principal, now, 3);
+        val other = getCasEvent(principal);
+        other.setId(System.currentTimeMillis() + 4);
+        other.putTimestamp(other.getId());
+        other.setType("OtherEvent");
+        eventRepository.save(other);
+
+        assertEquals(3, eventRepository.getEventsOfTypeForPrincipal(latest.getType(), principal).size());
+        assertEquals(4, eventRepository.getEventsForPrincipal(principal).size());
+        assertEquals(2, eventRepository.getEventsOfTypeForPrincipal(latest.getType(), principal, now.minusDays(5)).size());
+
+        val range = CasEventRepositoryQuery.builder()
+            .type(latest.getType())
+            .principal(principal)
+            .from(now.minusDays(5))
+            .to(now.minusHours(1))
+            .build();
+        assertEquals(1, eventRepository.getEvents(range).size());
+
+        val limited = CasEventRepositoryQuery.builder()
+            .type(latest.getType())
+            .principal(principal)
+            .limit(1)
+            .build();
+        val results = eventRepository.getEvents(limited);
+        assertEquals(1, results.size());
+        assertEquals(latest.getCreationTime(), results.iterator().next().getCreationTime());
+
+        val before = CasEventRepositoryQuery.builder()
+            .principal(principal)
+            .to(now.minusDays(5))
+            .build();
+        val events = eventRepository.getEvents(before);
+        assertEquals(1, events.size());
+        assertEquals(oldest.getCreationTime(), events.iterator().next().getCreationTime());
+    }
+
+    private CasEvent saveCasEvent(final CasEventRepository eventRepository, final String user,
+                                  final ZonedDateTime creationTime, final int sequence) {
+        val dto = getCasEvent(user);
+        dto.setId(System.currentTimeMillis() + sequence);
+        dto.putTimestamp(dto.getId());
+        dto.setCreationTime(creationTime.format(DateTimeFormatter.ISO_ZONED_DATE_TIME));
+        eventRepository.save(dto);
+        return dto;
+    }
+
     private CasEvent getCasEvent(final String user) {
         val ticket = new MockTicketGrantingTicket(user);
         val event = new CasTicketGrantingTicketCreatedEvent(this, ticket);
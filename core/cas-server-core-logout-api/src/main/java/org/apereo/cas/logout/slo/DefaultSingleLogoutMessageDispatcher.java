@@ -0,0 +1,343 @@
+package org.apereo.cas.logout.slo;
+
+import org.apereo.cas.configuration.model.core.slo.SingleLogOutDispatcherProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.logout.LogoutHttpMessage;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.http.HttpClient;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+
+import java.io.File;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * This is {@link DefaultSingleLogoutMessageDispatcher} that delivers logout messages
+ * from a queue that is persisted on the local file system. Messages are grouped by
+ * application endpoint, and each endpoint is only ever sent a limited number of messages
+ * at the same time so that a slow or unavailable application does not tie up
+ * delivery to others. Failed deliveries are retried with an exponential backoff,
+ * and identical messages that are already waiting for the same endpoint are coalesced.
+ * Messages that are still pending when the dispatcher shuts down are sent again once
+ * a new dispatcher is created on top of the same queue directory.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Slf4j
+public class DefaultSingleLogoutMessageDispatcher implements SingleLogoutMessageDispatcher, AutoCloseable {
+    private static final String QUEUE_FILE_PREFIX = "slo-";
+
+    private static final String QUEUE_FILE_SUFFIX = ".json";
+
+    private static final QueuedSingleLogoutMessageJsonSerializer SERIALIZER = new QueuedSingleLogoutMessageJsonSerializer();
+
+    private final HttpClient httpClient;
+
+    private final SingleLogOutDispatcherProperties properties;
+
+    private final File queueDirectory;
+
+    private final ScheduledThreadPoolExecutor executor;
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    private final Set<String> pendingMessages = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+
+    private final List<Consumer<Endpoint>> endpointListeners = new CopyOnWriteArrayList<>();
+
+    private final long retryDelayInMillis;
+
+    private final long maxRetryDelayInMillis;
+
+    private volatile boolean running = true;
+
+    public DefaultSingleLogoutMessageDispatcher(final HttpClient httpClient,
+                                                final SingleLogOutDispatcherProperties properties) {
+        this.httpClient = httpClient;
+        this.properties = properties;
+        this.queueDirectory = new File(properties.getQueueDirectory());
+        this.retryDelayInMillis = Math.max(1, Beans.newDuration(properties.getRetryDelay()).toMillis());
+        this.maxRetryDelayInMillis = Math.max(retryDelayInMillis, Beans.newDuration(properties.getMaxRetryDelay()).toMillis());
+        val threadFactory = new BasicThreadFactory.Builder()
+            .namingPattern("cas-slo-dispatcher-%d")
+            .daemon(true)
+            .build();
+        this.executor = new ScheduledThreadPoolExecutor(Math.max(1, properties.getThreads()), threadFactory);
+        this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        recoverQueuedMessages();
+    }
+
+    private static String getEndpointName(final URL url) {
+        val port = url.getPort() > 0 ? url.getPort() : url.getDefaultPort();
+        return url.getProtocol() + "://" + url.getHost() + ':' + port;
+    }
+
+    private static String getMessageKey(final QueuedSingleLogoutMessage message) {
+        return message.getUrl() + '\n' + message.getContentType() + '\n' + message.getMessage();
+    }
+
+    @Override
+    public boolean dispatch(final LogoutHttpMessage message) {
+        if (!running) {
+            LOGGER.debug("Logout message dispatcher is shut down; sending logout message to [{}] directly", message.getUrl());
+            return httpClient.sendMessageToEndPoint(message);
+        }
+        val queued = new QueuedSingleLogoutMessage()
+            .setId(System.currentTimeMillis() + "-" + UUID.randomUUID())
+            .setUrl(message.getUrl().toExternalForm())
+            .setMessage(message.getMessage())
+            .setContentType(message.getContentType());
+        val endpoint = getEndpoint(message.getUrl());
+        if (!pendingMessages.add(getMessageKey(queued))) {
+            LOGGER.debug("An identical logout message for [{}] is already waiting for delivery", queued.getUrl());
+            endpoint.getCoalescedMessageCount().incrementAndGet();
+            return true;
+        }
+        if (queueDepth.incrementAndGet() > properties.getQueueCapacity()) {
+            queueDepth.decrementAndGet();
+            pendingMessages.remove(getMessageKey(queued));
+            LOGGER.warn("Logout message queue is full; sending logout message to [{}] directly", queued.getUrl());
+            return httpClient.sendMessageToEndPoint(message);
+        }
+        persist(queued);
+        enqueue(endpoint, queued);
+        return true;
+    }
+
+    /**
+     * Number of logout messages waiting to be delivered, including those
+     * that are being sent or are scheduled to be retried.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Gets the application endpoints to which logout messages are dispatched.
+     *
+     * @return the endpoints
+     */
+    public Collection<Endpoint> getEndpoints() {
+        return Collections.unmodifiableCollection(endpoints.values());
+    }
+
+    /**
+     * Register a listener that is notified of every application endpoint
+     * known to the dispatcher, now or later.
+     *
+     * @param listener the listener
+     */
+    public void registerEndpointListener(final Consumer<Endpoint> listener) {
+        endpointListeners.add(listener);
+        endpoints.values().forEach(listener);
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        LOGGER.debug("Logout message dispatcher is shut down with [{}] message(s) left in [{}]", queueDepth.get(), queueDirectory);
+    }
+
+    private Endpoint getEndpoint(final URL url) {
+        val name = getEndpointName(url);
+        val existing = endpoints.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        val created = new Endpoint(name);
+        val endpoint = endpoints.putIfAbsent(name, created);
+        if (endpoint != null) {
+            return endpoint;
+        }
+        endpointListeners.forEach(listener -> listener.accept(created));
+        return created;
+    }
+
+    private void enqueue(final Endpoint endpoint, final QueuedSingleLogoutMessage message) {
+        endpoint.getPendingMessages().offer(message);
+        drain(endpoint);
+    }
+
+    private void drain(final Endpoint endpoint) {
+        val maxConcurrentRequests = Math.max(1, properties.getMaxConcurrentRequestsPerEndpoint());
+        while (running && !endpoint.getPendingMessages().isEmpty()) {
+            val inFlight = endpoint.getInFlightMessageCount().get();
+            if (inFlight >= maxConcurrentRequests) {
+                return;
+            }
+            if (!endpoint.getInFlightMessageCount().compareAndSet(inFlight, inFlight + 1)) {
+                continue;
+            }
+            val message = endpoint.getPendingMessages().poll();
+            if (message == null) {
+                endpoint.getInFlightMessageCount().decrementAndGet();
+                continue;
+            }
+            try {
+                executor.execute(() -> deliver(endpoint, message));
+            } catch (final RejectedExecutionException e) {
+                LOGGER.debug("Logout message dispatcher is shut down; logout message to [{}] is kept in the queue", message.getUrl());
+                endpoint.getInFlightMessageCount().decrementAndGet();
+                endpoint.getPendingMessages().offer(message);
+                return;
+            }
+        }
+    }
+
+    private void deliver(final Endpoint endpoint, final QueuedSingleLogoutMessage message) {
+        var delivered = false;
+        try {
+            val httpMessage = new LogoutHttpMessage(new URL(message.getUrl()), message.getMessage(), false);
+            httpMessage.setContentType(message.getContentType());
+            delivered = httpClient.sendMessageToEndPoint(httpMessage);
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        } finally {
+            endpoint.getInFlightMessageCount().decrementAndGet();
+        }
+        message.setAttempts(message.getAttempts() + 1);
+        if (delivered) {
+            LOGGER.trace("Delivered logout message [{}] to [{}]", message.getId(), message.getUrl());
+            endpoint.getSentMessageCount().incrementAndGet();
+            complete(message);
+        } else if (!running) {
+            persist(message);
+        } else if (message.getAttempts() >= properties.getMaxAttempts()) {
+            LOGGER.warn("Unable to deliver logout message to [{}] after [{}] attempt(s); discarding message",
+                message.getUrl(), message.getAttempts());
+            endpoint.getFailedMessageCount().incrementAndGet();
+            complete(message);
+        } else {
+            retry(endpoint, message);
+        }
+        drain(endpoint);
+    }
+
+    private void retry(final Endpoint endpoint, final QueuedSingleLogoutMessage message) {
+        val delay = Math.min(maxRetryDelayInMillis, retryDelayInMillis << Math.min(message.getAttempts() - 1, Long.SIZE - 2));
+        LOGGER.debug("Unable to deliver logout message to [{}]; retrying in [{}] ms", message.getUrl(), delay);
+        endpoint.getRetriedMessageCount().incrementAndGet();
+        persist(message);
+        try {
+            executor.schedule(() -> enqueue(endpoint, message), delay, TimeUnit.MILLISECONDS);
+        } catch (final RejectedExecutionException e) {
+            LOGGER.debug("Logout message dispatcher is shut down; logout message to [{}] is kept in the queue", message.getUrl());
+        }
+    }
+
+    private void complete(final QueuedSingleLogoutMessage message) {
+        val file = getQueueFile(message);
+        try {
+            Files.deleteIfExists(file.toPath());
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to delete logout message file [{}]", file);
+        }
+        pendingMessages.remove(getMessageKey(message));
+        queueDepth.decrementAndGet();
+    }
+
+    private File getQueueFile(final QueuedSingleLogoutMessage message) {
+        return new File(queueDirectory, QUEUE_FILE_PREFIX + message.getId() + QUEUE_FILE_SUFFIX);
+    }
+
+    private void persist(final QueuedSingleLogoutMessage message) {
+        try {
+            Files.createDirectories(queueDirectory.toPath());
+            SERIALIZER.to(getQueueFile(message), message);
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to store logout message to [{}] on disk; message is only kept in memory", message.getUrl());
+            LoggingUtils.error(LOGGER, e);
+        }
+    }
+
+    private void recoverQueuedMessages() {
+        val files = queueDirectory.listFiles((dir, name) -> name.startsWith(QUEUE_FILE_PREFIX) && name.endsWith(QUEUE_FILE_SUFFIX));
+        if (files == null || files.length == 0) {
+            return;
+        }
+        LOGGER.info("Found [{}] logout message(s) in [{}] waiting to be delivered", files.length, queueDirectory);
+        Arrays.stream(files)
+            .sorted(Comparator.comparing(File::getName))
+            .forEach(file -> {
+                try {
+                    val message = SERIALIZER.from(file);
+                    if (message == null || !pendingMessages.add(getMessageKey(message))) {
+                        Files.deleteIfExists(file.toPath());
+                        return;
+                    }
+                    queueDepth.incrementAndGet();
+                    enqueue(getEndpoint(new URL(message.getUrl())), message);
+                } catch (final Exception e) {
+                    LOGGER.warn("Unable to recover logout message from [{}]", file);
+                    LoggingUtils.error(LOGGER, e);
+                }
+            });
+    }
+
+    /**
+     * Application endpoint to which logout messages are dispatched,
+     * along with its delivery statistics.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Endpoint {
+        private final String name;
+
+        private final Queue<QueuedSingleLogoutMessage> pendingMessages = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger inFlightMessageCount = new AtomicInteger();
+
+        private final AtomicLong sentMessageCount = new AtomicLong();
+
+        private final AtomicLong failedMessageCount = new AtomicLong();
+
+        private final AtomicLong retriedMessageCount = new AtomicLong();
+
+        private final AtomicLong coalescedMessageCount = new AtomicLong();
+
+        /**
+         * Number of logout messages waiting for this endpoint or being sent to it.
+         *
+         * @return the queue depth
+         */
+        public int getQueueDepth() {
+            return pendingMessages.size() + inFlightMessageCount.get();
+        }
+    }
+}
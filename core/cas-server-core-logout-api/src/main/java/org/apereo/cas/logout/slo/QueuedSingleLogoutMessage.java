@@ -0,0 +1,35 @@
+package org.apereo.cas.logout.slo;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link QueuedSingleLogoutMessage} that represents a logout message
+ * waiting to be delivered by the {@link DefaultSingleLogoutMessageDispatcher}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Accessors(chain = true)
+@ToString(exclude = "message")
+public class QueuedSingleLogoutMessage implements Serializable {
+    private static final long serialVersionUID = -3170584738473052661L;
+
+    private String id;
+
+    private String url;
+
+    private String message;
+
+    private String contentType;
+
+    private int attempts;
+}
@@ -0,0 +1,18 @@
+package org.apereo.cas.logout.slo;
+
+import org.apereo.cas.util.serialization.AbstractJacksonBackedStringSerializer;
+
+/**
+ * This is {@link QueuedSingleLogoutMessageJsonSerializer}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+public class QueuedSingleLogoutMessageJsonSerializer extends AbstractJacksonBackedStringSerializer<QueuedSingleLogoutMessage> {
+    private static final long serialVersionUID = 4420398143657217208L;
+
+    @Override
+    public Class<QueuedSingleLogoutMessage> getTypeToSerialize() {
+        return QueuedSingleLogoutMessage.class;
+    }
+}
@@ -0,0 +1,26 @@
+package org.apereo.cas.logout.slo;
+
+import org.apereo.cas.logout.LogoutHttpMessage;
+
+/**
+ * This is {@link SingleLogoutMessageDispatcher} that takes over the delivery
+ * of asynchronous back-channel logout messages to application endpoints.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@FunctionalInterface
+public interface SingleLogoutMessageDispatcher {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "singleLogoutMessageDispatcher";
+
+    /**
+     * Dispatch the logout message to its endpoint.
+     *
+     * @param message the message
+     * @return true if the message was accepted for delivery or was sent successfully.
+     */
+    boolean dispatch(LogoutHttpMessage message);
+}
@@ -0,0 +1,163 @@
+package org.apereo.cas.logout;
+
+import org.apereo.cas.configuration.model.core.slo.SingleLogOutDispatcherProperties;
+import org.apereo.cas.logout.slo.DefaultSingleLogoutMessageDispatcher;
+import org.apereo.cas.logout.slo.QueuedSingleLogoutMessage;
+import org.apereo.cas.logout.slo.QueuedSingleLogoutMessageJsonSerializer;
+import org.apereo.cas.util.http.HttpClient;
+import org.apereo.cas.util.http.HttpMessage;
+
+import lombok.val;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.io.File;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link DefaultSingleLogoutMessageDispatcherTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Tag("Logout")
+public class DefaultSingleLogoutMessageDispatcherTests {
+    private static final String LOGOUT_URL = "https://app.example.org/logout";
+
+    private File queueDirectory;
+
+    private SingleLogOutDispatcherProperties properties;
+
+    private static void waitFor(final BooleanSupplier condition) throws Exception {
+        val deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Condition was not met in time");
+            Thread.sleep(10);
+        }
+    }
+
+    private static LogoutHttpMessage getLogoutMessage(final String payload) throws Exception {
+        return new LogoutHttpMessage(new URL(LOGOUT_URL), payload, true);
+    }
+
+    private File[] getQueueFiles() {
+        return queueDirectory.listFiles((dir, name) -> name.endsWith(".json"));
+    }
+
+    @BeforeEach
+    public void setup() throws Exception {
+        queueDirectory = Files.createTempDirectory("cas-slo").toFile();
+        properties = new SingleLogOutDispatcherProperties()
+            .setEnabled(true)
+            .setQueueDirectory(queueDirectory.getAbsolutePath())
+            .setRetryDelay("PT0.01S")
+            .setMaxRetryDelay("PT0.05S");
+    }
+
+    @Test
+    public void verifyMessageDelivered() throws Exception {
+        val httpClient = mock(HttpClient.class);
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenReturn(true);
+        try (val dispatcher = new DefaultSingleLogoutMessageDispatcher(httpClient, properties)) {
+            assertTrue(dispatcher.dispatch(getLogoutMessage("payload")));
+            waitFor(() -> dispatcher.getQueueDepth() == 0);
+            val endpoint = dispatcher.getEndpoints().iterator().next();
+            assertEquals("https://app.example.org:443", endpoint.getName());
+            assertEquals(1, endpoint.getSentMessageCount().get());
+            assertEquals(0, getQueueFiles().length);
+        }
+        verify(httpClient).sendMessageToEndPoint(argThat(msg -> !msg.isAsynchronous()
+            && msg.getMessage().equals("payload")
+            && MediaType.APPLICATION_FORM_URLENCODED_VALUE.equals(msg.getContentType())));
+    }
+
+    @Test
+    public void verifyMessageRetriedAndDiscarded() throws Exception {
+        properties.setMaxAttempts(3);
+        val httpClient = mock(HttpClient.class);
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenReturn(false);
+        try (val dispatcher = new DefaultSingleLogoutMessageDispatcher(httpClient, properties)) {
+            assertTrue(dispatcher.dispatch(getLogoutMessage("payload")));
+            val endpoint = dispatcher.getEndpoints().iterator().next();
+            waitFor(() -> dispatcher.getQueueDepth() == 0);
+            assertEquals(1, endpoint.getFailedMessageCount().get());
+            assertEquals(2, endpoint.getRetriedMessageCount().get());
+            assertEquals(0, endpoint.getSentMessageCount().get());
+            assertEquals(0, getQueueFiles().length);
+        }
+        verify(httpClient, times(3)).sendMessageToEndPoint(any(HttpMessage.class));
+    }
+
+    @Test
+    public void verifyConcurrencyPerEndpointAndCoalescing() throws Exception {
+        properties.setMaxConcurrentRequestsPerEndpoint(1);
+        val released = new CountDownLatch(1);
+        val inFlight = new AtomicInteger();
+        val maxInFlight = new AtomicInteger();
+        val httpClient = mock(HttpClient.class);
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            released.await(10, TimeUnit.SECONDS);
+            inFlight.decrementAndGet();
+            return true;
+        });
+        try (val dispatcher = new DefaultSingleLogoutMessageDispatcher(httpClient, properties)) {
+            assertTrue(dispatcher.dispatch(getLogoutMessage("payload-1")));
+            assertTrue(dispatcher.dispatch(getLogoutMessage("payload-2")));
+            assertTrue(dispatcher.dispatch(getLogoutMessage("payload-3")));
+            assertTrue(dispatcher.dispatch(getLogoutMessage("payload-3")));
+            assertEquals(3, dispatcher.getQueueDepth());
+            assertEquals(3, getQueueFiles().length);
+
+            val endpoint = dispatcher.getEndpoints().iterator().next();
+            assertEquals(1, endpoint.getCoalescedMessageCount().get());
+            released.countDown();
+            waitFor(() -> dispatcher.getQueueDepth() == 0);
+            assertEquals(3, endpoint.getSentMessageCount().get());
+            assertEquals(1, maxInFlight.get());
+        }
+    }
+
+    @Test
+    public void verifyQueuedMessagesRecovered() throws Exception {
+        val queued = new QueuedSingleLogoutMessage()
+            .setId("1234567890")
+            .setUrl(LOGOUT_URL)
+            .setMessage("payload")
+            .setContentType(MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+            .setAttempts(1);
+        new QueuedSingleLogoutMessageJsonSerializer().to(new File(queueDirectory, "slo-1234567890.json"), queued);
+
+        val httpClient = mock(HttpClient.class);
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenReturn(true);
+        try (val dispatcher = new DefaultSingleLogoutMessageDispatcher(httpClient, properties)) {
+            waitFor(() -> dispatcher.getQueueDepth() == 0);
+            assertEquals(1, dispatcher.getEndpoints().iterator().next().getSentMessageCount().get());
+            assertEquals(0, getQueueFiles().length);
+        }
+        verify(httpClient).sendMessageToEndPoint(argThat(msg -> msg.getMessage().equals("payload")));
+    }
+
+    @Test
+    public void verifyQueueCapacity() throws Exception {
+        properties.setQueueCapacity(0);
+        val httpClient = mock(HttpClient.class);
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenReturn(true);
+        try (val dispatcher = new DefaultSingleLogoutMessageDispatcher(httpClient, properties)) {
+            val message = getLogoutMessage("payload");
+            assertTrue(dispatcher.dispatch(message));
+            assertEquals(0, dispatcher.getQueueDepth());
+            verify(httpClient).sendMessageToEndPoint(message);
+        }
+    }
+}
@@ -71,8 +71,7 @@ public class EmailMessageBodyBuilder {
                 val script = cacheMgr.resolveScriptableResource(properties.getText(), properties.getText());
                 val args = CollectionUtils.wrap("parameters", this.parameters, "logger", LOGGER);
                 locale.ifPresent(l -> args.put("locale", l));
-                script.setBinding(args);
-                return script.execute(args.values().toArray(), String.class);
+                return script.execute(args, args.values().toArray(), String.class, true);
             }
 
             val templateFile = determineEmailTemplateFile();
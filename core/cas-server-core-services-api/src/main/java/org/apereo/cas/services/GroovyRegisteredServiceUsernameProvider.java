@@ -94,8 +94,7 @@ public class GroovyRegisteredServiceUsernameProvider extends BaseRegisteredServi
             "id", principal.getId(),
             "service", service,
             "logger", LOGGER);
-        executableScript.setBinding(args);
-        return executableScript.execute(args.values().toArray(), Object.class);
+        return executableScript.execute(args, args.values().toArray(), Object.class, true);
     }
 
 }
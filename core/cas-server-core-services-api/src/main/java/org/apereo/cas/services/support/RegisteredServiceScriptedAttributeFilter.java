@@ -78,8 +78,7 @@ public class RegisteredServiceScriptedAttributeFilter implements RegisteredServi
     @SneakyThrows
     private Map<String, List<Object>> getGroovyAttributeValue(final Map<String, List<Object>> resolvedAttributes) {
         val args = CollectionUtils.wrap("attributes", resolvedAttributes, "logger", LOGGER);
-        executableScript.setBinding(args);
-        return executableScript.execute(args.values().toArray(), Map.class);
+        return executableScript.execute(args, args.values().toArray(), Map.class, true);
     }
 
     @Override
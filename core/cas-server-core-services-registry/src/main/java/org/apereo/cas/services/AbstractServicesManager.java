@@ -148,6 +148,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
                         LOGGER.debug("Service [{}] is found in service registry and can be supported by [{}]",
                             registeredService, locator.getName());
                         configurationContext.getServicesCache().put(registeredService.getId(), registeredService);
+                        cacheInternal(registeredService);
                         LOGGER.trace("Service [{}] is now cached from [{}]", service, serviceRegistry.getName());
                         return Optional.of(registeredService);
                     })
@@ -170,6 +171,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
             peek(RegisteredService::initialize).
             collect(Collectors.toMap(RegisteredService::getId, Function.identity(), (r, s) -> s));
         configurationContext.getServicesCache().putAll(results);
+        results.values().forEach(this::cacheInternal);
         return results.values();
     }
 
@@ -216,6 +218,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
             service = registry.findServiceByExactServiceName(name);
             if (service != null) {
                 configurationContext.getServicesCache().put(service.getId(), service);
+                cacheInternal(service);
                 LOGGER.trace("The service is found in [{}] and populated to the cache [{}]", registry.getName(), service);
             }
         }
@@ -240,6 +243,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
         service = configurationContext.getServiceRegistry().findServiceByExactServiceName(name, clazz);
         if (service != null) {
             configurationContext.getServicesCache().put(service.getId(), service);
+            cacheInternal(service);
             LOGGER.trace("The service is found in [{}] and populated to the cache [{}]", configurationContext.getServiceRegistry().getName(),
                 service);
         }
@@ -336,6 +340,16 @@ public abstract class AbstractServicesManager implements ServicesManager {
     protected void saveInternal(final RegisteredService service) {
     }
 
+    /**
+     * Cache internal, invoked when a service definition
+     * is fetched from the service registry and put into the cache
+     * outside of save and load operations.
+     *
+     * @param service the service
+     */
+    protected void cacheInternal(final RegisteredService service) {
+    }
+
     /**
      * Load internal.
      */
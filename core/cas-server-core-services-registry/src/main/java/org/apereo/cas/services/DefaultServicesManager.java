@@ -1,29 +1,31 @@
 package org.apereo.cas.services;
 
+import lombok.val;
+
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.stream.Collectors;
 
 /**
  * Default implementation of the {@link ServicesManager} interface.
+ * Candidate services are located via a {@link RegisteredServiceLookupIndex}
+ * that is kept up to date as services are saved, deleted and loaded.
  *
  * @author Scott Battaglia
  * @since 3.1
  */
 public class DefaultServicesManager extends AbstractServicesManager {
 
+    private final RegisteredServiceLookupIndex lookupIndex = new RegisteredServiceLookupIndex();
+
     public DefaultServicesManager(final ServicesManagerConfigurationContext context) {
         super(context);
     }
 
     @Override
     protected Collection<RegisteredService> getCandidateServicesToMatch(final String serviceId) {
-        return getConfigurationContext().getServicesCache()
-            .asMap()
-            .values()
-            .stream()
-            .sorted(Comparator.naturalOrder())
-            .collect(Collectors.toList());
+        val servicesCache = getConfigurationContext().getServicesCache();
+        return lookupIndex.find(serviceId, registeredService -> servicesCache.getIfPresent(registeredService.getId()));
     }
 
     @Override
@@ -35,4 +37,24 @@ public class DefaultServicesManager extends AbstractServicesManager {
             .sorted(Comparator.naturalOrder())
             .collect(Collectors.toList());
     }
+
+    @Override
+    protected void saveInternal(final RegisteredService service) {
+        lookupIndex.add(service);
+    }
+
+    @Override
+    protected void cacheInternal(final RegisteredService service) {
+        lookupIndex.add(service);
+    }
+
+    @Override
+    protected void deleteInternal(final RegisteredService service) {
+        lookupIndex.remove(service.getId());
+    }
+
+    @Override
+    protected void loadInternal() {
+        lookupIndex.rebuild(getConfigurationContext().getServicesCache().asMap().values());
+    }
 }
@@ -0,0 +1,294 @@
+package org.apereo.cas.services;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link RegisteredServiceLookupIndex} that narrows down the set of registered services
+ * that need to be evaluated against a given service identifier.
+ * <p>
+ * CAS services whose matching strategy is literal, or whose regular expression starts with a literal
+ * prefix, are placed into a case-insensitive prefix tree. Looking up a service identifier only needs to
+ * walk the tree along the characters of the identifier to find all services that could possibly match.
+ * All other service definitions, such as those whose pattern does not start with a literal, those that use
+ * partial matching, or those that are located by other means (i.e. client ids, entity ids, etc)
+ * are always considered candidates. Candidates are returned in their natural evaluation order,
+ * so the first match remains the same as if all services had been evaluated in turn.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Slf4j
+public class RegisteredServiceLookupIndex {
+    private static final String REGEX_METACHARACTERS = ".[]()*+?{}|$^";
+
+    private final Node root = new Node();
+
+    private final Map<Long, String> indexedPrefixes = new ConcurrentHashMap<>();
+
+    private final Map<Long, RegisteredService> unindexedServices = new ConcurrentHashMap<>();
+
+    private volatile List<RegisteredService> sortedUnindexedServices = new ArrayList<>(0);
+
+    /**
+     * Determine the literal prefix of the given service definition
+     * that every matching service identifier must start with, ignoring case.
+     *
+     * @param registeredService the registered service
+     * @return the prefix, or blank if the service cannot be indexed.
+     */
+    public static String getIndexablePrefix(final RegisteredService registeredService) {
+        if (!(registeredService instanceof RegexRegisteredService)
+            || !RegexRegisteredService.FRIENDLY_NAME.equalsIgnoreCase(registeredService.getFriendlyName())
+            || StringUtils.isBlank(registeredService.getServiceId())) {
+            return StringUtils.EMPTY;
+        }
+        val strategy = registeredService.getMatchingStrategy();
+        if (strategy instanceof LiteralRegisteredServiceMatchingStrategy) {
+            val serviceId = registeredService.getServiceId().trim();
+            val caseInsensitive = ((LiteralRegisteredServiceMatchingStrategy) strategy).isCaseInsensitive();
+            return caseInsensitive ? getAsciiPrefix(serviceId) : serviceId;
+        }
+        if (strategy == null || strategy instanceof FullRegexRegisteredServiceMatchingStrategy) {
+            return getRegexLiteralPrefix(registeredService.getServiceId());
+        }
+        return StringUtils.EMPTY;
+    }
+
+    /**
+     * Determine the literal prefix of the given regular expression
+     * that every matching input must start with.
+     *
+     * @param pattern the pattern
+     * @return the prefix, or blank if none can be determined.
+     */
+    public static String getRegexLiteralPrefix(final String pattern) {
+        if (StringUtils.isBlank(pattern) || hasTopLevelAlternation(pattern)) {
+            return StringUtils.EMPTY;
+        }
+        val prefix = new StringBuilder();
+        var index = pattern.startsWith("^") ? 1 : 0;
+        while (index < pattern.length()) {
+            val current = pattern.charAt(index);
+            char literal;
+            int next;
+            if (current == '\\') {
+                if (index + 1 >= pattern.length() || Character.isLetterOrDigit(pattern.charAt(index + 1))) {
+                    break;
+                }
+                literal = pattern.charAt(index + 1);
+                next = index + 2;
+            } else if (REGEX_METACHARACTERS.indexOf(current) >= 0) {
+                break;
+            } else {
+                literal = current;
+                next = index + 1;
+            }
+            if (next < pattern.length() && "?*{".indexOf(pattern.charAt(next)) >= 0) {
+                break;
+            }
+            prefix.append(literal);
+            if (next < pattern.length() && pattern.charAt(next) == '+') {
+                break;
+            }
+            index = next;
+        }
+        return prefix.toString();
+    }
+
+    private static boolean hasTopLevelAlternation(final String pattern) {
+        var depth = 0;
+        var characterClass = false;
+        var index = 0;
+        while (index < pattern.length()) {
+            val current = pattern.charAt(index);
+            if (current == '\\') {
+                if (index + 1 < pattern.length() && pattern.charAt(index + 1) == 'Q') {
+                    return true;
+                }
+                index += 2;
+                continue;
+            }
+            if (characterClass) {
+                if (current == '[') {
+                    return true;
+                }
+                characterClass = current != ']';
+            } else if (current == '[') {
+                characterClass = true;
+            } else if (current == '(') {
+                depth++;
+            } else if (current == ')') {
+                depth--;
+            } else if (current == '|' && depth <= 0) {
+                return true;
+            }
+            index++;
+        }
+        return false;
+    }
+
+    private static String getAsciiPrefix(final String value) {
+        for (var i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > Byte.MAX_VALUE) {
+                return value.substring(0, i);
+            }
+        }
+        return value;
+    }
+
+    private static char toLowerCase(final char value) {
+        return value >= 'A' && value <= 'Z' ? (char) (value + ('a' - 'A')) : value;
+    }
+
+    /**
+     * Find candidate services that could possibly match the given service identifier,
+     * sorted by their evaluation order. Candidates are resolved via the given function
+     * which may filter out or replace indexed entries.
+     *
+     * @param serviceId the service id
+     * @param resolver  the resolver
+     * @return the candidate services
+     */
+    public Collection<RegisteredService> find(final String serviceId,
+                                              final Function<RegisteredService, RegisteredService> resolver) {
+        val indexed = new ArrayList<RegisteredService>();
+        if (StringUtils.isNotBlank(serviceId)) {
+            var node = root;
+            for (var i = 0; i < serviceId.length() && node != null; i++) {
+                node = node.children.get(toLowerCase(serviceId.charAt(i)));
+                if (node != null) {
+                    indexed.addAll(node.services.values());
+                }
+            }
+        }
+        val unindexed = this.sortedUnindexedServices;
+        val candidates = new ArrayList<RegisteredService>(indexed.size() + unindexed.size());
+        if (indexed.isEmpty()) {
+            unindexed.stream().map(resolver).filter(Objects::nonNull).forEach(candidates::add);
+            return candidates;
+        }
+        indexed.sort(Comparator.naturalOrder());
+        var i = 0;
+        var j = 0;
+        while (i < indexed.size() || j < unindexed.size()) {
+            val takeIndexed = j >= unindexed.size()
+                || i < indexed.size() && indexed.get(i).compareTo(unindexed.get(j)) <= 0;
+            val service = resolver.apply(takeIndexed ? indexed.get(i++) : unindexed.get(j++));
+            if (service != null) {
+                candidates.add(service);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Add or replace the given service in the index.
+     *
+     * @param registeredService the registered service
+     */
+    public synchronized void add(final RegisteredService registeredService) {
+        val removed = removeInternal(registeredService.getId());
+        addInternal(registeredService);
+        if (removed || unindexedServices.containsKey(registeredService.getId())) {
+            sortUnindexedServices();
+        }
+    }
+
+    /**
+     * Remove the service with the given id from the index.
+     *
+     * @param id the id
+     */
+    public synchronized void remove(final long id) {
+        if (removeInternal(id)) {
+            sortUnindexedServices();
+        }
+    }
+
+    /**
+     * Rebuild the index from the given services.
+     *
+     * @param services the services
+     */
+    public synchronized void rebuild(final Collection<RegisteredService> services) {
+        root.children.clear();
+        root.services.clear();
+        indexedPrefixes.clear();
+        unindexedServices.clear();
+        services.forEach(this::addInternal);
+        sortUnindexedServices();
+        LOGGER.debug("Indexed [{}] service(s) by prefix, with [{}] service(s) always evaluated",
+            indexedPrefixes.size(), unindexedServices.size());
+    }
+
+    /**
+     * Number of services tracked by this index.
+     *
+     * @return the count
+     */
+    public int size() {
+        return indexedPrefixes.size() + unindexedServices.size();
+    }
+
+    private void addInternal(final RegisteredService registeredService) {
+        val prefix = getIndexablePrefix(registeredService);
+        if (StringUtils.isBlank(prefix)) {
+            LOGGER.trace("Service [{}] cannot be indexed by prefix", registeredService.getServiceId());
+            unindexedServices.put(registeredService.getId(), registeredService);
+            return;
+        }
+        var node = root;
+        for (var i = 0; i < prefix.length(); i++) {
+            node = node.children.computeIfAbsent(toLowerCase(prefix.charAt(i)), k -> new Node());
+        }
+        node.services.put(registeredService.getId(), registeredService);
+        indexedPrefixes.put(registeredService.getId(), prefix);
+    }
+
+    private boolean removeInternal(final long id) {
+        val prefix = indexedPrefixes.remove(id);
+        if (prefix != null) {
+            removeFromNode(root, prefix, 0, id);
+            return false;
+        }
+        return unindexedServices.remove(id) != null;
+    }
+
+    private static boolean removeFromNode(final Node node, final String prefix, final int position, final long id) {
+        if (position == prefix.length()) {
+            node.services.remove(id);
+        } else {
+            val key = toLowerCase(prefix.charAt(position));
+            val child = node.children.get(key);
+            if (child != null && removeFromNode(child, prefix, position + 1, id)) {
+                node.children.remove(key);
+            }
+        }
+        return node.services.isEmpty() && node.children.isEmpty();
+    }
+
+    private void sortUnindexedServices() {
+        this.sortedUnindexedServices = unindexedServices.values()
+            .stream()
+            .sorted()
+            .collect(Collectors.toList());
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new ConcurrentHashMap<>();
+
+        private final Map<Long, RegisteredService> services = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,93 @@
+package org.apereo.cas.services;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link RegisteredServiceLookupIndexTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Tag("RegisteredService")
+public class RegisteredServiceLookupIndexTests {
+
+    private static RegexRegisteredService newService(final long id, final String serviceId, final int order) {
+        val service = new RegexRegisteredService();
+        service.setId(id);
+        service.setName("Service" + id);
+        service.setServiceId(serviceId);
+        service.setEvaluationOrder(order);
+        return service;
+    }
+
+    @Test
+    public void verifyRegexPrefix() {
+        assertEquals("https://app.example.org/", RegisteredServiceLookupIndex.getRegexLiteralPrefix("^https://app\\.example\\.org/.*"));
+        assertEquals("https://app", RegisteredServiceLookupIndex.getRegexLiteralPrefix("https://app[0-9]+\\.example\\.org"));
+        assertEquals("http", RegisteredServiceLookupIndex.getRegexLiteralPrefix("^https?://.+"));
+        assertEquals("https://a", RegisteredServiceLookupIndex.getRegexLiteralPrefix("^https://a+b"));
+        assertEquals("https://", RegisteredServiceLookupIndex.getRegexLiteralPrefix("^https://(app|web)\\.org"));
+        assertEquals("", RegisteredServiceLookupIndex.getRegexLiteralPrefix("^(https|imaps)://.*"));
+        assertEquals("", RegisteredServiceLookupIndex.getRegexLiteralPrefix("^https://a\\.org|^https://b\\.org"));
+        assertEquals("", RegisteredServiceLookupIndex.getRegexLiteralPrefix("\\Qhttps://a.org\\E"));
+        assertEquals("", RegisteredServiceLookupIndex.getRegexLiteralPrefix("(?i)https://.*"));
+        assertEquals("", RegisteredServiceLookupIndex.getRegexLiteralPrefix(".*"));
+    }
+
+    @Test
+    public void verifyIndexablePrefix() {
+        val literal = newService(1, "https://app.example.org ", 0);
+        literal.setMatchingStrategy(new LiteralRegisteredServiceMatchingStrategy(false));
+        assertEquals("https://app.example.org", RegisteredServiceLookupIndex.getIndexablePrefix(literal));
+
+        val partial = newService(2, "example", 0);
+        partial.setMatchingStrategy(new PartialRegexRegisteredServiceMatchingStrategy());
+        assertEquals("", RegisteredServiceLookupIndex.getIndexablePrefix(partial));
+    }
+
+    @Test
+    public void verifyCandidatesInEvaluationOrder() {
+        val index = new RegisteredServiceLookupIndex();
+        val catchAll = newService(1, "^(https|imaps)://.*", 100);
+        val app = newService(2, "^https://app\\.example\\.org/.*", 10);
+        val other = newService(3, "^https://other\\.example\\.org/.*", 5);
+        val literal = newService(4, "https://APP.example.org/login", 1);
+        literal.setMatchingStrategy(new LiteralRegisteredServiceMatchingStrategy(true));
+        index.rebuild(List.of(catchAll, app, other, literal));
+        assertEquals(4, index.size());
+
+        val candidates = index.find("https://app.example.org/login", Function.identity());
+        assertEquals(List.of(literal, app, catchAll), List.copyOf(candidates));
+        assertEquals(List.of(catchAll), List.copyOf(index.find("imaps://mail.example.org", Function.identity())));
+        assertEquals(List.of(catchAll), List.copyOf(index.find(null, Function.identity())));
+        assertEquals(List.of(app, catchAll), List.copyOf(index.find("https://app.example.org/login", s -> s == literal ? null : s)));
+    }
+
+    @Test
+    public void verifyIncrementalUpdates() {
+        val index = new RegisteredServiceLookupIndex();
+        val service = newService(1, "^https://app\\.example\\.org/.*", 10);
+        index.add(service);
+        assertEquals(1, index.find("https://app.example.org/", Function.identity()).size());
+
+        val updated = newService(1, "^https://web\\.example\\.org/.*", 10);
+        index.add(updated);
+        assertEquals(1, index.size());
+        assertTrue(index.find("https://app.example.org/", Function.identity()).isEmpty());
+        assertEquals(List.of(updated), List.copyOf(index.find("https://web.example.org/", Function.identity())));
+
+        val catchAll = newService(1, ".+", 10);
+        index.add(catchAll);
+        assertEquals(List.of(catchAll), List.copyOf(index.find("https://app.example.org/", Function.identity())));
+        index.remove(1);
+        assertEquals(0, index.size());
+        assertTrue(index.find("https://app.example.org/", Function.identity()).isEmpty());
+    }
+}
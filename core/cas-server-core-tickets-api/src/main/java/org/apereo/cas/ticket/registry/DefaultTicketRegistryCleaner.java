@@ -1,21 +1,45 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.configuration.model.core.ticket.registry.TicketRegistryCleanerProperties;
 import org.apereo.cas.logout.LogoutManager;
 import org.apereo.cas.logout.SingleLogoutExecutionRequest;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketState;
 import org.apereo.cas.ticket.registry.support.LockingStrategy;
 import org.apereo.cas.util.LoggingUtils;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.Serializable;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * This is {@link DefaultTicketRegistryCleaner}.
+ * Partitions of the ticket registry are scanned in parallel, and expired tickets
+ * are collected into batches that are removed on a separate pool of threads.
+ * Single logout for expired ticket-granting tickets may be carried out in the background,
+ * so that slow applications do not hold up removing tickets from the registry.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
@@ -32,6 +56,54 @@ public class DefaultTicketRegistryCleaner implements TicketRegistryCleaner, Seri
 
     private final transient TicketRegistry ticketRegistry;
 
+    @Setter
+    private transient TicketRegistryCleanerProperties properties = new TicketRegistryCleanerProperties();
+
+    @Setter
+    @Getter
+    private transient TicketRegistryCleanerStatistics statistics = new TicketRegistryCleanerStatistics();
+
+    private static ExecutorService newExecutorService(final int poolSize, final String namingPattern) {
+        val threadFactory = new BasicThreadFactory.Builder()
+            .namingPattern(namingPattern)
+            .daemon(true)
+            .build();
+        return Executors.newFixedThreadPool(poolSize, threadFactory);
+    }
+
+    /**
+     * Estimate when the ticket expired, based on the time-to-live and time-to-idle
+     * settings of its expiration policy. Tickets that expire for other reasons,
+     * such as exceeding the number of allowed uses, have no known expiration time.
+     *
+     * @param ticket the ticket
+     * @return the expiration time
+     */
+    private static Optional<ZonedDateTime> getExpirationTime(final Ticket ticket) {
+        val expirationPolicy = ticket.getExpirationPolicy();
+        if (expirationPolicy == null) {
+            return Optional.empty();
+        }
+        try {
+            val expirationTimes = new ArrayList<ZonedDateTime>(2);
+            val timeToLive = ticket instanceof TicketState
+                ? expirationPolicy.getTimeToLive((TicketState) ticket)
+                : expirationPolicy.getTimeToLive();
+            if (timeToLive != null && timeToLive > 0 && ticket.getCreationTime() != null) {
+                expirationTimes.add(ticket.getCreationTime().plusSeconds(timeToLive));
+            }
+            val timeToIdle = expirationPolicy.getTimeToIdle();
+            if (timeToIdle != null && timeToIdle > 0 && ticket instanceof TicketState
+                && ((TicketState) ticket).getLastTimeUsed() != null) {
+                expirationTimes.add(((TicketState) ticket).getLastTimeUsed().plusSeconds(timeToIdle));
+            }
+            return expirationTimes.stream().min(ZonedDateTime::compareTo);
+        } catch (final Exception e) {
+            LOGGER.trace("Unable to determine expiration time for [{}]: [{}]", ticket.getId(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     @Override
     public int clean() {
         try {
@@ -60,10 +132,7 @@ public class DefaultTicketRegistryCleaner implements TicketRegistryCleaner, Seri
     @Override
     public int cleanTicket(final Ticket ticket) {
         if (ticket instanceof TicketGrantingTicket) {
-            LOGGER.debug("Cleaning up expired ticket-granting ticket [{}]", ticket.getId());
-            logoutManager.performLogout(SingleLogoutExecutionRequest.builder()
-                .ticketGrantingTicket((TicketGrantingTicket) ticket)
-                .build());
+            performLogout((TicketGrantingTicket) ticket);
         }
         LOGGER.debug("Cleaning up expired ticket [{}]", ticket.getId());
         return ticketRegistry.deleteTicket(ticket);
@@ -73,17 +142,93 @@ public class DefaultTicketRegistryCleaner implements TicketRegistryCleaner, Seri
      * Clean tickets.
      *
      * @return the int
+     * @throws Exception the exception
      */
-    protected int cleanInternal() {
-        try (val expiredTickets = ticketRegistry.stream().filter(Ticket::isExpired)) {
-            val ticketsDeleted = expiredTickets
-                .mapToInt(this::cleanTicket)
-                .sum();
+    protected int cleanInternal() throws Exception {
+        val startTime = System.nanoTime();
+        val poolSize = Math.max(1, properties.getPoolSize());
+        val run = new CleanerRun(ZonedDateTime.now(Clock.systemUTC()));
+        val scanners = newExecutorService(poolSize, "cas-ticket-cleaner-scan-%d");
+        val cleaners = newExecutorService(poolSize, "cas-ticket-cleaner-%d");
+        val logoutExecutor = properties.isAsynchronousLogout()
+            ? newExecutorService(poolSize, "cas-ticket-cleaner-logout-%d")
+            : null;
+        try {
+            val batches = new ConcurrentLinkedQueue<Future<Integer>>();
+            val permits = new Semaphore(poolSize * 2);
+            val scans = ticketRegistry.getPartitions()
+                .stream()
+                .map(partition -> scanners.submit(() -> scanPartition(partition, run, batch -> {
+                    permits.acquireUninterruptibly();
+                    try {
+                        batches.add(cleaners.submit(() -> {
+                            try {
+                                return cleanTickets(batch, logoutExecutor);
+                            } finally {
+                                permits.release();
+                            }
+                        }));
+                    } catch (final RuntimeException e) {
+                        permits.release();
+                        throw e;
+                    }
+                })))
+                .collect(Collectors.toList());
+            for (val scan : scans) {
+                scan.get();
+            }
+            var ticketsDeleted = 0;
+            for (val batch : batches) {
+                ticketsDeleted += batch.get();
+            }
+            val duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            statistics.record(run.getScanned().get(), run.getExpired().get(), ticketsDeleted, duration, run.getMaxExpirationLag().get());
             LOGGER.info("[{}] expired tickets removed.", ticketsDeleted);
+            LOGGER.debug("Scanned [{}] ticket(s) across [{}] partition(s) and found [{}] expired ticket(s) in [{}] ms; "
+                    + "expired tickets were removed at most [{}] ms after they expired",
+                run.getScanned().get(), scans.size(), run.getExpired().get(), duration, run.getMaxExpirationLag().get());
             return ticketsDeleted;
+        } finally {
+            scanners.shutdownNow();
+            cleaners.shutdownNow();
+            if (logoutExecutor != null) {
+                logoutExecutor.shutdown();
+            }
         }
     }
 
+    /**
+     * Clean the given expired tickets.
+     *
+     * @param tickets        the tickets
+     * @param logoutExecutor the executor that carries out logout for ticket-granting tickets, if any
+     * @return the number of tickets removed
+     */
+    protected int cleanTickets(final List<Ticket> tickets, final ExecutorService logoutExecutor) {
+        var ticketsDeleted = 0;
+        for (val ticket : tickets) {
+            try {
+                if (logoutExecutor != null && ticket instanceof TicketGrantingTicket) {
+                    logoutExecutor.execute(() -> {
+                        try {
+                            performLogout((TicketGrantingTicket) ticket);
+                        } catch (final Exception e) {
+                            LoggingUtils.error(LOGGER, e);
+                        }
+                    });
+                    LOGGER.debug("Cleaning up expired ticket [{}]", ticket.getId());
+                    ticketsDeleted += ticketRegistry.deleteTicket(ticket);
+                } else {
+                    ticketsDeleted += cleanTicket(ticket);
+                }
+            } catch (final Exception e) {
+                LOGGER.warn("Unable to clean up expired ticket [{}]", ticket.getId());
+                LoggingUtils.error(LOGGER, e);
+            }
+        }
+        return ticketsDeleted;
+    }
+
     /**
      * Indicates whether the registry supports automated ticket cleanup.
      * Generally, a registry that is able to return a collection of available
@@ -94,4 +239,59 @@ public class DefaultTicketRegistryCleaner implements TicketRegistryCleaner, Seri
     protected boolean isCleanerSupported() {
         return true;
     }
+
+    private void performLogout(final TicketGrantingTicket ticket) {
+        LOGGER.debug("Cleaning up expired ticket-granting ticket [{}]", ticket.getId());
+        logoutManager.performLogout(SingleLogoutExecutionRequest.builder()
+            .ticketGrantingTicket(ticket)
+            .build());
+    }
+
+    private void scanPartition(final TicketRegistryPartition partition, final CleanerRun run,
+                               final Consumer<List<Ticket>> batchConsumer) {
+        val batchSize = Math.max(1, properties.getBatchSize());
+        LOGGER.trace("Scanning ticket registry partition [{}] for expired tickets", partition.getName());
+        try (val tickets = partition.stream()) {
+            val iterator = tickets.iterator();
+            var batch = new ArrayList<Ticket>(batchSize);
+            while (iterator.hasNext()) {
+                val ticket = iterator.next();
+                run.getScanned().incrementAndGet();
+                if (ticket != null && ticket.isExpired()) {
+                    run.expired(ticket);
+                    batch.add(ticket);
+                    if (batch.size() >= batchSize) {
+                        batchConsumer.accept(batch);
+                        batch = new ArrayList<>(batchSize);
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                batchConsumer.accept(batch);
+            }
+        } catch (final Exception e) {
+            LOGGER.error("Unable to scan ticket registry partition [{}] for expired tickets", partition.getName());
+            LoggingUtils.error(LOGGER, e);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class CleanerRun {
+        private final ZonedDateTime startTime;
+
+        private final AtomicLong scanned = new AtomicLong();
+
+        private final AtomicLong expired = new AtomicLong();
+
+        private final AtomicLong maxExpirationLag = new AtomicLong();
+
+        void expired(final Ticket ticket) {
+            expired.incrementAndGet();
+            getExpirationTime(ticket)
+                .filter(expirationTime -> expirationTime.isBefore(startTime))
+                .map(expirationTime -> Duration.between(expirationTime, startTime).toMillis())
+                .ifPresent(lag -> maxExpirationLag.accumulateAndGet(lag, Math::max));
+        }
+    }
 }
@@ -0,0 +1,57 @@
+package org.apereo.cas.ticket.registry;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is {@link TicketRegistryCleanerStatistics} that keeps track of
+ * what the ticket registry cleaner did during its last run,
+ * along with running totals across all runs.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Getter
+@ToString
+public class TicketRegistryCleanerStatistics {
+    /**
+     * Default bean name.
+     */
+    public static final String BEAN_NAME = "ticketRegistryCleanerStatistics";
+
+    private final AtomicLong runCount = new AtomicLong();
+
+    private final AtomicLong totalDeletedTicketCount = new AtomicLong();
+
+    private volatile long lastScannedTicketCount;
+
+    private volatile long lastExpiredTicketCount;
+
+    private volatile long lastDeletedTicketCount;
+
+    private volatile long lastDurationInMillis;
+
+    private volatile long lastMaxExpirationLagInMillis;
+
+    /**
+     * Record the results of a cleaner run.
+     *
+     * @param scanned                  the number of tickets scanned
+     * @param expired                  the number of expired tickets found
+     * @param deleted                  the number of tickets deleted
+     * @param durationInMillis         the duration of the run
+     * @param maxExpirationLagInMillis the longest time an expired ticket was kept in the registry past its expiration
+     */
+    public void record(final long scanned, final long expired, final long deleted,
+                       final long durationInMillis, final long maxExpirationLagInMillis) {
+        this.lastScannedTicketCount = scanned;
+        this.lastExpiredTicketCount = expired;
+        this.lastDeletedTicketCount = deleted;
+        this.lastDurationInMillis = durationInMillis;
+        this.lastMaxExpirationLagInMillis = maxExpirationLagInMillis;
+        this.totalDeletedTicketCount.addAndGet(deleted);
+        this.runCount.incrementAndGet();
+    }
+}
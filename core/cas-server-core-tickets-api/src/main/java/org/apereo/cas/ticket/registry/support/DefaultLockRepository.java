@@ -0,0 +1,51 @@
+package org.apereo.cas.ticket.registry.support;
+
+import com.google.common.util.concurrent.Striped;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
+
+/**
+ * This is {@link DefaultLockRepository} that hands out in-memory locks
+ * striped by the lock key. Operations on different keys rarely contend
+ * with each other, while operations on the same key are serialized
+ * within the running JVM.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Slf4j
+public class DefaultLockRepository implements LockRepository {
+    private final Striped<Lock> locks;
+
+    private final long lockTimeout;
+
+    public DefaultLockRepository(final int stripes, final long lockTimeout) {
+        this.locks = Striped.lazyWeakLock(stripes);
+        this.lockTimeout = lockTimeout;
+    }
+
+    @Override
+    public <T> Optional<T> execute(final String lockKey, final Supplier<T> consumer) {
+        val lock = locks.get(lockKey);
+        try {
+            if (!lock.tryLock(lockTimeout, TimeUnit.MILLISECONDS)) {
+                LOGGER.warn("Unable to obtain lock for [{}] within [{}] ms", lockKey, lockTimeout);
+                return Optional.empty();
+            }
+        } catch (final InterruptedException e) {
+            LOGGER.warn("Interrupted while waiting for lock [{}]", lockKey);
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(consumer.get());
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package org.apereo.cas.ticket.serialization;
+
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.util.serialization.AbstractJacksonBackedStringSerializer;
+import org.apereo.cas.util.serialization.StringSerializer;
+
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * This is {@link BinaryTicketStringSerializer} that stores tickets in a compact binary form,
+ * using the same object mapping rules as the JSON ticket serializer it wraps.
+ * Tickets are written using the Smile binary format, which encodes each distinct
+ * property name, attribute name and short repeated value, such as type information, once per ticket and
+ * refers back to it afterwards. Encoded tickets carry a format version so that tickets
+ * stored in JSON, or with an older version of this format, can still be read.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Getter
+public class BinaryTicketStringSerializer<T extends Ticket> implements StringSerializer<T> {
+    /**
+     * Prefix of tickets encoded by this serializer.
+     */
+    public static final String FORMAT_PREFIX = "cas-ticket-binary:";
+
+    /**
+     * Current version of the binary format.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final long serialVersionUID = -2630245862960425387L;
+
+    private static final String FORMAT_HEADER = FORMAT_PREFIX + FORMAT_VERSION + ':';
+
+    private static final int MAXIMUM_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    private static final SmileFactory SMILE_FACTORY = SmileFactory.builder()
+        .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+        .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+        .build();
+
+    private static final ThreadLocal<ByteArrayOutputStream> BUFFERS = ThreadLocal.withInitial(() -> new ByteArrayOutputStream(1024));
+
+    private final AbstractJacksonBackedStringSerializer<T> serializer;
+
+    private static ByteArrayOutputStream getBuffer() {
+        val buffer = BUFFERS.get();
+        buffer.reset();
+        return buffer;
+    }
+
+    private static void releaseBuffer(final ByteArrayOutputStream buffer) {
+        if (buffer.size() > MAXIMUM_RETAINED_BUFFER_SIZE) {
+            BUFFERS.set(new ByteArrayOutputStream(1024));
+        }
+    }
+
+    /**
+     * Whether the given content is a ticket encoded in the binary format.
+     *
+     * @param content the content
+     * @return true/false
+     */
+    public static boolean isBinaryFormat(final String content) {
+        return StringUtils.startsWith(content, FORMAT_PREFIX);
+    }
+
+    @Override
+    @SneakyThrows
+    public T from(final String data) {
+        if (!isBinaryFormat(data)) {
+            LOGGER.trace("Ticket content is not encoded in binary format and will be read as JSON");
+            return serializer.from(data);
+        }
+        val versionEnd = data.indexOf(':', FORMAT_PREFIX.length());
+        val version = versionEnd > 0 ? data.substring(FORMAT_PREFIX.length(), versionEnd) : StringUtils.EMPTY;
+        if (!String.valueOf(FORMAT_VERSION).equals(version)) {
+            throw new IllegalArgumentException("Unsupported binary ticket format version " + version);
+        }
+        val bytes = Base64.getDecoder().decode(data.substring(versionEnd + 1));
+        try (val parser = SMILE_FACTORY.createParser(bytes)) {
+            return serializer.getObjectMapper().readValue(parser, getTypeToSerialize());
+        }
+    }
+
+    @Override
+    @SneakyThrows
+    public T from(final Reader reader) {
+        return from(IOUtils.toString(reader));
+    }
+
+    @Override
+    @SneakyThrows
+    public T from(final InputStream stream) {
+        return from(IOUtils.toString(stream, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    @SneakyThrows
+    public T from(final File file) {
+        return from(FileUtils.readFileToString(file, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public T from(final Writer writer) {
+        return from(writer.toString());
+    }
+
+    @Override
+    @SneakyThrows
+    public void to(final OutputStream out, final T object) {
+        IOUtils.write(toString(object), out, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    @SneakyThrows
+    public void to(final Writer out, final T object) {
+        out.write(toString(object));
+    }
+
+    @Override
+    @SneakyThrows
+    public void to(final File out, final T object) {
+        FileUtils.write(out, toString(object), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    @SneakyThrows
+    public String toString(final T object) {
+        val buffer = getBuffer();
+        try {
+            try (val generator = SMILE_FACTORY.createGenerator(buffer)) {
+                serializer.getObjectMapper().writeValue(generator, object);
+            }
+            return FORMAT_HEADER + Base64.getEncoder().encodeToString(buffer.toByteArray());
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    @Override
+    public Class<T> getTypeToSerialize() {
+        return serializer.getTypeToSerialize();
+    }
+}
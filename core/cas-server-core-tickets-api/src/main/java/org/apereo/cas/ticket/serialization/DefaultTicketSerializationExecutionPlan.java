@@ -11,6 +11,7 @@ import org.apereo.cas.ticket.serialization.serializers.ProxyTicketStringSerializ
 import org.apereo.cas.ticket.serialization.serializers.ServiceTicketStringSerializer;
 import org.apereo.cas.ticket.serialization.serializers.TicketGrantingTicketStringSerializer;
 import org.apereo.cas.ticket.serialization.serializers.TransientSessionTicketStringSerializer;
+import org.apereo.cas.util.serialization.AbstractJacksonBackedStringSerializer;
 import org.apereo.cas.util.serialization.StringSerializer;
 
 import lombok.Getter;
@@ -42,6 +43,16 @@ public class DefaultTicketSerializationExecutionPlan implements TicketSerializat
         registerTicketSerializer(ProxyGrantingTicket.class.getName(), new ProxyGrantingTicketStringSerializer());
     }
 
+    /**
+     * Switch all registered JSON ticket serializers over to the binary ticket format.
+     * Serializers that are not backed by JSON are left as they are.
+     */
+    public void useBinaryTicketSerializers() {
+        ticketSerializers.replaceAll((type, serializer) -> serializer instanceof AbstractJacksonBackedStringSerializer
+            ? new BinaryTicketStringSerializer<>((AbstractJacksonBackedStringSerializer) serializer)
+            : serializer);
+    }
+
     @Override
     public void registerTicketSerializer(final String typeToSerialize, final StringSerializer<? extends Ticket> serializer) {
         ticketSerializers.put(typeToSerialize, serializer);
@@ -4,6 +4,8 @@ import org.apereo.cas.authentication.AuthenticationEventExecutionPlanConfigurer;
 import org.apereo.cas.authentication.PseudoPlatformTransactionManager;
 import org.apereo.cas.authentication.policy.UniquePrincipalAuthenticationPolicy;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.model.core.ticket.registry.TicketRegistryCoreProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.logout.LogoutManager;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.ticket.DefaultTicketCatalog;
@@ -36,6 +38,8 @@ import org.apereo.cas.ticket.registry.DefaultTicketRegistrySupport;
 import org.apereo.cas.ticket.registry.NoOpLockingStrategy;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistrySupport;
+import org.apereo.cas.ticket.registry.support.DefaultLockRepository;
+import org.apereo.cas.ticket.registry.support.LockRepository;
 import org.apereo.cas.ticket.registry.support.LockingStrategy;
 import org.apereo.cas.util.CoreTicketUtils;
 import org.apereo.cas.util.ProxyGrantingTicketIdGenerator;
@@ -149,6 +153,23 @@ public class CasCoreTicketsConfiguration {
             return new NoOpLockingStrategy();
         }
 
+        @ConditionalOnMissingBean(name = LockRepository.BEAN_NAME)
+        @Bean
+        @Autowired
+        public LockRepository ticketRegistryLockRepository(
+            final CasConfigurationProperties casProperties) {
+            val core = casProperties.getTicket().getRegistry().getCore();
+            if (core.getLockingMode() == TicketRegistryCoreProperties.TicketRegistryLockingModes.NONE) {
+                LOGGER.trace("Ticket operations are not locked.");
+                return LockRepository.noOp();
+            }
+            if (core.getLockingMode() == TicketRegistryCoreProperties.TicketRegistryLockingModes.DISTRIBUTED) {
+                LOGGER.warn("Distributed locking is requested for ticket operations, yet the ticket registry in use "
+                            + "does not provide a distributed lock repository. Ticket operations will be locked in memory.");
+            }
+            return new DefaultLockRepository(core.getLockStripes(), Beans.newDuration(core.getLockTimeout()).toMillis());
+        }
+
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         @Bean
         @Autowired
@@ -6,6 +6,7 @@ import org.apereo.cas.ticket.registry.DefaultTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
+import org.apereo.cas.ticket.registry.TicketRegistryCleanerStatistics;
 import org.apereo.cas.ticket.registry.support.LockingStrategy;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.spring.boot.ConditionalOnMatchingHostname;
@@ -53,11 +54,16 @@ public class CasCoreTicketsSchedulingConfiguration {
                                                        @Qualifier(LogoutManager.DEFAULT_BEAN_NAME)
                                                        final LogoutManager logoutManager,
                                                        @Qualifier(TicketRegistry.BEAN_NAME)
-                                                       final TicketRegistry ticketRegistry) {
-        val isCleanerEnabled = casProperties.getTicket().getRegistry().getCleaner().getSchedule().isEnabled();
-        if (isCleanerEnabled) {
+                                                       final TicketRegistry ticketRegistry,
+                                                       @Qualifier(TicketRegistryCleanerStatistics.BEAN_NAME)
+                                                       final TicketRegistryCleanerStatistics ticketRegistryCleanerStatistics) {
+        val cleaner = casProperties.getTicket().getRegistry().getCleaner();
+        if (cleaner.getSchedule().isEnabled()) {
             LOGGER.debug("Ticket registry cleaner is enabled.");
-            return new DefaultTicketRegistryCleaner(lockingStrategy, logoutManager, ticketRegistry);
+            val ticketRegistryCleaner = new DefaultTicketRegistryCleaner(lockingStrategy, logoutManager, ticketRegistry);
+            ticketRegistryCleaner.setProperties(cleaner);
+            ticketRegistryCleaner.setStatistics(ticketRegistryCleanerStatistics);
+            return ticketRegistryCleaner;
         }
         LOGGER.debug("Ticket registry cleaner is not enabled. "
             + "Expired tickets are not forcefully cleaned by CAS. It is up to the ticket registry itself to "
@@ -65,6 +71,12 @@ public class CasCoreTicketsSchedulingConfiguration {
         return NoOpTicketRegistryCleaner.getInstance();
     }
 
+    @ConditionalOnMissingBean(name = TicketRegistryCleanerStatistics.BEAN_NAME)
+    @Bean
+    public TicketRegistryCleanerStatistics ticketRegistryCleanerStatistics() {
+        return new TicketRegistryCleanerStatistics();
+    }
+
     @ConditionalOnMissingBean(name = "ticketRegistryCleanerScheduler")
     @ConditionalOnProperty(prefix = "cas.ticket.registry.cleaner.schedule", name = "enabled", havingValue = "true", matchIfMissing = true)
     @ConditionalOnMatchingHostname(name = "cas.ticket.registry.cleaner.schedule.enabled-on-host")
@@ -1,6 +1,7 @@
 package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.model.core.ticket.registry.TicketRegistryCoreProperties;
 import org.apereo.cas.ticket.serialization.DefaultTicketSerializationExecutionPlan;
 import org.apereo.cas.ticket.serialization.DefaultTicketStringSerializationManager;
 import org.apereo.cas.ticket.serialization.TicketSerializationExecutionPlan;
@@ -38,11 +39,16 @@ public class CasCoreTicketsSerializationConfiguration {
         @Bean
         @ConditionalOnMissingBean(name = "ticketSerializationExecutionPlan")
         public TicketSerializationExecutionPlan ticketSerializationExecutionPlan(
+            final CasConfigurationProperties casProperties,
             final ObjectProvider<List<TicketSerializationExecutionPlanConfigurer>> providerList) {
             val providers = Optional.ofNullable(providerList.getIfAvailable()).orElse(new ArrayList<>());
             AnnotationAwareOrderComparator.sort(providers);
             val plan = new DefaultTicketSerializationExecutionPlan();
             providers.forEach(provider -> provider.configureTicketSerialization(plan));
+            val format = casProperties.getTicket().getRegistry().getCore().getSerializationFormat();
+            if (format == TicketRegistryCoreProperties.TicketSerializationFormats.BINARY) {
+                plan.useBinaryTicketSerializers();
+            }
             return plan;
         }
     }
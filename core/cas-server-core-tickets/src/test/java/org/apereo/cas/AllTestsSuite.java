@@ -29,10 +29,12 @@ import org.apereo.cas.ticket.factory.DefaultTransientSessionTicketFactoryTests;
 import org.apereo.cas.ticket.proxy.support.Cas10ProxyHandlerTests;
 import org.apereo.cas.ticket.proxy.support.Cas20ProxyHandlerTests;
 import org.apereo.cas.ticket.registry.CachingTicketRegistryTests;
+import org.apereo.cas.ticket.registry.DefaultLockRepositoryTests;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistryCleanerTests;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistrySupportTests;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistryTests;
 import org.apereo.cas.ticket.registry.DistributedTicketRegistryTests;
+import org.apereo.cas.ticket.serialization.BinaryTicketStringSerializerTests;
 import org.apereo.cas.ticket.serialization.DefaultTicketStringSerializationManagerTests;
 import org.apereo.cas.util.DefaultUniqueTicketIdGeneratorTests;
 import org.apereo.cas.util.GroovyUniqueTicketIdGeneratorTests;
@@ -63,6 +65,7 @@ import org.junit.platform.suite.api.Suite;
     TicketGrantingTicketExpirationPolicyTests.class,
     TimeoutExpirationPolicyTests.class,
     DefaultTicketRegistryTests.class,
+    DefaultLockRepositoryTests.class,
     CachingTicketRegistryTests.class,
     DistributedTicketRegistryTests.class,
     Cas10ProxyHandlerTests.class,
@@ -83,6 +86,7 @@ import org.junit.platform.suite.api.Suite;
     NeverExpiresExpirationPolicyTests.class,
     DefaultTicketRegistryCleanerTests.class,
     TicketSerializersTests.class,
+    BinaryTicketStringSerializerTests.class,
     InternalTicketValidatorTests.class,
     Cas20ProxyHandlerTests.class,
     GroovyUniqueTicketIdGeneratorTests.class,
@@ -0,0 +1,96 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.registry.support.LockRepository;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link BaseLockRepositoryTests}. Subclasses supply the distributed
+ * {@link LockRepository} under test, configured with a lock timeout of about one second.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+public abstract class BaseLockRepositoryTests {
+
+    /**
+     * Gets the lock repository under test.
+     *
+     * @return the lock repository
+     */
+    protected abstract LockRepository getLockRepository();
+
+    @Test
+    public void verifyAcquireAndRelease() {
+        val lockRepository = getLockRepository();
+        val lockKey = "ST-" + UUID.randomUUID();
+        assertEquals("result", lockRepository.execute(lockKey, () -> "result").orElseThrow());
+        assertEquals("result", lockRepository.execute(lockKey, () -> "result").orElseThrow());
+        assertTrue(lockRepository.execute(lockKey, () -> null).isEmpty());
+    }
+
+    @Test
+    public void verifyLockContention() throws Exception {
+        val lockRepository = getLockRepository();
+        val lockKey = "ST-" + UUID.randomUUID();
+        val locked = new CountDownLatch(1);
+        val release = new CountDownLatch(1);
+        val executor = Executors.newSingleThreadExecutor();
+        try {
+            val holder = holdLock(executor, lockKey, locked, release);
+            assertTrue(locked.await(5, TimeUnit.SECONDS));
+            assertTrue(lockRepository.execute(lockKey, () -> "result").isEmpty());
+            assertEquals("result", lockRepository.execute("ST-" + UUID.randomUUID(), () -> "result").orElseThrow());
+            release.countDown();
+            assertTrue(holder.get(5, TimeUnit.SECONDS).orElseThrow());
+            assertEquals("result", lockRepository.execute(lockKey, () -> "result").orElseThrow());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void verifyLockObtainedWhenReleasedWithinTimeout() throws Exception {
+        val lockKey = "ST-" + UUID.randomUUID();
+        val locked = new CountDownLatch(1);
+        val release = new CountDownLatch(1);
+        val executor = Executors.newFixedThreadPool(2);
+        try {
+            val holder = holdLock(executor, lockKey, locked, release);
+            assertTrue(locked.await(5, TimeUnit.SECONDS));
+            executor.submit(() -> {
+                Thread.sleep(250);
+                release.countDown();
+                return null;
+            });
+            assertEquals("result", getLockRepository().execute(lockKey, () -> "result").orElseThrow());
+            assertTrue(holder.get(5, TimeUnit.SECONDS).orElseThrow());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Future<Optional<Boolean>> holdLock(final ExecutorService executor, final String lockKey,
+                                               final CountDownLatch locked, final CountDownLatch release) {
+        return executor.submit(() -> getLockRepository().execute(lockKey, () -> {
+            locked.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }));
+    }
+}
@@ -0,0 +1,55 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.registry.support.DefaultLockRepository;
+import org.apereo.cas.ticket.registry.support.LockRepository;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link DefaultLockRepositoryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Tag("Tickets")
+public class DefaultLockRepositoryTests {
+
+    @Test
+    public void verifyOperation() {
+        val repository = new DefaultLockRepository(16, 1000);
+        assertEquals("result", repository.execute("ST-1", () -> "result").orElseThrow());
+        assertTrue(repository.execute("ST-1", () -> null).isEmpty());
+        assertEquals("result", LockRepository.noOp().execute("ST-1", () -> "result").orElseThrow());
+    }
+
+    @Test
+    public void verifyLockTimeout() throws Exception {
+        val repository = new DefaultLockRepository(16, 100);
+        val locked = new CountDownLatch(1);
+        val release = new CountDownLatch(1);
+        val executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> repository.execute("ST-1", () -> {
+                locked.countDown();
+                try {
+                    return release.await(5, TimeUnit.SECONDS);
+                } catch (final InterruptedException e) {
+                    return false;
+                }
+            }));
+            assertTrue(locked.await(5, TimeUnit.SECONDS));
+            assertTrue(repository.execute("ST-1", () -> "result").isEmpty());
+            release.countDown();
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
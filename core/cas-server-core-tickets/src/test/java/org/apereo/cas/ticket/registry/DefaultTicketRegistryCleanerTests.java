@@ -1,7 +1,10 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.configuration.model.core.ticket.registry.TicketRegistryCleanerProperties;
 import org.apereo.cas.logout.LogoutManager;
+import org.apereo.cas.logout.SingleLogoutExecutionRequest;
 import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
 import org.apereo.cas.ticket.registry.support.LockingStrategy;
 
@@ -10,6 +13,11 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -70,4 +78,77 @@ public class DefaultTicketRegistryCleanerTests {
         };
         assertEquals(c.clean(), 0);
     }
+
+    @Test
+    public void verifyPartitionsCleanedInBatches() {
+        val logoutManager = mock(LogoutManager.class);
+        val ticketRegistry = new DefaultTicketRegistry();
+        val tickets = new ArrayList<Ticket>();
+        for (var i = 0; i < 10; i++) {
+            val tgt = new MockTicketGrantingTicket("casuser" + i);
+            if (i % 2 == 0) {
+                tgt.markTicketExpired();
+            }
+            ticketRegistry.addTicket(tgt);
+            tickets.add(tgt);
+        }
+        val registry = spy(ticketRegistry);
+        when(registry.getPartitions()).thenReturn(List.of(
+            TicketRegistryPartition.of("first", () -> tickets.subList(0, 5).stream()),
+            TicketRegistryPartition.of("second", () -> tickets.subList(5, 10).stream())));
+
+        val c = new DefaultTicketRegistryCleaner(new NoOpLockingStrategy(), logoutManager, registry);
+        c.setProperties(new TicketRegistryCleanerProperties().setPoolSize(2).setBatchSize(2));
+        assertEquals(5, c.clean());
+        assertEquals(5, ticketRegistry.sessionCount());
+        assertTrue(ticketRegistry.getTickets().stream().noneMatch(Ticket::isExpired));
+
+        val statistics = c.getStatistics();
+        assertEquals(10, statistics.getLastScannedTicketCount());
+        assertEquals(5, statistics.getLastExpiredTicketCount());
+        assertEquals(5, statistics.getLastDeletedTicketCount());
+        assertEquals(1, statistics.getRunCount().get());
+    }
+
+    @Test
+    public void verifyLogoutDoesNotBlockCleanup() throws Exception {
+        val released = new CountDownLatch(1);
+        val loggedOut = new CountDownLatch(1);
+        val logoutManager = mock(LogoutManager.class);
+        when(logoutManager.performLogout(any(SingleLogoutExecutionRequest.class))).thenAnswer(invocation -> {
+            released.await(10, TimeUnit.SECONDS);
+            loggedOut.countDown();
+            return new ArrayList<>();
+        });
+        val ticketRegistry = new DefaultTicketRegistry();
+        val tgt = new MockTicketGrantingTicket("casuser");
+        tgt.markTicketExpired();
+        ticketRegistry.addTicket(tgt);
+
+        val c = new DefaultTicketRegistryCleaner(new NoOpLockingStrategy(), logoutManager, ticketRegistry);
+        assertEquals(1, c.clean());
+        assertEquals(0, ticketRegistry.sessionCount());
+        assertEquals(1, loggedOut.getCount());
+        released.countDown();
+        assertTrue(loggedOut.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void verifyLogoutBeforeRemoval() {
+        val ticketRegistry = new DefaultTicketRegistry();
+        val logoutManager = mock(LogoutManager.class);
+        when(logoutManager.performLogout(any(SingleLogoutExecutionRequest.class))).thenAnswer(invocation -> {
+            assertEquals(1, ticketRegistry.sessionCount());
+            return new ArrayList<>();
+        });
+        val tgt = new MockTicketGrantingTicket("casuser");
+        tgt.markTicketExpired();
+        ticketRegistry.addTicket(tgt);
+
+        val c = new DefaultTicketRegistryCleaner(new NoOpLockingStrategy(), logoutManager, ticketRegistry);
+        c.setProperties(new TicketRegistryCleanerProperties().setAsynchronousLogout(false));
+        assertEquals(1, c.clean());
+        verify(logoutManager).performLogout(any(SingleLogoutExecutionRequest.class));
+        assertEquals(0, ticketRegistry.sessionCount());
+    }
 }
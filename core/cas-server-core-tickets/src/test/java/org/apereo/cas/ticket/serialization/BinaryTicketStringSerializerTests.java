@@ -0,0 +1,102 @@
+package org.apereo.cas.ticket.serialization;
+
+import org.apereo.cas.config.CasCoreHttpConfiguration;
+import org.apereo.cas.config.CasCoreNotificationsConfiguration;
+import org.apereo.cas.config.CasCoreServicesConfiguration;
+import org.apereo.cas.config.CasCoreTicketCatalogConfiguration;
+import org.apereo.cas.config.CasCoreTicketIdGeneratorsConfiguration;
+import org.apereo.cas.config.CasCoreTicketsConfiguration;
+import org.apereo.cas.config.CasCoreTicketsSerializationConfiguration;
+import org.apereo.cas.config.CasCoreUtilConfiguration;
+import org.apereo.cas.config.CasCoreWebConfiguration;
+import org.apereo.cas.config.support.CasWebApplicationServiceFactoryConfiguration;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.TicketFactory;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketFactory;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.serialization.serializers.TicketGrantingTicketStringSerializer;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link BinaryTicketStringSerializerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@SpringBootTest(classes = {
+    RefreshAutoConfiguration.class,
+    CasCoreHttpConfiguration.class,
+    CasCoreTicketsConfiguration.class,
+    CasCoreServicesConfiguration.class,
+    CasCoreTicketCatalogConfiguration.class,
+    CasCoreTicketsSerializationConfiguration.class,
+    CasCoreTicketIdGeneratorsConfiguration.class,
+    CasCoreNotificationsConfiguration.class,
+    CasCoreUtilConfiguration.class,
+    CasCoreWebConfiguration.class,
+    CasWebApplicationServiceFactoryConfiguration.class
+}, properties = "cas.ticket.registry.core.serialization-format=BINARY")
+@Tag("Tickets")
+public class BinaryTicketStringSerializerTests {
+    @Autowired
+    @Qualifier("ticketSerializationManager")
+    private TicketSerializationManager ticketSerializationManager;
+
+    @Autowired
+    @Qualifier("defaultTicketFactory")
+    private TicketFactory defaultTicketFactory;
+
+    private TicketGrantingTicket getTicketGrantingTicket() {
+        val factory = (TicketGrantingTicketFactory) this.defaultTicketFactory.get(TicketGrantingTicket.class);
+        val ticket = factory.create(RegisteredServiceTestUtils.getAuthentication(),
+            RegisteredServiceTestUtils.getService(), TicketGrantingTicket.class);
+        ticket.grantServiceTicket("ST-1234567890", RegisteredServiceTestUtils.getService(),
+            ticket.getExpirationPolicy(), false, true);
+        return ticket;
+    }
+
+    @Test
+    public void verifyOperation() {
+        val ticket = getTicketGrantingTicket();
+        val result = ticketSerializationManager.serializeTicket(ticket);
+        assertTrue(BinaryTicketStringSerializer.isBinaryFormat(result));
+        val deserializedTicket = ticketSerializationManager.deserializeTicket(result, TicketGrantingTicket.class);
+        assertEquals(ticket, deserializedTicket);
+        assertEquals(ticket.getAuthentication(), deserializedTicket.getAuthentication());
+        assertEquals(ticket.getServices().keySet(), deserializedTicket.getServices().keySet());
+    }
+
+    @Test
+    public void verifySmallerThanJson() {
+        val ticket = getTicketGrantingTicket();
+        val json = new TicketGrantingTicketStringSerializer().toString((TicketGrantingTicketImpl) ticket);
+        val binary = ticketSerializationManager.serializeTicket(ticket);
+        assertTrue(binary.length() < json.length());
+    }
+
+    @Test
+    public void verifyJsonTicketsRemainReadable() {
+        val ticket = getTicketGrantingTicket();
+        val json = new TicketGrantingTicketStringSerializer().toString((TicketGrantingTicketImpl) ticket);
+        assertFalse(BinaryTicketStringSerializer.isBinaryFormat(json));
+        val deserializedTicket = ticketSerializationManager.deserializeTicket(json, TicketGrantingTicket.class);
+        assertEquals(ticket, deserializedTicket);
+    }
+
+    @Test
+    public void verifyUnsupportedVersion() {
+        val serializer = new BinaryTicketStringSerializer<>(new TicketGrantingTicketStringSerializer());
+        assertThrows(IllegalArgumentException.class,
+            () -> serializer.from(BinaryTicketStringSerializer.FORMAT_PREFIX + "99:AAAA"));
+    }
+}
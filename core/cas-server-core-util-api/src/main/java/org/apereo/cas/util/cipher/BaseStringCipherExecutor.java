@@ -144,6 +144,16 @@ public abstract class BaseStringCipherExecutor extends AbstractCipherExecutor<Se
         return this.encryptionEnabled && this.encryptionKey != null;
     }
 
+    /**
+     * Gets the key used to decrypt values.
+     * By default, this is the same as the encryption key.
+     *
+     * @return the decryption key
+     */
+    protected Key getDecryptionKey() {
+        return this.encryptionKey;
+    }
+
     /**
      * Gets encryption key setting.
      *
@@ -243,7 +253,7 @@ public abstract class BaseStringCipherExecutor extends AbstractCipherExecutor<Se
         var encodedObj = value.toString();
         if (isEncryptionPossible()) {
             LOGGER.trace("Attempting to decrypt value based on encryption key defined by [{}]", getEncryptionKeySetting());
-            encodedObj = EncodingUtils.decryptJwtValue(this.encryptionKey, encodedObj);
+            encodedObj = EncodingUtils.decryptJwtValue(getDecryptionKey(), encodedObj);
         }
         val currentValue = encodedObj.getBytes(StandardCharsets.UTF_8);
         val encoded = FunctionUtils.doIf(this.signingEnabled, () -> {
@@ -265,7 +275,7 @@ public abstract class BaseStringCipherExecutor extends AbstractCipherExecutor<Se
 
             if (isEncryptionPossible()) {
                 LOGGER.trace("Attempting to decrypt value based on encryption key defined by [{}]", getEncryptionKeySetting());
-                return EncodingUtils.decryptJwtValue(this.encryptionKey, encodedObj);
+                return EncodingUtils.decryptJwtValue(getDecryptionKey(), encodedObj);
             }
             return encodedObj;
         }
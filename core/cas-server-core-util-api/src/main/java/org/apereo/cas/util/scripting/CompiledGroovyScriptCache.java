@@ -0,0 +1,267 @@
+package org.apereo.cas.util.scripting;
+
+import org.apereo.cas.util.DigestUtils;
+import org.apereo.cas.util.LoggingUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import groovy.lang.GroovyClassLoader;
+import groovy.lang.Script;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.codehaus.groovy.control.CompilationUnit;
+import org.codehaus.groovy.control.CompilerConfiguration;
+import org.codehaus.groovy.control.Phases;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * This is {@link CompiledGroovyScriptCache} that compiles inline groovy scripts
+ * once and caches the generated script class by the hash of the script contents.
+ * Script classes are stateless; callers create a fresh script instance with its own
+ * binding for every execution. Compiled bytecode may optionally be written to a directory,
+ * specified via the {@value #SYSTEM_PROPERTY_COMPILED_SCRIPTS_DIRECTORY} system property,
+ * so that scripts need not be compiled again once the server restarts.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Slf4j
+public class CompiledGroovyScriptCache {
+    /**
+     * System property that points to the directory where compiled scripts are kept.
+     */
+    public static final String SYSTEM_PROPERTY_COMPILED_SCRIPTS_DIRECTORY = "cas.scripting.groovy.compiled-scripts-directory";
+
+    private static final String CLASS_NAME_PREFIX = "CasGroovyScript_";
+
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    private static final long MAXIMUM_CACHE_SIZE = 10_000;
+
+    private static final CompiledGroovyScriptCache INSTANCE = new CompiledGroovyScriptCache(
+        Optional.ofNullable(System.getProperty(SYSTEM_PROPERTY_COMPILED_SCRIPTS_DIRECTORY))
+            .filter(StringUtils::isNotBlank)
+            .map(File::new)
+            .orElse(null));
+
+    private final Cache<String, Class<? extends Script>> compiledScripts = Caffeine.newBuilder()
+        .maximumSize(MAXIMUM_CACHE_SIZE)
+        .build();
+
+    private final Map<String, GroovyScriptStatistics> statistics = new ConcurrentHashMap<>();
+
+    private final List<Consumer<GroovyScriptStatistics>> listeners = new CopyOnWriteArrayList<>();
+
+    private final File directory;
+
+    public CompiledGroovyScriptCache(final File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Gets the shared cache instance.
+     *
+     * @return the instance
+     */
+    public static CompiledGroovyScriptCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Compile the script, or return the script class
+     * that was compiled previously for the same script contents.
+     *
+     * @param script the script
+     * @return the script class
+     */
+    public Class<? extends Script> compile(final String script) {
+        val key = DigestUtils.sha256(script);
+        val cached = compiledScripts.getIfPresent(key);
+        if (cached != null) {
+            getStatistics(key).cacheHits.incrementAndGet();
+            return cached;
+        }
+        return compiledScripts.get(key, k -> loadOrCompile(k, script));
+    }
+
+    /**
+     * Record the execution of the given script class.
+     *
+     * @param scriptClass    the script class
+     * @param elapsedInNanos the elapsed time in nanoseconds
+     */
+    public void recordExecution(final Class<?> scriptClass, final long elapsedInNanos) {
+        val name = scriptClass.getName();
+        if (name.startsWith(CLASS_NAME_PREFIX)) {
+            val stats = getStatistics(name.substring(CLASS_NAME_PREFIX.length()));
+            stats.executions.incrementAndGet();
+            stats.totalExecutionTimeInNanos.addAndGet(elapsedInNanos);
+        }
+    }
+
+    /**
+     * Gets statistics for all scripts seen by this cache.
+     *
+     * @return the statistics
+     */
+    public Collection<GroovyScriptStatistics> getStatistics() {
+        return statistics.values();
+    }
+
+    /**
+     * Register a listener that is notified once statistics for a new script are tracked.
+     * The listener is immediately invoked for all scripts that are already tracked.
+     *
+     * @param listener the listener
+     */
+    public void addStatisticsListener(final Consumer<GroovyScriptStatistics> listener) {
+        listeners.add(listener);
+        statistics.values().forEach(listener);
+    }
+
+    private GroovyScriptStatistics getStatistics(final String key) {
+        val existing = statistics.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        val created = new GroovyScriptStatistics(key);
+        val previous = statistics.putIfAbsent(key, created);
+        if (previous != null) {
+            return previous;
+        }
+        listeners.forEach(listener -> listener.accept(created));
+        return created;
+    }
+
+    private Class<? extends Script> loadOrCompile(final String key, final String script) {
+        val className = CLASS_NAME_PREFIX + key;
+        val stats = getStatistics(key);
+        val loaded = loadCompiledScript(key, className);
+        if (loaded != null) {
+            LOGGER.debug("Loaded previously compiled groovy script [{}] from [{}]", className, directory);
+            return loaded;
+        }
+        val start = System.nanoTime();
+        val parent = ScriptingUtils.class.getClassLoader();
+        val configuration = new CompilerConfiguration();
+        try (val groovyClassLoader = new GroovyClassLoader(parent, configuration)) {
+            val unit = new CompilationUnit(configuration, null, groovyClassLoader);
+            unit.addSource(className + ".groovy", script);
+            unit.compile(Phases.CLASS_GENERATION);
+            val bytecode = new HashMap<String, byte[]>();
+            unit.getClasses().forEach(groovyClass -> bytecode.put(groovyClass.getName(), groovyClass.getBytes()));
+            val scriptClass = defineScriptClass(className, bytecode);
+            stats.compileTimeInMillis.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            LOGGER.debug("Compiled groovy script [{}] in [{}] ms", className, stats.getCompileTimeInMillis());
+            storeCompiledScript(key, bytecode);
+            return scriptClass;
+        } catch (final RuntimeException e) {
+            throw e;
+        } catch (final Exception e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private Class<? extends Script> loadCompiledScript(final String key, final String className) {
+        if (directory == null) {
+            return null;
+        }
+        val scriptDirectory = new File(directory, key);
+        val files = scriptDirectory.listFiles((dir, name) -> name.endsWith(CLASS_FILE_SUFFIX));
+        if (files == null || files.length == 0) {
+            return null;
+        }
+        try {
+            val bytecode = new HashMap<String, byte[]>();
+            for (val file : files) {
+                bytecode.put(StringUtils.removeEnd(file.getName(), CLASS_FILE_SUFFIX), Files.readAllBytes(file.toPath()));
+            }
+            return defineScriptClass(className, bytecode);
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to load compiled groovy script from [{}]; script will be compiled again", scriptDirectory);
+            LoggingUtils.error(LOGGER, e);
+        }
+        return null;
+    }
+
+    private void storeCompiledScript(final String key, final Map<String, byte[]> bytecode) {
+        if (directory == null) {
+            return;
+        }
+        val scriptDirectory = new File(directory, key);
+        try {
+            Files.createDirectories(scriptDirectory.toPath());
+            for (val entry : bytecode.entrySet()) {
+                val temp = Files.createTempFile(scriptDirectory.toPath(), entry.getKey(), ".tmp");
+                Files.write(temp, entry.getValue());
+                if (!temp.toFile().renameTo(new File(scriptDirectory, entry.getKey() + CLASS_FILE_SUFFIX))) {
+                    Files.deleteIfExists(temp);
+                }
+            }
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to store compiled groovy script in [{}]", scriptDirectory);
+            LoggingUtils.error(LOGGER, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Script> defineScriptClass(final String className,
+                                                             final Map<String, byte[]> bytecode) throws Exception {
+        val loader = new CompiledScriptClassLoader(ScriptingUtils.class.getClassLoader(), bytecode);
+        val scriptClass = loader.loadClass(className);
+        if (!Script.class.isAssignableFrom(scriptClass)) {
+            throw new IllegalArgumentException("Compiled class " + className + " is not a groovy script");
+        }
+        return (Class<? extends Script>) scriptClass;
+    }
+
+    /**
+     * Statistics collected for a single compiled script.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class GroovyScriptStatistics {
+        private final String key;
+
+        private final AtomicLong compileTimeInMillis = new AtomicLong();
+
+        private final AtomicLong cacheHits = new AtomicLong();
+
+        private final AtomicLong executions = new AtomicLong();
+
+        private final AtomicLong totalExecutionTimeInNanos = new AtomicLong();
+    }
+
+    private static class CompiledScriptClassLoader extends ClassLoader {
+        private final Map<String, byte[]> bytecode;
+
+        CompiledScriptClassLoader(final ClassLoader parent, final Map<String, byte[]> bytecode) {
+            super(parent);
+            this.bytecode = bytecode;
+        }
+
+        @Override
+        protected Class<?> findClass(final String name) throws ClassNotFoundException {
+            val bytes = bytecode.get(name);
+            if (bytes == null) {
+                return super.findClass(name);
+            }
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+}
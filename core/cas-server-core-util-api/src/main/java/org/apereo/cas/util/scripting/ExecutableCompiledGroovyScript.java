@@ -51,12 +51,40 @@ public interface ExecutableCompiledGroovyScript extends AutoCloseable {
 
     /**
      * Sets binding.
+     * The binding replaces any binding previously set on the executing thread.
      *
      * @param args the args
      */
     default void setBinding(final Map<String, Object> args) {
     }
 
+    /**
+     * Clear the binding set on the executing thread.
+     */
+    default void clearBinding() {
+    }
+
+    /**
+     * Execute the script with the given binding, which is cleared
+     * once the script has executed, whether or not execution succeeds.
+     *
+     * @param <T>         the type parameter
+     * @param binding     the binding
+     * @param args        the args
+     * @param clazz       the clazz
+     * @param failOnError the fail on error
+     * @return the result
+     */
+    default <T> T execute(final Map<String, Object> binding, final Object[] args,
+                          final Class<T> clazz, final boolean failOnError) {
+        try {
+            setBinding(binding);
+            return execute(args, clazz, failOnError);
+        } finally {
+            clearBinding();
+        }
+    }
+
     @Override
     default void close() {
     }
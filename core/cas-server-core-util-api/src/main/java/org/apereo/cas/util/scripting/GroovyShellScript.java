@@ -1,28 +1,36 @@
 package org.apereo.cas.util.scripting;
 
 import groovy.lang.Script;
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.SneakyThrows;
-import lombok.val;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
+import java.util.HashMap;
 import java.util.Map;
 
 /**
  * This is {@link GroovyShellScript}.
+ * The script is compiled once into a script class that is shared by all executions.
+ * Every execution runs a new instance of that class, whose binding is made up of the variables
+ * passed via {@link #setBinding(Map)} on the executing thread, so the same script may
+ * be executed concurrently. Setting the binding replaces the binding of the executing thread,
+ * which is cleared once the script executes.
  *
  * @author Misagh Moayyed
  * @since 6.0.0
  */
 @Getter
 public class GroovyShellScript implements ExecutableCompiledGroovyScript {
-    private final transient Script groovyScript;
+    private final transient Class<? extends Script> groovyScript;
+
     private final String script;
 
-    @SneakyThrows
+    @Getter(AccessLevel.NONE)
+    private final transient ThreadLocal<Map<String, Object>> bindings = new ThreadLocal<>();
+
     public GroovyShellScript(final String script) {
         this.script = script;
-        this.groovyScript = ScriptingUtils.parseGroovyShellScript(script);
+        this.groovyScript = ScriptingUtils.compileGroovyShellScript(script);
     }
 
     /**
@@ -59,10 +67,14 @@ public class GroovyShellScript implements ExecutableCompiledGroovyScript {
      */
     @Override
     public <T> T execute(final Object[] args, final Class<T> clazz, final boolean failOnError) {
-        if (this.groovyScript != null) {
-            return ScriptingUtils.executeGroovyShellScript(this.groovyScript, clazz);
+        try {
+            if (this.groovyScript != null) {
+                return ScriptingUtils.executeGroovyShellScript(this.groovyScript, this.bindings.get(), clazz);
+            }
+            return null;
+        } finally {
+            clearBinding();
         }
-        return null;
     }
 
     @Override
@@ -72,11 +84,17 @@ public class GroovyShellScript implements ExecutableCompiledGroovyScript {
 
     @Override
     public void setBinding(final Map<String, Object> variables) {
-        if (variables != null && !variables.isEmpty()) {
-            val binding = this.groovyScript.getBinding();
-            variables.forEach(binding::setVariable);
+        if (variables == null || variables.isEmpty()) {
+            clearBinding();
+        } else {
+            this.bindings.set(new HashMap<>(variables));
         }
     }
+
+    @Override
+    public void clearBinding() {
+        this.bindings.remove();
+    }
     
     @Override
     public String toString() {
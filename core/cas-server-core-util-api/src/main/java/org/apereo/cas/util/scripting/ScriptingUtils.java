@@ -4,9 +4,9 @@ import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.ResourceUtils;
 
+import groovy.lang.Binding;
 import groovy.lang.GroovyClassLoader;
 import groovy.lang.GroovyObject;
-import groovy.lang.GroovyShell;
 import groovy.lang.Script;
 import lombok.SneakyThrows;
 import lombok.experimental.UtilityClass;
@@ -16,6 +16,7 @@ import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.codehaus.groovy.control.CompilerConfiguration;
+import org.codehaus.groovy.runtime.InvokerHelper;
 import org.codehaus.groovy.runtime.InvokerInvocationException;
 import org.springframework.core.io.Resource;
 
@@ -114,6 +115,8 @@ public class ScriptingUtils {
 
     /**
      * Execute groovy shell script t.
+     * The script is executed as a fresh instance of its class with its own binding,
+     * leaving the binding of the given script untouched.
      *
      * @param <T>       the type parameter
      * @param script    the script
@@ -125,20 +128,46 @@ public class ScriptingUtils {
                                                  final Map<String, Object> variables,
                                                  final Class<T> clazz) {
         try {
-            val binding = script.getBinding();
-            if (!binding.hasVariable("logger")) {
-                binding.setVariable("logger", LOGGER);
+            val allVariables = new HashMap<String, Object>(script.getBinding().getVariables());
+            if (variables != null) {
+                allVariables.putAll(variables);
             }
+            return executeGroovyShellScript(script.getClass(), allVariables, clazz);
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        }
+        return null;
+    }
+
+    /**
+     * Execute groovy shell script class.
+     * Every execution runs a new instance of the script class with its own binding,
+     * allowing the same compiled script to be executed concurrently.
+     *
+     * @param <T>         the type parameter
+     * @param scriptClass the script class
+     * @param variables   the variables
+     * @param clazz       the clazz
+     * @return the t
+     */
+    public static <T> T executeGroovyShellScript(final Class<? extends Script> scriptClass,
+                                                 final Map<String, Object> variables,
+                                                 final Class<T> clazz) {
+        val start = System.nanoTime();
+        try {
+            val binding = new Binding();
+            binding.setVariable("logger", LOGGER);
             if (variables != null && !variables.isEmpty()) {
                 variables.forEach(binding::setVariable);
             }
-            script.setBinding(binding);
+            val script = InvokerHelper.createScript(scriptClass, binding);
             LOGGER.debug("Executing groovy script [{}] with variables [{}]", script, binding.getVariables());
-
             val result = script.run();
             return getGroovyScriptExecutionResultOrThrow(clazz, result);
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
+        } finally {
+            CompiledGroovyScriptCache.getInstance().recordExecution(scriptClass, System.nanoTime() - start);
         }
         return null;
     }
@@ -281,10 +310,21 @@ public class ScriptingUtils {
      * @return the script
      */
     public static Script parseGroovyShellScript(final String script) {
+        val scriptClass = compileGroovyShellScript(script);
+        return scriptClass != null ? InvokerHelper.createScript(scriptClass, new Binding()) : null;
+    }
+
+    /**
+     * Compile groovy shell script into a script class.
+     * Scripts with identical contents are only compiled once.
+     *
+     * @param script the script
+     * @return the script class, or null if the script cannot be compiled.
+     */
+    public static Class<? extends Script> compileGroovyShellScript(final String script) {
         try {
-            val shell = new GroovyShell();
             LOGGER.debug("Parsing groovy script [{}]", script);
-            return shell.parse(script);
+            return CompiledGroovyScriptCache.getInstance().compile(script);
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
         }
@@ -17,6 +17,7 @@ import org.apereo.cas.util.http.SimpleHttpClientFactoryBeanTests;
 import org.apereo.cas.util.io.FileWatcherServiceTests;
 import org.apereo.cas.util.io.PathWatcherServiceTests;
 import org.apereo.cas.util.io.TemporaryFileSystemResourceTests;
+import org.apereo.cas.util.scripting.CompiledGroovyScriptCacheTests;
 import org.apereo.cas.util.scripting.GroovyScriptResourceCacheManagerTests;
 import org.apereo.cas.util.scripting.GroovyShellScriptTests;
 import org.apereo.cas.util.scripting.WatchableGroovyScriptResourceTests;
@@ -49,6 +50,7 @@ import org.junit.platform.suite.api.Suite;
     GlibcCryptPasswordEncoderTests.class,
     DefaultCasBannerTests.class,
     GroovyShellScriptTests.class,
+    CompiledGroovyScriptCacheTests.class,
     FunctionUtilsTests.class,
     CertUtilsTests.class,
     PrivateKeyFactoryBeanTests.class,
@@ -0,0 +1,62 @@
+package org.apereo.cas.util.scripting;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link CompiledGroovyScriptCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Tag("Groovy")
+public class CompiledGroovyScriptCacheTests {
+
+    @Test
+    public void verifyScriptIsCompiledOnce() {
+        val cache = new CompiledGroovyScriptCache(null);
+        val script = "return name + '-" + UUID.randomUUID() + '\'';
+        val first = cache.compile(script);
+        val second = cache.compile(script);
+        assertSame(first, second);
+        val stats = cache.getStatistics().iterator().next();
+        assertEquals(1, stats.getCacheHits().get());
+    }
+
+    @Test
+    public void verifyConcurrentExecutionsUseOwnBindings() {
+        val shell = new GroovyShellScript("Thread.sleep(5); return name");
+        val results = IntStream.range(0, 50)
+            .parallel()
+            .mapToObj(i -> {
+                shell.setBinding(Map.of("name", "user" + i));
+                return shell.execute(new Object[]{}, String.class);
+            })
+            .collect(Collectors.toSet());
+        assertEquals(50, results.size());
+    }
+
+    @Test
+    public void verifyCompiledScriptIsStoredOnDisk() throws Exception {
+        val directory = Files.createTempDirectory("groovy").toFile();
+        val script = "return 'casuser'";
+        val scriptClass = new CompiledGroovyScriptCache(directory).compile(script);
+        assertEquals("casuser", ScriptingUtils.executeGroovyShellScript(scriptClass, Map.of(), String.class));
+
+        val cache = new CompiledGroovyScriptCache(directory);
+        val loaded = cache.compile(script);
+        assertNotSame(scriptClass, loaded);
+        assertEquals(scriptClass.getName(), loaded.getName());
+        assertEquals(0, cache.getStatistics().iterator().next().getCompileTimeInMillis().get());
+        assertEquals("casuser", ScriptingUtils.executeGroovyShellScript(loaded, Map.of(), String.class));
+    }
+}
@@ -6,6 +6,8 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -43,4 +45,16 @@ public class GroovyShellScriptTests {
             }
         });
     }
+
+    @Test
+    public void verifyBindingReplacedAndCleared() {
+        val shell = new GroovyShellScript("binding.hasVariable('second') ? 'leaked' : first");
+        shell.setBinding(Map.of("second", "value"));
+        shell.setBinding(Map.of("first", "value"));
+        assertEquals("value", shell.execute(ArrayUtils.EMPTY_OBJECT_ARRAY, String.class));
+
+        shell.setBinding(Map.of("second", "value"));
+        shell.clearBinding();
+        assertEquals("other", shell.execute(Map.of("first", "other"), ArrayUtils.EMPTY_OBJECT_ARRAY, String.class, true));
+    }
 }
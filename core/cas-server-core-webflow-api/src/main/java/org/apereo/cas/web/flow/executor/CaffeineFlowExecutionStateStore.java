@@ -0,0 +1,39 @@
+package org.apereo.cas.web.flow.executor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * This is {@link CaffeineFlowExecutionStateStore} that keeps flow execution snapshots
+ * in memory. Flow executions stored here can only be continued by the same CAS server node.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+public class CaffeineFlowExecutionStateStore implements FlowExecutionStateStore {
+    private final Cache<String, byte[]> storage;
+
+    public CaffeineFlowExecutionStateStore(final Duration timeToLive, final long maximumSize) {
+        this.storage = Caffeine.newBuilder()
+            .expireAfterWrite(timeToLive)
+            .maximumSize(maximumSize)
+            .build();
+    }
+
+    @Override
+    public void put(final String key, final byte[] state) {
+        storage.put(key, state);
+    }
+
+    @Override
+    public byte[] get(final String key) {
+        return storage.getIfPresent(key);
+    }
+
+    @Override
+    public void remove(final String key) {
+        storage.invalidate(key);
+    }
+}
@@ -0,0 +1,181 @@
+package org.apereo.cas.web.flow.executor;
+
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.ArrayUtils;
+import org.cryptacular.bean.CipherBean;
+import org.springframework.util.ClassUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * This is {@link CompactEncryptedTranscoder} that encodes flow state in a compact form before encryption.
+ * Class descriptors are written using only the class name and its serial version UID, since the class
+ * definitions are already known to the CAS server that decodes the flow state. The serial version UID
+ * is verified against the local class on read, as Java serialization would; the result is then compressed
+ * using a preset dictionary of class names and attribute names that commonly appear in CAS flow state.
+ * <p>
+ * Encoded flow state starts with a format version. Flow state that does not carry a known
+ * format version, such as state produced by {@link EncryptedTranscoder}, is decoded using
+ * Java serialization and gzip compression, so that flows in progress survive an upgrade.
+ * Changing the dictionary or the class descriptor layout changes the format and requires a new format version.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Slf4j
+public class CompactEncryptedTranscoder extends EncryptedTranscoder {
+    /**
+     * Current version of the compact format.
+     */
+    public static final byte FORMAT_VERSION = 2;
+
+    private static final int BUFFER_SIZE = 4096;
+
+    /**
+     * Preset compression dictionary. Any change here must be accompanied by a new {@link #FORMAT_VERSION}.
+     */
+    static final byte[] DICTIONARY = String.join(";",
+        "java.lang.Boolean",
+        "java.lang.Integer",
+        "java.lang.Long",
+        "java.lang.Enum",
+        "java.lang.Number",
+        "java.time.ZonedDateTime",
+        "java.time.Ser",
+        "java.util.Collections$UnmodifiableMap",
+        "java.util.Collections$UnmodifiableList",
+        "java.util.Collections$SingletonList",
+        "java.util.Collections$EmptyMap",
+        "java.util.TreeMap",
+        "java.util.HashSet",
+        "java.util.LinkedHashSet",
+        "java.util.ArrayList",
+        "java.util.HashMap",
+        "java.util.LinkedHashMap",
+        "java.util.concurrent.ConcurrentHashMap",
+        "org.springframework.binding.message.DefaultMessageContext",
+        "org.springframework.binding.message.Severity",
+        "org.springframework.webflow.execution.repository.support.CompositeFlowExecutionKey",
+        "org.springframework.webflow.engine.impl.FlowSessionImpl",
+        "org.springframework.webflow.engine.impl.FlowExecutionImpl",
+        "org.springframework.webflow.core.collection.LocalSharedAttributeMap",
+        "org.springframework.webflow.core.collection.LocalAttributeMap",
+        "org.apereo.cas.web.flow.executor.ClientFlowExecutionRepository$SerializedFlowExecutionState",
+        "org.apereo.cas.authentication.principal.WebApplicationService",
+        "org.apereo.cas.authentication.principal.SimpleWebApplicationServiceImpl",
+        "org.apereo.cas.authentication.principal.AbstractWebApplicationService",
+        "org.apereo.cas.authentication.principal.SimplePrincipal",
+        "org.apereo.cas.authentication.principal.Response$ResponseType",
+        "org.apereo.cas.authentication.DefaultAuthentication",
+        "org.apereo.cas.authentication.DefaultAuthenticationBuilder",
+        "org.apereo.cas.authentication.DefaultAuthenticationHandlerExecutionResult",
+        "org.apereo.cas.authentication.BasicCredentialMetaData",
+        "org.apereo.cas.authentication.credential.AbstractCredential",
+        "org.apereo.cas.authentication.credential.RememberMeUsernamePasswordCredential",
+        "org.apereo.cas.authentication.credential.UsernamePasswordCredential",
+        "org.apereo.cas.services.RegexRegisteredService",
+        "org.apereo.cas.web.support.WebUtils",
+        "authenticationDate", "successfulAuthenticationHandlers", "credentialType", "authenticationMethod",
+        "isFromNewLogin", "longTermAuthenticationRequestTokenUsed", "clientInfo", "geoLocation",
+        "browserUserAgent", "userAgent", "httpRequestSecure", "httpRequestUserAgent", "ticketGrantingTicketId",
+        "warnCookieValue", "originalUrl", "registeredService", "authenticationResultBuilder",
+        "authentication", "credential", "service", "serviceTicketId", "customLoginFormFields",
+        "rememberMe", "password", "username", "loginFlow", "casLoginFormViewState",
+        "initializeLoginForm", "realSubmit", "viewLoginForm", "flowScope", "conversationScope",
+        "flashScope", "viewScope", "requestScope").getBytes(StandardCharsets.UTF_8);
+
+    public CompactEncryptedTranscoder(final CipherBean cipherBean) {
+        super(cipherBean, true);
+    }
+
+    @Override
+    public byte[] encode(final Object o) throws IOException {
+        if (o == null) {
+            return ArrayUtils.EMPTY_BYTE_ARRAY;
+        }
+        val outBuffer = new ByteArrayOutputStream(BUFFER_SIZE);
+        outBuffer.write(FORMAT_VERSION);
+        val deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setDictionary(DICTIONARY);
+            try (val out = new CompactObjectOutputStream(new DeflaterOutputStream(outBuffer, deflater, BUFFER_SIZE))) {
+                writeObjectToOutputStream(o, out);
+            } catch (final NotSerializableException e) {
+                LoggingUtils.warn(LOGGER, e);
+            }
+        } finally {
+            deflater.end();
+        }
+        return encrypt(outBuffer);
+    }
+
+    @Override
+    @SuppressWarnings("BanSerializableRead")
+    protected Object readObject(final byte[] data) throws IOException {
+        if (data == null || data.length == 0 || data[0] != FORMAT_VERSION) {
+            LOGGER.trace("Flow state is not encoded in the compact format and will be decoded using Java serialization");
+            return super.readObject(data);
+        }
+        val inflater = new Inflater(true);
+        try {
+            inflater.setDictionary(DICTIONARY);
+            val inBuffer = new ByteArrayInputStream(data, 1, data.length - 1);
+            try (val in = new CompactObjectInputStream(new InflaterInputStream(inBuffer, inflater, BUFFER_SIZE))) {
+                return in.readObject();
+            }
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+            throw new IOException("Deserialization error", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    static class CompactObjectOutputStream extends ObjectOutputStream {
+        CompactObjectOutputStream(final OutputStream out) throws IOException {
+            super(out);
+        }
+
+        @Override
+        protected void writeClassDescriptor(final ObjectStreamClass desc) throws IOException {
+            writeUTF(desc.getName());
+            writeLong(desc.getSerialVersionUID());
+        }
+    }
+
+    static class CompactObjectInputStream extends ObjectInputStream {
+        CompactObjectInputStream(final InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+            val className = readUTF();
+            val serialVersionUID = readLong();
+            val clazz = ClassUtils.forName(className, ClassUtils.getDefaultClassLoader());
+            val descriptor = ObjectStreamClass.lookupAny(clazz);
+            if (descriptor.getSerialVersionUID() != serialVersionUID) {
+                throw new InvalidClassException(className, "local class incompatible: stream classdesc serialVersionUID = "
+                    + serialVersionUID + ", local class serialVersionUID = " + descriptor.getSerialVersionUID());
+            }
+            return descriptor;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package org.apereo.cas.web.flow.executor;
+
+/**
+ * This is {@link FlowExecutionStateStore} that keeps encoded flow execution snapshots
+ * in a key-value store, so that flow executions can be continued by any CAS server node
+ * that has access to the store. Implementations are expected to expire entries
+ * that are not removed explicitly.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+public interface FlowExecutionStateStore {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "flowExecutionStateStore";
+
+    /**
+     * Store the encoded flow execution snapshot under the given key.
+     *
+     * @param key   the key
+     * @param state the encoded snapshot
+     */
+    void put(String key, byte[] state);
+
+    /**
+     * Get the encoded flow execution snapshot stored under the given key.
+     *
+     * @param key the key
+     * @return the encoded snapshot, or null if none exists or it has expired
+     */
+    byte[] get(String key);
+
+    /**
+     * Remove the flow execution snapshot stored under the given key.
+     *
+     * @param key the key
+     */
+    void remove(String key);
+}
@@ -0,0 +1,38 @@
+package org.apereo.cas.web.flow.executor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import java.io.IOException;
+
+/**
+ * This is {@link MonitoredTranscoder} that records the size of encoded
+ * flow state and the time it takes to encode and decode it.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@RequiredArgsConstructor
+public class MonitoredTranscoder implements Transcoder {
+    private final Transcoder transcoder;
+
+    private final WebflowTranscoderStatistics statistics;
+
+    @Override
+    public byte[] encode(final Object o) throws IOException {
+        val startTime = System.nanoTime();
+        val encoded = transcoder.encode(o);
+        if (encoded != null) {
+            statistics.recordEncoded(encoded.length, System.nanoTime() - startTime);
+        }
+        return encoded;
+    }
+
+    @Override
+    public Object decode(final byte[] encoded) throws IOException {
+        val startTime = System.nanoTime();
+        val result = transcoder.decode(encoded);
+        statistics.recordDecoded(encoded.length, System.nanoTime() - startTime);
+        return result;
+    }
+}
@@ -0,0 +1,68 @@
+package org.apereo.cas.web.flow.executor;
+
+import com.google.common.base.Splitter;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.webflow.execution.FlowExecutionKey;
+import org.springframework.webflow.execution.repository.BadlyFormattedFlowExecutionKeyException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Spring Webflow execution id for flow executions whose state is kept in a {@link FlowExecutionStateStore}.
+ * Keys produced by this class have the form CONVERSATION_SNAPSHOT where CONVERSATION is a random identifier
+ * of the flow execution and SNAPSHOT is a random identifier of the flow execution snapshot.
+ * Keys that are restored from the store also track the identifiers of the snapshots that precede
+ * the snapshot in the same flow execution, which are not part of the key.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@EqualsAndHashCode(callSuper = false, of = {"conversationId", "snapshotId"})
+@Getter
+public class StoredFlowExecutionKey extends FlowExecutionKey {
+
+    private static final String KEY_FORMAT = "<conversation-id>_<snapshot-id>";
+
+    private static final long serialVersionUID = -2713264375961284702L;
+
+    private final String conversationId;
+
+    private final String snapshotId;
+
+    private final List<String> previousSnapshotIds;
+
+    public StoredFlowExecutionKey(final String conversationId, final String snapshotId) {
+        this(conversationId, snapshotId, new ArrayList<>(0));
+    }
+
+    public StoredFlowExecutionKey(final String conversationId, final String snapshotId,
+                                  final List<String> previousSnapshotIds) {
+        this.conversationId = conversationId;
+        this.snapshotId = snapshotId;
+        this.previousSnapshotIds = previousSnapshotIds;
+    }
+
+    /**
+     * Parse.
+     *
+     * @param key the key
+     * @return the stored flow execution key
+     * @throws BadlyFormattedFlowExecutionKeyException the badly formatted flow execution key exception
+     */
+    public static StoredFlowExecutionKey parse(final String key) throws BadlyFormattedFlowExecutionKeyException {
+        val tokens = Splitter.on('_').splitToList(StringUtils.defaultString(key));
+        if (tokens.size() != 2 || !StringUtils.isAlphanumeric(tokens.get(0)) || !StringUtils.isAlphanumeric(tokens.get(1))) {
+            throw new BadlyFormattedFlowExecutionKeyException(key, KEY_FORMAT);
+        }
+        return new StoredFlowExecutionKey(tokens.get(0), tokens.get(1));
+    }
+
+    @Override
+    public String toString() {
+        return this.conversationId + '_' + this.snapshotId;
+    }
+}
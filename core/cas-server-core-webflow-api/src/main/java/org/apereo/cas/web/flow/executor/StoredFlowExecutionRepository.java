@@ -0,0 +1,197 @@
+package org.apereo.cas.web.flow.executor;
+
+import org.apereo.cas.util.RandomUtils;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.util.Assert;
+import org.springframework.webflow.core.collection.MutableAttributeMap;
+import org.springframework.webflow.definition.registry.FlowDefinitionLocator;
+import org.springframework.webflow.execution.FlowExecution;
+import org.springframework.webflow.execution.FlowExecutionFactory;
+import org.springframework.webflow.execution.FlowExecutionKey;
+import org.springframework.webflow.execution.FlowExecutionKeyFactory;
+import org.springframework.webflow.execution.repository.FlowExecutionLock;
+import org.springframework.webflow.execution.repository.FlowExecutionRepository;
+import org.springframework.webflow.execution.repository.FlowExecutionRepositoryException;
+import org.springframework.webflow.execution.repository.FlowExecutionRestorationFailureException;
+import org.springframework.webflow.execution.repository.NoSuchFlowExecutionException;
+import org.springframework.webflow.execution.repository.snapshot.SnapshotCreationException;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores flow execution snapshots in a {@link FlowExecutionStateStore}, and hands out short opaque
+ * {@link StoredFlowExecutionKey} identifiers to the client. Unlike flow executions that are bound to the
+ * container session, flow executions stored here can be continued by any CAS server node that has access
+ * to the store. The details of encoding flow state into a byte stream is handled by a {@link Transcoder} component.
+ * <p>
+ * Each flow execution keeps a limited number of snapshots in the store; the oldest snapshot is removed
+ * once the limit is exceeded, and snapshots that are no longer used eventually expire in the store.
+ *
+ * @author Misagh Moayyed
+ * @see StoredFlowExecutionKey
+ * @see FlowExecutionStateStore
+ * @since 6.5.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Setter
+public class StoredFlowExecutionRepository implements FlowExecutionRepository, FlowExecutionKeyFactory {
+    private static final int CONVERSATION_ID_LENGTH = 22;
+
+    private static final int SNAPSHOT_ID_LENGTH = 6;
+
+    /**
+     * The store offers no locking; concurrent requests for the same flow execution continue from
+     * the same snapshot, as they would when flow state is stored on the client.
+     */
+    private static final FlowExecutionLock NOOP_LOCK = new FlowExecutionLock() {
+        @Override
+        public void lock() {
+        }
+
+        @Override
+        public void unlock() {
+        }
+    };
+
+    private final FlowExecutionStateStore flowExecutionStateStore;
+
+    private final Transcoder transcoder;
+
+    private final int maxSnapshots;
+
+    private FlowExecutionFactory flowExecutionFactory;
+
+    private FlowDefinitionLocator flowDefinitionLocator;
+
+    private static List<String> getSnapshotIds(final StoredFlowExecutionKey key) {
+        val snapshotIds = new ArrayList<String>(key.getPreviousSnapshotIds());
+        snapshotIds.add(key.getSnapshotId());
+        return snapshotIds;
+    }
+
+    @Override
+    public FlowExecutionKey parseFlowExecutionKey(final String encodedKey) throws FlowExecutionRepositoryException {
+        return StoredFlowExecutionKey.parse(encodedKey);
+    }
+
+    @Override
+    public FlowExecutionLock getLock(final FlowExecutionKey key) throws FlowExecutionRepositoryException {
+        return NOOP_LOCK;
+    }
+
+    @Override
+    public FlowExecution getFlowExecution(final FlowExecutionKey key) throws FlowExecutionRepositoryException {
+        Assert.notNull(flowExecutionFactory, "FlowExecutionFactory cannot be null");
+        Assert.notNull(flowDefinitionLocator, "FlowDefinitionLocator cannot be null");
+
+        if (!(key instanceof StoredFlowExecutionKey)) {
+            throw new IllegalArgumentException(
+                "Expected instance of StoredFlowExecutionKey but got " + key.getClass().getName());
+        }
+        val encoded = flowExecutionStateStore.get(key.toString());
+        if (encoded == null) {
+            LOGGER.debug("Flow execution [{}] cannot be found in the store; it may have expired or ended", key);
+            throw new NoSuchFlowExecutionException(key, null);
+        }
+        try {
+            val state = (StoredFlowExecutionState) this.transcoder.decode(encoded);
+            val storedKey = (StoredFlowExecutionKey) key;
+            val restoredKey = new StoredFlowExecutionKey(storedKey.getConversationId(),
+                storedKey.getSnapshotId(), state.getPreviousSnapshotIds());
+            val flow = flowDefinitionLocator.getFlowDefinition(state.getFlowId());
+            return flowExecutionFactory.restoreFlowExecution(
+                state.getExecution(), flow, restoredKey, state.getConversationScope(), this.flowDefinitionLocator);
+        } catch (final Exception e) {
+            throw new FlowExecutionRestorationFailureException(key, e);
+        }
+    }
+
+    @Override
+    public void putFlowExecution(final FlowExecution flowExecution) throws FlowExecutionRepositoryException {
+        putFlowExecutionSnapshot(flowExecution);
+    }
+
+    @Override
+    public void removeFlowExecution(final FlowExecution flowExecution) throws FlowExecutionRepositoryException {
+        removeAllFlowExecutionSnapshots(flowExecution);
+    }
+
+    @Override
+    public FlowExecutionKey getKey(final FlowExecution execution) {
+        val snapshotId = RandomUtils.randomAlphanumeric(SNAPSHOT_ID_LENGTH);
+        val currentKey = (StoredFlowExecutionKey) execution.getKey();
+        if (currentKey == null) {
+            return new StoredFlowExecutionKey(RandomUtils.randomAlphanumeric(CONVERSATION_ID_LENGTH), snapshotId);
+        }
+        val previousSnapshotIds = getSnapshotIds(currentKey);
+        while (!previousSnapshotIds.isEmpty() && previousSnapshotIds.size() >= Math.max(1, maxSnapshots)) {
+            val expiredSnapshotId = previousSnapshotIds.remove(0);
+            val expiredKey = new StoredFlowExecutionKey(currentKey.getConversationId(), expiredSnapshotId);
+            LOGGER.trace("Removing flow execution snapshot [{}] that exceeds the snapshot limit", expiredKey);
+            flowExecutionStateStore.remove(expiredKey.toString());
+        }
+        return new StoredFlowExecutionKey(currentKey.getConversationId(), snapshotId, previousSnapshotIds);
+    }
+
+    @Override
+    public void updateFlowExecutionSnapshot(final FlowExecution execution) {
+        putFlowExecutionSnapshot(execution);
+    }
+
+    @Override
+    public void removeFlowExecutionSnapshot(final FlowExecution execution) {
+        val key = execution.getKey();
+        if (key != null) {
+            flowExecutionStateStore.remove(key.toString());
+        }
+    }
+
+    @Override
+    public void removeAllFlowExecutionSnapshots(final FlowExecution execution) {
+        val key = (StoredFlowExecutionKey) execution.getKey();
+        if (key != null) {
+            getSnapshotIds(key).forEach(snapshotId ->
+                flowExecutionStateStore.remove(new StoredFlowExecutionKey(key.getConversationId(), snapshotId).toString()));
+        }
+    }
+
+    private void putFlowExecutionSnapshot(final FlowExecution execution) {
+        Assert.notNull(transcoder, "Transcoder cannot be null");
+        val key = (StoredFlowExecutionKey) execution.getKey();
+        Assert.notNull(key, "Flow execution key cannot be null");
+        try {
+            val encoded = transcoder.encode(new StoredFlowExecutionState(execution, key.getPreviousSnapshotIds()));
+            flowExecutionStateStore.put(key.toString(), encoded);
+        } catch (final Exception e) {
+            throw new SnapshotCreationException(execution, "Error encoding flow execution", e);
+        }
+    }
+
+    @Getter
+    private static class StoredFlowExecutionState implements Serializable {
+        private static final long serialVersionUID = 5712483260973428193L;
+
+        private final String flowId;
+
+        private final MutableAttributeMap conversationScope;
+
+        private final FlowExecution execution;
+
+        private final List<String> previousSnapshotIds;
+
+        StoredFlowExecutionState(final FlowExecution execution, final List<String> previousSnapshotIds) {
+            this.execution = execution;
+            this.flowId = execution.getDefinition().getId();
+            this.conversationScope = execution.getConversationScope();
+            this.previousSnapshotIds = new ArrayList<>(previousSnapshotIds);
+        }
+    }
+}
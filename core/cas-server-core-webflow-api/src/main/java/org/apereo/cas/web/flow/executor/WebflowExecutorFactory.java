@@ -30,13 +30,21 @@ public class WebflowExecutorFactory {
     private final CipherExecutor webflowCipherExecutor;
     private final FlowExecutionListener[] executionListeners;
 
+    private final WebflowTranscoderStatistics webflowTranscoderStatistics;
+
+    private final FlowExecutionStateStore flowExecutionStateStore;
+
     /**
      * Build flow executor.
      *
      * @return the flow executor
      */
     public FlowExecutor build() {
-        if (webflowProperties.getSession().isStorage()) {
+        val session = webflowProperties.getSession();
+        if (session.isStorage() && session.getStore().isEnabled()) {
+            return buildFlowExecutorViaStoredFlowExecution();
+        }
+        if (session.isStorage()) {
             return buildFlowExecutorViaServerSessionBindingExecution();
         }
         return buildFlowExecutorViaClientFlowExecution();
@@ -73,9 +81,25 @@ public class WebflowExecutorFactory {
         return new FlowExecutorImpl(this.flowDefinitionRegistry, factory, repository);
     }
 
+    private FlowExecutor buildFlowExecutorViaStoredFlowExecution() {
+        val store = webflowProperties.getSession().getStore();
+        val repository = new StoredFlowExecutionRepository(flowExecutionStateStore,
+            getWebflowStateTranscoder(), store.getMaxSnapshots());
+        repository.setFlowDefinitionLocator(this.flowDefinitionRegistry);
+
+        val factory = new FlowExecutionImplFactory();
+        factory.setExecutionKeyFactory(repository);
+        factory.setExecutionListenerLoader(new StaticFlowExecutionListenerLoader(executionListeners));
+        repository.setFlowExecutionFactory(factory);
+        return new FlowExecutorImpl(this.flowDefinitionRegistry, factory, repository);
+    }
+
     @SneakyThrows
     private Transcoder getWebflowStateTranscoder() {
         val cipherBean = new WebflowCipherBean(this.webflowCipherExecutor);
-        return new EncryptedTranscoder(cipherBean);
+        val transcoder = webflowProperties.getSession().isCompact()
+            ? new CompactEncryptedTranscoder(cipherBean)
+            : new EncryptedTranscoder(cipherBean);
+        return new MonitoredTranscoder(transcoder, webflowTranscoderStatistics);
     }
 }
@@ -0,0 +1,92 @@
+package org.apereo.cas.web.flow.executor;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is {@link WebflowTranscoderStatistics} that keeps track of the size
+ * of flow state that is managed on the client side, and of the time it takes
+ * to encode and decode it.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Getter
+@ToString
+public class WebflowTranscoderStatistics {
+    /**
+     * Default bean name.
+     */
+    public static final String BEAN_NAME = "webflowTranscoderStatistics";
+
+    private final AtomicLong encodedCount = new AtomicLong();
+
+    private final AtomicLong decodedCount = new AtomicLong();
+
+    private final AtomicLong totalEncodedBytes = new AtomicLong();
+
+    private final AtomicLong maxEncodedBytes = new AtomicLong();
+
+    @ToString.Exclude
+    @Getter(AccessLevel.NONE)
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Record the encoding of flow state.
+     *
+     * @param encodedBytes    the size of the encoded flow state
+     * @param durationInNanos the time it took to encode the flow state
+     */
+    public void recordEncoded(final long encodedBytes, final long durationInNanos) {
+        encodedCount.incrementAndGet();
+        totalEncodedBytes.addAndGet(encodedBytes);
+        maxEncodedBytes.accumulateAndGet(encodedBytes, Math::max);
+        listeners.forEach(listener -> listener.encoded(encodedBytes, durationInNanos));
+    }
+
+    /**
+     * Record the decoding of flow state.
+     *
+     * @param encodedBytes    the size of the encoded flow state
+     * @param durationInNanos the time it took to decode the flow state
+     */
+    public void recordDecoded(final long encodedBytes, final long durationInNanos) {
+        decodedCount.incrementAndGet();
+        listeners.forEach(listener -> listener.decoded(encodedBytes, durationInNanos));
+    }
+
+    /**
+     * Register a listener that is notified each time flow state is encoded or decoded.
+     *
+     * @param listener the listener
+     */
+    public void registerListener(final Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Listener that is notified each time flow state is encoded or decoded.
+     */
+    public interface Listener {
+        /**
+         * Flow state was encoded.
+         *
+         * @param encodedBytes    the size of the encoded flow state
+         * @param durationInNanos the time it took to encode the flow state
+         */
+        void encoded(long encodedBytes, long durationInNanos);
+
+        /**
+         * Flow state was decoded.
+         *
+         * @param encodedBytes    the size of the encoded flow state
+         * @param durationInNanos the time it took to decode the flow state
+         */
+        void decoded(long encodedBytes, long durationInNanos);
+    }
+}
@@ -8,7 +8,9 @@ import org.apereo.cas.web.flow.configurer.DynamicFlowModelBuilderTests;
 import org.apereo.cas.web.flow.decorator.GroovyLoginWebflowDecoratorTests;
 import org.apereo.cas.web.flow.decorator.RestfulLoginWebflowDecoratorTests;
 import org.apereo.cas.web.flow.executor.ClientFlowExecutionRepositoryTests;
+import org.apereo.cas.web.flow.executor.CompactEncryptedTranscoderTests;
 import org.apereo.cas.web.flow.executor.EncryptedTranscoderTests;
+import org.apereo.cas.web.flow.executor.StoredFlowExecutionRepositoryTests;
 import org.apereo.cas.web.flow.services.DefaultRegisteredServiceUserInterfaceInfoTests;
 
 import org.junit.platform.suite.api.SelectClasses;
@@ -30,7 +32,9 @@ import org.junit.platform.suite.api.Suite;
     CasWebflowLoginContextProviderTests.class,
     DefaultCasWebflowExecutionPlanTests.class,
     StaticEventExecutionActionTests.class,
-    EncryptedTranscoderTests.class
+    EncryptedTranscoderTests.class,
+    CompactEncryptedTranscoderTests.class,
+    StoredFlowExecutionRepositoryTests.class
 })
 @Suite
 public class AllTestsSuite {
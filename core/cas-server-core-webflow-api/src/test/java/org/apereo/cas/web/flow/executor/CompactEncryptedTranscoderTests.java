@@ -0,0 +1,162 @@
+package org.apereo.cas.web.flow.executor;
+
+import lombok.val;
+import org.cryptacular.bean.AEADBlockCipherBean;
+import org.cryptacular.bean.CipherBean;
+import org.cryptacular.bean.KeyStoreFactoryBean;
+import org.cryptacular.io.FileResource;
+import org.cryptacular.spec.AEADBlockCipherSpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.webflow.core.collection.LocalAttributeMap;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test cases for {@link CompactEncryptedTranscoder}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Tag("Webflow")
+public class CompactEncryptedTranscoderTests {
+    private static final long DICTIONARY_CHECKSUM = 216843441L;
+
+    private CipherBean cipherBean;
+
+    private static LocalAttributeMap<Object> getFlowScope() {
+        val scope = new LocalAttributeMap<Object>();
+        scope.put("service", "https://app.example.org/login?param=value");
+        scope.put("authenticationDate", ZonedDateTime.now());
+        scope.put("warnCookieValue", Boolean.TRUE);
+        val attributes = new ArrayList<Object>();
+        for (var i = 0; i < 20; i++) {
+            attributes.add(new SampleAttribute("attribute-" + i, List.of("value-" + i)));
+        }
+        scope.put("attributes", attributes);
+        return scope;
+    }
+
+    @BeforeEach
+    public void setup() {
+        val ksFactory = new KeyStoreFactoryBean();
+        ksFactory.setResource(new FileResource(new File("src/test/resources/test-keystore.jceks")));
+        ksFactory.setType("JCEKS");
+        ksFactory.setPassword("changeit");
+
+        val bean = new AEADBlockCipherBean();
+        bean.setBlockCipherSpec(new AEADBlockCipherSpec("AES", "GCM"));
+        bean.setKeyStore(ksFactory.newInstance());
+        bean.setKeyAlias("aes128");
+        bean.setKeyPassword("changeit");
+        bean.setNonce(new org.cryptacular.generator.sp80038d.RBGNonce());
+        this.cipherBean = bean;
+    }
+
+    @Test
+    public void verifyEncodeDecode() throws Exception {
+        val transcoder = new CompactEncryptedTranscoder(cipherBean);
+        val scope = getFlowScope();
+        val encoded = transcoder.encode(scope);
+        assertEquals(scope, transcoder.decode(encoded));
+    }
+
+    @Test
+    public void verifySmallerThanDefault() throws Exception {
+        val scope = getFlowScope();
+        val compact = new CompactEncryptedTranscoder(cipherBean).encode(scope);
+        val standard = new EncryptedTranscoder(cipherBean).encode(scope);
+        assertTrue(compact.length < standard.length);
+    }
+
+    @Test
+    public void verifyDefaultFormatRemainsReadable() throws Exception {
+        val scope = getFlowScope();
+        val encoded = new EncryptedTranscoder(cipherBean).encode(scope);
+        assertEquals(scope, new CompactEncryptedTranscoder(cipherBean).decode(encoded));
+    }
+
+    @Test
+    public void verifyDictionaryMatchesFormatVersion() {
+        val crc = new CRC32();
+        crc.update(CompactEncryptedTranscoder.DICTIONARY);
+        assertEquals(2, CompactEncryptedTranscoder.FORMAT_VERSION);
+        assertEquals(DICTIONARY_CHECKSUM, crc.getValue(), "Dictionary changed without a new format version");
+    }
+
+    @Test
+    public void verifySerialVersionMismatch() throws Exception {
+        val outBuffer = new ByteArrayOutputStream();
+        try (val out = new CompactEncryptedTranscoder.CompactObjectOutputStream(outBuffer) {
+            @Override
+            protected void writeClassDescriptor(final ObjectStreamClass desc) throws IOException {
+                writeUTF(desc.getName());
+                writeLong(desc.getSerialVersionUID() + 1);
+            }
+        }) {
+            out.writeObject(new SampleAttribute("name", List.of("value")));
+        }
+        try (val in = new CompactEncryptedTranscoder.CompactObjectInputStream(new ByteArrayInputStream(outBuffer.toByteArray()))) {
+            assertThrows(InvalidClassException.class, in::readObject);
+        }
+    }
+
+    @Test
+    public void verifyBadDecoding() {
+        val transcoder = new CompactEncryptedTranscoder(mock(CipherBean.class));
+        assertThrows(IOException.class, () -> transcoder.decode(null));
+    }
+
+    @Test
+    public void verifyStatistics() throws Exception {
+        val statistics = new WebflowTranscoderStatistics();
+        val transcoder = new MonitoredTranscoder(new CompactEncryptedTranscoder(cipherBean), statistics);
+        val encoded = transcoder.encode(getFlowScope());
+        assertNotNull(transcoder.decode(encoded));
+        assertEquals(1, statistics.getEncodedCount().get());
+        assertEquals(1, statistics.getDecodedCount().get());
+        assertEquals(encoded.length, statistics.getMaxEncodedBytes().get());
+    }
+
+    private static class SampleAttribute implements Serializable {
+        private static final long serialVersionUID = 2877467541052287396L;
+
+        private final String name;
+
+        private final List<String> values;
+
+        SampleAttribute(final String name, final List<String> values) {
+            this.name = name;
+            this.values = new ArrayList<>(values);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof SampleAttribute)) {
+                return false;
+            }
+            val other = (SampleAttribute) o;
+            return name.equals(other.name) && values.equals(other.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, values);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package org.apereo.cas.web.flow.executor;
+
+import lombok.val;
+import org.cryptacular.bean.AEADBlockCipherBean;
+import org.cryptacular.bean.KeyStoreFactoryBean;
+import org.cryptacular.generator.sp80038d.RBGNonce;
+import org.cryptacular.io.ClassPathResource;
+import org.cryptacular.spec.AEADBlockCipherSpec;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.webflow.config.FlowBuilderServicesBuilder;
+import org.springframework.webflow.config.FlowDefinitionRegistryBuilder;
+import org.springframework.webflow.core.collection.LocalAttributeMap;
+import org.springframework.webflow.definition.registry.FlowDefinitionRegistry;
+import org.springframework.webflow.engine.builder.support.FlowBuilderServices;
+import org.springframework.webflow.engine.impl.FlowExecutionImplFactory;
+import org.springframework.webflow.execution.FlowExecution;
+import org.springframework.webflow.execution.repository.BadlyFormattedFlowExecutionKeyException;
+import org.springframework.webflow.execution.repository.NoSuchFlowExecutionException;
+import org.springframework.webflow.executor.FlowExecutor;
+import org.springframework.webflow.executor.FlowExecutorImpl;
+import org.springframework.webflow.expression.spel.WebFlowSpringELExpressionParser;
+import org.springframework.webflow.test.CasMockViewFactoryCreator;
+import org.springframework.webflow.test.MockExternalContext;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test cases for {@link StoredFlowExecutionRepository}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@SpringBootTest(classes = {
+    StoredFlowExecutionRepositoryTests.WebflowTestConfiguration.class,
+    RefreshAutoConfiguration.class
+})
+@Tag("Webflow")
+public class StoredFlowExecutionRepositoryTests {
+
+    @Autowired
+    @Qualifier("flowExecutor")
+    private FlowExecutor flowExecutor;
+
+    @Autowired
+    @Qualifier("flowExecutionStateStore")
+    private FlowExecutionStateStore flowExecutionStateStore;
+
+    @Test
+    public void verifyBadKey() {
+        val repository = new StoredFlowExecutionRepository(flowExecutionStateStore, mock(Transcoder.class), 5);
+        assertThrows(BadlyFormattedFlowExecutionKeyException.class, () -> repository.parseFlowExecutionKey("bad-key"));
+        assertThrows(BadlyFormattedFlowExecutionKeyException.class, () -> repository.parseFlowExecutionKey("abc_"));
+        assertThrows(NoSuchFlowExecutionException.class,
+            () -> flowExecutor.resumeExecution("unknown_key", new MockExternalContext()));
+    }
+
+    @Test
+    public void verifyLaunchAndResumeFlow() {
+        val launchResult = flowExecutor.launchExecution("test-flow", new LocalAttributeMap<>(), new MockExternalContext());
+        val pausedKey = launchResult.getPausedKey();
+        assertNotNull(pausedKey);
+        assertTrue(pausedKey.length() < 32);
+        assertEquals(pausedKey, StoredFlowExecutionKey.parse(pausedKey).toString());
+        assertNotNull(flowExecutionStateStore.get(pausedKey));
+
+        val context = new MockExternalContext();
+        context.setEventId("submit");
+        context.getRequestMap().put("vegan", "0");
+        val resumeResult = flowExecutor.resumeExecution(pausedKey, context);
+        assertNotNull(resumeResult.getOutcome());
+        assertEquals("lasagnaDinner", resumeResult.getOutcome().getId());
+        assertNull(flowExecutionStateStore.get(pausedKey));
+        assertThrows(NoSuchFlowExecutionException.class,
+            () -> flowExecutor.resumeExecution(pausedKey, new MockExternalContext()));
+    }
+
+    @Test
+    public void verifySnapshotLimit() {
+        val store = new CaffeineFlowExecutionStateStore(Duration.ofMinutes(1), 100);
+        val repository = new StoredFlowExecutionRepository(store, mock(Transcoder.class), 2);
+        val execution = mock(FlowExecution.class);
+
+        val first = (StoredFlowExecutionKey) repository.getKey(execution);
+        store.put(first.toString(), new byte[]{1});
+        when(execution.getKey()).thenReturn(first);
+        val second = (StoredFlowExecutionKey) repository.getKey(execution);
+        assertEquals(first.getConversationId(), second.getConversationId());
+        assertEquals(List.of(first.getSnapshotId()), second.getPreviousSnapshotIds());
+        store.put(second.toString(), new byte[]{2});
+
+        when(execution.getKey()).thenReturn(second);
+        val third = (StoredFlowExecutionKey) repository.getKey(execution);
+        assertEquals(List.of(second.getSnapshotId()), third.getPreviousSnapshotIds());
+        assertNull(store.get(first.toString()));
+        assertNotNull(store.get(second.toString()));
+
+        store.put(third.toString(), new byte[]{3});
+        when(execution.getKey()).thenReturn(third);
+        repository.removeAllFlowExecutionSnapshots(execution);
+        assertNull(store.get(second.toString()));
+        assertNull(store.get(third.toString()));
+    }
+
+    @TestConfiguration("WebflowTestConfiguration")
+    @Lazy(false)
+    public static class WebflowTestConfiguration {
+        @Autowired
+        private ConfigurableApplicationContext applicationContext;
+
+        @Bean
+        public FlowExecutionStateStore flowExecutionStateStore() {
+            return new CaffeineFlowExecutionStateStore(Duration.ofMinutes(5), 1000);
+        }
+
+        @Bean
+        public FlowExecutor flowExecutor() {
+            val factory = new FlowExecutionImplFactory();
+            val repository = new StoredFlowExecutionRepository(flowExecutionStateStore(), transcoder(), 5);
+            repository.setFlowDefinitionLocator(flowRegistry());
+            repository.setFlowExecutionFactory(factory);
+            factory.setExecutionKeyFactory(repository);
+            return new FlowExecutorImpl(flowRegistry(), factory, repository);
+        }
+
+        @Bean
+        public FlowDefinitionRegistry flowRegistry() {
+            val builder = new FlowDefinitionRegistryBuilder(this.applicationContext, flowBuilder());
+            builder.setBasePath("classpath:");
+            builder.addFlowLocationPattern("/test/*-flow.xml");
+            return builder.build();
+        }
+
+        @Bean
+        public FlowBuilderServices flowBuilder() {
+            val builder = new FlowBuilderServicesBuilder();
+            builder.setViewFactoryCreator(new CasMockViewFactoryCreator());
+            builder.setExpressionParser(new WebFlowSpringELExpressionParser(new SpelExpressionParser()));
+            return builder.build();
+        }
+
+        @Bean
+        public Transcoder transcoder() {
+            val keystoreFactory = new KeyStoreFactoryBean();
+            keystoreFactory.setType("JCEKS");
+            keystoreFactory.setPassword("changeit");
+            keystoreFactory.setResource(new ClassPathResource("test-keystore.jceks"));
+
+            val cipher = new AEADBlockCipherBean();
+            cipher.setKeyAlias("aes128");
+            cipher.setKeyPassword("changeit");
+            cipher.setKeyStore(keystoreFactory.newInstance());
+            cipher.setBlockCipherSpec(new AEADBlockCipherSpec("AES", "GCM"));
+            cipher.setNonce(new RBGNonce());
+
+            return new CompactEncryptedTranscoder(cipher);
+        }
+    }
+}
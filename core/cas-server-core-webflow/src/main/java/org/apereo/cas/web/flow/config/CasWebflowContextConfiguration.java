@@ -2,6 +2,7 @@ package org.apereo.cas.web.flow.config;
 
 import org.apereo.cas.config.CasCoreServicesConfiguration;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.throttle.AuthenticationThrottlingExecutionPlan;
 import org.apereo.cas.util.CollectionUtils;
@@ -18,7 +19,10 @@ import org.apereo.cas.web.flow.configurer.DefaultLogoutWebflowConfigurer;
 import org.apereo.cas.web.flow.configurer.DynamicFlowModelBuilder;
 import org.apereo.cas.web.flow.configurer.GroovyWebflowConfigurer;
 import org.apereo.cas.web.flow.configurer.plan.DefaultCasWebflowExecutionPlan;
+import org.apereo.cas.web.flow.executor.CaffeineFlowExecutionStateStore;
+import org.apereo.cas.web.flow.executor.FlowExecutionStateStore;
 import org.apereo.cas.web.flow.executor.WebflowExecutorFactory;
+import org.apereo.cas.web.flow.executor.WebflowTranscoderStatistics;
 import org.apereo.cas.web.support.ArgumentExtractor;
 import org.apereo.cas.web.support.CasLocaleChangeInterceptor;
 
@@ -177,9 +181,14 @@ public class CasWebflowContextConfiguration {
             @Qualifier(CasWebflowConstants.BEAN_NAME_LOGOUT_FLOW_DEFINITION_REGISTRY)
             final FlowDefinitionRegistry logoutFlowRegistry,
             @Qualifier("webflowCipherExecutor")
-            final CipherExecutor webflowCipherExecutor) {
+            final CipherExecutor webflowCipherExecutor,
+            @Qualifier(WebflowTranscoderStatistics.BEAN_NAME)
+            final WebflowTranscoderStatistics webflowTranscoderStatistics,
+            @Qualifier(FlowExecutionStateStore.BEAN_NAME)
+            final FlowExecutionStateStore flowExecutionStateStore) {
             val factory = new WebflowExecutorFactory(casProperties.getWebflow(),
-                logoutFlowRegistry, webflowCipherExecutor, FLOW_EXECUTION_LISTENERS);
+                logoutFlowRegistry, webflowCipherExecutor, FLOW_EXECUTION_LISTENERS,
+                webflowTranscoderStatistics, flowExecutionStateStore);
             return factory.build();
         }
 
@@ -191,13 +200,31 @@ public class CasWebflowContextConfiguration {
             @Qualifier(CasWebflowConstants.BEAN_NAME_LOGIN_FLOW_DEFINITION_REGISTRY)
             final FlowDefinitionRegistry loginFlowRegistry,
             @Qualifier("webflowCipherExecutor")
-            final CipherExecutor webflowCipherExecutor) {
+            final CipherExecutor webflowCipherExecutor,
+            @Qualifier(WebflowTranscoderStatistics.BEAN_NAME)
+            final WebflowTranscoderStatistics webflowTranscoderStatistics,
+            @Qualifier(FlowExecutionStateStore.BEAN_NAME)
+            final FlowExecutionStateStore flowExecutionStateStore) {
             val factory = new WebflowExecutorFactory(casProperties.getWebflow(),
                 loginFlowRegistry, webflowCipherExecutor,
-                FLOW_EXECUTION_LISTENERS);
+                FLOW_EXECUTION_LISTENERS, webflowTranscoderStatistics, flowExecutionStateStore);
 
             return factory.build();
         }
+
+        @Bean
+        @ConditionalOnMissingBean(name = WebflowTranscoderStatistics.BEAN_NAME)
+        public WebflowTranscoderStatistics webflowTranscoderStatistics() {
+            return new WebflowTranscoderStatistics();
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(name = FlowExecutionStateStore.BEAN_NAME)
+        @Autowired
+        public FlowExecutionStateStore flowExecutionStateStore(final CasConfigurationProperties casProperties) {
+            val store = casProperties.getWebflow().getSession().getStore();
+            return new CaffeineFlowExecutionStateStore(Beans.newDuration(store.getTimeToLive()), store.getMaximumSize());
+        }
     }
 
     @Configuration(value = "CasWebflowContextInterceptorConfiguration", proxyBeanMethods = false)
@@ -22,6 +22,7 @@ import org.apereo.cas.ticket.TicketFactory;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.UnsatisfiedAuthenticationPolicyException;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.support.LockRepository;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 
@@ -112,6 +113,12 @@ public abstract class AbstractCentralAuthenticationService implements CentralAut
      */
     protected final ServiceMatchingStrategy serviceMatchingStrategy;
 
+    /**
+     * Lock repository to execute exclusive ticket operations,
+     * such as service ticket validation, per ticket id.
+     */
+    protected final transient LockRepository lockRepository;
+
     /**
      * Publish CAS events.
      *
@@ -42,6 +42,7 @@ import org.apereo.cas.ticket.proxy.ProxyGrantingTicketFactory;
 import org.apereo.cas.ticket.proxy.ProxyTicket;
 import org.apereo.cas.ticket.proxy.ProxyTicketFactory;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.support.LockRepository;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.LoggingUtils;
@@ -74,8 +75,6 @@ import java.util.List;
 public class DefaultCentralAuthenticationService extends AbstractCentralAuthenticationService {
     private static final long serialVersionUID = -8943828074939533986L;
 
-    private final transient Object serviceTicketValidationLock = new Object();
-
     public DefaultCentralAuthenticationService(final ApplicationEventPublisher applicationEventPublisher,
                                                final TicketRegistry ticketRegistry,
                                                final ServicesManager servicesManager,
@@ -85,11 +84,12 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
                                                final PrincipalFactory principalFactory,
                                                final CipherExecutor<String, String> cipherExecutor,
                                                final AuditableExecution registeredServiceAccessStrategyEnforcer,
-                                               final ServiceMatchingStrategy serviceMatchingStrategy) {
+                                               final ServiceMatchingStrategy serviceMatchingStrategy,
+                                               final LockRepository lockRepository) {
         super(applicationEventPublisher, ticketRegistry, servicesManager, ticketFactory,
             authenticationRequestServiceSelectionStrategies, serviceContextAuthenticationPolicyFactory,
             principalFactory, cipherExecutor, registeredServiceAccessStrategyEnforcer,
-            serviceMatchingStrategy);
+            serviceMatchingStrategy, lockRepository);
     }
 
     @Audit(
@@ -118,7 +118,7 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
         val principal = latestAuthentication.getPrincipal();
         val factory = (ServiceTicketFactory) this.ticketFactory.get(ServiceTicket.class);
         val serviceTicket = factory.create(ticketGrantingTicket, selectedService, credentialProvided, ServiceTicket.class);
-        this.ticketRegistry.updateTicket(ticketGrantingTicket);
+        this.ticketRegistry.updateTicketGrantingTicket(ticketGrantingTicket, serviceTicket);
         this.ticketRegistry.addTicket(serviceTicket);
 
         LOGGER.info("Granted service ticket [{}] for service [{}] and principal [{}]",
@@ -157,7 +157,7 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
         val factory = (ProxyTicketFactory) ticketFactory.get(ProxyTicket.class);
         val proxyTicket = factory.create(proxyGrantingTicketObject, service, ProxyTicket.class);
 
-        this.ticketRegistry.updateTicket(proxyGrantingTicketObject);
+        this.ticketRegistry.updateTicketGrantingTicket(proxyGrantingTicketObject, proxyTicket);
         this.ticketRegistry.addTicket(proxyTicket);
 
         LOGGER.info("Granted proxy ticket [{}] for service [{}] for user [{}]",
@@ -223,95 +223,91 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
             throw new InvalidTicketException(serviceTicketId);
         }
 
-        val serviceTicket = ticketRegistry.getTicket(serviceTicketId, ServiceTicket.class);
-
-        if (serviceTicket == null) {
-            LOGGER.warn("Service ticket [{}] does not exist.", serviceTicketId);
-            throw new InvalidTicketException(serviceTicketId);
-        }
-
-        try {
-            val selectedService = resolveServiceFromAuthenticationRequest(serviceTicket.getService());
+        /*
+         * The ticket is locked, re-read and updated per ticket id. Depending on the lock repository,
+         * the critical section is serialized in memory or across the cluster, and the updated
+         * ticket state is written back to the registry before the lock is released.
+         */
+        val serviceTicket = lockRepository.execute(serviceTicketId, () -> {
+            val ticket = ticketRegistry.getTicket(serviceTicketId, ServiceTicket.class);
+            if (ticket == null) {
+                LOGGER.warn("Service ticket [{}] does not exist.", serviceTicketId);
+                throw new InvalidTicketException(serviceTicketId);
+            }
+            if (ticket.isExpired()) {
+                LOGGER.info("ServiceTicket [{}] has expired.", serviceTicketId);
+                deleteTicket(serviceTicketId);
+                throw new InvalidTicketException(serviceTicketId);
+            }
+            val selectedService = resolveServiceFromAuthenticationRequest(ticket.getService());
             val resolvedService = resolveServiceFromAuthenticationRequest(service);
             LOGGER.debug("Resolved service [{}] from the authentication request with service [{}] linked to service ticket [{}]",
-                resolvedService, selectedService, serviceTicket.getId());
-            /*
-             * Synchronization on ticket object in case of cache based registry doesn't serialize
-             * access to critical section. The reason is that cache pulls serialized data and
-             * builds new object, most likely for each pull. Is this synchronization needed here?
-             */
-            synchronized (this.serviceTicketValidationLock) {
-                if (serviceTicket.isExpired()) {
-                    LOGGER.info("ServiceTicket [{}] has expired.", serviceTicketId);
-                    throw new InvalidTicketException(serviceTicketId);
-                }
-
-                if (!this.serviceMatchingStrategy.matches(selectedService, resolvedService)) {
-                    LOGGER.error("Service ticket [{}] with service [{}] does not match supplied service [{}]",
-                        serviceTicketId, serviceTicket.getService().getId(), resolvedService.getId());
-                    throw new UnrecognizableServiceForServiceTicketValidationException(selectedService);
-                }
-                val ticketState = TicketState.class.cast(serviceTicket);
-                ticketState.update();
+                resolvedService, selectedService, ticket.getId());
+            if (!this.serviceMatchingStrategy.matches(selectedService, resolvedService)) {
+                LOGGER.error("Service ticket [{}] with service [{}] does not match supplied service [{}]",
+                    serviceTicketId, ticket.getService().getId(), resolvedService.getId());
+                throw new UnrecognizableServiceForServiceTicketValidationException(selectedService);
             }
-
-
-            val registeredService = this.servicesManager.findServiceBy(selectedService);
-            LOGGER.trace("Located registered service definition [{}] from [{}] to handle validation request", registeredService, selectedService);
-            RegisteredServiceAccessStrategyUtils.ensureServiceAccessIsAllowed(selectedService, registeredService);
-
-            val root = serviceTicket.getTicketGrantingTicket().getRoot();
-            val authentication = getAuthenticationSatisfiedByPolicy(root.getAuthentication(),
-                new ServiceContext(selectedService, registeredService));
-            val principal = authentication.getPrincipal();
-
-            val attributePolicy = registeredService.getAttributeReleasePolicy();
-            LOGGER.debug("Attribute policy [{}] is associated with service [{}]", attributePolicy, registeredService);
-
-            val attributesToRelease = attributePolicy != null
-                ? attributePolicy.getAttributes(principal, selectedService, registeredService)
-                : new HashMap<String, List<Object>>();
-
-            LOGGER.debug("Calculated attributes for release per the release policy are [{}]",
-                attributesToRelease.keySet());
-
-            val principalId = registeredService.getUsernameAttributeProvider()
-                .resolveUsername(principal, selectedService, registeredService);
-            val builder = DefaultAuthenticationBuilder.of(
-                principal,
-                this.principalFactory,
-                attributesToRelease,
-                selectedService,
-                registeredService,
-                authentication);
-            LOGGER.debug("Principal determined for release to [{}] is [{}]", registeredService.getServiceId(), principalId);
-            
-            builder.addAttribute(CasProtocolConstants.VALIDATION_CAS_MODEL_ATTRIBUTE_NAME_FROM_NEW_LOGIN,
-                CollectionUtils.wrap(serviceTicket.isFromNewLogin()));
-            builder.addAttribute(CasProtocolConstants.VALIDATION_REMEMBER_ME_ATTRIBUTE_NAME,
-                CollectionUtils.wrap(CoreAuthenticationUtils.isRememberMeAuthentication(authentication)));
-            
-            val finalAuthentication = builder.build();
-
-            enforceRegisteredServiceAccess(finalAuthentication, selectedService, registeredService);
-
-            AuthenticationCredentialsThreadLocalBinder.bindCurrent(finalAuthentication);
-
-            val assertion = new DefaultAssertionBuilder(finalAuthentication)
-                .with(selectedService)
-                .with(serviceTicket.getTicketGrantingTicket().getChainedAuthentications())
-                .with(serviceTicket.isFromNewLogin())
-                .build();
-            
-            doPublishEvent(new CasServiceTicketValidatedEvent(this, serviceTicket, assertion));
-            return assertion;
-        } finally {
-            if (serviceTicket.isExpired()) {
+            val ticketState = TicketState.class.cast(ticket);
+            ticketState.update();
+            if (ticket.isExpired()) {
                 deleteTicket(serviceTicketId);
             } else {
-                this.ticketRegistry.updateTicket(serviceTicket);
+                this.ticketRegistry.updateTicket(ticket);
             }
-        }
+            return ticket;
+        }).orElseThrow(() -> new InvalidTicketException(serviceTicketId));
+
+        val selectedService = resolveServiceFromAuthenticationRequest(serviceTicket.getService());
+        val registeredService = this.servicesManager.findServiceBy(selectedService);
+        LOGGER.trace("Located registered service definition [{}] from [{}] to handle validation request", registeredService, selectedService);
+        RegisteredServiceAccessStrategyUtils.ensureServiceAccessIsAllowed(selectedService, registeredService);
+
+        val root = serviceTicket.getTicketGrantingTicket().getRoot();
+        val authentication = getAuthenticationSatisfiedByPolicy(root.getAuthentication(),
+            new ServiceContext(selectedService, registeredService));
+        val principal = authentication.getPrincipal();
+
+        val attributePolicy = registeredService.getAttributeReleasePolicy();
+        LOGGER.debug("Attribute policy [{}] is associated with service [{}]", attributePolicy, registeredService);
+
+        val attributesToRelease = attributePolicy != null
+            ? attributePolicy.getAttributes(principal, selectedService, registeredService)
+            : new HashMap<String, List<Object>>();
+
+        LOGGER.debug("Calculated attributes for release per the release policy are [{}]",
+            attributesToRelease.keySet());
+
+        val principalId = registeredService.getUsernameAttributeProvider()
+            .resolveUsername(principal, selectedService, registeredService);
+        val builder = DefaultAuthenticationBuilder.of(
+            principal,
+            this.principalFactory,
+            attributesToRelease,
+            selectedService,
+            registeredService,
+            authentication);
+        LOGGER.debug("Principal determined for release to [{}] is [{}]", registeredService.getServiceId(), principalId);
+        
+        builder.addAttribute(CasProtocolConstants.VALIDATION_CAS_MODEL_ATTRIBUTE_NAME_FROM_NEW_LOGIN,
+            CollectionUtils.wrap(serviceTicket.isFromNewLogin()));
+        builder.addAttribute(CasProtocolConstants.VALIDATION_REMEMBER_ME_ATTRIBUTE_NAME,
+            CollectionUtils.wrap(CoreAuthenticationUtils.isRememberMeAuthentication(authentication)));
+        
+        val finalAuthentication = builder.build();
+
+        enforceRegisteredServiceAccess(finalAuthentication, selectedService, registeredService);
+
+        AuthenticationCredentialsThreadLocalBinder.bindCurrent(finalAuthentication);
+
+        val assertion = new DefaultAssertionBuilder(finalAuthentication)
+            .with(selectedService)
+            .with(serviceTicket.getTicketGrantingTicket().getChainedAuthentications())
+            .with(serviceTicket.isFromNewLogin())
+            .build();
+        
+        doPublishEvent(new CasServiceTicketValidatedEvent(this, serviceTicket, assertion));
+        return assertion;
     }
 
     @Audit(
@@ -17,6 +17,7 @@ import org.apereo.cas.services.ServiceContext;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.ticket.TicketFactory;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.support.LockRepository;
 import org.apereo.cas.util.crypto.CipherExecutor;
 
 import lombok.extern.slf4j.Slf4j;
@@ -100,11 +101,14 @@ public class CasCoreConfiguration {
             final ContextualAuthenticationPolicyFactory<ServiceContext> authenticationPolicyFactory,
             @Qualifier("serviceMatchingStrategy")
             final ServiceMatchingStrategy serviceMatchingStrategy,
+            @Qualifier(LockRepository.BEAN_NAME)
+            final LockRepository ticketRegistryLockRepository,
             final ConfigurableApplicationContext applicationContext) {
             return new DefaultCentralAuthenticationService(applicationContext,
                 ticketRegistry, servicesManager, ticketFactory,
                 authenticationServiceSelectionPlan, authenticationPolicyFactory, principalFactory,
-                cipherExecutor, registeredServiceAccessStrategyEnforcer, serviceMatchingStrategy);
+                cipherExecutor, registeredServiceAccessStrategyEnforcer, serviceMatchingStrategy,
+                ticketRegistryLockRepository);
         }
     }
 
@@ -43,6 +43,7 @@ import org.apereo.cas.ticket.factory.DefaultTransientSessionTicketFactory;
 import org.apereo.cas.ticket.proxy.ProxyGrantingTicket;
 import org.apereo.cas.ticket.proxy.ProxyTicket;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.support.LockRepository;
 import org.apereo.cas.util.crypto.CipherExecutor;
 
 import lombok.val;
@@ -185,7 +186,8 @@ public class DefaultCentralAuthenticationServiceMockitoTests extends BaseCasCore
             PrincipalFactoryUtils.newPrincipalFactory(),
             CipherExecutor.noOpOfStringToString(),
             enforcer,
-            new DefaultServiceMatchingStrategy(smMock));
+            new DefaultServiceMatchingStrategy(smMock),
+            LockRepository.noOp());
     }
 
     private static TicketFactory getTicketFactory() {
@@ -23,6 +23,7 @@ import org.apereo.cas.ticket.ExpirationPolicy;
 import org.apereo.cas.ticket.InvalidTicketException;
 import org.apereo.cas.ticket.TicketGrantingTicketImpl;
 import org.apereo.cas.ticket.UnrecognizableServiceForServiceTicketValidationException;
+import org.apereo.cas.ticket.registry.support.LockRepository;
 import org.apereo.cas.util.MockOnlyOneTicketRegistry;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.validation.Cas20WithoutProxyingValidationSpecification;
@@ -497,7 +498,8 @@ public class DefaultCentralAuthenticationServiceTests extends AbstractCentralAut
             PrincipalFactoryUtils.newPrincipalFactory(),
             CipherExecutor.noOpOfStringToString(),
             mock(AuditableExecution.class),
-            new DefaultServiceMatchingStrategy(servicesManager));
+            new DefaultServiceMatchingStrategy(servicesManager),
+            LockRepository.noOp());
         cas.deleteTicket(tgt.getId());
     }
 
@@ -41,8 +41,10 @@ public class CasSupportCouchbaseAuditConfiguration {
         final CouchbaseClientFactory auditsCouchbaseClientFactory,
         final CasConfigurationProperties casProperties) {
         val cb = casProperties.getAudit().getCouchbase();
-        return new CouchbaseAuditTrailManager(auditsCouchbaseClientFactory,
+        val bean = new CouchbaseAuditTrailManager(auditsCouchbaseClientFactory,
             new AuditActionContextJsonSerializer(), cb.isAsynchronous());
+        bean.setPipelineProperties(casProperties.getAudit().getEngine().getPipeline());
+        return bean;
     }
 
     @Bean
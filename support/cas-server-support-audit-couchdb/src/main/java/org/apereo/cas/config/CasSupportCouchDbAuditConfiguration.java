@@ -6,6 +6,7 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.couchdb.audit.AuditActionContextCouchDbRepository;
 import org.apereo.cas.couchdb.core.CouchDbConnectorFactory;
 
+import lombok.val;
 import org.apereo.inspektr.audit.AuditTrailManager;
 import org.ektorp.impl.ObjectMapperFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -54,7 +55,9 @@ public class CasSupportCouchDbAuditConfiguration {
     public AuditTrailManager couchDbAuditTrailManager(
         @Qualifier("auditActionContextCouchDbRepository")
         final AuditActionContextCouchDbRepository repository, final CasConfigurationProperties casProperties) {
-        return new CouchDbAuditTrailManager(casProperties.getAudit().getCouchDb().isAsynchronous(), repository);
+        val bean = new CouchDbAuditTrailManager(casProperties.getAudit().getCouchDb().isAsynchronous(), repository);
+        bean.setPipelineProperties(casProperties.getAudit().getEngine().getPipeline());
+        return bean;
     }
 
     @ConditionalOnMissingBean(name = "couchDbAuditTrailExecutionPlanConfigurer")
@@ -14,15 +14,20 @@ import org.apereo.inspektr.audit.AuditActionContext;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.KeyType;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -39,6 +44,12 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @SuppressWarnings("JavaUtilDate")
 public class DynamoDbAuditTrailManagerFacilitator {
+    private static final int MAX_BATCH_WRITE_SIZE = 25;
+
+    private static final int MAX_BATCH_WRITE_ATTEMPTS = 5;
+
+    private static final long INITIAL_BATCH_WRITE_BACKOFF_MILLIS = 50;
+
     private final AuditDynamoDbProperties dynamoDbProperties;
 
     private final DynamoDbClient amazonDynamoDBClient;
@@ -63,6 +74,10 @@ public class DynamoDbAuditTrailManagerFacilitator {
         return values;
     }
 
+    private static int countWriteRequests(final Map<String, List<WriteRequest>> items) {
+        return items.values().stream().mapToInt(List::size).sum();
+    }
+
     /**
      * Create tables.
      *
@@ -95,6 +110,29 @@ public class DynamoDbAuditTrailManagerFacilitator {
         LOGGER.debug("Record added with result [{}]", putItemResult);
     }
 
+    /**
+     * Save all records in batches.
+     * Records that share the same key are never placed in the same batch,
+     * since DynamoDb rejects batch write requests with duplicate keys.
+     *
+     * @param records the records
+     */
+    public void save(final List<AuditActionContext> records) {
+        val batch = new ArrayList<WriteRequest>(MAX_BATCH_WRITE_SIZE);
+        val principals = new HashSet<String>(MAX_BATCH_WRITE_SIZE);
+        for (val record : records) {
+            if (batch.size() >= MAX_BATCH_WRITE_SIZE || !principals.add(record.getPrincipal())) {
+                submitBatchWriteRequest(batch);
+                batch.clear();
+                principals.clear();
+                principals.add(record.getPrincipal());
+            }
+            val putRequest = PutRequest.builder().item(buildTableAttributeValuesMap(record)).build();
+            batch.add(WriteRequest.builder().putRequest(putRequest).build());
+        }
+        submitBatchWriteRequest(batch);
+    }
+
     /**
      * Remove all.
      */
@@ -131,6 +169,34 @@ public class DynamoDbAuditTrailManagerFacilitator {
             .collect(Collectors.toSet());
     }
 
+    private void submitBatchWriteRequest(final List<WriteRequest> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        var items = Map.of(dynamoDbProperties.getTableName(), List.copyOf(batch));
+        var backoff = INITIAL_BATCH_WRITE_BACKOFF_MILLIS;
+        for (var attempt = 1; !items.isEmpty(); attempt++) {
+            val request = BatchWriteItemRequest.builder().requestItems(items).build();
+            LOGGER.debug("Submitting batch write request for [{}] record(s), attempt [{}]", countWriteRequests(items), attempt);
+            val result = amazonDynamoDBClient.batchWriteItem(request);
+            items = result.hasUnprocessedItems() ? result.unprocessedItems() : Map.of();
+            if (!items.isEmpty()) {
+                if (attempt >= MAX_BATCH_WRITE_ATTEMPTS) {
+                    LOGGER.warn("Dropping [{}] unprocessed audit record(s) after [{}] attempts", countWriteRequests(items), attempt);
+                    return;
+                }
+                try {
+                    Thread.sleep(backoff);
+                } catch (final InterruptedException e) {
+                    LOGGER.warn("Dropping [{}] unprocessed audit record(s) after interruption", countWriteRequests(items));
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoff *= 2;
+            }
+        }
+    }
+
     /**
      * Column names for tables holding records.
      */
@@ -36,7 +36,9 @@ public class CasSupportDynamoDbAuditConfiguration {
         @Qualifier("dynamoDbAuditTrailManagerFacilitator")
         final DynamoDbAuditTrailManagerFacilitator dynamoDbAuditTrailManagerFacilitator) {
         val db = casProperties.getAudit().getDynamoDb();
-        return new DynamoDbAuditTrailManager(dynamoDbAuditTrailManagerFacilitator, db.isAsynchronous());
+        val bean = new DynamoDbAuditTrailManager(dynamoDbAuditTrailManagerFacilitator, db.isAsynchronous());
+        bean.setPipelineProperties(casProperties.getAudit().getEngine().getPipeline());
+        return bean;
     }
 
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
@@ -0,0 +1,52 @@
+package org.apereo.cas.audit;
+
+import org.apereo.cas.configuration.model.support.dynamodb.AuditDynamoDbProperties;
+
+import lombok.val;
+import org.apereo.inspektr.audit.AuditActionContext;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link DynamoDbAuditTrailManagerFacilitatorTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Tag("DynamoDb")
+public class DynamoDbAuditTrailManagerFacilitatorTests {
+
+    @Test
+    public void verifyUnprocessedItemsAreRetriedWithinLimit() {
+        val client = mock(DynamoDbClient.class);
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            val request = invocation.getArgument(0, BatchWriteItemRequest.class);
+            return BatchWriteItemResponse.builder().unprocessedItems(request.requestItems()).build();
+        });
+        val facilitator = new DynamoDbAuditTrailManagerFacilitator(new AuditDynamoDbProperties(), client);
+        val record = new AuditActionContext("casuser", "resource", "action",
+            "CAS", new Date(), "1.2.3.4", "1.2.3.4");
+        facilitator.save(List.of(record));
+        verify(client, times(5)).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    @Test
+    public void verifyProcessedItemsAreNotRetried() {
+        val client = mock(DynamoDbClient.class);
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class))).thenReturn(BatchWriteItemResponse.builder().build());
+        val facilitator = new DynamoDbAuditTrailManagerFacilitator(new AuditDynamoDbProperties(), client);
+        val record = new AuditActionContext("casuser", "resource", "action",
+            "CAS", new Date(), "1.2.3.4", "1.2.3.4");
+        facilitator.save(List.of(record));
+        verify(client, times(1)).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+}
@@ -35,7 +35,9 @@ public class CasSupportRedisAuditConfiguration {
         final RedisTemplate auditRedisTemplate,
         final CasConfigurationProperties casProperties) {
         val redis = casProperties.getAudit().getRedis();
-        return new RedisAuditTrailManager(auditRedisTemplate, redis.isAsynchronous());
+        val bean = new RedisAuditTrailManager(auditRedisTemplate, redis.isAsynchronous());
+        bean.setPipelineProperties(casProperties.getAudit().getEngine().getPipeline());
+        return bean;
     }
 
     @Bean
@@ -31,7 +31,9 @@ public class CasSupportRestAuditConfiguration {
     @Autowired
     public AuditTrailManager restAuditTrailManager(final CasConfigurationProperties casProperties) {
         val rest = casProperties.getAudit().getRest();
-        return new RestAuditTrailManager(rest);
+        val bean = new RestAuditTrailManager(rest);
+        bean.setPipelineProperties(casProperties.getAudit().getEngine().getPipeline());
+        return bean;
     }
 
     @Bean
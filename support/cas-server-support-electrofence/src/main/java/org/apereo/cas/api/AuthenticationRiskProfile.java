@@ -0,0 +1,188 @@
+package org.apereo.cas.api;
+
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.util.DateTimeUtils;
+
+import lombok.ToString;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.Serializable;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * This is {@link AuthenticationRiskProfile} that summarizes the authentication history of a principal.
+ * Authentication events are not kept; instead, the number of authentication attempts per IP address,
+ * user agent, geolocation and hour of day are tracked for each day, so the cost of calculating a risk score
+ * is bounded by the number of days in recent history rather than the number of authentication events.
+ * <p>
+ * Days are calculated in UTC; an authentication event is considered to be in recent history
+ * if it occurred on the same day as the given starting date or afterwards.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@ToString
+public class AuthenticationRiskProfile implements Serializable {
+
+    private static final long serialVersionUID = 2914827372146850573L;
+
+    private static final int HOURS_IN_DAY = 24;
+
+    private final NavigableMap<Long, DailyActivity> activity = new TreeMap<>();
+
+    private static long getDay(final ZonedDateTime dateTime) {
+        return dateTime.withZoneSameInstant(ZoneOffset.UTC).toLocalDate().toEpochDay();
+    }
+
+    private static String getGeoLocationKey(final GeoLocationRequest location) {
+        if (location == null || StringUtils.isAnyBlank(location.getLatitude(), location.getLongitude())) {
+            return null;
+        }
+        return location.getLatitude() + ',' + location.getLongitude();
+    }
+
+    private static void increment(final Map<String, Long> counts, final String key) {
+        if (key != null) {
+            counts.merge(key, 1L, Long::sum);
+        }
+    }
+
+    /**
+     * Record the authentication event into this profile.
+     *
+     * @param event the event
+     */
+    public synchronized void record(final CasEvent event) {
+        val creationTime = DateTimeUtils.convertToZonedDateTime(event.getCreationTime())
+            .withZoneSameInstant(ZoneOffset.UTC);
+        val daily = activity.computeIfAbsent(getDay(creationTime), k -> new DailyActivity());
+        daily.count++;
+        daily.hours[creationTime.getHour()]++;
+        increment(daily.ipAddresses, StringUtils.lowerCase(event.getClientIpAddress(), Locale.ENGLISH));
+        val agent = event.getAgent();
+        if (StringUtils.isNotBlank(agent)) {
+            increment(daily.userAgents, agent.toLowerCase(Locale.ENGLISH));
+        }
+        increment(daily.geoLocations, getGeoLocationKey(event.getGeoLocation()));
+    }
+
+    /**
+     * Remove the activity recorded before the given date.
+     *
+     * @param since the starting date of recent history
+     */
+    public synchronized void prune(final ZonedDateTime since) {
+        activity.headMap(getDay(since), false).clear();
+    }
+
+    /**
+     * Is this profile empty?
+     *
+     * @return true/false
+     */
+    public synchronized boolean isEmpty() {
+        return activity.isEmpty();
+    }
+
+    /**
+     * Gets the number of authentication events recorded since the given date.
+     *
+     * @param since the starting date of recent history
+     * @return the count
+     */
+    public synchronized long getCount(final ZonedDateTime since) {
+        return activity.tailMap(getDay(since), true).values().stream().mapToLong(daily -> daily.count).sum();
+    }
+
+    /**
+     * Gets the number of authentication events recorded since the given date from the ip address.
+     *
+     * @param ipAddress the ip address
+     * @param since     the starting date of recent history
+     * @return the count
+     */
+    public synchronized long getIpAddressCount(final String ipAddress, final ZonedDateTime since) {
+        val key = StringUtils.lowerCase(ipAddress, Locale.ENGLISH);
+        return activity.tailMap(getDay(since), true).values().stream()
+            .mapToLong(daily -> daily.ipAddresses.getOrDefault(key, 0L))
+            .sum();
+    }
+
+    /**
+     * Gets the number of authentication events recorded since the given date from the user agent.
+     *
+     * @param userAgent the user agent
+     * @param since     the starting date of recent history
+     * @return the count
+     */
+    public synchronized long getUserAgentCount(final String userAgent, final ZonedDateTime since) {
+        val key = StringUtils.lowerCase(userAgent, Locale.ENGLISH);
+        return activity.tailMap(getDay(since), true).values().stream()
+            .mapToLong(daily -> daily.userAgents.getOrDefault(key, 0L))
+            .sum();
+    }
+
+    /**
+     * Gets the number of authentication events recorded since the given date from the geolocation.
+     *
+     * @param location the location
+     * @param since    the starting date of recent history
+     * @return the count
+     */
+    public synchronized long getGeoLocationCount(final GeoLocationRequest location, final ZonedDateTime since) {
+        val key = getGeoLocationKey(location);
+        if (key == null) {
+            return 0;
+        }
+        return activity.tailMap(getDay(since), true).values().stream()
+            .mapToLong(daily -> daily.geoLocations.getOrDefault(key, 0L))
+            .sum();
+    }
+
+    /**
+     * Gets the number of authentication events recorded since the given date
+     * whose hour of day in UTC falls between the given hours, inclusive.
+     * The window wraps around midnight if the starting hour is after the ending hour.
+     *
+     * @param fromHour the starting hour of day
+     * @param toHour   the ending hour of day
+     * @param since    the starting date of recent history
+     * @return the count
+     */
+    public synchronized long getHourOfDayCount(final int fromHour, final int toHour, final ZonedDateTime since) {
+        var count = 0L;
+        for (val daily : activity.tailMap(getDay(since), true).values()) {
+            for (var hour = 0; hour < HOURS_IN_DAY; hour++) {
+                val inWindow = fromHour <= toHour
+                    ? hour >= fromHour && hour <= toHour
+                    : hour >= fromHour || hour <= toHour;
+                if (inWindow) {
+                    count += daily.hours[hour];
+                }
+            }
+        }
+        return count;
+    }
+
+    private static class DailyActivity implements Serializable {
+        private static final long serialVersionUID = -7451830046735279214L;
+
+        private final Map<String, Long> ipAddresses = new HashMap<>();
+
+        private final Map<String, Long> userAgents = new HashMap<>();
+
+        private final Map<String, Long> geoLocations = new HashMap<>();
+
+        private final long[] hours = new long[HOURS_IN_DAY];
+
+        private long count;
+    }
+}
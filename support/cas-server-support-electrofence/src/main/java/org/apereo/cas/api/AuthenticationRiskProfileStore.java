@@ -0,0 +1,32 @@
+package org.apereo.cas.api;
+
+import org.apereo.cas.support.events.dao.CasEvent;
+
+/**
+ * This is {@link AuthenticationRiskProfileStore} that keeps track of
+ * {@link AuthenticationRiskProfile profiles} summarizing the authentication history of principals.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+public interface AuthenticationRiskProfileStore {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "authenticationRiskProfileStore";
+
+    /**
+     * Gets the authentication risk profile for the principal.
+     *
+     * @param principal the principal
+     * @return the profile
+     */
+    AuthenticationRiskProfile getProfile(String principal);
+
+    /**
+     * Record the authentication event into the profile of its principal.
+     *
+     * @param event the event
+     */
+    void record(CasEvent event);
+}
@@ -5,11 +5,14 @@ import org.apereo.cas.api.AuthenticationRiskContingencyPlan;
 import org.apereo.cas.api.AuthenticationRiskEvaluator;
 import org.apereo.cas.api.AuthenticationRiskMitigator;
 import org.apereo.cas.api.AuthenticationRiskNotifier;
+import org.apereo.cas.api.AuthenticationRiskProfile;
+import org.apereo.cas.api.AuthenticationRiskProfileStore;
 import org.apereo.cas.audit.AuditActionResolvers;
 import org.apereo.cas.audit.AuditResourceResolvers;
 import org.apereo.cas.audit.AuditTrailRecordResolutionPlanConfigurer;
 import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.impl.calcs.DateTimeAuthenticationRequestRiskCalculator;
 import org.apereo.cas.impl.calcs.GeoLocationAuthenticationRequestRiskCalculator;
 import org.apereo.cas.impl.calcs.IpAddressAuthenticationRequestRiskCalculator;
@@ -21,9 +24,11 @@ import org.apereo.cas.impl.notify.AuthenticationRiskSmsNotifier;
 import org.apereo.cas.impl.plans.BaseAuthenticationRiskContingencyPlan;
 import org.apereo.cas.impl.plans.BlockAuthenticationContingencyPlan;
 import org.apereo.cas.impl.plans.MultifactorAuthenticationContingencyPlan;
+import org.apereo.cas.impl.profile.DefaultAuthenticationRiskProfileStore;
 import org.apereo.cas.notifications.CommunicationsManager;
 import org.apereo.cas.support.events.CasEventRepository;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.val;
 import org.apereo.inspektr.audit.spi.AuditResourceResolver;
 import org.apereo.inspektr.audit.spi.support.DefaultAuditActionResolver;
@@ -169,6 +174,26 @@ public class ElectronicFenceConfiguration {
 
     }
 
+    @Configuration(value = "ElectronicFenceProfileConfiguration", proxyBeanMethods = false)
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
+    public static class ElectronicFenceProfileConfiguration {
+
+        @ConditionalOnMissingBean(name = AuthenticationRiskProfileStore.BEAN_NAME)
+        @Bean
+        @Autowired
+        public AuthenticationRiskProfileStore authenticationRiskProfileStore(
+            final CasConfigurationProperties casProperties,
+            @Qualifier("casEventRepository")
+            final CasEventRepository casEventRepository) {
+            val profile = casProperties.getAuthn().getAdaptive().getRisk().getProfile();
+            val profiles = Caffeine.newBuilder()
+                .maximumSize(profile.getMaximumSize())
+                .expireAfterWrite(Beans.newDuration(profile.getExpiration()))
+                .<String, AuthenticationRiskProfile>build();
+            return new DefaultAuthenticationRiskProfileStore(casEventRepository, casProperties, profiles);
+        }
+    }
+
     @Configuration(value = "ElectronicFenceCalculatorConfiguration", proxyBeanMethods = false)
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     public static class ElectronicFenceCalculatorConfiguration {
@@ -180,9 +205,9 @@ public class ElectronicFenceConfiguration {
         @Autowired
         public AuthenticationRequestRiskCalculator ipAddressAuthenticationRequestRiskCalculator(
             final CasConfigurationProperties casProperties,
-            @Qualifier("casEventRepository")
-            final CasEventRepository casEventRepository) {
-            return new IpAddressAuthenticationRequestRiskCalculator(casEventRepository, casProperties);
+            @Qualifier(AuthenticationRiskProfileStore.BEAN_NAME)
+            final AuthenticationRiskProfileStore authenticationRiskProfileStore) {
+            return new IpAddressAuthenticationRequestRiskCalculator(authenticationRiskProfileStore, casProperties);
         }
 
         @ConditionalOnProperty(prefix = "cas.authn.adaptive.risk.agent", name = "enabled", havingValue = "true", matchIfMissing = false)
@@ -192,9 +217,9 @@ public class ElectronicFenceConfiguration {
         @Autowired
         public AuthenticationRequestRiskCalculator userAgentAuthenticationRequestRiskCalculator(
             final CasConfigurationProperties casProperties,
-            @Qualifier("casEventRepository")
-            final CasEventRepository casEventRepository) {
-            return new UserAgentAuthenticationRequestRiskCalculator(casEventRepository, casProperties);
+            @Qualifier(AuthenticationRiskProfileStore.BEAN_NAME)
+            final AuthenticationRiskProfileStore authenticationRiskProfileStore) {
+            return new UserAgentAuthenticationRequestRiskCalculator(authenticationRiskProfileStore, casProperties);
         }
 
         @ConditionalOnMissingBean(name = "dateTimeAuthenticationRequestRiskCalculator")
@@ -204,9 +229,9 @@ public class ElectronicFenceConfiguration {
         @ConditionalOnProperty(prefix = "cas.authn.adaptive.risk.date-time", name = "enabled", havingValue = "true", matchIfMissing = false)
         public AuthenticationRequestRiskCalculator dateTimeAuthenticationRequestRiskCalculator(
             final CasConfigurationProperties casProperties,
-            @Qualifier("casEventRepository")
-            final CasEventRepository casEventRepository) {
-            return new DateTimeAuthenticationRequestRiskCalculator(casEventRepository, casProperties);
+            @Qualifier(AuthenticationRiskProfileStore.BEAN_NAME)
+            final AuthenticationRiskProfileStore authenticationRiskProfileStore) {
+            return new DateTimeAuthenticationRequestRiskCalculator(authenticationRiskProfileStore, casProperties);
         }
     }
 
@@ -223,9 +248,9 @@ public class ElectronicFenceConfiguration {
             final CasConfigurationProperties casProperties,
             @Qualifier("geoLocationService")
             final GeoLocationService geoLocationService,
-            @Qualifier("casEventRepository")
-            final CasEventRepository casEventRepository) {
-            return new GeoLocationAuthenticationRequestRiskCalculator(casEventRepository, casProperties, geoLocationService);
+            @Qualifier(AuthenticationRiskProfileStore.BEAN_NAME)
+            final AuthenticationRiskProfileStore authenticationRiskProfileStore) {
+            return new GeoLocationAuthenticationRequestRiskCalculator(authenticationRiskProfileStore, casProperties, geoLocationService);
         }
     }
 
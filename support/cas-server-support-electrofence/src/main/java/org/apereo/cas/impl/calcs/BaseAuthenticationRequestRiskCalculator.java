@@ -1,13 +1,12 @@
 package org.apereo.cas.impl.calcs;
 
 import org.apereo.cas.api.AuthenticationRequestRiskCalculator;
+import org.apereo.cas.api.AuthenticationRiskProfile;
+import org.apereo.cas.api.AuthenticationRiskProfileStore;
 import org.apereo.cas.api.AuthenticationRiskScore;
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
-import org.apereo.cas.support.events.CasEventRepository;
-import org.apereo.cas.support.events.dao.CasEvent;
-import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
 
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -19,7 +18,6 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
-import java.util.Collection;
 
 /**
  * This is {@link BaseAuthenticationRequestRiskCalculator}.
@@ -32,9 +30,9 @@ import java.util.Collection;
 public abstract class BaseAuthenticationRequestRiskCalculator implements AuthenticationRequestRiskCalculator {
 
     /**
-     * CAS event repository instance.
+     * Store of authentication risk profiles.
      */
-    protected final CasEventRepository casEventRepository;
+    protected final AuthenticationRiskProfileStore authenticationRiskProfileStore;
 
     /**
      * CAS settings.
@@ -46,11 +44,12 @@ public abstract class BaseAuthenticationRequestRiskCalculator implements Authent
                                                    final RegisteredService service,
                                                    final HttpServletRequest request) {
         val principal = authentication.getPrincipal();
-        val events = getCasTicketGrantingTicketCreatedEventsFor(principal.getId());
-        if (events.isEmpty()) {
+        LOGGER.debug("Retrieving authentication risk profile for [{}]", principal.getId());
+        val profile = authenticationRiskProfileStore.getProfile(principal.getId());
+        if (profile.getCount(getRecentHistoryStartDate()) == 0) {
             return new AuthenticationRiskScore(HIGHEST_RISK_SCORE);
         }
-        val score = new AuthenticationRiskScore(calculateScore(request, authentication, service, events));
+        val score = new AuthenticationRiskScore(calculateScore(request, authentication, service, profile));
         LOGGER.debug("Calculated authentication risk score by [{}] is [{}]", getClass().getSimpleName(), score);
         return score;
     }
@@ -61,47 +60,42 @@ public abstract class BaseAuthenticationRequestRiskCalculator implements Authent
      * @param request        the request
      * @param authentication the authentication
      * @param service        the service
-     * @param events         the events
+     * @param profile        the authentication risk profile of the principal
      * @return the authentication risk score
      */
     protected BigDecimal calculateScore(final HttpServletRequest request,
                                         final Authentication authentication,
                                         final RegisteredService service,
-                                        final Collection<? extends CasEvent> events) {
+                                        final AuthenticationRiskProfile profile) {
         return HIGHEST_RISK_SCORE;
     }
 
     /**
-     * Gets cas ticket granting ticket created events.
+     * Gets the starting date of recent authentication history.
      *
-     * @param principal the principal
-     * @return the cas ticket granting ticket created events for
+     * @return the date
      */
-    protected Collection<? extends CasEvent> getCasTicketGrantingTicketCreatedEventsFor(final String principal) {
-        val type = CasTicketGrantingTicketCreatedEvent.class.getName();
-        LOGGER.debug("Retrieving events of type [{}] for [{}]", type, principal);
-
-        val date = ZonedDateTime.now(ZoneOffset.UTC)
+    protected ZonedDateTime getRecentHistoryStartDate() {
+        return ZonedDateTime.now(ZoneOffset.UTC)
             .minusDays(casProperties.getAuthn().getAdaptive().getRisk().getDaysInRecentHistory());
-        return casEventRepository.getEventsOfTypeForPrincipal(type, principal, date);
     }
 
     /**
      * Calculate score based on events count big decimal.
      *
      * @param authentication the authentication
-     * @param events         the events
+     * @param total          the total number of events
      * @param count          the count
      * @return the big decimal
      */
     protected BigDecimal calculateScoreBasedOnEventsCount(final Authentication authentication,
-                                                          final Collection<? extends CasEvent> events,
+                                                          final long total,
                                                           final long count) {
-        if (count == events.size()) {
+        if (count == total) {
             LOGGER.debug("Principal [{}] is assigned to the lowest risk score with attempted count of [{}]", authentication.getPrincipal(), count);
             return LOWEST_RISK_SCORE;
         }
-        return getFinalAveragedScore(count, events.size());
+        return getFinalAveragedScore(count, total);
     }
 
     /**
@@ -0,0 +1,88 @@
+package org.apereo.cas.impl.profile;
+
+import org.apereo.cas.api.AuthenticationRiskProfile;
+import org.apereo.cas.api.AuthenticationRiskProfileStore;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.dao.CasEventSavedEvent;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.spring.CasEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.event.EventListener;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+/**
+ * This is {@link DefaultAuthenticationRiskProfileStore} that keeps profiles in memory.
+ * The profile of a principal is built from the events repository the first time it is requested,
+ * and is then kept up to date as new authentication events are saved in the events repository.
+ * Profiles that are evicted or expire are rebuilt from the events repository when needed.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class DefaultAuthenticationRiskProfileStore implements AuthenticationRiskProfileStore, CasEventListener {
+    private static final String EVENT_TYPE = CasTicketGrantingTicketCreatedEvent.class.getName();
+
+    private final CasEventRepository casEventRepository;
+
+    private final CasConfigurationProperties casProperties;
+
+    private final Cache<String, AuthenticationRiskProfile> profiles;
+
+    @Override
+    public AuthenticationRiskProfile getProfile(final String principal) {
+        val since = getRecentHistoryStartDate();
+        val profile = profiles.get(principal, key -> loadProfile(key, since));
+        profile.prune(since);
+        return profile;
+    }
+
+    @Override
+    public void record(final CasEvent event) {
+        if (EVENT_TYPE.equals(event.getType()) && StringUtils.isNotBlank(event.getPrincipalId())) {
+            val profile = profiles.getIfPresent(event.getPrincipalId());
+            if (profile != null) {
+                LOGGER.trace("Recording authentication event [{}] for [{}]", event.getEventId(), event.getPrincipalId());
+                profile.record(event);
+                profile.prune(getRecentHistoryStartDate());
+            }
+        }
+    }
+
+    /**
+     * Handle saved CAS events.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleCasEventSavedEvent(final CasEventSavedEvent event) {
+        try {
+            record(event.getEvent());
+        } catch (final Exception e) {
+            LoggingUtils.warn(LOGGER, e);
+        }
+    }
+
+    private AuthenticationRiskProfile loadProfile(final String principal, final ZonedDateTime since) {
+        LOGGER.debug("Building authentication risk profile for [{}] from events of type [{}]", principal, EVENT_TYPE);
+        val profile = new AuthenticationRiskProfile();
+        casEventRepository.getEventsOfTypeForPrincipal(EVENT_TYPE, principal, since).forEach(profile::record);
+        return profile;
+    }
+
+    private ZonedDateTime getRecentHistoryStartDate() {
+        return ZonedDateTime.now(ZoneOffset.UTC)
+            .minusDays(casProperties.getAuthn().getAdaptive().getRisk().getDaysInRecentHistory());
+    }
+}
@@ -7,6 +7,7 @@ import org.apereo.cas.impl.calcs.UserAgentAuthenticationRequestRiskCalculatorTes
 import org.apereo.cas.impl.notify.AuthenticationRiskEmailNotifierTests;
 import org.apereo.cas.impl.notify.AuthenticationRiskSmsNotifierTests;
 import org.apereo.cas.impl.plans.MultifactorAuthenticationContingencyPlanTests;
+import org.apereo.cas.impl.profile.DefaultAuthenticationRiskProfileStoreTests;
 import org.apereo.cas.web.flow.RiskAwareAuthenticationWebflowConfigurerTests;
 import org.apereo.cas.web.flow.RiskAwareAuthenticationWebflowEventResolverTests;
 
@@ -28,7 +29,8 @@ import org.junit.platform.suite.api.Suite;
     AuthenticationRiskEmailNotifierTests.class,
     MultifactorAuthenticationContingencyPlanTests.class,
     RiskAwareAuthenticationWebflowEventResolverTests.class,
-    AuthenticationRiskSmsNotifierTests.class
+    AuthenticationRiskSmsNotifierTests.class,
+    DefaultAuthenticationRiskProfileStoreTests.class
 })
 @Suite
 public class AllTestsSuite {
@@ -0,0 +1,107 @@
+package org.apereo.cas.impl.profile;
+
+import org.apereo.cas.api.AuthenticationRiskProfile;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.impl.mock.MockTicketGrantingTicketCreatedEventProducer;
+import org.apereo.cas.support.events.CasEventRepositoryFilter;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.dao.CasEventSavedEvent;
+import org.apereo.cas.support.events.dao.InMemoryCasEventRepository;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.val;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link DefaultAuthenticationRiskProfileStoreTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Tag("Authentication")
+public class DefaultAuthenticationRiskProfileStoreTests {
+    private InMemoryCasEventRepository casEventRepository;
+
+    private DefaultAuthenticationRiskProfileStore store;
+
+    @BeforeEach
+    public void setup() {
+        casEventRepository = new InMemoryCasEventRepository(CasEventRepositoryFilter.noOp(),
+            Caffeine.newBuilder().build(key -> null));
+        store = new DefaultAuthenticationRiskProfileStore(casEventRepository, new CasConfigurationProperties(),
+            Caffeine.newBuilder().<String, AuthenticationRiskProfile>build());
+        casEventRepository.setApplicationEventPublisher(event -> {
+            if (event instanceof CasEventSavedEvent) {
+                store.handleCasEventSavedEvent((CasEventSavedEvent) event);
+            }
+        });
+    }
+
+    @Test
+    public void verifyProfileBuiltFromRepository() {
+        val event = MockTicketGrantingTicketCreatedEventProducer.createEvent("casuser", casEventRepository);
+        IntStream.range(0, 9).forEach(i -> MockTicketGrantingTicketCreatedEventProducer.createEvent("casuser", casEventRepository));
+
+        val since = ZonedDateTime.now(ZoneOffset.UTC).minusDays(30);
+        val profile = store.getProfile("casuser");
+        assertEquals(10, profile.getCount(since));
+        assertTrue(profile.getIpAddressCount(event.getClientIpAddress().toUpperCase(), since) >= 1);
+        assertTrue(profile.getUserAgentCount(event.getAgent(), since) >= 1);
+        assertTrue(profile.getGeoLocationCount(event.getGeoLocation(), since) >= 1);
+        assertEquals(10, profile.getHourOfDayCount(0, 23, since));
+        assertEquals(0, profile.getIpAddressCount("127.0.0.1", since));
+        assertTrue(store.getProfile("unknown").isEmpty());
+    }
+
+    @Test
+    public void verifyProfileUpdatedOnSave() {
+        IntStream.range(0, 5).forEach(i -> MockTicketGrantingTicketCreatedEventProducer.createEvent("casuser", casEventRepository));
+        val since = ZonedDateTime.now(ZoneOffset.UTC).minusDays(30);
+        val profile = store.getProfile("casuser");
+        assertEquals(5, profile.getCount(since));
+
+        IntStream.range(0, 5).forEach(i -> MockTicketGrantingTicketCreatedEventProducer.createEvent("casuser", casEventRepository));
+        assertSame(profile, store.getProfile("casuser"));
+        assertEquals(10, profile.getCount(since));
+
+        val other = new CasEvent();
+        other.setType("OtherEvent");
+        other.setPrincipalId("casuser");
+        other.setCreationTime(ZonedDateTime.now(ZoneOffset.UTC).toString());
+        casEventRepository.save(other);
+        assertEquals(10, profile.getCount(since));
+    }
+
+    @Test
+    public void verifyHistoryIsPruned() {
+        val profile = new AuthenticationRiskProfile();
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        val event = new CasEvent();
+        event.setPrincipalId("casuser");
+        event.setCreationTime(now.minusDays(60).toString());
+        profile.record(event);
+        event.setCreationTime(now.toString());
+        event.putClientIpAddress("127.0.0.1");
+        profile.record(event);
+
+        val since = now.minusDays(30);
+        assertEquals(1, profile.getCount(since));
+        assertEquals(2, profile.getCount(now.minusDays(90)));
+        profile.prune(since);
+        assertEquals(1, profile.getCount(now.minusDays(90)));
+        assertEquals(1, profile.getIpAddressCount("127.0.0.1", since));
+
+        val hour = now.getHour();
+        assertEquals(1, profile.getHourOfDayCount(hour, hour, since));
+        assertEquals(1, profile.getHourOfDayCount((hour + 1) % 24, hour, since));
+        assertEquals(0, profile.getHourOfDayCount((hour + 1) % 24, (hour + 23) % 24, since));
+    }
+}
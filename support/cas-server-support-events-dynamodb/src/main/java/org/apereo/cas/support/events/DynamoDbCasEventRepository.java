@@ -32,34 +32,12 @@ public class DynamoDbCasEventRepository extends AbstractCasEventRepository {
     }
 
     @Override
-    public Collection<? extends CasEvent> getEventsOfTypeForPrincipal(final String type,
-                                                                      final String principal) {
-        return dbCasEventsFacilitator.getEventsOfTypeForPrincipal(type, principal);
+    public Collection<? extends CasEvent> getEvents(final CasEventRepositoryQuery query) {
+        return dbCasEventsFacilitator.getEvents(query);
     }
 
     @Override
-    public Collection<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal,
-                                                                      final ZonedDateTime dateTime) {
-        return dbCasEventsFacilitator.getEventsOfTypeForPrincipal(type, principal, dateTime);
-    }
-
-    @Override
-    public Collection<? extends CasEvent> getEventsOfType(final String type) {
-        return dbCasEventsFacilitator.getEventsOfType(type);
-    }
-
-    @Override
-    public Collection<? extends CasEvent> getEventsOfType(final String type, final ZonedDateTime dateTime) {
-        return dbCasEventsFacilitator.getEventsOfType(type, dateTime);
-    }
-
-    @Override
-    public Collection<? extends CasEvent> getEventsForPrincipal(final String id) {
-        return dbCasEventsFacilitator.getEventsForPrincipal(id);
-    }
-
-    @Override
-    public Collection<? extends CasEvent> getEventsForPrincipal(final String id, final ZonedDateTime dateTime) {
-        return dbCasEventsFacilitator.getEventsForPrincipal(id, dateTime);
+    public void removeEventsBefore(final ZonedDateTime dateTime) {
+        dbCasEventsFacilitator.removeEventsBefore(dateTime);
     }
 }
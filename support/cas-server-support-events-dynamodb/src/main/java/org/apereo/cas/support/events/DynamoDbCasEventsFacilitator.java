@@ -3,7 +3,9 @@ package org.apereo.cas.support.events;
 import org.apereo.cas.configuration.model.core.events.DynamoDbEventsProperties;
 import org.apereo.cas.dynamodb.DynamoDbQueryBuilder;
 import org.apereo.cas.dynamodb.DynamoDbTableUtils;
+import org.apereo.cas.support.events.dao.AbstractCasEventRepository;
 import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.util.DateTimeUtils;
 import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
 
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -13,17 +15,25 @@ import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.collections4.ListUtils;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.KeyType;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -40,6 +50,8 @@ import java.util.stream.Collectors;
 @Getter
 @RequiredArgsConstructor
 public class DynamoDbCasEventsFacilitator {
+    private static final int MAX_BATCH_WRITE_SIZE = 25;
+
     private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
         .defaultTypingEnabled(false).build().toObjectMapper();
 
@@ -78,6 +90,15 @@ public class DynamoDbCasEventsFacilitator {
         return new CasEvent(id, type, principal, creationTime, properties);
     }
 
+    private static DynamoDbQueryBuilder buildQuery(final ColumnNames column, final String value,
+                                                   final ComparisonOperator operator) {
+        return DynamoDbQueryBuilder.builder()
+            .key(column.getColumnName())
+            .attributeValue(List.of(AttributeValue.builder().s(value).build()))
+            .operator(operator)
+            .build();
+    }
+
     /**
      * Create tables.
      *
@@ -118,130 +139,88 @@ public class DynamoDbCasEventsFacilitator {
     }
 
     /**
-     * Gets events for principal.
-     *
-     * @param id the id
-     * @return the events for principal
-     */
-    public Collection<? extends CasEvent> getEventsForPrincipal(final String id) {
-        val query = DynamoDbQueryBuilder.builder()
-            .key(ColumnNames.PRINCIPAL.getColumnName())
-            .attributeValue(List.of(AttributeValue.builder().s(id).build()))
-            .operator(ComparisonOperator.EQ)
-            .build();
-        return getRecordsByKeys(List.of(query));
-    }
-
-    /**
-     * Gets events for principal.
-     *
-     * @param id       the id
-     * @param dateTime the date time
-     * @return the events for principal
-     */
-    public Collection<? extends CasEvent> getEventsForPrincipal(final String id, final ZonedDateTime dateTime) {
-        val query =
-            List.of(
-                DynamoDbQueryBuilder.builder()
-                    .key(ColumnNames.PRINCIPAL.getColumnName())
-                    .attributeValue(List.of(AttributeValue.builder().s(id).build()))
-                    .operator(ComparisonOperator.EQ)
-                    .build(),
-                DynamoDbQueryBuilder.builder()
-                    .key(ColumnNames.CREATION_TIME.getColumnName())
-                    .attributeValue(List.of(AttributeValue.builder().s(dateTime.toString()).build()))
-                    .operator(ComparisonOperator.GE)
-                    .build());
-        return getRecordsByKeys(query);
-    }
-
-    /**
-     * Gets events of type.
+     * Gets events that match the query.
      *
-     * @param type     the type
-     * @param dateTime the date time
-     * @return the events of type
-     */
-    public Collection<? extends CasEvent> getEventsOfType(final String type, final ZonedDateTime dateTime) {
-        val query = List.of(
-            DynamoDbQueryBuilder.builder()
-                .key(ColumnNames.TYPE.getColumnName())
-                .attributeValue(List.of(AttributeValue.builder().s(type).build()))
-                .operator(ComparisonOperator.EQ)
-                .build(),
-            DynamoDbQueryBuilder.builder()
-                .key(ColumnNames.CREATION_TIME.getColumnName())
-                .attributeValue(List.of(AttributeValue.builder().s(dateTime.toString()).build()))
-                .operator(ComparisonOperator.GE)
-                .build());
-        return getRecordsByKeys(query);
-    }
-
-    /**
-     * Gets events of type.
-     *
-     * @param type the type
-     * @return the events of type
+     * @param query the query
+     * @return the events
      */
-    public Collection<? extends CasEvent> getEventsOfType(final String type) {
-        val query = DynamoDbQueryBuilder.builder()
-            .key(ColumnNames.TYPE.getColumnName())
-            .attributeValue(List.of(AttributeValue.builder().s(type).build()))
-            .operator(ComparisonOperator.EQ)
-            .build();
-        return getRecordsByKeys(List.of(query));
-    }
-
-    /**
-     * Gets events of type for principal.
-     *
-     * @param type      the type
-     * @param principal the principal
-     * @param dateTime  the date time
-     * @return the events of type for principal
-     */
-    public Collection<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal,
-                                                                      final ZonedDateTime dateTime) {
-        val query = List.of(
-            DynamoDbQueryBuilder.builder()
-                .key(ColumnNames.TYPE.getColumnName())
-                .attributeValue(List.of(AttributeValue.builder().s(type).build()))
-                .operator(ComparisonOperator.EQ)
-                .build(),
-            DynamoDbQueryBuilder.builder()
-                .key(ColumnNames.PRINCIPAL.getColumnName())
-                .attributeValue(List.of(AttributeValue.builder().s(principal).build()))
-                .operator(ComparisonOperator.EQ)
-                .build(),
-            DynamoDbQueryBuilder.builder()
+    public Collection<? extends CasEvent> getEvents(final CasEventRepositoryQuery query) {
+        val queries = new ArrayList<DynamoDbQueryBuilder>();
+        if (query.getType() != null) {
+            queries.add(buildQuery(ColumnNames.TYPE, query.getType(), ComparisonOperator.EQ));
+        }
+        if (query.getPrincipal() != null) {
+            queries.add(buildQuery(ColumnNames.PRINCIPAL, query.getPrincipal(), ComparisonOperator.EQ));
+        }
+        if (query.getFrom() != null && query.getTo() != null) {
+            queries.add(DynamoDbQueryBuilder.builder()
                 .key(ColumnNames.CREATION_TIME.getColumnName())
-                .attributeValue(List.of(AttributeValue.builder().s(dateTime.toString()).build()))
-                .operator(ComparisonOperator.GE)
+                .attributeValue(List.of(AttributeValue.builder().s(query.getFrom().toString()).build(),
+                    AttributeValue.builder().s(query.getTo().toString()).build()))
+                .operator(ComparisonOperator.BETWEEN)
                 .build());
-        return getRecordsByKeys(query);
+        } else if (query.getFrom() != null) {
+            queries.add(buildQuery(ColumnNames.CREATION_TIME, query.getFrom().toString(), ComparisonOperator.GE));
+        } else if (query.getTo() != null) {
+            queries.add(buildQuery(ColumnNames.CREATION_TIME, query.getTo().toString(), ComparisonOperator.LT));
+        }
+        val results = getRecordsByKeys(queries)
+            .stream()
+            .filter(event -> query.getFrom() == null || query.getTo() == null
+                || !event.getCreationTime().equals(query.getTo().toString()));
+        if (query.isLimited()) {
+            return results
+                .sorted(Comparator.comparing((CasEvent event) -> DateTimeUtils.convertToZonedDateTime(event.getCreationTime())).reversed())
+                .limit(query.getLimit())
+                .collect(Collectors.toList());
+        }
+        return results.collect(Collectors.toSet());
     }
 
     /**
-     * Gets events of type for principal.
+     * Remove events created before the given date.
+     * The table is scanned in pages of bounded size, and the events found
+     * in each page are removed in batches. Events that cannot be removed
+     * are left in place for the next attempt.
      *
-     * @param type      the type
-     * @param principal the principal
-     * @return the events of type for principal
+     * @param dateTime the date time
      */
-    public Collection<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
-        val query =
-            List.of(
-                DynamoDbQueryBuilder.builder()
-                    .key(ColumnNames.PRINCIPAL.getColumnName())
-                    .attributeValue(List.of(AttributeValue.builder().s(principal).build()))
-                    .operator(ComparisonOperator.EQ)
-                    .build(),
-                DynamoDbQueryBuilder.builder()
-                    .key(ColumnNames.TYPE.getColumnName())
-                    .attributeValue(List.of(AttributeValue.builder().s(type).build()))
-                    .operator(ComparisonOperator.EQ)
-                    .build());
-        return getRecordsByKeys(query);
+    public void removeEventsBefore(final ZonedDateTime dateTime) {
+        val scanFilter = Map.of(ColumnNames.CREATION_TIME.getColumnName(), Condition.builder()
+            .comparisonOperator(ComparisonOperator.LT)
+            .attributeValueList(AttributeValue.builder().s(dateTime.toString()).build())
+            .build());
+        Map<String, AttributeValue> lastEvaluatedKey = null;
+        do {
+            val scanRequest = ScanRequest.builder()
+                .tableName(dynamoDbProperties.getTableName())
+                .scanFilter(scanFilter)
+                .attributesToGet(ColumnNames.ID.getColumnName())
+                .limit(AbstractCasEventRepository.REMOVAL_PAGE_SIZE)
+                .exclusiveStartKey(lastEvaluatedKey)
+                .build();
+            val result = amazonDynamoDBClient.scan(scanRequest);
+            val deletes = result.items()
+                .stream()
+                .map(item -> WriteRequest.builder()
+                    .deleteRequest(DeleteRequest.builder().key(Map.of(ColumnNames.ID.getColumnName(),
+                        item.get(ColumnNames.ID.getColumnName()))).build())
+                    .build())
+                .collect(Collectors.toList());
+            ListUtils.partition(deletes, MAX_BATCH_WRITE_SIZE).forEach(batch -> {
+                val request = BatchWriteItemRequest.builder()
+                    .requestItems(Map.of(dynamoDbProperties.getTableName(), batch))
+                    .build();
+                val unprocessed = amazonDynamoDBClient.batchWriteItem(request).unprocessedItems();
+                if (!unprocessed.isEmpty()) {
+                    LOGGER.debug("[{}] event(s) could not be removed and are left for the next attempt",
+                        unprocessed.values().stream().mapToInt(List::size).sum());
+                }
+            });
+            LOGGER.debug("Removed [{}] event(s) created before [{}]", deletes.size(), dateTime);
+            lastEvaluatedKey = result.hasLastEvaluatedKey() && !result.lastEvaluatedKey().isEmpty()
+                ? result.lastEvaluatedKey() : null;
+        } while (lastEvaluatedKey != null);
     }
 
     /**
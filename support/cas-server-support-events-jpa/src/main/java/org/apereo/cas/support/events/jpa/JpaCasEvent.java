@@ -10,6 +10,7 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.Table;
 
 /**
@@ -21,7 +22,11 @@ import javax.persistence.Table;
 @Getter
 @Entity
 @Setter
-@Table(name = "CasEvent")
+@Table(name = "CasEvent", indexes = {
+    @Index(columnList = "principalId,type,creationTime"),
+    @Index(columnList = "type,creationTime"),
+    @Index(columnList = "creationTime")
+})
 public class JpaCasEvent extends CasEvent {
     private static final long serialVersionUID = -1176976165442671412L;
 
@@ -1,12 +1,15 @@
 package org.apereo.cas.support.events.jpa;
 
 import org.apereo.cas.support.events.CasEventRepositoryFilter;
+import org.apereo.cas.support.events.CasEventRepositoryQuery;
 import org.apereo.cas.support.events.dao.AbstractCasEventRepository;
 import org.apereo.cas.support.events.dao.CasEvent;
 
 import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionCallback;
@@ -15,7 +18,9 @@ import org.springframework.transaction.support.TransactionTemplate;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Objects;
 
 /**
  * This is {@link JpaCasEventRepository} that stores event data into a RDBMS database.
@@ -26,10 +31,13 @@ import java.util.Collection;
 @EnableTransactionManagement
 @Transactional(transactionManager = "transactionManagerEvents")
 @ToString
+@Slf4j
 public class JpaCasEventRepository extends AbstractCasEventRepository {
 
     private static final String SELECT_QUERY = "SELECT r from JpaCasEvent r ";
 
+    private static final String CREATION_TIME_END_PARAM = "creationTimeEnd";
+
     private final PlatformTransactionManager transactionManager;
 
     @PersistenceContext(unitName = "eventsEntityManagerFactory")
@@ -47,56 +55,67 @@ public class JpaCasEventRepository extends AbstractCasEventRepository {
     }
 
     @Override
-    public Collection<? extends CasEvent> load(final ZonedDateTime dateTime) {
-        val query = SELECT_QUERY.concat("where r.creationTime >= :creationTime");
-        return this.entityManager.createQuery(query, JpaCasEvent.class)
-            .setParameter(CREATION_TIME_PARAM, dateTime.toString()).getResultList();
+    public Collection<? extends CasEvent> getEvents(final CasEventRepositoryQuery query) {
+        val criteria = new ArrayList<String>();
+        if (query.getType() != null) {
+            criteria.add("r.type = :type");
+        }
+        if (query.getPrincipal() != null) {
+            criteria.add("r.principalId = :principalId");
+        }
+        if (query.getFrom() != null) {
+            criteria.add("r.creationTime >= :creationTime");
+        }
+        if (query.getTo() != null) {
+            criteria.add("r.creationTime < :creationTimeEnd");
+        }
+        var queryString = SELECT_QUERY.trim();
+        if (!criteria.isEmpty()) {
+            queryString = SELECT_QUERY.concat("where ").concat(String.join(" and ", criteria));
+        }
+        if (query.isLimited()) {
+            queryString = queryString.concat(" order by r.creationTime desc");
+        }
+        val typedQuery = this.entityManager.createQuery(queryString, JpaCasEvent.class);
+        if (query.getType() != null) {
+            typedQuery.setParameter(TYPE_PARAM, query.getType());
+        }
+        if (query.getPrincipal() != null) {
+            typedQuery.setParameter(PRINCIPAL_ID_PARAM, query.getPrincipal());
+        }
+        if (query.getFrom() != null) {
+            typedQuery.setParameter(CREATION_TIME_PARAM, query.getFrom().toString());
+        }
+        if (query.getTo() != null) {
+            typedQuery.setParameter(CREATION_TIME_END_PARAM, query.getTo().toString());
+        }
+        if (query.isLimited()) {
+            typedQuery.setMaxResults((int) Math.min(Integer.MAX_VALUE, query.getLimit()));
+        }
+        return typedQuery.getResultList();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Events are removed in pages of bounded size, each in its own transaction.
+     */
     @Override
-    public Collection<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
-        val query = SELECT_QUERY.concat("where r.type = :type and r.principalId = :principalId");
-        return this.entityManager.createQuery(query, JpaCasEvent.class).setParameter(TYPE_PARAM, type)
-            .setParameter(PRINCIPAL_ID_PARAM, principal).getResultList();
-    }
-
-    @Override
-    public Collection<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal, final ZonedDateTime dateTime) {
-        val query = SELECT_QUERY.concat("where r.type = :type and r.creationTime >= :creationTime and r.principalId = :principalId");
-        return this.entityManager.createQuery(query, JpaCasEvent.class).setParameter(TYPE_PARAM, type)
-            .setParameter(PRINCIPAL_ID_PARAM, principal)
-            .setParameter(CREATION_TIME_PARAM, dateTime.toString()).getResultList();
-    }
-
-    @Override
-    public Collection<? extends CasEvent> getEventsOfType(final String type) {
-        return this.entityManager.createQuery(SELECT_QUERY.concat("where r.type = :type"), JpaCasEvent.class)
-            .setParameter(TYPE_PARAM, type)
-            .getResultList();
-    }
-
-    @Override
-    public Collection<? extends CasEvent> getEventsOfType(final String type, final ZonedDateTime dateTime) {
-        val query = SELECT_QUERY.concat("where r.type = :type and r.creationTime >= :creationTime");
-        return this.entityManager.createQuery(query, JpaCasEvent.class)
-            .setParameter(TYPE_PARAM, type)
-            .setParameter(CREATION_TIME_PARAM, dateTime.toString()).getResultList();
-    }
-
-    @Override
-    public Collection<? extends CasEvent> getEventsForPrincipal(final String id) {
-        val query = SELECT_QUERY.concat("where r.principalId = :principalId");
-        return this.entityManager.createQuery(query, JpaCasEvent.class)
-            .setParameter(PRINCIPAL_ID_PARAM, id)
-            .getResultList();
-    }
-
-    @Override
-    public Collection<? extends CasEvent> getEventsForPrincipal(final String id, final ZonedDateTime dateTime) {
-        val query = SELECT_QUERY.concat("where r.principalId = :principalId and r.creationTime >= :creationTime");
-        return this.entityManager.createQuery(query, JpaCasEvent.class)
-            .setParameter(PRINCIPAL_ID_PARAM, id)
-            .setParameter(CREATION_TIME_PARAM, dateTime.toString()).getResultList();
+    public void removeEventsBefore(final ZonedDateTime dateTime) {
+        val transactionTemplate = new TransactionTemplate(this.transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        var removed = 0;
+        do {
+            removed = Objects.requireNonNull(transactionTemplate.execute(ts -> {
+                val events = this.entityManager.createQuery(SELECT_QUERY.concat("where r.creationTime < :creationTime"), JpaCasEvent.class)
+                    .setParameter(CREATION_TIME_PARAM, dateTime.toString())
+                    .setMaxResults(REMOVAL_PAGE_SIZE)
+                    .getResultList();
+                events.forEach(this.entityManager::remove);
+                return events.size();
+            }));
+            LOGGER.debug("Removed [{}] event(s) created before [{}]", removed, dateTime);
+        } while (removed >= REMOVAL_PAGE_SIZE);
     }
 
     @Override
@@ -4,9 +4,13 @@ import org.apereo.cas.config.CasHibernateJpaConfiguration;
 import org.apereo.cas.config.JpaEventsConfiguration;
 import org.apereo.cas.support.events.AbstractCasEventRepositoryTests;
 import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.dao.AbstractCasEventRepository;
+import org.apereo.cas.support.events.dao.CasEvent;
 
 import lombok.Getter;
+import lombok.val;
 import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
@@ -15,6 +19,14 @@ import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 /**
  * Test cases for {@link JpaCasEventRepository}.
  *
@@ -36,4 +48,25 @@ public class JpaCasEventRepositoryTests extends AbstractCasEventRepositoryTests
     @Autowired
     @Qualifier("casEventRepository")
     private CasEventRepository eventRepository;
+
+    @Test
+    public void verifyRemoveEventsBefore() {
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        val principal = UUID.randomUUID().toString();
+        val id = System.currentTimeMillis();
+        IntStream.rangeClosed(0, AbstractCasEventRepository.REMOVAL_PAGE_SIZE).forEach(i -> {
+            val event = new CasEvent(id + i, "OldEvent", principal, now.minusDays(10).toString(), new HashMap<>());
+            eventRepository.save(event);
+        });
+        eventRepository.save(new CasEvent(id - 1, "RecentEvent", principal, now.minusDays(1).toString(), new HashMap<>()));
+        assertEquals(AbstractCasEventRepository.REMOVAL_PAGE_SIZE + 2, eventRepository.getEventsForPrincipal(principal).size());
+
+        eventRepository.removeEventsBefore(now.minusDays(5));
+        val events = eventRepository.getEventsForPrincipal(principal);
+        assertEquals(1, events.size());
+        assertEquals("RecentEvent", events.iterator().next().getType());
+
+        eventRepository.removeEventsBefore(now.plusDays(1));
+        assertTrue(eventRepository.load().isEmpty());
+    }
 }
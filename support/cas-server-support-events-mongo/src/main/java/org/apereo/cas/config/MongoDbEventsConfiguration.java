@@ -47,6 +47,7 @@ public class MongoDbEventsConfiguration {
         val factory = new MongoDbConnectionFactory(casSslContext.getSslContext());
         val mongoTemplate = factory.buildMongoTemplate(mongo);
         MongoDbConnectionFactory.createCollection(mongoTemplate, mongo.getCollection(), mongo.isDropCollection());
+        MongoDbCasEventRepository.createIndexes(mongoTemplate, mongo.getCollection());
         return mongoTemplate;
     }
 
@@ -1,17 +1,24 @@
 package org.apereo.cas.support.events.mongo;
 
+import org.apereo.cas.mongo.MongoDbConnectionFactory;
 import org.apereo.cas.support.events.CasEventRepositoryFilter;
+import org.apereo.cas.support.events.CasEventRepositoryQuery;
 import org.apereo.cas.support.events.dao.AbstractCasEventRepository;
 import org.apereo.cas.support.events.dao.CasEvent;
 
 import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 
 import java.time.ZonedDateTime;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * This is {@link MongoDbCasEventRepository} that stores event data into a mongodb database.
@@ -20,6 +27,7 @@ import java.util.Collection;
  * @since 5.0.0
  */
 @ToString
+@Slf4j
 public class MongoDbCasEventRepository extends AbstractCasEventRepository {
 
     private final MongoOperations mongoTemplate;
@@ -34,62 +42,59 @@ public class MongoDbCasEventRepository extends AbstractCasEventRepository {
         this.collectionName = collectionName;
     }
 
-    @Override
-    public Collection<CasEvent> load() {
-        return this.mongoTemplate.findAll(CasEvent.class, this.collectionName);
-    }
-
-    @Override
-    public Collection<? extends CasEvent> load(final ZonedDateTime dateTime) {
-        val query = new Query();
-        query.addCriteria(Criteria.where(CREATION_TIME_PARAM).gte(dateTime.toString()));
-        return this.mongoTemplate.find(query, CasEvent.class, this.collectionName);
+    /**
+     * Create indexes on the collection that holds events, so that events
+     * can be looked up by principal, type and creation time.
+     *
+     * @param mongoTemplate  the mongo template
+     * @param collectionName the collection name
+     */
+    public static void createIndexes(final MongoTemplate mongoTemplate, final String collectionName) {
+        val collection = mongoTemplate.getCollection(collectionName);
+        val indexes = List.of(
+            new Index().on(PRINCIPAL_ID_PARAM, Sort.Direction.ASC).on(TYPE_PARAM, Sort.Direction.ASC)
+                .on(CREATION_TIME_PARAM, Sort.Direction.DESC),
+            new Index().on(TYPE_PARAM, Sort.Direction.ASC).on(CREATION_TIME_PARAM, Sort.Direction.DESC),
+            new Index().on(CREATION_TIME_PARAM, Sort.Direction.DESC));
+        MongoDbConnectionFactory.createOrUpdateIndexes(mongoTemplate, collection, indexes);
     }
 
     @Override
-    public Collection<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
-        val query = new Query();
-        query.addCriteria(Criteria.where(TYPE_PARAM).is(type).and(PRINCIPAL_ID_PARAM).is(principal));
-        return this.mongoTemplate.find(query, CasEvent.class, this.collectionName);
-    }
-
-    @Override
-    public Collection<? extends CasEvent> getEventsOfTypeForPrincipal(final String type,
-                                                                      final String principal,
-                                                                      final ZonedDateTime dateTime) {
-        val query = new Query();
-        query.addCriteria(Criteria.where(TYPE_PARAM).is(type)
-            .and(PRINCIPAL_ID_PARAM).is(principal)
-            .and(CREATION_TIME_PARAM).gte(dateTime.toString()));
-        return this.mongoTemplate.find(query, CasEvent.class, this.collectionName);
-    }
-
-    @Override
-    public Collection<? extends CasEvent> getEventsOfType(final String type) {
-        val query = new Query();
-        query.addCriteria(Criteria.where(TYPE_PARAM).is(type));
-        return this.mongoTemplate.find(query, CasEvent.class, this.collectionName);
-    }
-
-    @Override
-    public Collection<? extends CasEvent> getEventsOfType(final String type, final ZonedDateTime dateTime) {
-        val query = new Query();
-        query.addCriteria(Criteria.where(TYPE_PARAM).is(type).and(CREATION_TIME_PARAM).gte(dateTime.toString()));
-        return this.mongoTemplate.find(query, CasEvent.class, this.collectionName);
+    public Collection<CasEvent> load() {
+        return this.mongoTemplate.findAll(CasEvent.class, this.collectionName);
     }
 
     @Override
-    public Collection<? extends CasEvent> getEventsForPrincipal(final String id) {
+    public Collection<? extends CasEvent> getEvents(final CasEventRepositoryQuery casEventQuery) {
         val query = new Query();
-        query.addCriteria(Criteria.where(PRINCIPAL_ID_PARAM).is(id));
+        if (casEventQuery.getType() != null) {
+            query.addCriteria(Criteria.where(TYPE_PARAM).is(casEventQuery.getType()));
+        }
+        if (casEventQuery.getPrincipal() != null) {
+            query.addCriteria(Criteria.where(PRINCIPAL_ID_PARAM).is(casEventQuery.getPrincipal()));
+        }
+        if (casEventQuery.getFrom() != null || casEventQuery.getTo() != null) {
+            val creationTime = Criteria.where(CREATION_TIME_PARAM);
+            if (casEventQuery.getFrom() != null) {
+                creationTime.gte(casEventQuery.getFrom().toString());
+            }
+            if (casEventQuery.getTo() != null) {
+                creationTime.lt(casEventQuery.getTo().toString());
+            }
+            query.addCriteria(creationTime);
+        }
+        if (casEventQuery.isLimited()) {
+            query.with(Sort.by(Sort.Direction.DESC, CREATION_TIME_PARAM))
+                .limit((int) Math.min(Integer.MAX_VALUE, casEventQuery.getLimit()));
+        }
         return this.mongoTemplate.find(query, CasEvent.class, this.collectionName);
     }
 
     @Override
-    public Collection<? extends CasEvent> getEventsForPrincipal(final String principal, final ZonedDateTime dateTime) {
-        val query = new Query();
-        query.addCriteria(Criteria.where(PRINCIPAL_ID_PARAM).is(principal).and(CREATION_TIME_PARAM).gte(dateTime.toString()));
-        return this.mongoTemplate.find(query, CasEvent.class, this.collectionName);
+    public void removeEventsBefore(final ZonedDateTime dateTime) {
+        val query = new Query(Criteria.where(CREATION_TIME_PARAM).lt(dateTime.toString()));
+        val result = this.mongoTemplate.remove(query, CasEvent.class, this.collectionName);
+        LOGGER.debug("Removed [{}] event(s) created before [{}]", result.getDeletedCount(), dateTime);
     }
 
     @Override
@@ -1,23 +1,39 @@
 package org.apereo.cas.support.events.redis;
 
 import org.apereo.cas.support.events.CasEventRepositoryFilter;
+import org.apereo.cas.support.events.CasEventRepositoryQuery;
 import org.apereo.cas.support.events.dao.AbstractCasEventRepository;
 import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.util.DateTimeUtils;
 
 import lombok.Getter;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
 
+import java.nio.charset.StandardCharsets;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 /**
  * This is {@link RedisCasEventRepository} that stores event data into a redis database.
+ * <p>
+ * Each event is also indexed in sorted sets by type, by principal and across all events, scored
+ * by the creation time of the event. Looking up events is a range query by score on the most selective index,
+ * followed by a single request to fetch the matching events. Events created before a given date are located
+ * on the index of all events and removed page by page. Events that are recorded before indexes are in place are
+ * indexed once, the first time events are queried or removed, after which a marker key records that indexes are complete.
  *
  * @author Misagh Moayyed
  * @since 6.4.0
@@ -30,102 +46,111 @@ public class RedisCasEventRepository extends AbstractCasEventRepository {
 
     private static final String CAS_PREFIX = RedisCasEventRepository.class.getSimpleName();
 
+    private static final String INDEX_PREFIX = CAS_PREFIX + "Index" + KEY_SEPARATOR;
+
+    private static final String INDEX_ALL = INDEX_PREFIX + "all";
+
+    private static final String INDEX_READY = INDEX_PREFIX + "ready";
+
     private final RedisTemplate<String, CasEvent> template;
 
+    private final StringRedisTemplate indexTemplate;
+
+    private final AtomicBoolean eventsIndexed = new AtomicBoolean();
+
     public RedisCasEventRepository(final CasEventRepositoryFilter eventRepositoryFilter,
                                    final RedisTemplate<String, CasEvent> redisTemplate) {
         super(eventRepositoryFilter);
         this.template = redisTemplate;
+        this.indexTemplate = new StringRedisTemplate(Objects.requireNonNull(redisTemplate.getConnectionFactory()));
     }
 
     private static String getKey(final String type, final String principal, final String timestamp) {
         return CAS_PREFIX + KEY_SEPARATOR + type + KEY_SEPARATOR + principal + KEY_SEPARATOR + timestamp;
     }
 
-    @Override
-    public Collection<CasEvent> load() {
-        val keys = getKeys("*", "*", "*");
-        return keys
-            .stream()
-            .map(key -> this.template.boundValueOps(key).get())
-            .filter(Objects::nonNull)
-            .collect(Collectors.toList());
-    }
-
-    @Override
-    public Collection<? extends CasEvent> load(final ZonedDateTime dateTime) {
-        val keys = getKeys("*", "*", "*");
-        return keys
-            .stream()
-            .map(key -> this.template.boundValueOps(key).get())
-            .filter(Objects::nonNull)
-            .filter(event -> event.getTimestamp() >= dateTime.toInstant().toEpochMilli())
-            .collect(Collectors.toList());
-    }
-
-    @Override
-    public Collection<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
-        val keys = getKeys(type, principal, "*");
-        return keys
-            .stream()
-            .map(key -> this.template.boundValueOps(key).get())
-            .filter(Objects::nonNull)
-            .collect(Collectors.toList());
+    private static String getTypeIndexKey(final String type) {
+        return INDEX_PREFIX + "type" + KEY_SEPARATOR + type;
     }
 
-    @Override
-    public Collection<? extends CasEvent> getEventsOfTypeForPrincipal(final String type,
-                                                                      final String principal,
-                                                                      final ZonedDateTime dateTime) {
-        val keys = getKeys(type, principal, "*");
-        return keys
-            .stream()
-            .map(key -> this.template.boundValueOps(key).get())
-            .filter(Objects::nonNull)
-            .filter(event -> event.getTimestamp() >= dateTime.toInstant().toEpochMilli())
-            .collect(Collectors.toList());
+    private static String getPrincipalIndexKey(final String principal) {
+        return INDEX_PREFIX + "principal" + KEY_SEPARATOR + principal;
     }
 
-    @Override
-    public Collection<? extends CasEvent> getEventsOfType(final String type) {
-        val keys = getKeys(type, "*", "*");
-        return keys
-            .stream()
-            .map(key -> this.template.boundValueOps(key).get())
-            .filter(Objects::nonNull)
-            .collect(Collectors.toList());
+    private static double getScore(final CasEvent event) {
+        return DateTimeUtils.convertToZonedDateTime(event.getCreationTime()).toInstant().toEpochMilli();
     }
 
     @Override
-    public Collection<? extends CasEvent> getEventsOfType(final String type, final ZonedDateTime dateTime) {
-        val keys = getKeys(type, "*", "*");
+    public Collection<CasEvent> load() {
+        val keys = getKeys("*", "*", "*");
         return keys
             .stream()
             .map(key -> this.template.boundValueOps(key).get())
             .filter(Objects::nonNull)
-            .filter(event -> event.getTimestamp() >= dateTime.toInstant().toEpochMilli())
             .collect(Collectors.toList());
     }
 
     @Override
-    public Collection<? extends CasEvent> getEventsForPrincipal(final String id) {
-        val keys = getKeys("*", id, "*");
-        return keys
+    public Collection<? extends CasEvent> getEvents(final CasEventRepositoryQuery query) {
+        indexExistingEventsIfNecessary();
+        val indexKey = query.getPrincipal() != null
+            ? getPrincipalIndexKey(query.getPrincipal())
+            : query.getType() != null ? getTypeIndexKey(query.getType()) : INDEX_ALL;
+        val filterByType = query.getPrincipal() != null && query.getType() != null;
+
+        val min = query.getFrom() != null ? query.getFrom().toInstant().toEpochMilli() : Double.NEGATIVE_INFINITY;
+        val max = query.getTo() != null ? query.getTo().toInstant().toEpochMilli() - 1 : Double.POSITIVE_INFINITY;
+        val zset = indexTemplate.opsForZSet();
+        val keys = query.isLimited() && !filterByType
+            ? zset.reverseRangeByScore(indexKey, min, max, 0, query.getLimit())
+            : zset.reverseRangeByScore(indexKey, min, max);
+        LOGGER.trace("Fetching [{}] records based on index [{}]", Objects.requireNonNull(keys).size(), indexKey);
+        if (keys.isEmpty()) {
+            return new ArrayList<>(0);
+        }
+        val events = Objects.requireNonNull(this.template.opsForValue().multiGet(keys))
             .stream()
-            .map(key -> this.template.boundValueOps(key).get())
             .filter(Objects::nonNull)
-            .collect(Collectors.toList());
+            .filter(event -> !filterByType || query.getType().equals(event.getType()));
+        if (query.isLimited()) {
+            return events
+                .sorted(Comparator.comparingDouble(RedisCasEventRepository::getScore).reversed())
+                .limit(query.getLimit())
+                .collect(Collectors.toList());
+        }
+        return events.collect(Collectors.toList());
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Events are removed in pages of bounded size, oldest first.
+     */
     @Override
-    public Collection<? extends CasEvent> getEventsForPrincipal(final String principal, final ZonedDateTime dateTime) {
-        val keys = getKeys("*", principal, "*");
-        return keys
-            .stream()
-            .map(key -> this.template.boundValueOps(key).get())
-            .filter(Objects::nonNull)
-            .filter(event -> event.getTimestamp() >= dateTime.toInstant().toEpochMilli())
-            .collect(Collectors.toList());
+    public void removeEventsBefore(final ZonedDateTime dateTime) {
+        indexExistingEventsIfNecessary();
+        val max = dateTime.toInstant().toEpochMilli() - 1;
+        val zset = indexTemplate.opsForZSet();
+        var removed = 0;
+        do {
+            val keys = new ArrayList<>(Objects.requireNonNull(
+                zset.rangeByScore(INDEX_ALL, Double.NEGATIVE_INFINITY, max, 0, REMOVAL_PAGE_SIZE)));
+            if (!keys.isEmpty()) {
+                val events = Objects.requireNonNull(this.template.opsForValue().multiGet(keys));
+                for (var i = 0; i < keys.size(); i++) {
+                    val event = events.get(i);
+                    if (event != null) {
+                        zset.remove(getTypeIndexKey(event.getType()), keys.get(i));
+                        zset.remove(getPrincipalIndexKey(event.getPrincipalId()), keys.get(i));
+                    }
+                }
+                this.template.delete(keys);
+                zset.remove(INDEX_ALL, keys.toArray());
+            }
+            removed = keys.size();
+            LOGGER.debug("Removed [{}] event(s) created before [{}]", removed, dateTime);
+        } while (removed >= REMOVAL_PAGE_SIZE);
     }
 
     @Override
@@ -134,9 +159,66 @@ public class RedisCasEventRepository extends AbstractCasEventRepository {
         LOGGER.trace("Saving event record based on key [{}]", key);
         val ops = this.template.boundValueOps(key);
         ops.set(event);
+        index(key, event);
         return event;
     }
 
+    private void index(final String key, final CasEvent event) {
+        val score = getScore(event);
+        val zset = indexTemplate.opsForZSet();
+        zset.add(getTypeIndexKey(event.getType()), key, score);
+        zset.add(getPrincipalIndexKey(event.getPrincipalId()), key, score);
+        zset.add(INDEX_ALL, key, score);
+    }
+
+    /**
+     * Index events that were recorded before indexes were in place.
+     * Events are located by scanning keys page by page; indexing the same event more than once is harmless.
+     */
+    private void indexExistingEventsIfNecessary() {
+        if (eventsIndexed.get()) {
+            return;
+        }
+        synchronized (eventsIndexed) {
+            if (eventsIndexed.get()) {
+                return;
+            }
+            if (!Boolean.TRUE.equals(indexTemplate.hasKey(INDEX_READY))) {
+                val count = indexTemplate.execute((RedisCallback<Long>) connection -> {
+                    var indexed = 0L;
+                    val options = ScanOptions.scanOptions().match(getKey("*", "*", "*")).count(REMOVAL_PAGE_SIZE).build();
+                    try (val cursor = connection.scan(options)) {
+                        val keys = new ArrayList<String>(REMOVAL_PAGE_SIZE);
+                        while (cursor.hasNext()) {
+                            keys.add(new String(cursor.next(), StandardCharsets.UTF_8));
+                            if (keys.size() >= REMOVAL_PAGE_SIZE || !cursor.hasNext()) {
+                                indexed += indexEvents(keys);
+                                keys.clear();
+                            }
+                        }
+                    }
+                    return indexed;
+                });
+                LOGGER.info("Indexed [{}] event(s) recorded before indexes were in place", count);
+                indexTemplate.opsForValue().set(INDEX_READY, ZonedDateTime.now().toString());
+            }
+            eventsIndexed.set(true);
+        }
+    }
+
+    private long indexEvents(final List<String> keys) {
+        val events = Objects.requireNonNull(this.template.opsForValue().multiGet(keys));
+        var indexed = 0L;
+        for (var i = 0; i < keys.size() && i < events.size(); i++) {
+            val event = events.get(i);
+            if (event != null) {
+                index(keys.get(i), event);
+                indexed++;
+            }
+        }
+        return indexed;
+    }
+
     private Set<String> getKeys(final String type, final String principal, final String timestamp) {
         val key = getKey(type, principal, timestamp);
         LOGGER.trace("Fetching records based on key [{}]", key);
@@ -4,14 +4,26 @@ import org.apereo.cas.config.CasCoreHttpConfiguration;
 import org.apereo.cas.config.RedisEventsConfiguration;
 import org.apereo.cas.support.events.AbstractCasEventRepositoryTests;
 import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.CasEventRepositoryFilter;
+import org.apereo.cas.support.events.dao.CasEvent;
 import org.apereo.cas.util.junit.EnabledIfPortOpen;
 
 import lombok.Getter;
+import lombok.val;
 import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Test cases for {@link RedisCasEventRepositoryTests}.
@@ -36,4 +48,31 @@ public class RedisCasEventRepositoryTests extends AbstractCasEventRepositoryTest
     @Autowired
     @Qualifier("casEventRepository")
     private CasEventRepository eventRepository;
+
+    @Autowired
+    @Qualifier("redisEventTemplate")
+    private RedisTemplate<String, CasEvent> redisEventTemplate;
+
+    @Test
+    public void verifyEventsRecordedBeforeIndexesAreIndexed() {
+        val principal = "casuser-" + UUID.randomUUID();
+        val event = new CasEvent();
+        event.setType("UnindexedEvent");
+        event.setPrincipalId(principal);
+        event.putTimestamp(System.currentTimeMillis());
+        event.setCreationTime(ZonedDateTime.now(ZoneOffset.UTC).format(DateTimeFormatter.ISO_ZONED_DATE_TIME));
+        event.putEventId(UUID.randomUUID().toString());
+        val key = RedisCasEventRepository.class.getSimpleName() + ':' + event.getType()
+            + ':' + principal + ':' + event.getTimestamp();
+        redisEventTemplate.opsForValue().set(key, event);
+        redisEventTemplate.delete(RedisCasEventRepository.class.getSimpleName() + "Index:ready");
+
+        val repository = new RedisCasEventRepository(CasEventRepositoryFilter.noOp(), redisEventTemplate);
+        assertEquals(1, repository.getEventsForPrincipal(principal).size());
+        assertEquals(1, repository.getEventsOfTypeForPrincipal(event.getType(), principal).size());
+
+        repository.removeEventsBefore(ZonedDateTime.now(ZoneOffset.UTC).plusMinutes(1));
+        assertTrue(repository.getEventsForPrincipal(principal).isEmpty());
+        assertNull(redisEventTemplate.opsForValue().get(key));
+    }
 }
@@ -2,6 +2,7 @@ package org.apereo.cas.hz;
 
 import org.apereo.cas.configuration.model.support.hazelcast.BaseHazelcastProperties;
 import org.apereo.cas.configuration.model.support.hazelcast.HazelcastClusterProperties;
+import org.apereo.cas.configuration.model.support.hazelcast.HazelcastNearCacheProperties;
 import org.apereo.cas.util.CollectionUtils;
 
 import com.hazelcast.config.Config;
@@ -18,6 +19,7 @@ import com.hazelcast.config.MaxSizePolicy;
 import com.hazelcast.config.MergePolicyConfig;
 import com.hazelcast.config.MulticastConfig;
 import com.hazelcast.config.NamedConfig;
+import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.config.NetworkConfig;
 import com.hazelcast.config.PartitionGroupConfig;
 import com.hazelcast.config.ReplicatedMapConfig;
@@ -251,6 +253,30 @@ public class HazelcastConfigurationFactory {
         return config;
     }
 
+    /**
+     * Build near cache config.
+     * <p>
+     * Entries are kept in the near cache in binary form, so that each read
+     * produces its own copy of the entry that can be safely modified by the caller.
+     *
+     * @param nearCache the near cache
+     * @param mapName   the map name
+     * @return the near cache config
+     */
+    public static NearCacheConfig buildNearCacheConfig(final HazelcastNearCacheProperties nearCache, final String mapName) {
+        val evictionConfig = new EvictionConfig()
+            .setEvictionPolicy(EvictionPolicy.valueOf(nearCache.getEvictionPolicy().trim().toUpperCase()))
+            .setMaxSizePolicy(MaxSizePolicy.ENTRY_COUNT)
+            .setSize(nearCache.getMaxSize());
+        return new NearCacheConfig(mapName)
+            .setInMemoryFormat(InMemoryFormat.BINARY)
+            .setInvalidateOnChange(true)
+            .setCacheLocalEntries(nearCache.isCacheLocalEntries())
+            .setTimeToLiveSeconds(nearCache.getTimeToLiveSeconds())
+            .setMaxIdleSeconds(nearCache.getMaxIdleSeconds())
+            .setEvictionConfig(evictionConfig);
+    }
+
     /**
      * Build map config map config.
      *
@@ -1,15 +1,24 @@
 package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.model.support.hazelcast.HazelcastTicketRegistryProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.hz.HazelcastConfigurationFactory;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketDefinition;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.registry.HazelcastLockRepository;
+import org.apereo.cas.ticket.registry.HazelcastTicketDocument;
 import org.apereo.cas.ticket.registry.HazelcastTicketRegistry;
 import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
+import org.apereo.cas.ticket.registry.support.LockRepository;
 import org.apereo.cas.util.CoreTicketUtils;
 
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.config.MapConfig;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.instance.impl.HazelcastInstanceFactory;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +26,7 @@ import lombok.val;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.annotation.Bean;
@@ -41,6 +51,21 @@ import org.springframework.context.annotation.ScopedProxyMode;
 @Slf4j
 public class HazelcastTicketRegistryConfiguration {
 
+    private static void buildTicketMapConfig(final HazelcastTicketRegistryProperties hz,
+                                             final TicketDefinition definition,
+                                             final MapConfig mapConfig) {
+        mapConfig.addIndexConfig(new IndexConfig(IndexType.HASH, HazelcastTicketDocument.FIELD_NAME_PREFIX));
+        mapConfig.addIndexConfig(new IndexConfig(IndexType.SORTED, HazelcastTicketDocument.FIELD_NAME_EXPIRES_AT));
+
+        if (TicketGrantingTicket.class.isAssignableFrom(definition.getImplementationClass())) {
+            mapConfig.addIndexConfig(new IndexConfig(IndexType.HASH, HazelcastTicketDocument.FIELD_NAME_PRINCIPAL));
+            if (hz.getNearCache().isEnabled()) {
+                LOGGER.debug("Creating Hazelcast near cache configuration for [{}]", mapConfig.getName());
+                mapConfig.setNearCacheConfig(HazelcastConfigurationFactory.buildNearCacheConfig(hz.getNearCache(), mapConfig.getName()));
+            }
+        }
+    }
+
     @Bean
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
     @Autowired
@@ -67,11 +92,15 @@ public class HazelcastTicketRegistryConfiguration {
         LOGGER.debug("Creating Hazelcast instance for members [{}]", hz.getCluster().getNetwork().getMembers());
         val hazelcastInstance = HazelcastInstanceFactory.getOrCreateHazelcastInstance(HazelcastConfigurationFactory.build(hz));
         ticketCatalog.findAll()
-            .stream()
-            .map(TicketDefinition::getProperties)
-            .peek(p -> LOGGER.debug("Created Hazelcast map configuration for [{}]", p))
-            .map(p -> HazelcastConfigurationFactory.buildMapConfig(hz, p.getStorageName(), p.getStorageTimeout()))
-            .forEach(map -> HazelcastConfigurationFactory.setConfigMap(map, hazelcastInstance.getConfig()));
+            .forEach(definition -> {
+                val properties = definition.getProperties();
+                LOGGER.debug("Created Hazelcast map configuration for [{}]", properties);
+                val mapConfig = HazelcastConfigurationFactory.buildMapConfig(hz, properties.getStorageName(), properties.getStorageTimeout());
+                if (mapConfig instanceof MapConfig) {
+                    buildTicketMapConfig(hz, definition, (MapConfig) mapConfig);
+                }
+                HazelcastConfigurationFactory.setConfigMap(mapConfig, hazelcastInstance.getConfig());
+            });
         return hazelcastInstance;
     }
 
@@ -79,4 +108,16 @@ public class HazelcastTicketRegistryConfiguration {
     public TicketRegistryCleaner ticketRegistryCleaner() {
         return NoOpTicketRegistryCleaner.getInstance();
     }
+
+    @Bean
+    @Autowired
+    @ConditionalOnProperty(prefix = "cas.ticket.registry.core", name = "locking-mode", havingValue = "DISTRIBUTED")
+    public LockRepository ticketRegistryLockRepository(
+        @Qualifier("casTicketRegistryHazelcastInstance")
+        final HazelcastInstance casTicketRegistryHazelcastInstance,
+        final CasConfigurationProperties casProperties) {
+        val core = casProperties.getTicket().getRegistry().getCore();
+        return new HazelcastLockRepository(casTicketRegistryHazelcastInstance,
+            Beans.newDuration(core.getLockTimeout()), Beans.newDuration(core.getLockLeaseDuration()));
+    }
 }
@@ -0,0 +1,57 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.registry.support.LockRepository;
+
+import com.hazelcast.core.HazelcastInstance;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * This is {@link HazelcastLockRepository} that obtains a cluster-wide lock per key
+ * using the key-level locks of a dedicated Hazelcast map. Callers wait up to the lock timeout
+ * to obtain a lock. Locks are leased for a separate and longer amount of time so that members
+ * leaving the cluster cannot hold on to them indefinitely.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class HazelcastLockRepository implements LockRepository {
+    /**
+     * Name of the map whose keys are locked.
+     */
+    public static final String MAP_NAME = "casTicketRegistryLocks";
+
+    private final HazelcastInstance hazelcastInstance;
+
+    private final Duration lockTimeout;
+
+    private final Duration lockLeaseDuration;
+
+    @Override
+    public <T> Optional<T> execute(final String lockKey, final Supplier<T> consumer) {
+        val map = hazelcastInstance.getMap(MAP_NAME);
+        try {
+            if (!map.tryLock(lockKey, lockTimeout.toMillis(), TimeUnit.MILLISECONDS,
+                lockLeaseDuration.toMillis(), TimeUnit.MILLISECONDS)) {
+                LOGGER.warn("Unable to obtain lock [{}] within [{}]", lockKey, lockTimeout);
+                return Optional.empty();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(consumer.get());
+        } finally {
+            map.unlock(lockKey);
+        }
+    }
+}
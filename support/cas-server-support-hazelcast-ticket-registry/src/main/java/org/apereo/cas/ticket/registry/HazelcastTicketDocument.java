@@ -0,0 +1,51 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link HazelcastTicketDocument} that wraps a ticket stored in a Hazelcast map,
+ * along with attributes that are indexed by Hazelcast, so that tickets can be queried,
+ * counted and aggregated on the members that own them without having to read the ticket itself.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Getter
+@Setter
+@ToString(of = {"prefix", "principal", "expiresAt"})
+@NoArgsConstructor
+@AllArgsConstructor
+public class HazelcastTicketDocument implements Serializable {
+    /**
+     * Indexed attribute that holds the ticket prefix.
+     */
+    public static final String FIELD_NAME_PREFIX = "prefix";
+
+    /**
+     * Indexed attribute that holds the principal id of ticket-granting tickets.
+     */
+    public static final String FIELD_NAME_PRINCIPAL = "principal";
+
+    /**
+     * Indexed attribute that holds the time, in milliseconds, after which the ticket expires in the map.
+     */
+    public static final String FIELD_NAME_EXPIRES_AT = "expiresAt";
+
+    private static final long serialVersionUID = -4132815937519573027L;
+
+    private Ticket ticket;
+
+    private String prefix;
+
+    private String principal;
+
+    private long expiresAt;
+}
@@ -0,0 +1,73 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.ticket.AbstractTicket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.map.ExtendedMapEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link HazelcastTicketGrantingTicketProcessor} that records a ticket granted by a
+ * ticket-granting ticket on the member that owns the ticket-granting ticket. Only the granted ticket,
+ * the ids of the services that remain tracked and the usage state of the ticket-granting ticket
+ * travel over the wire, rather than the entire ticket-granting ticket along with all tracked services.
+ * <p>
+ * The processor returns {@code false} if the ticket-granting ticket cannot be found in the map,
+ * in which case the caller is expected to store the ticket-granting ticket in full.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class HazelcastTicketGrantingTicketProcessor implements EntryProcessor<String, HazelcastTicketDocument, Boolean> {
+    private static final long serialVersionUID = 6012843573160813476L;
+
+    private final String grantedTicketId;
+
+    private final Service service;
+
+    private final Set<String> trackedServiceIds;
+
+    private final ZonedDateTime lastTimeUsed;
+
+    private final ZonedDateTime previousTimeUsed;
+
+    private final int countOfUses;
+
+    private final long timeToLive;
+
+    private final long expiresAt;
+
+    @Override
+    public Boolean process(final Map.Entry<String, HazelcastTicketDocument> entry) {
+        val document = entry.getValue();
+        if (document == null || !(document.getTicket() instanceof TicketGrantingTicket)) {
+            LOGGER.debug("Unable to locate ticket-granting ticket [{}] to record granted ticket [{}]", entry.getKey(), grantedTicketId);
+            return Boolean.FALSE;
+        }
+        val ticketGrantingTicket = (TicketGrantingTicket) document.getTicket();
+        val services = ticketGrantingTicket.getServices();
+        services.keySet().retainAll(trackedServiceIds);
+        services.put(grantedTicketId, service);
+
+        if (ticketGrantingTicket instanceof AbstractTicket) {
+            val state = (AbstractTicket) ticketGrantingTicket;
+            state.setLastTimeUsed(lastTimeUsed);
+            state.setPreviousTimeUsed(previousTimeUsed);
+            state.setCountOfUses(countOfUses);
+        }
+        document.setExpiresAt(expiresAt);
+        ((ExtendedMapEntry<String, HazelcastTicketDocument>) entry).setValue(document, timeToLive, TimeUnit.SECONDS);
+        return Boolean.TRUE;
+    }
+}
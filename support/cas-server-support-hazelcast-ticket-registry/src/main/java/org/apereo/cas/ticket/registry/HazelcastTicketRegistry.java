@@ -1,12 +1,19 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.ticket.ServiceTicket;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketDefinition;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.proxy.ProxyGrantingTicket;
+import org.apereo.cas.ticket.proxy.ProxyTicket;
 import org.apereo.cas.util.LoggingUtils;
 
+import com.hazelcast.aggregation.Aggregators;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicates;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,12 +21,16 @@ import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.DisposableBean;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Hazelcast-based implementation of a {@link TicketRegistry}.
@@ -27,6 +38,9 @@ import java.util.stream.Collectors;
  * which is an extension of the standard Java's {@code ConcurrentMap}.</p>
  * <p>The heavy lifting of distributed data partitioning, network cluster discovery and
  * join, data replication, etc. is done by Hazelcast's Map implementation.</p>
+ * <p>Tickets are stored as {@link HazelcastTicketDocument} entries whose indexed attributes
+ * allow sessions to be counted and looked up by the members that own them. Tickets are read
+ * from each map one partition at a time, fetching a page of entries at a time.</p>
  *
  * @author Dmitriy Kopylenko
  * @author Jonathan Johnson
@@ -41,12 +55,54 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
 
     private final long pageSize;
 
+    private static long getExpirationTime(final long timeToLive) {
+        val now = System.currentTimeMillis();
+        if (timeToLive <= 0 || timeToLive >= (Long.MAX_VALUE - now) / 1000) {
+            return Long.MAX_VALUE;
+        }
+        return now + TimeUnit.SECONDS.toMillis(timeToLive);
+    }
+
+    private static com.hazelcast.query.Predicate<String, HazelcastTicketDocument> getUnexpiredTicketsPredicate(
+        final com.hazelcast.query.Predicate<String, HazelcastTicketDocument> predicate) {
+        return Predicates.and(predicate,
+            Predicates.greaterThan(HazelcastTicketDocument.FIELD_NAME_EXPIRES_AT, System.currentTimeMillis()));
+    }
+
     @Override
     public Ticket updateTicket(final Ticket ticket) {
         addTicket(ticket);
         return ticket;
     }
 
+    @Override
+    public Ticket updateTicketGrantingTicket(final TicketGrantingTicket ticketGrantingTicket, final Ticket grantedTicket) {
+        if (isCipherExecutorEnabled() || !ticketGrantingTicket.isRoot()
+            || !(ticketGrantingTicket instanceof TicketGrantingTicketImpl)
+            || !ticketGrantingTicket.getServices().containsKey(grantedTicket.getId())) {
+            return updateTicket(ticketGrantingTicket);
+        }
+        val metadata = this.ticketCatalog.find(ticketGrantingTicket);
+        val ticketMap = getTicketMapInstanceByMetadata(metadata);
+        if (ticketMap == null) {
+            LOGGER.warn("Unable to locate ticket map for ticket metadata [{}]", metadata);
+            return ticketGrantingTicket;
+        }
+        val ttl = ticketGrantingTicket.getExpirationPolicy().getTimeToLive();
+        val tgt = (TicketGrantingTicketImpl) ticketGrantingTicket;
+        val processor = new HazelcastTicketGrantingTicketProcessor(grantedTicket.getId(),
+            ticketGrantingTicket.getServices().get(grantedTicket.getId()),
+            new HashSet<>(ticketGrantingTicket.getServices().keySet()),
+            tgt.getLastTimeUsed(), tgt.getPreviousTimeUsed(), tgt.getCountOfUses(),
+            ttl, getExpirationTime(ttl));
+        LOGGER.debug("Recording ticket [{}] granted by [{}]", grantedTicket.getId(), ticketGrantingTicket.getId());
+        val updated = ticketMap.executeOnKey(encodeTicketId(ticketGrantingTicket.getId()), processor);
+        if (!Boolean.TRUE.equals(updated)) {
+            return updateTicket(ticketGrantingTicket);
+        }
+        return ticketGrantingTicket;
+    }
+
     @Override
     public void addTicketInternal(final Ticket ticket) {
         val ttl = ticket.getExpirationPolicy().getTimeToLive();
@@ -60,7 +116,8 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
         val metadata = this.ticketCatalog.find(ticket);
         val ticketMap = getTicketMapInstanceByMetadata(metadata);
         if (ticketMap != null) {
-            ticketMap.set(encTicket.getId(), encTicket, ttl, TimeUnit.SECONDS);
+            val document = new HazelcastTicketDocument(encTicket, ticket.getPrefix(), getPrincipalId(ticket), getExpirationTime(ttl));
+            ticketMap.set(encTicket.getId(), document, ttl, TimeUnit.SECONDS);
             LOGGER.debug("Added ticket [{}] with ttl [{}s]", encTicket.getId(), ttl);
         } else {
             LOGGER.warn("Unable to locate ticket map for ticket metadata [{}]", metadata);
@@ -77,8 +134,8 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
         if (metadata != null) {
             val map = getTicketMapInstanceByMetadata(metadata);
             if (map != null) {
-                val ticket = map.get(encTicketId);
-                val result = decodeTicket(ticket);
+                val document = map.get(encTicketId);
+                val result = decodeTicket(document != null ? document.getTicket() : null);
                 if (predicate.test(result)) {
                     return result;
                 }
@@ -101,10 +158,7 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
 
     @Override
     public long deleteAll() {
-        return this.ticketCatalog.findAll()
-            .stream()
-            .map(this::getTicketMapInstanceByMetadata)
-            .filter(Objects::nonNull)
+        return getTicketMaps()
             .mapToInt(instance -> {
                 val size = instance.size();
                 instance.evictAll();
@@ -116,17 +170,57 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
 
     @Override
     public Collection<? extends Ticket> getTickets() {
-        return this.ticketCatalog.findAll()
+        try (val tickets = stream()) {
+            return tickets.collect(Collectors.toSet());
+        }
+    }
+
+    @Override
+    public Stream<? extends Ticket> stream() {
+        return getTicketMaps().flatMap(this::streamTicketMap);
+    }
+
+    @Override
+    public Collection<TicketRegistryPartition> getPartitions() {
+        return getTicketMaps()
+            .map(map -> TicketRegistryPartition.of(map.getName(), () -> streamTicketMap(map)))
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public long sessionCount() {
+        return countTickets(Predicates.in(HazelcastTicketDocument.FIELD_NAME_PREFIX,
+            TicketGrantingTicket.PREFIX, ProxyGrantingTicket.PROXY_GRANTING_TICKET_PREFIX));
+    }
+
+    @Override
+    public long serviceTicketCount() {
+        return countTickets(Predicates.in(HazelcastTicketDocument.FIELD_NAME_PREFIX,
+            ServiceTicket.PREFIX, ProxyTicket.PROXY_TICKET_PREFIX));
+    }
+
+    @Override
+    public long countSessionsFor(final String principalId) {
+        if (isCipherExecutorEnabled()) {
+            return super.countSessionsFor(principalId);
+        }
+        return countTickets(Predicates.equal(HazelcastTicketDocument.FIELD_NAME_PRINCIPAL, principalId.toLowerCase()));
+    }
+
+    @Override
+    public Stream<? extends Ticket> getSessionsFor(final String principalId) {
+        if (isCipherExecutorEnabled()) {
+            return super.getSessionsFor(principalId);
+        }
+        val predicate = getUnexpiredTicketsPredicate(
+            Predicates.equal(HazelcastTicketDocument.FIELD_NAME_PRINCIPAL, principalId.toLowerCase()));
+        return ticketCatalog.find(TicketGrantingTicket.class)
             .stream()
-            .map(metadata -> getTicketMapInstanceByMetadata(metadata).values())
-            .flatMap(tickets -> {
-                if (pageSize > 0) {
-                    return tickets.stream().limit(pageSize).collect(Collectors.toList()).stream();
-                }
-                return new ArrayList<>(tickets).stream();
-            })
-            .map(this::decodeTicket)
-            .collect(Collectors.toSet());
+            .map(this::getTicketMapInstanceByMetadata)
+            .filter(Objects::nonNull)
+            .distinct()
+            .flatMap(map -> map.values(predicate).stream())
+            .map(document -> decodeTicket(document.getTicket()));
     }
 
     /**
@@ -151,15 +245,49 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
         shutdown();
     }
 
-    private IMap<String, Ticket> getTicketMapInstanceByMetadata(final TicketDefinition metadata) {
+    private String getPrincipalId(final Ticket ticket) {
+        if (isCipherExecutorEnabled() || !(ticket instanceof TicketGrantingTicket)) {
+            return null;
+        }
+        val authentication = ((TicketGrantingTicket) ticket).getAuthentication();
+        if (authentication == null || authentication.getPrincipal() == null) {
+            return null;
+        }
+        return authentication.getPrincipal().getId().toLowerCase();
+    }
+
+    private long countTickets(final com.hazelcast.query.Predicate<String, HazelcastTicketDocument> predicate) {
+        val unexpired = getUnexpiredTicketsPredicate(predicate);
+        return getTicketMaps()
+            .mapToLong(map -> map.aggregate(Aggregators.count(), unexpired))
+            .sum();
+    }
+
+    private Stream<Ticket> streamTicketMap(final IMap<String, HazelcastTicketDocument> map) {
+        val fetchSize = (int) Math.max(1, Math.min(pageSize, Integer.MAX_VALUE));
+        val iterator = map.iterator(fetchSize);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.NONNULL), false)
+            .map(entry -> decodeTicket(entry.getValue().getTicket()))
+            .filter(Objects::nonNull);
+    }
+
+    private Stream<IMap<String, HazelcastTicketDocument>> getTicketMaps() {
+        return this.ticketCatalog.findAll()
+            .stream()
+            .map(this::getTicketMapInstanceByMetadata)
+            .filter(Objects::nonNull)
+            .distinct();
+    }
+
+    private IMap<String, HazelcastTicketDocument> getTicketMapInstanceByMetadata(final TicketDefinition metadata) {
         val mapName = metadata.getProperties().getStorageName();
         LOGGER.debug("Locating map name [{}] for ticket definition [{}]", mapName, metadata);
         return getTicketMapInstance(mapName);
     }
 
-    private IMap<String, Ticket> getTicketMapInstance(@NonNull final String mapName) {
+    private IMap<String, HazelcastTicketDocument> getTicketMapInstance(@NonNull final String mapName) {
         try {
-            val inst = hazelcastInstance.<String, Ticket>getMap(mapName);
+            val inst = hazelcastInstance.<String, HazelcastTicketDocument>getMap(mapName);
             LOGGER.debug("Located Hazelcast map instance [{}]", mapName);
             return inst;
         } catch (final Exception e) {
@@ -1,6 +1,7 @@
 package org.apereo.cas;
 
 import org.apereo.cas.ticket.registry.DefaultHazelcastInstanceConfigurationTests;
+import org.apereo.cas.ticket.registry.HazelcastLockRepositoryTests;
 import org.apereo.cas.ticket.registry.HazelcastTicketRegistryTests;
 
 import org.junit.platform.suite.api.SelectClasses;
@@ -14,7 +15,8 @@ import org.junit.platform.suite.api.Suite;
  */
 @SelectClasses({
     DefaultHazelcastInstanceConfigurationTests.class,
-    HazelcastTicketRegistryTests.class
+    HazelcastTicketRegistryTests.class,
+    HazelcastLockRepositoryTests.class
 })
 @Suite
 public class AllTestsSuite {
@@ -0,0 +1,36 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.config.HazelcastTicketRegistryConfiguration;
+import org.apereo.cas.config.HazelcastTicketRegistryTicketCatalogConfiguration;
+import org.apereo.cas.ticket.registry.support.LockRepository;
+
+import lombok.Getter;
+import org.junit.jupiter.api.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * This is {@link HazelcastLockRepositoryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@SpringBootTest(classes = {
+    HazelcastTicketRegistryConfiguration.class,
+    HazelcastTicketRegistryTicketCatalogConfiguration.class,
+    BaseTicketRegistryTests.SharedTestConfiguration.class
+}, properties = {
+    "cas.ticket.registry.hazelcast.cluster.network.port-auto-increment=false",
+    "cas.ticket.registry.hazelcast.cluster.network.port=5704",
+    "cas.ticket.registry.hazelcast.cluster.core.instance-name=locklocalhostinstance",
+    "cas.ticket.registry.core.locking-mode=DISTRIBUTED",
+    "cas.ticket.registry.core.lock-timeout=PT1S"
+})
+@Getter
+@Tag("Hazelcast")
+public class HazelcastLockRepositoryTests extends BaseLockRepositoryTests {
+    @Autowired
+    @Qualifier(LockRepository.BEAN_NAME)
+    private LockRepository lockRepository;
+}
@@ -1,12 +1,17 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
 import org.apereo.cas.config.HazelcastTicketRegistryConfiguration;
 import org.apereo.cas.config.HazelcastTicketRegistryTicketCatalogConfiguration;
 import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
 import org.apereo.cas.ticket.DefaultTicketDefinition;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
 import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
 
 import com.hazelcast.core.HazelcastInstance;
 import lombok.Getter;
@@ -18,6 +23,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -81,4 +88,28 @@ public class HazelcastTicketRegistryTests extends BaseTicketRegistryTests {
         assertNull(registry.getTicket(ticket.getId()));
     }
 
+    @RepeatedTest(1)
+    public void verifyUpdateTicketGrantingTicketWithDelta() {
+        val principalId = UUID.randomUUID().toString();
+        val tgt = new TicketGrantingTicketImpl(ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication(principalId), NeverExpiresExpirationPolicy.INSTANCE);
+        newTicketRegistry.addTicket(tgt);
+
+        val st1 = tgt.grantServiceTicket(serviceTicketId, RegisteredServiceTestUtils.getService("https://example.org/first"),
+            NeverExpiresExpirationPolicy.INSTANCE, false, true);
+        newTicketRegistry.updateTicketGrantingTicket(tgt, st1);
+        val st2 = tgt.grantServiceTicket("ST-" + UUID.randomUUID(), RegisteredServiceTestUtils.getService("https://example.org/first"),
+            NeverExpiresExpirationPolicy.INSTANCE, false, true);
+        newTicketRegistry.updateTicketGrantingTicket(tgt, st2);
+
+        val stored = newTicketRegistry.getTicket(tgt.getId(), TicketGrantingTicket.class);
+        assertNotNull(stored);
+        assertEquals(tgt.getServices().keySet(), stored.getServices().keySet());
+        assertEquals(tgt.getCountOfUses(), stored.getCountOfUses());
+        assertEquals(tgt.getLastTimeUsed(), ((TicketGrantingTicketImpl) stored).getLastTimeUsed());
+
+        assertEquals(1, newTicketRegistry.countSessionsFor(principalId.toUpperCase()));
+        assertEquals(1, newTicketRegistry.getSessionsFor(principalId).count());
+        assertEquals(1, newTicketRegistry.sessionCount());
+    }
 }
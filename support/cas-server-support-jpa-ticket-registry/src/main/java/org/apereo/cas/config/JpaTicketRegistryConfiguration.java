@@ -6,12 +6,19 @@ import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.configuration.support.CloseableDataSource;
 import org.apereo.cas.configuration.support.JpaBeans;
 import org.apereo.cas.jpa.JpaBeanFactory;
+import org.apereo.cas.logout.LogoutManager;
 import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.registry.DefaultTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.JpaTicketEntityFactory;
 import org.apereo.cas.ticket.registry.JpaTicketRegistry;
+import org.apereo.cas.ticket.registry.JpaTicketRegistryCleaner;
+import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.generic.JpaLockEntity;
+import org.apereo.cas.ticket.registry.support.JpaLockRepository;
 import org.apereo.cas.ticket.registry.support.JpaLockingStrategy;
+import org.apereo.cas.ticket.registry.support.LockRepository;
 import org.apereo.cas.ticket.registry.support.LockingStrategy;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.CoreTicketUtils;
@@ -24,6 +31,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.ConfigurableApplicationContext;
@@ -33,6 +41,7 @@ import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.persistence.EntityManagerFactory;
@@ -151,5 +160,44 @@ public class JpaTicketRegistryConfiguration {
             return new JpaLockingStrategy("cas-ticket-registry-cleaner",
                 uniqueId, Beans.newDuration(registry.getJpa().getJpaLockingTimeout()).getSeconds());
         }
+
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        @Autowired
+        public TicketRegistryCleaner ticketRegistryCleaner(
+            final CasConfigurationProperties casProperties,
+            @Qualifier("lockingStrategy")
+            final LockingStrategy lockingStrategy,
+            @Qualifier(LogoutManager.DEFAULT_BEAN_NAME)
+            final LogoutManager logoutManager,
+            @Qualifier(TicketRegistry.BEAN_NAME)
+            final TicketRegistry ticketRegistry) {
+            val registry = casProperties.getTicket().getRegistry();
+            if (!registry.getCleaner().getSchedule().isEnabled()) {
+                return NoOpTicketRegistryCleaner.getInstance();
+            }
+            if (ticketRegistry instanceof JpaTicketRegistry) {
+                return new JpaTicketRegistryCleaner(lockingStrategy, logoutManager,
+                    (JpaTicketRegistry) ticketRegistry, registry.getJpa().getCleanerPageSize());
+            }
+            val cleaner = new DefaultTicketRegistryCleaner(lockingStrategy, logoutManager, ticketRegistry);
+            cleaner.setProperties(registry.getCleaner());
+            return cleaner;
+        }
+
+        @Bean
+        @Autowired
+        @ConditionalOnProperty(prefix = "cas.ticket.registry.core", name = "locking-mode", havingValue = "DISTRIBUTED")
+        public LockRepository ticketRegistryLockRepository(
+            @Qualifier("ticketTransactionManager")
+            final PlatformTransactionManager ticketTransactionManager,
+            final CasConfigurationProperties casProperties) {
+            val core = casProperties.getTicket().getRegistry().getCore();
+            val uniqueId = StringUtils.defaultIfEmpty(casProperties.getHost().getName(), InetAddressUtils.getCasServerHostName());
+            val template = new TransactionTemplate(ticketTransactionManager);
+            template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            return new JpaLockRepository(uniqueId, Beans.newDuration(core.getLockTimeout()),
+                Beans.newDuration(core.getLockLeaseDuration()).getSeconds(), template);
+        }
     }
 }
@@ -3,6 +3,7 @@ package org.apereo.cas.ticket.registry;
 import org.apereo.cas.jpa.AbstractJpaEntityFactory;
 import org.apereo.cas.ticket.AuthenticationAwareTicket;
 import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketState;
 import org.apereo.cas.ticket.registry.generic.BaseTicketEntity;
 import org.apereo.cas.ticket.registry.generic.JpaTicketEntity;
 import org.apereo.cas.ticket.registry.mysql.MySQLJpaTicketEntity;
@@ -71,6 +72,42 @@ public class JpaTicketEntityFactory extends AbstractJpaEntityFactory<BaseTicketE
             .setCreationTime(ObjectUtils.defaultIfNull(ticket.getCreationTime(), ZonedDateTime.now(Clock.systemUTC())));
     }
 
+    /**
+     * Calculate the point in time after which the ticket is considered expired
+     * by its expiration policy, based on its creation and last-used timestamps.
+     * Tickets that are already expired are marked to expire immediately.
+     * The result may be earlier than the actual expiration time of the ticket,
+     * such that rows past this point are treated as candidates for removal and
+     * are always verified against the ticket itself.
+     *
+     * @param ticket the ticket
+     * @return the expiration time, or null if it cannot be determined.
+     */
+    public ZonedDateTime getExpirationTime(final Ticket ticket) {
+        val now = ZonedDateTime.now(Clock.systemUTC());
+        if (ticket.isExpired()) {
+            return now;
+        }
+        val policy = ticket.getExpirationPolicy();
+        if (policy == null || !(ticket instanceof TicketState)) {
+            return null;
+        }
+        val state = (TicketState) ticket;
+        val creationTime = ObjectUtils.defaultIfNull(state.getCreationTime(), now);
+        val lastTimeUsed = ObjectUtils.defaultIfNull(state.getLastTimeUsed(), creationTime);
+        val timeToLive = policy.getTimeToLive(state);
+        val timeToIdle = policy.getTimeToIdle();
+        ZonedDateTime expirationTime = null;
+        if (timeToLive != null && timeToLive > 0) {
+            expirationTime = creationTime.plusSeconds(Math.min(timeToLive, Integer.MAX_VALUE));
+        }
+        if (timeToIdle != null && timeToIdle > 0) {
+            val idleTime = lastTimeUsed.plusSeconds(Math.min(timeToIdle, Integer.MAX_VALUE));
+            expirationTime = expirationTime == null || idleTime.isBefore(expirationTime) ? idleTime : expirationTime;
+        }
+        return expirationTime;
+    }
+
     @Override
     public Class<BaseTicketEntity> getType() {
         return (Class<BaseTicketEntity>) getEntityClass();
@@ -21,8 +21,12 @@ import javax.persistence.EntityManager;
 import javax.persistence.LockModeType;
 import javax.persistence.NoResultException;
 import javax.persistence.PersistenceContext;
+import java.time.Duration;
+import java.time.ZonedDateTime;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -46,6 +50,11 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
      */
     public static final String BEAN_NAME_TRANSACTION_MANAGER = "ticketTransactionManager";
 
+    /**
+     * Interval after which valid tickets whose expiration time is unknown are checked again.
+     */
+    public static final Duration EXPIRATION_RECHECK_INTERVAL = Duration.ofHours(1);
+
     private final LockModeType lockType;
 
     private final TicketCatalog ticketCatalog;
@@ -67,11 +76,7 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
     public void addTicketInternal(final Ticket ticket) {
         this.transactionTemplate.executeWithoutResult(status -> {
             val encodeTicket = encodeTicket(ticket);
-            val factory = getJpaTicketEntityFactory();
-            val ticketEntity = factory.fromTicket(encodeTicket);
-            if (ticket.getTicketGrantingTicket() != null) {
-                ticketEntity.setParentId(encodeTicketId(ticket.getTicketGrantingTicket().getId()));
-            }
+            val ticketEntity = toTicketEntity(ticket, encodeTicket);
             this.entityManager.persist(ticketEntity);
             LOGGER.debug("Added ticket [{}] to registry.", encodeTicket);
         });
@@ -134,10 +139,7 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
     public Ticket updateTicket(final Ticket ticket) {
         LOGGER.trace("Updating ticket [{}]", ticket);
         val encodeTicket = this.encodeTicket(ticket);
-
-        val factory = getJpaTicketEntityFactory();
-        val ticketEntity = factory.fromTicket(encodeTicket);
-
+        val ticketEntity = toTicketEntity(ticket, encodeTicket);
         this.entityManager.merge(ticketEntity);
         LOGGER.debug("Updated ticket [{}]", encodeTicket);
         return encodeTicket;
@@ -172,6 +174,97 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         return countToLong(query.getSingleResult());
     }
 
+    @Override
+    @Transactional(transactionManager = JpaTicketRegistry.BEAN_NAME_TRANSACTION_MANAGER, readOnly = true)
+    public long countSessionsFor(final String principalId) {
+        if (isCipherExecutorEnabled()) {
+            return super.countSessionsFor(principalId);
+        }
+        val factory = getJpaTicketEntityFactory();
+        val sql = String.format("SELECT COUNT(t.id) FROM %s t WHERE t.type IN :types AND LOWER(t.principalId) = :principalId",
+            factory.getEntityName());
+        val query = this.entityManager.createQuery(sql)
+            .setParameter("types", getSessionTicketTypes())
+            .setParameter("principalId", StringUtils.lowerCase(principalId));
+        return countToLong(query.getSingleResult());
+    }
+
+    @Override
+    @Transactional(transactionManager = JpaTicketRegistry.BEAN_NAME_TRANSACTION_MANAGER, readOnly = true)
+    public Stream<? extends Ticket> getSessionsFor(final String principalId) {
+        if (isCipherExecutorEnabled()) {
+            return super.getSessionsFor(principalId);
+        }
+        val factory = getJpaTicketEntityFactory();
+        val sql = String.format("SELECT t FROM %s t WHERE t.type IN :types AND LOWER(t.principalId) = :principalId",
+            factory.getEntityName());
+        val query = entityManager.createQuery(sql, factory.getType())
+            .setParameter("types", getSessionTicketTypes())
+            .setParameter("principalId", StringUtils.lowerCase(principalId));
+        query.setLockMode(this.lockType);
+        return query
+            .getResultStream()
+            .map(factory::toTicket)
+            .map(this::decodeTicket)
+            .collect(Collectors.toList())
+            .stream();
+    }
+
+    /**
+     * Gets tickets whose recorded expiration time has passed, or is unknown, as candidates
+     * for removal. The recorded expiration time is an estimate calculated when the ticket
+     * is saved, so candidates must be verified against the ticket expiration policy.
+     *
+     * @param expirationTime the expiration time
+     * @param offset         the offset
+     * @param limit          the max number of tickets to fetch
+     * @return the tickets
+     */
+    @Transactional(transactionManager = JpaTicketRegistry.BEAN_NAME_TRANSACTION_MANAGER, readOnly = true)
+    public Collection<? extends Ticket> getExpiredTicketCandidates(final ZonedDateTime expirationTime,
+                                                                   final int offset, final int limit) {
+        val factory = getJpaTicketEntityFactory();
+        val sql = String.format("SELECT t FROM %s t WHERE t.expirationTime IS NULL OR t.expirationTime <= :expirationTime "
+                                + "ORDER BY t.id", factory.getEntityName());
+        val query = entityManager.createQuery(sql, factory.getType())
+            .setParameter("expirationTime", expirationTime)
+            .setFirstResult(offset)
+            .setMaxResults(limit);
+        query.setLockMode(LockModeType.NONE);
+        return query
+            .getResultStream()
+            .map(factory::toTicket)
+            .map(this::decodeTicket)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Record the next point in time at which the ticket should be considered for removal.
+     * The expiration time is recalculated from the ticket; if it cannot be determined or has
+     * already passed while the ticket remains valid, the ticket is checked again after
+     * {@link #EXPIRATION_RECHECK_INTERVAL}, so that it is not returned as a candidate on every run.
+     *
+     * @param ticket the ticket
+     * @param now    the current time
+     * @return true if the recorded expiration time was updated
+     */
+    public boolean refreshExpirationTime(final Ticket ticket, final ZonedDateTime now) {
+        val factory = getJpaTicketEntityFactory();
+        val expirationTime = Optional.ofNullable(factory.getExpirationTime(ticket))
+            .filter(time -> time.isAfter(now))
+            .orElseGet(() -> now.plus(EXPIRATION_RECHECK_INTERVAL));
+        val result = this.transactionTemplate.execute(status -> {
+            val sql = String.format("UPDATE %s t SET t.expirationTime = :expirationTime WHERE t.id = :id",
+                factory.getEntityName());
+            return entityManager.createQuery(sql)
+                .setParameter("expirationTime", expirationTime)
+                .setParameter("id", encodeTicketId(ticket.getId()))
+                .executeUpdate();
+        });
+        LOGGER.trace("Ticket [{}] will be checked again for expiration at [{}]", ticket.getId(), expirationTime);
+        return result != null && result > 0;
+    }
+
     @Override
     @Transactional(transactionManager = JpaTicketRegistry.BEAN_NAME_TRANSACTION_MANAGER, readOnly = true)
     public long serviceTicketCount() {
@@ -203,6 +296,22 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         return Objects.requireNonNull(result);
     }
 
+    private BaseTicketEntity toTicketEntity(final Ticket ticket, final Ticket encodedTicket) {
+        val factory = getJpaTicketEntityFactory();
+        val ticketEntity = factory.fromTicket(encodedTicket);
+        if (ticket.getTicketGrantingTicket() != null) {
+            ticketEntity.setParentId(encodeTicketId(ticket.getTicketGrantingTicket().getId()));
+        }
+        return ticketEntity.setExpirationTime(factory.getExpirationTime(ticket));
+    }
+
+    private List<String> getSessionTicketTypes() {
+        return ticketCatalog.find(TicketGrantingTicket.class)
+            .stream()
+            .map(definition -> definition.getImplementationClass().getName())
+            .collect(Collectors.toList());
+    }
+
     private JpaTicketEntityFactory getJpaTicketEntityFactory() {
         val jpa = casProperties.getTicket().getRegistry().getJpa();
         return new JpaTicketEntityFactory(jpa.getDialect());
@@ -0,0 +1,69 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.logout.LogoutManager;
+import org.apereo.cas.ticket.registry.support.LockingStrategy;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.ZonedDateTime;
+
+/**
+ * This is {@link JpaTicketRegistryCleaner}. Rather than streaming and
+ * deserializing every ticket in the registry, this cleaner only looks at rows
+ * whose indexed expiration time has passed and processes them in pages.
+ * Candidates that turn out to be still valid have their expiration time
+ * recalculated, so they drop out of subsequent pages and runs.
+ * Each page is fetched and removed in its own transaction, so that
+ * database connections are not held for the duration of the cleanup.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Slf4j
+@Transactional(transactionManager = JpaTicketRegistry.BEAN_NAME_TRANSACTION_MANAGER, propagation = Propagation.NOT_SUPPORTED)
+public class JpaTicketRegistryCleaner extends DefaultTicketRegistryCleaner {
+    private static final long serialVersionUID = 2934617250125784651L;
+
+    private final transient JpaTicketRegistry ticketRegistry;
+
+    private final int pageSize;
+
+    public JpaTicketRegistryCleaner(final LockingStrategy lockingStrategy, final LogoutManager logoutManager,
+                                    final JpaTicketRegistry ticketRegistry, final int pageSize) {
+        super(lockingStrategy, logoutManager, ticketRegistry);
+        this.ticketRegistry = ticketRegistry;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    @Transactional(transactionManager = JpaTicketRegistry.BEAN_NAME_TRANSACTION_MANAGER, propagation = Propagation.NOT_SUPPORTED)
+    public int clean() {
+        return super.clean();
+    }
+
+    @Override
+    protected int cleanInternal() {
+        val now = ZonedDateTime.now(Clock.systemUTC());
+        var ticketsDeleted = 0;
+        var offset = 0;
+        var candidates = ticketRegistry.getExpiredTicketCandidates(now, offset, pageSize);
+        while (!candidates.isEmpty()) {
+            for (val ticket : candidates) {
+                val expired = ticket.isExpired();
+                val count = expired ? cleanTicket(ticket) : 0;
+                if (count == 0 && (expired || !ticketRegistry.refreshExpirationTime(ticket, now))) {
+                    LOGGER.trace("Ticket [{}] was not removed and will be checked again later", ticket.getId());
+                    offset++;
+                }
+                ticketsDeleted += count;
+            }
+            candidates = ticketRegistry.getExpiredTicketCandidates(now, offset, pageSize);
+        }
+        LOGGER.info("[{}] expired tickets removed.", ticketsDeleted);
+        return ticketsDeleted;
+    }
+}
@@ -47,4 +47,7 @@ public class BaseTicketEntity implements Serializable {
 
     @Column(nullable = false, length = 512)
     private ZonedDateTime creationTime;
+
+    @Column(length = 512)
+    private ZonedDateTime expirationTime;
 }
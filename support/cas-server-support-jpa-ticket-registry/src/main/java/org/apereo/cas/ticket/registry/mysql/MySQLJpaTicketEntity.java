@@ -9,6 +9,7 @@ import javax.persistence.AttributeOverride;
 import javax.persistence.AttributeOverrides;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.Index;
 import javax.persistence.Table;
 
 /**
@@ -20,10 +21,14 @@ import javax.persistence.Table;
 @SuperBuilder
 @NoArgsConstructor
 @AttributeOverrides({
-    @AttributeOverride(name = "body", column = @Column(columnDefinition = "text"))
+    @AttributeOverride(name = "body", column = @Column(columnDefinition = "text")),
+    @AttributeOverride(name = "principalId", column = @Column(length = 768))
 })
 @Entity(name = "MySQLJpaTicketEntity")
-@Table(name = "CasTickets")
+@Table(name = "CasTickets", indexes = {
+    @Index(columnList = "principalId"),
+    @Index(columnList = "expirationTime")
+})
 public class MySQLJpaTicketEntity extends BaseTicketEntity {
     private static final long serialVersionUID = 6546716187959834795L;
 }
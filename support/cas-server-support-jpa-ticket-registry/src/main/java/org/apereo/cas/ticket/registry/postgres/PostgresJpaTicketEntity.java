@@ -9,6 +9,8 @@ import javax.persistence.AttributeOverride;
 import javax.persistence.AttributeOverrides;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.Index;
+import javax.persistence.Table;
 
 
 /**
@@ -23,6 +25,10 @@ import javax.persistence.Entity;
     @AttributeOverride(name = "body", column = @Column(columnDefinition = "text"))
 })
 @Entity(name = "PostgresJpaTicketEntity")
+@Table(indexes = {
+    @Index(columnList = "principalId"),
+    @Index(columnList = "expirationTime")
+})
 public class PostgresJpaTicketEntity extends BaseTicketEntity {
     private static final long serialVersionUID = 6546716187959834795L;
 }
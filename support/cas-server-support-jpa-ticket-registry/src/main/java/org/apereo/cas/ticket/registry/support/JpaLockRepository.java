@@ -0,0 +1,113 @@
+package org.apereo.cas.ticket.registry.support;
+
+import org.apereo.cas.ticket.registry.generic.JpaLockEntity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * This is {@link JpaLockRepository} that obtains a cluster-wide lock per key
+ * using a {@link JpaLockingStrategy}. Callers wait up to the lock timeout to obtain a lock,
+ * retrying periodically. Locks are obtained and released in their own transactions so that
+ * they are immediately visible to other nodes, expire after the lease duration, and lock rows
+ * are removed once released.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Slf4j
+@Getter
+@Setter
+@RequiredArgsConstructor
+public class JpaLockRepository implements LockRepository {
+    private static final long LOCK_POLL_INTERVAL = 25;
+
+    /**
+     * Identifies the node that owns the lock.
+     */
+    private final String uniqueId;
+
+    /**
+     * Maximum amount of time to wait for the lock.
+     */
+    private final Duration lockTimeout;
+
+    /**
+     * Amount of time in seconds lock may be held.
+     */
+    private final long lockLeaseDuration;
+
+    /**
+     * Transaction template that must require a new transaction.
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext(unitName = "ticketEntityManagerFactory")
+    private EntityManager entityManager;
+
+    @Override
+    public <T> Optional<T> execute(final String lockKey, final Supplier<T> consumer) {
+        val owner = uniqueId + '-' + UUID.randomUUID();
+        val strategy = new JpaLockingStrategy(lockKey, owner, lockLeaseDuration);
+        strategy.setEntityManager(entityManager);
+        if (!acquire(strategy)) {
+            LOGGER.warn("[{}] is unable to obtain lock [{}] within [{}]", owner, lockKey, lockTimeout);
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(consumer.get());
+        } finally {
+            release(lockKey, owner);
+        }
+    }
+
+    private boolean acquire(final JpaLockingStrategy strategy) {
+        val deadline = System.currentTimeMillis() + lockTimeout.toMillis();
+        do {
+            if (tryAcquire(strategy)) {
+                return true;
+            }
+            try {
+                Thread.sleep(LOCK_POLL_INTERVAL);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        } while (System.currentTimeMillis() < deadline);
+        return false;
+    }
+
+    private boolean tryAcquire(final JpaLockingStrategy strategy) {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> strategy.acquire()));
+        } catch (final Exception e) {
+            LOGGER.debug("[{}] could not obtain [{}] lock.", strategy.getUniqueId(), strategy.getApplicationId(), e);
+            return false;
+        }
+    }
+
+    private void release(final String lockKey, final String owner) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                val lock = entityManager.find(JpaLockEntity.class, lockKey);
+                if (lock != null && owner.equals(lock.getUniqueId())) {
+                    LOGGER.trace("Releasing [{}] lock held by [{}].", lockKey, owner);
+                    entityManager.remove(lock);
+                }
+            });
+        } catch (final Exception e) {
+            LOGGER.warn("[{}] could not release [{}] lock: [{}]", owner, lockKey, e.getMessage());
+        }
+    }
+}
@@ -7,6 +7,7 @@ import org.apereo.cas.ticket.registry.MySQLJpaTicketRegistryTests;
 import org.apereo.cas.ticket.registry.OracleJpaTicketRegistryTests;
 import org.apereo.cas.ticket.registry.PostgresJpaTicketRegistryCleanerTests;
 import org.apereo.cas.ticket.registry.PostgresJpaTicketRegistryTests;
+import org.apereo.cas.ticket.registry.support.JpaLockRepositoryTests;
 import org.apereo.cas.ticket.registry.support.JpaLockingStrategyTests;
 import org.apereo.cas.ticket.registry.support.OracleJpaLockingStrategyTests;
 import org.apereo.cas.ticket.registry.support.PostgresJpaLockingStrategyTests;
@@ -26,6 +27,7 @@ import org.junit.platform.suite.api.Suite;
     PostgresJpaLockingStrategyTests.class,
     JpaTicketRegistryTests.class,
     JpaLockingStrategyTests.class,
+    JpaLockRepositoryTests.class,
     MySQLJpaTicketRegistryTests.class,
     JpaTicketRegistryCleanerTests.class,
     PostgresJpaTicketRegistryCleanerTests.class,
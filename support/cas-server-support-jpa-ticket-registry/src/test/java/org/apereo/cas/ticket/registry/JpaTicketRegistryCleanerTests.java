@@ -55,7 +55,10 @@ import static org.mockito.Mockito.*;
  * @since 6.0.0
  */
 @SpringBootTest(classes = JpaTicketRegistryTests.SharedTestConfiguration.class,
-    properties = "cas.ticket.registry.jpa.ddl-auto=create-drop")
+    properties = {
+        "cas.ticket.registry.jpa.ddl-auto=create-drop",
+        "cas.ticket.registry.jpa.cleaner-page-size=2"
+    })
 @Tag("JDBC")
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 public class JpaTicketRegistryCleanerTests {
@@ -138,6 +141,24 @@ public class JpaTicketRegistryCleanerTests {
         assertTrue(ticketRegistry.getTickets().isEmpty());
     }
 
+    @Test
+    @Order(10)
+    public void verifyCleanerPagesThroughCandidates() {
+        assertTrue(ticketRegistryCleaner instanceof JpaTicketRegistryCleaner);
+        for (var i = 0; i < 5; i++) {
+            val active = new TicketGrantingTicketImpl(TicketGrantingTicket.PREFIX + '-' + RandomUtils.randomAlphabetic(16),
+                CoreAuthenticationTestUtils.getAuthentication(), new HardTimeoutExpirationPolicy(60));
+            ticketRegistry.addTicket(active);
+            val expired = new TicketGrantingTicketImpl(TicketGrantingTicket.PREFIX + '-' + RandomUtils.randomAlphabetic(16),
+                CoreAuthenticationTestUtils.getAuthentication(), new HardTimeoutExpirationPolicy(60));
+            expired.markTicketExpired();
+            ticketRegistry.addTicket(expired);
+        }
+        assertEquals(10, ticketRegistry.sessionCount());
+        assertEquals(5, ticketRegistryCleaner.clean());
+        assertEquals(5, ticketRegistry.sessionCount());
+    }
+
     @RepeatedTest(2)
     @Order(1)
     public void verifyOauthOperation() {
@@ -15,11 +15,15 @@ import org.apereo.cas.services.RegisteredServiceTestUtils;
 import org.apereo.cas.support.oauth.OAuth20GrantTypes;
 import org.apereo.cas.support.oauth.OAuth20ResponseTypes;
 import org.apereo.cas.ticket.DefaultSecurityTokenTicketFactory;
+import org.apereo.cas.ticket.ProxyGrantingTicketImpl;
+import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.TicketGrantingTicketFactory;
 import org.apereo.cas.ticket.TicketGrantingTicketImpl;
 import org.apereo.cas.ticket.code.OAuth20CodeFactory;
+import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
 import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.proxy.ProxyGrantingTicket;
 import org.apereo.cas.util.DefaultUniqueTicketIdGenerator;
 import org.apereo.cas.util.TicketGrantingTicketIdGenerator;
 import org.apereo.cas.util.spring.ApplicationContextProvider;
@@ -43,8 +47,14 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.annotation.DirtiesContext;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.ZonedDateTime;
 import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -148,6 +158,57 @@ public class JpaTicketRegistryTests extends BaseTicketRegistryTests {
         assertNull(this.newTicketRegistry.getTicket(oAuthCode.getId()));
     }
 
+    @RepeatedTest(2)
+    public void verifySessionsForPrincipal() {
+        val principalId = UUID.randomUUID().toString();
+        val tgt = new TicketGrantingTicketImpl(ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication(principalId), NeverExpiresExpirationPolicy.INSTANCE);
+        newTicketRegistry.addTicket(tgt);
+        newTicketRegistry.addTicket(new TicketGrantingTicketImpl(TicketGrantingTicket.PREFIX + '-' + UUID.randomUUID(),
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE));
+
+        assertEquals(1, newTicketRegistry.countSessionsFor(principalId));
+        try (val sessions = newTicketRegistry.getSessionsFor(principalId)) {
+            assertEquals(List.of(tgt.getId()), sessions.map(Ticket::getId).collect(Collectors.toList()));
+        }
+
+        val pgt = new ProxyGrantingTicketImpl(ProxyGrantingTicket.PROXY_GRANTING_TICKET_PREFIX + '-' + UUID.randomUUID(),
+            CoreAuthenticationTestUtils.getAuthentication(principalId), NeverExpiresExpirationPolicy.INSTANCE);
+        newTicketRegistry.addTicket(pgt);
+        assertEquals(2, newTicketRegistry.countSessionsFor(principalId.toUpperCase()));
+        try (val sessions = newTicketRegistry.getSessionsFor(principalId.toUpperCase())) {
+            assertEquals(Set.of(tgt.getId(), pgt.getId()), sessions.map(Ticket::getId).collect(Collectors.toSet()));
+        }
+    }
+
+    @RepeatedTest(2)
+    public void verifyExpiredTicketCandidates() {
+        val registry = (JpaTicketRegistry) newTicketRegistry;
+        val tgt = new TicketGrantingTicketImpl(ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication(), new HardTimeoutExpirationPolicy(60));
+        registry.addTicket(tgt);
+        val now = ZonedDateTime.now(Clock.systemUTC());
+        assertTrue(registry.getExpiredTicketCandidates(now, 0, 10).isEmpty());
+        assertEquals(1, registry.getExpiredTicketCandidates(now.plusMinutes(2), 0, 10).size());
+
+        tgt.markTicketExpired();
+        registry.updateTicket(tgt);
+        assertEquals(1, registry.getExpiredTicketCandidates(ZonedDateTime.now(Clock.systemUTC()), 0, 10).size());
+    }
+
+    @RepeatedTest(2)
+    public void verifyExpirationTimeRefreshed() {
+        val registry = (JpaTicketRegistry) newTicketRegistry;
+        val tgt = new TicketGrantingTicketImpl(ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication(), new HardTimeoutExpirationPolicy(60));
+        registry.addTicket(tgt);
+        val later = ZonedDateTime.now(Clock.systemUTC()).plusMinutes(2);
+        assertEquals(1, registry.getExpiredTicketCandidates(later, 0, 10).size());
+        assertTrue(registry.refreshExpirationTime(tgt, later));
+        assertTrue(registry.getExpiredTicketCandidates(later, 0, 10).isEmpty());
+        assertEquals(1, registry.getExpiredTicketCandidates(later.plus(JpaTicketRegistry.EXPIRATION_RECHECK_INTERVAL), 0, 10).size());
+    }
+
     @ImportAutoConfiguration({
         AopAutoConfiguration.class,
         RefreshAutoConfiguration.class
@@ -0,0 +1,30 @@
+package org.apereo.cas.ticket.registry.support;
+
+import org.apereo.cas.ticket.registry.BaseLockRepositoryTests;
+import org.apereo.cas.ticket.registry.JpaTicketRegistryTests;
+
+import lombok.Getter;
+import org.junit.jupiter.api.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * This is {@link JpaLockRepositoryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@SpringBootTest(classes = JpaTicketRegistryTests.SharedTestConfiguration.class,
+    properties = {
+        "cas.ticket.registry.cleaner.schedule.enabled=false",
+        "cas.ticket.registry.core.locking-mode=DISTRIBUTED",
+        "cas.ticket.registry.core.lock-timeout=PT1S"
+    })
+@Getter
+@Tag("JDBC")
+public class JpaLockRepositoryTests extends BaseLockRepositoryTests {
+    @Autowired
+    @Qualifier(LockRepository.BEAN_NAME)
+    private LockRepository lockRepository;
+}
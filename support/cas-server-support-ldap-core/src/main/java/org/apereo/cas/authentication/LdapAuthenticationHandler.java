@@ -1,5 +1,6 @@
 package org.apereo.cas.authentication;
 
+import org.apereo.cas.authentication.attribute.PrincipalAttributeRepositoryContext;
 import org.apereo.cas.authentication.credential.UsernamePasswordCredential;
 import org.apereo.cas.authentication.handler.support.AbstractUsernamePasswordAuthenticationHandler;
 import org.apereo.cas.authentication.principal.Principal;
@@ -87,6 +88,13 @@ public class LdapAuthenticationHandler extends AbstractUsernamePasswordAuthentic
      */
     private String principalDnAttributeName = "principalLdapDn";
 
+    /**
+     * Mapping of LDAP attribute name to attribute name, for each attribute repository,
+     * keyed by attribute repository id, whose attributes are fetched as part of authentication
+     * and published for principal resolution.
+     */
+    private Map<String, Map<String, String>> attributeRepositoryAttributeMappings = new HashMap<>(0);
+
     /**
      * Creates a new authentication handler that delegates to the given authenticator.
      *
@@ -126,6 +134,12 @@ public class LdapAuthenticationHandler extends AbstractUsernamePasswordAuthentic
             attributes.addAll(attrs);
             LOGGER.debug("Configured to retrieve principal attribute collection of [{}]", attrs);
         }
+        if (this.attributeRepositoryAttributeMappings != null && !this.attributeRepositoryAttributeMappings.isEmpty()) {
+            this.attributeRepositoryAttributeMappings.forEach((id, mappings) -> {
+                LOGGER.debug("Configured to retrieve attribute collection of [{}] on behalf of attribute repository [{}]", mappings.keySet(), id);
+                attributes.addAll(mappings.keySet());
+            });
+        }
         this.authenticatedEntryAttributes = attributes.toArray(ArrayUtils.EMPTY_STRING_ARRAY);
         LOGGER.debug("LDAP authentication entry attributes for the authentication request are [{}]", (Object[]) this.authenticatedEntryAttributes);
     }
@@ -146,6 +160,7 @@ public class LdapAuthenticationHandler extends AbstractUsernamePasswordAuthentic
         if (response.isSuccess()) {
             LOGGER.debug("LDAP response returned a result [{}], creating the final LDAP principal", response.getLdapEntry());
             val principal = createPrincipal(upc.getUsername(), response.getLdapEntry());
+            publishAttributeRepositoryAttributes(response.getLdapEntry(), upc.getUsername(), principal.getId());
             return createHandlerResult(upc, principal, messageList);
         }
         if (AuthenticationResultCode.DN_RESOLUTION_FAILURE == response.getAuthenticationResultCode()) {
@@ -242,6 +257,26 @@ public class LdapAuthenticationHandler extends AbstractUsernamePasswordAuthentic
         return username;
     }
 
+    /**
+     * Publish attributes of the ldap entry on behalf of attribute repositories
+     * whose attributes are fetched as part of authentication.
+     *
+     * @param ldapEntry   the ldap entry
+     * @param username    the username
+     * @param principalId the principal id
+     */
+    protected void publishAttributeRepositoryAttributes(final LdapEntry ldapEntry, final String username, final String principalId) {
+        if (this.attributeRepositoryAttributeMappings == null) {
+            return;
+        }
+        this.attributeRepositoryAttributeMappings.forEach((id, mappings) -> {
+            val attributeMap = new HashMap<String, List<Object>>();
+            mappings.forEach((key, name) -> attributeMap.putAll(collectAttributeValueForEntry(ldapEntry, key,
+                StringUtils.isBlank(name) ? List.of() : List.of(name))));
+            PrincipalAttributeRepositoryContext.publish(id, new HashSet<>(List.of(username, principalId)), attributeMap);
+        });
+    }
+
     private AuthenticationResponse getLdapAuthenticationResponse(final UsernamePasswordCredential upc) throws PreventedException {
         try {
             LOGGER.debug("Attempting LDAP authentication for [{}]. Authenticator pre-configured attributes are [{}], "
@@ -16,10 +16,16 @@ import org.apereo.cas.configuration.model.support.ldap.AbstractLdapAuthenticatio
 import org.apereo.cas.configuration.model.support.ldap.AbstractLdapProperties;
 import org.apereo.cas.configuration.model.support.ldap.LdapAuthenticationProperties;
 import org.apereo.cas.configuration.model.support.ldap.LdapPasswordPolicyProperties;
+import org.apereo.cas.configuration.model.core.authentication.PrincipalAttributesCoreProperties;
+import org.apereo.cas.configuration.model.core.authentication.PrincipalAttributesProperties;
+import org.apereo.cas.configuration.model.support.ldap.LdapPrincipalAttributesProperties;
 import org.apereo.cas.configuration.model.support.ldap.LdapSearchEntryHandlersProperties;
 import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.ldap.LdapConnectionPoolRegistry;
+import org.apereo.cas.util.ldap.SharedConnectionFactory;
+import org.apereo.cas.util.ldap.SharedPooledConnectionFactory;
 import org.apereo.cas.util.scripting.ExecutableCompiledGroovyScript;
 import org.apereo.cas.util.scripting.ScriptResourceCacheManager;
 import org.apereo.cas.util.scripting.WatchableGroovyScriptResource;
@@ -56,7 +62,6 @@ import org.ldaptive.LdapEntry;
 import org.ldaptive.LdapException;
 import org.ldaptive.ModifyOperation;
 import org.ldaptive.ModifyRequest;
-import org.ldaptive.PooledConnectionFactory;
 import org.ldaptive.RandomConnectionStrategy;
 import org.ldaptive.ResultCode;
 import org.ldaptive.ReturnAttributes;
@@ -164,6 +169,14 @@ public class LdapUtils {
 
     private static final String LDAP_PREFIX = "ldap";
 
+    private static final String CONNECTION_POOL_PURPOSE_SEARCH = "search";
+
+    /**
+     * Connections used for bind authentication end up bound as the authenticated user,
+     * and are kept in a pool of their own.
+     */
+    private static final String CONNECTION_POOL_PURPOSE_BIND = "bind";
+
     /**
      * Reads a Boolean value from the LdapEntry.
      *
@@ -595,8 +608,7 @@ public class LdapUtils {
                         "parameters", parameters,
                         "applicationContext", ApplicationContextProvider.getApplicationContext(),
                         "logger", LOGGER);
-                    script.setBinding(args);
-                    script.execute(args.values().toArray(), FilterTemplate.class);
+                    script.execute(args, args.values().toArray(), FilterTemplate.class, true);
                 }
             },
                 () -> {
@@ -689,15 +701,30 @@ public class LdapUtils {
 
     /**
      * New pooled connection factory pooled connection factory.
+     * Connection pools are shared by all consumers whose settings resolve to the same
+     * connection pool; closing the returned factory releases the reference held by the caller at most once.
      *
      * @param l the ldap properties
      * @return the pooled connection factory
      */
-    public static PooledConnectionFactory newLdaptivePooledConnectionFactory(final AbstractLdapProperties l) {
+    public static SharedConnectionFactory newLdaptivePooledConnectionFactory(final AbstractLdapProperties l) {
+        return new SharedConnectionFactory(newLdaptiveSharedPooledConnectionFactory(l, CONNECTION_POOL_PURPOSE_SEARCH));
+    }
+
+    private static SharedPooledConnectionFactory newLdaptiveSharedPooledConnectionFactory(final AbstractLdapProperties l,
+                                                                                          final String purpose) {
+        val registry = LdapConnectionPoolRegistry.getInstance();
+        val key = LdapConnectionPoolRegistry.getConnectionPoolKey(l, purpose);
+        return registry.getConnectionFactory(key, poolKey -> createLdaptivePooledConnectionFactory(l, poolKey, registry));
+    }
+
+    private static SharedPooledConnectionFactory createLdaptivePooledConnectionFactory(final AbstractLdapProperties l,
+                                                                                       final String key,
+                                                                                       final LdapConnectionPoolRegistry registry) {
         val cc = newLdaptiveConnectionConfig(l);
 
         LOGGER.debug("Creating LDAP connection pool configuration for [{}]", l.getLdapUrl());
-        val pooledCf = new PooledConnectionFactory(cc);
+        val pooledCf = new SharedPooledConnectionFactory(cc, key, registry);
         pooledCf.setMinPoolSize(l.getMinPoolSize());
         pooledCf.setMaxPoolSize(l.getMaxPoolSize());
         pooledCf.setValidateOnCheckOut(l.isValidateOnCheckout());
@@ -720,6 +747,7 @@ public class LdapUtils {
                 val compareValidator = new CompareConnectionValidator(compareRequest);
                 compareValidator.setValidatePeriod(Beans.newDuration(l.getValidatePeriod()));
                 compareValidator.setValidateTimeout(Beans.newDuration(l.getValidateTimeout()));
+                compareValidator.setOnFailure(connection -> pooledCf.recordValidationFailure());
                 pooledCf.setValidator(compareValidator);
                 break;
             case "none":
@@ -736,6 +764,7 @@ public class LdapUtils {
                 val searchValidator = new SearchConnectionValidator(searchRequest);
                 searchValidator.setValidatePeriod(Beans.newDuration(l.getValidatePeriod()));
                 searchValidator.setValidateTimeout(Beans.newDuration(l.getValidateTimeout()));
+                searchValidator.setOnFailure(connection -> pooledCf.recordValidationFailure());
                 pooledCf.setValidator(searchValidator);
                 break;
         }
@@ -898,7 +927,13 @@ public class LdapUtils {
      * @return the connection factory
      */
     public static ConnectionFactory newLdaptiveConnectionFactory(final AbstractLdapProperties l) {
-        return l.isDisablePooling() ? newLdaptiveDefaultConnectionFactory(l) : newLdaptivePooledConnectionFactory(l);
+        return newLdaptiveConnectionFactory(l, CONNECTION_POOL_PURPOSE_SEARCH);
+    }
+
+    private static ConnectionFactory newLdaptiveConnectionFactory(final AbstractLdapProperties l, final String purpose) {
+        return l.isDisablePooling()
+            ? newLdaptiveDefaultConnectionFactory(l)
+            : new SharedConnectionFactory(newLdaptiveSharedPooledConnectionFactory(l, purpose));
     }
 
     /**
@@ -1040,7 +1075,7 @@ public class LdapUtils {
         val resolver = buildAggregateDnResolver(l, connectionFactoryForSearch);
 
         val auth = StringUtils.isBlank(l.getPrincipalAttributePassword())
-            ? new Authenticator(resolver, getBindAuthenticationHandler(newLdaptiveConnectionFactory(l)))
+            ? new Authenticator(resolver, getBindAuthenticationHandler(newLdaptiveConnectionFactory(l, CONNECTION_POOL_PURPOSE_BIND)))
             : new Authenticator(resolver, getCompareAuthenticationHandler(l, newLdaptiveConnectionFactory(l)));
 
         if (l.isEnhanceWithEntryResolver()) {
@@ -1065,7 +1100,7 @@ public class LdapUtils {
 
     private static Authenticator getAuthenticatorViaDnFormat(final AbstractLdapAuthenticationProperties l) {
         val resolver = new FormatDnResolver(l.getDnFormat());
-        val authenticator = new Authenticator(resolver, getBindAuthenticationHandler(newLdaptiveConnectionFactory(l)));
+        val authenticator = new Authenticator(resolver, getBindAuthenticationHandler(newLdaptiveConnectionFactory(l, CONNECTION_POOL_PURPOSE_BIND)));
 
         if (l.isEnhanceWithEntryResolver()) {
             authenticator.setEntryResolver(newLdaptiveSearchEntryResolver(l, newLdaptiveConnectionFactory(l)));
@@ -1264,6 +1299,26 @@ public class LdapUtils {
                                                                             final ApplicationContext applicationContext,
                                                                             final ServicesManager servicesManager,
                                                                             final PrincipalFactory principalFactory) {
+        return createLdapAuthenticationHandler(props, applicationContext, servicesManager, principalFactory, new PrincipalAttributesProperties());
+    }
+
+    /**
+     * Create ldap authentication handler.
+     * If the handler is configured to reuse the authenticated entry for attribute repositories,
+     * attributes of those attribute repositories that would query the same entry are fetched as part of authentication.
+     *
+     * @param props                 the ldap authentication properties
+     * @param applicationContext    the application context
+     * @param servicesManager       the services manager
+     * @param principalFactory      the principal factory
+     * @param attributeRepository   the attribute repository properties
+     * @return the ldap authentication handler
+     */
+    public static LdapAuthenticationHandler createLdapAuthenticationHandler(final LdapAuthenticationProperties props,
+                                                                            final ApplicationContext applicationContext,
+                                                                            final ServicesManager servicesManager,
+                                                                            final PrincipalFactory principalFactory,
+                                                                            final PrincipalAttributesProperties attributeRepository) {
         val multiMapAttributes = CoreAuthenticationUtils.transformPrincipalAttributesListIntoMultiMap(props.getPrincipalAttributeList());
         LOGGER.debug("Created and mapped principal attributes [{}] for [{}]...", multiMapAttributes, props.getLdapUrl());
 
@@ -1317,11 +1372,48 @@ public class LdapUtils {
         val attributes = CollectionUtils.wrap(multiMapAttributes);
         handler.setPrincipalAttributeMap(attributes);
 
+        if (props.isReuseEntryForAttributeRepositories()) {
+            val mappings = getAttributeRepositoryAttributeMappings(props, attributeRepository);
+            LOGGER.debug("LDAP authentication for [{}] fetches attributes on behalf of attribute repositories [{}]",
+                props.getLdapUrl(), mappings.keySet());
+            handler.setAttributeRepositoryAttributeMappings(mappings);
+        }
+
         LOGGER.debug("Initializing LDAP authentication handler for [{}]", props.getLdapUrl());
         handler.initialize();
         return handler;
     }
 
+    /**
+     * Gets the attribute mappings of ldap attribute repositories, keyed by attribute repository id,
+     * that query the same entry as the ldap authentication handler would.
+     * No attribute repository can be skipped when repositories are cascaded, since each
+     * repository is then queried with the results of the previous one.
+     *
+     * @param props               the ldap authentication properties
+     * @param attributeRepository the attribute repository properties
+     * @return the attribute repository attribute mappings
+     */
+    public static Map<String, Map<String, String>> getAttributeRepositoryAttributeMappings(
+        final LdapAuthenticationProperties props, final PrincipalAttributesProperties attributeRepository) {
+        if (attributeRepository.getCore().getAggregation() == PrincipalAttributesCoreProperties.AggregationStrategyTypes.CASCADE) {
+            LOGGER.debug("Attribute repositories are cascaded; LDAP authentication for [{}] will not fetch attributes on their behalf",
+                props.getLdapUrl());
+            return new LinkedHashMap<>(0);
+        }
+        val ldapUrl = LdapConnectionPoolRegistry.getNormalizedLdapUrl(props.getLdapUrl());
+        return attributeRepository.getLdap()
+            .stream()
+            .filter(repository -> StringUtils.isNotBlank(repository.getId()) && !repository.getAttributes().isEmpty())
+            .filter(repository -> props.getSearchEntryHandlers().isEmpty() && repository.getSearchEntryHandlers().isEmpty())
+            .filter(repository -> ldapUrl.equals(LdapConnectionPoolRegistry.getNormalizedLdapUrl(repository.getLdapUrl())))
+            .filter(repository -> StringUtils.equalsIgnoreCase(StringUtils.trim(props.getBaseDn()), StringUtils.trim(repository.getBaseDn())))
+            .filter(repository -> StringUtils.equals(StringUtils.trim(props.getSearchFilter()), StringUtils.trim(repository.getSearchFilter())))
+            .filter(repository -> props.isSubtreeSearch() == repository.isSubtreeSearch())
+            .collect(Collectors.toMap(LdapPrincipalAttributesProperties::getId,
+                LdapPrincipalAttributesProperties::getAttributes, (first, second) -> first, LinkedHashMap::new));
+    }
+
     @RequiredArgsConstructor
     private static class ChainingLdapDnResolver implements DnResolver {
         private final List<? extends DnResolver> resolvers;
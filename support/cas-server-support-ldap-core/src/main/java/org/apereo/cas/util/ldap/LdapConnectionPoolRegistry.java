@@ -0,0 +1,209 @@
+package org.apereo.cas.util.ldap;
+
+import org.apereo.cas.configuration.model.support.ldap.AbstractLdapProperties;
+import org.apereo.cas.util.DigestUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link LdapConnectionPoolRegistry} that keeps track of LDAP connection pools,
+ * keyed by the normalized connection and pool settings that produced them. Consumers whose settings
+ * resolve to the same key share a single connection pool, regardless of the configuration block
+ * that defines those settings. Pools are reference-counted and closed once the last consumer releases them.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Slf4j
+public class LdapConnectionPoolRegistry {
+    private static final LdapConnectionPoolRegistry INSTANCE = new LdapConnectionPoolRegistry();
+
+    private final Map<String, SharedPooledConnectionFactory> pools = new ConcurrentHashMap<>();
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Gets the shared registry instance.
+     *
+     * @return the instance
+     */
+    public static LdapConnectionPoolRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Build the key of the connection pool for the given settings.
+     * Only settings that affect connections and the pool are considered; search settings
+     * such as the base dn or search filter are not. The key is a digest, since
+     * the settings include bind credentials.
+     *
+     * @param properties the ldap settings
+     * @param purpose    the purpose of the pool, for consumers that must not share connections with others
+     * @return the key
+     */
+    public static String getConnectionPoolKey(final AbstractLdapProperties properties, final String purpose) {
+        val ldapUrls = getNormalizedLdapUrl(properties.getLdapUrl());
+        val validator = properties.getValidator();
+        val settings = new ArrayList<Object>();
+        settings.add(purpose);
+        settings.add(ldapUrls);
+        settings.add(StringUtils.trimToEmpty(properties.getBindDn()).toLowerCase(Locale.ENGLISH));
+        settings.add(properties.getBindCredential());
+        settings.add(properties.isUseStartTls());
+        settings.add(properties.getConnectTimeout());
+        settings.add(properties.getResponseTimeout());
+        settings.add(properties.getConnectionStrategy());
+        settings.add(properties.getTrustCertificates());
+        settings.add(properties.getTrustStore());
+        settings.add(properties.getTrustStoreType());
+        settings.add(properties.getTrustStorePassword());
+        settings.add(properties.getKeystore());
+        settings.add(properties.getKeystoreType());
+        settings.add(properties.getKeystorePassword());
+        settings.add(properties.getHostnameVerifier());
+        settings.add(properties.getTrustManager());
+        settings.add(properties.getSaslMechanism());
+        settings.add(properties.getSaslRealm());
+        settings.add(properties.getSaslAuthorizationId());
+        settings.add(properties.getSaslSecurityStrength());
+        settings.add(properties.getSaslMutualAuth());
+        settings.add(properties.getSaslQualityOfProtection());
+        settings.add(properties.getMinPoolSize());
+        settings.add(properties.getMaxPoolSize());
+        settings.add(properties.getPoolPassivator());
+        settings.add(properties.isValidateOnCheckout());
+        settings.add(properties.isValidatePeriodically());
+        settings.add(properties.getValidatePeriod());
+        settings.add(properties.getValidateTimeout());
+        settings.add(properties.isFailFast());
+        settings.add(properties.getIdleTime());
+        settings.add(properties.getPrunePeriod());
+        settings.add(properties.getBlockWaitTime());
+        settings.add(validator.getType());
+        settings.add(validator.getBaseDn());
+        settings.add(validator.getSearchFilter());
+        settings.add(validator.getScope());
+        settings.add(validator.getDn());
+        settings.add(validator.getAttributeName());
+        settings.add(validator.getAttributeValue());
+        return DigestUtils.sha256(settings.stream().map(String::valueOf).collect(Collectors.joining("\n")));
+    }
+
+    /**
+     * Normalize the given ldap url, which may specify multiple LDAP servers.
+     *
+     * @param ldapUrl the ldap url
+     * @return the normalized ldap url
+     */
+    public static String getNormalizedLdapUrl(final String ldapUrl) {
+        return Arrays.stream(StringUtils.split(StringUtils.defaultString(ldapUrl), ", "))
+            .map(url -> url.trim().toLowerCase(Locale.ENGLISH))
+            .collect(Collectors.joining(" "));
+    }
+
+    /**
+     * Get the connection pool registered under the given key, or create and register one.
+     * The caller holds a reference to the pool, which is released when the pool is closed.
+     *
+     * @param key     the key
+     * @param factory the function that creates and initializes the pool if none is registered
+     * @return the pool
+     */
+    public synchronized SharedPooledConnectionFactory getConnectionFactory(final String key,
+                                                                           final Function<String, SharedPooledConnectionFactory> factory) {
+        var pool = pools.get(key);
+        if (pool != null) {
+            LOGGER.debug("Reusing LDAP connection pool for [{}]", pool.getLdapUrl());
+            pool.getReferences().incrementAndGet();
+            return pool;
+        }
+        pool = factory.apply(key);
+        pool.getReferences().incrementAndGet();
+        pools.put(key, pool);
+        val created = pool;
+        listeners.forEach(listener -> listener.onRegistered(created));
+        return pool;
+    }
+
+    /**
+     * Release a reference to the given pool, and close the pool
+     * if no other consumer holds a reference to it.
+     *
+     * @param pool the pool
+     */
+    public synchronized void release(final SharedPooledConnectionFactory pool) {
+        if (pools.get(pool.getKey()) != pool) {
+            LOGGER.trace("LDAP connection pool for [{}] is not registered and will be closed", pool.getLdapUrl());
+            pool.closePool();
+            return;
+        }
+        if (pool.getReferences().decrementAndGet() <= 0) {
+            pools.remove(pool.getKey());
+            listeners.forEach(listener -> listener.onReleased(pool));
+            pool.closePool();
+        }
+    }
+
+    /**
+     * Gets the connection pools that are currently registered.
+     *
+     * @return the connection pools
+     */
+    public Collection<SharedPooledConnectionFactory> getConnectionFactories() {
+        return pools.values();
+    }
+
+    /**
+     * Register a listener that is notified once a new connection pool is registered or released.
+     * The listener is immediately notified of all pools that are already registered.
+     *
+     * @param listener the listener
+     */
+    public synchronized void addListener(final Listener listener) {
+        listeners.add(listener);
+        pools.values().forEach(listener::onRegistered);
+    }
+
+    /**
+     * Remove a listener that is no longer interested in connection pools,
+     * typically because the application context that registered it is shutting down.
+     *
+     * @param listener the listener
+     */
+    public synchronized void removeListener(final Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Listener that is notified as connection pools are registered and released.
+     */
+    public interface Listener {
+        /**
+         * Invoked once the connection pool is registered.
+         *
+         * @param pool the pool
+         */
+        void onRegistered(SharedPooledConnectionFactory pool);
+
+        /**
+         * Invoked once the last reference to the connection pool is released, before the pool is closed.
+         *
+         * @param pool the pool
+         */
+        default void onReleased(final SharedPooledConnectionFactory pool) {
+        }
+    }
+}
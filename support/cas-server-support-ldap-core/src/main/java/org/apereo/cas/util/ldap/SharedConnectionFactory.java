@@ -0,0 +1,44 @@
+package org.apereo.cas.util.ldap;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.ldaptive.Connection;
+import org.ldaptive.ConnectionConfig;
+import org.ldaptive.ConnectionFactory;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * This is {@link SharedConnectionFactory} that hands out connections from a {@link SharedPooledConnectionFactory}
+ * on behalf of a single consumer. Closing this factory releases the reference held by the consumer at most once,
+ * regardless of how many components that were handed this factory attempt to close it.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@RequiredArgsConstructor
+public class SharedConnectionFactory implements ConnectionFactory {
+    @Getter
+    private final SharedPooledConnectionFactory pool;
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    @Override
+    public ConnectionConfig getConnectionConfig() {
+        return pool.getConnectionConfig();
+    }
+
+    @Override
+    @SneakyThrows
+    public Connection getConnection() {
+        return pool.getConnection();
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            pool.close();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package org.apereo.cas.util.ldap;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.ldaptive.Connection;
+import org.ldaptive.ConnectionConfig;
+import org.ldaptive.PooledConnectionFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is {@link SharedPooledConnectionFactory}, a connection pool that is shared
+ * by all consumers whose LDAP settings resolve to the same connection pool key.
+ * The pool keeps track of the number of consumers that hold a reference to it,
+ * and is only closed by the {@link LdapConnectionPoolRegistry} once the last reference is released.
+ * Closing the pool directly releases one reference.
+ * <p>
+ * The pool also keeps track of the time it takes to obtain connections and the number of
+ * failed connection validations, so that pool health can be reported as metrics.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Slf4j
+@Getter
+public class SharedPooledConnectionFactory extends PooledConnectionFactory {
+    private final String key;
+
+    private final String ldapUrl;
+
+    private final AtomicInteger references = new AtomicInteger();
+
+    private final AtomicLong checkouts = new AtomicLong();
+
+    private final AtomicLong totalWaitTimeInNanos = new AtomicLong();
+
+    private final AtomicLong validationFailures = new AtomicLong();
+
+    @Getter(AccessLevel.NONE)
+    private final LdapConnectionPoolRegistry registry;
+
+    public SharedPooledConnectionFactory(final ConnectionConfig connectionConfig, final String key,
+                                         final LdapConnectionPoolRegistry registry) {
+        super(connectionConfig);
+        this.key = key;
+        this.ldapUrl = connectionConfig.getLdapUrl();
+        this.registry = registry;
+    }
+
+    @Override
+    @SneakyThrows
+    public Connection getConnection() {
+        val start = System.nanoTime();
+        try {
+            return super.getConnection();
+        } finally {
+            checkouts.incrementAndGet();
+            totalWaitTimeInNanos.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Record a failed connection validation.
+     */
+    public void recordValidationFailure() {
+        validationFailures.incrementAndGet();
+    }
+
+    @Override
+    public void close() {
+        registry.release(this);
+    }
+
+    /**
+     * Close the underlying connection pool.
+     */
+    void closePool() {
+        LOGGER.debug("Closing shared LDAP connection pool for [{}]", ldapUrl);
+        super.close();
+    }
+}
@@ -1,10 +1,17 @@
 package org.apereo.cas;
 
+import org.apereo.cas.configuration.model.core.authentication.PrincipalAttributesCoreProperties;
+import org.apereo.cas.configuration.model.core.authentication.PrincipalAttributesProperties;
 import org.apereo.cas.configuration.model.support.ldap.AbstractLdapAuthenticationProperties;
 import org.apereo.cas.configuration.model.support.ldap.AbstractLdapProperties;
+import org.apereo.cas.configuration.model.support.ldap.LdapAuthenticationProperties;
+import org.apereo.cas.configuration.model.support.ldap.LdapPrincipalAttributesProperties;
 import org.apereo.cas.configuration.model.support.ldap.LdapSearchEntryHandlersProperties;
 import org.apereo.cas.util.LdapUtils;
 import org.apereo.cas.util.junit.EnabledIfPortOpen;
+import org.apereo.cas.util.ldap.LdapConnectionPoolRegistry;
+import org.apereo.cas.util.ldap.SharedConnectionFactory;
+import org.apereo.cas.util.ldap.SharedPooledConnectionFactory;
 import org.apereo.cas.util.scripting.GroovyScriptResourceCacheManager;
 import org.apereo.cas.util.scripting.ScriptResourceCacheManager;
 import org.apereo.cas.util.spring.ApplicationContextProvider;
@@ -27,6 +34,7 @@ import java.io.File;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.security.KeyStore;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -226,9 +234,125 @@ public class LdapUtilsTests {
                 val resolver = LdapUtils.newLdaptiveSearchEntryResolver(ldap, factory);
                 assertNotNull(resolver);
             });
+        factory.close();
 
     }
 
+    @Test
+    public void verifySharedConnectionPools() {
+        val ldap = new Ldap();
+        ldap.setLdapUrl("ldap://localhost:10389");
+        ldap.setBindDn("cn=Directory Manager");
+        ldap.setBindCredential("password");
+        ldap.setBaseDn("ou=people,dc=example,dc=org");
+
+        val other = new Ldap();
+        other.setLdapUrl("LDAP://LOCALHOST:10389 ");
+        other.setBindDn("CN=Directory Manager");
+        other.setBindCredential("password");
+        other.setBaseDn("ou=users,dc=example,dc=org");
+
+        val registry = LdapConnectionPoolRegistry.getInstance();
+        val factory1 = LdapUtils.newLdaptiveConnectionFactory(ldap);
+        val factory2 = LdapUtils.newLdaptiveConnectionFactory(other);
+        assertTrue(factory1 instanceof SharedConnectionFactory);
+        val pool = ((SharedConnectionFactory) factory1).getPool();
+        assertSame(pool, ((SharedConnectionFactory) factory2).getPool());
+        assertEquals(2, pool.getReferences().get());
+        assertTrue(registry.getConnectionFactories().contains(pool));
+
+        val pooled = LdapUtils.newLdaptivePooledConnectionFactory(ldap);
+        assertSame(pool, pooled.getPool());
+        assertEquals(3, pool.getReferences().get());
+        pooled.close();
+        pooled.close();
+        assertEquals(2, pool.getReferences().get());
+
+        other.setMaxPoolSize(ldap.getMaxPoolSize() + 1);
+        val factory3 = LdapUtils.newLdaptiveConnectionFactory(other);
+        assertNotSame(pool, ((SharedConnectionFactory) factory3).getPool());
+        factory3.close();
+
+        factory1.close();
+        factory1.close();
+        assertEquals(1, pool.getReferences().get());
+        assertTrue(registry.getConnectionFactories().contains(pool));
+        factory2.close();
+        assertFalse(registry.getConnectionFactories().contains(pool));
+    }
+
+    @Test
+    public void verifyConnectionPoolListeners() {
+        val ldap = new Ldap();
+        ldap.setLdapUrl("ldap://localhost:10389");
+        ldap.setBindDn("cn=Directory Manager");
+        ldap.setBindCredential("password");
+        ldap.setBaseDn("ou=people,dc=example,dc=org");
+        ldap.setMaxPoolSize(ldap.getMaxPoolSize() + 3);
+
+        val registered = new ArrayList<SharedPooledConnectionFactory>();
+        val released = new ArrayList<SharedPooledConnectionFactory>();
+        val listener = new LdapConnectionPoolRegistry.Listener() {
+            @Override
+            public void onRegistered(final SharedPooledConnectionFactory pool) {
+                registered.add(pool);
+            }
+
+            @Override
+            public void onReleased(final SharedPooledConnectionFactory pool) {
+                released.add(pool);
+            }
+        };
+        val registry = LdapConnectionPoolRegistry.getInstance();
+        registry.addListener(listener);
+        try {
+            val factory = LdapUtils.newLdaptiveConnectionFactory(ldap);
+            val pool = ((SharedConnectionFactory) factory).getPool();
+            assertTrue(registered.contains(pool));
+            assertFalse(released.contains(pool));
+            factory.close();
+            assertTrue(released.contains(pool));
+        } finally {
+            registry.removeListener(listener);
+        }
+        val factory = LdapUtils.newLdaptiveConnectionFactory(ldap);
+        val pool = ((SharedConnectionFactory) factory).getPool();
+        assertFalse(registered.contains(pool));
+        factory.close();
+        assertFalse(released.contains(pool));
+    }
+
+    @Test
+    public void verifyAttributeRepositoryAttributeMappings() {
+        val props = new LdapAuthenticationProperties();
+        props.setLdapUrl("ldap://localhost:10389");
+        props.setBaseDn("ou=people,dc=example,dc=org");
+        props.setSearchFilter("cn={user}");
+
+        val repository = new LdapPrincipalAttributesProperties();
+        repository.setId("LdapRepository");
+        repository.setLdapUrl("LDAP://localhost:10389");
+        repository.setBaseDn("OU=people,dc=example,dc=org");
+        repository.setSearchFilter("cn={user}");
+        repository.getAttributes().put("mail", "email");
+
+        val other = new LdapPrincipalAttributesProperties();
+        other.setId("OtherRepository");
+        other.setLdapUrl("ldap://localhost:10389");
+        other.setBaseDn("ou=users,dc=example,dc=org");
+        other.setSearchFilter("cn={user}");
+        other.getAttributes().put("mail", "email");
+
+        val attributeRepository = new PrincipalAttributesProperties();
+        attributeRepository.getLdap().addAll(List.of(repository, other));
+        val mappings = LdapUtils.getAttributeRepositoryAttributeMappings(props, attributeRepository);
+        assertEquals(1, mappings.size());
+        assertEquals(Map.of("mail", "email"), mappings.get("LdapRepository"));
+
+        attributeRepository.getCore().setAggregation(PrincipalAttributesCoreProperties.AggregationStrategyTypes.CASCADE);
+        assertTrue(LdapUtils.getAttributeRepositoryAttributeMappings(props, attributeRepository).isEmpty());
+    }
+
     @Test
     public void verifyConnectionConfig() throws Exception {
         val ldap = new Ldap();
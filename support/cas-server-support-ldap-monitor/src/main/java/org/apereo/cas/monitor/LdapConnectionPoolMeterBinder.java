@@ -0,0 +1,100 @@
+package org.apereo.cas.monitor;
+
+import org.apereo.cas.util.ldap.LdapConnectionPoolRegistry;
+import org.apereo.cas.util.ldap.SharedPooledConnectionFactory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link LdapConnectionPoolMeterBinder} that exposes the number of active and idle connections,
+ * the time it takes to obtain connections and the number of failed connection validations
+ * of each shared LDAP connection pool as metrics. Pools are tagged by their LDAP url
+ * and a short prefix of the connection pool key. Meters are removed once their pool is released,
+ * and the binder stops listening to the connection pool registry once it is destroyed.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@RequiredArgsConstructor
+public class LdapConnectionPoolMeterBinder implements MeterBinder, DisposableBean {
+    private static final int POOL_TAG_LENGTH = 8;
+
+    private final LdapConnectionPoolRegistry ldapConnectionPoolRegistry;
+
+    private final List<ConnectionPoolMeters> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        val listener = new ConnectionPoolMeters(registry);
+        listeners.add(listener);
+        ldapConnectionPoolRegistry.addListener(listener);
+    }
+
+    @Override
+    public void destroy() {
+        listeners.forEach(listener -> {
+            ldapConnectionPoolRegistry.removeListener(listener);
+            listener.removeAll();
+        });
+        listeners.clear();
+    }
+
+    @RequiredArgsConstructor
+    private static class ConnectionPoolMeters implements LdapConnectionPoolRegistry.Listener {
+        private final MeterRegistry registry;
+
+        private final Map<SharedPooledConnectionFactory, List<Meter>> meters = new ConcurrentHashMap<>();
+
+        @Override
+        public void onRegistered(final SharedPooledConnectionFactory pool) {
+            val tags = Tags.of("url", StringUtils.defaultString(pool.getLdapUrl()),
+                "pool", StringUtils.left(pool.getKey(), POOL_TAG_LENGTH));
+            meters.put(pool, List.of(
+                Gauge.builder("cas.ldap.pool.active", pool, p -> p.activeCount())
+                    .description("Number of connections that are checked out of the LDAP connection pool")
+                    .tags(tags)
+                    .register(registry),
+                Gauge.builder("cas.ldap.pool.idle", pool, p -> p.availableCount())
+                    .description("Number of connections that are available in the LDAP connection pool")
+                    .tags(tags)
+                    .register(registry),
+                FunctionTimer.builder("cas.ldap.pool.wait", pool,
+                        p -> p.getCheckouts().get(), p -> p.getTotalWaitTimeInNanos().get(), TimeUnit.NANOSECONDS)
+                    .description("Time spent obtaining connections from the LDAP connection pool")
+                    .tags(tags)
+                    .register(registry),
+                FunctionCounter.builder("cas.ldap.pool.validation.failures", pool, p -> p.getValidationFailures().get())
+                    .description("Number of connections in the LDAP connection pool that failed validation")
+                    .tags(tags)
+                    .register(registry)));
+        }
+
+        @Override
+        public void onReleased(final SharedPooledConnectionFactory pool) {
+            val poolMeters = meters.remove(pool);
+            if (poolMeters != null) {
+                poolMeters.forEach(registry::remove);
+            }
+        }
+
+        void removeAll() {
+            meters.keySet().forEach(this::onReleased);
+        }
+    }
+}
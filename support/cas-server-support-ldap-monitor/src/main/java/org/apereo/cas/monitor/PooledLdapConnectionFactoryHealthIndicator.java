@@ -1,5 +1,7 @@
 package org.apereo.cas.monitor;
 
+import org.apereo.cas.util.ldap.SharedConnectionFactory;
+
 import lombok.val;
 import org.ldaptive.ConnectionValidator;
 import org.ldaptive.PooledConnectionFactory;
@@ -9,7 +11,8 @@ import org.springframework.boot.actuate.health.HealthContributor;
 import java.util.concurrent.ExecutorService;
 
 /**
- * Monitors an ldaptive {@link PooledConnectionFactory}.
+ * Monitors an ldaptive {@link PooledConnectionFactory} that is shared
+ * through a {@link SharedConnectionFactory}.
  *
  * @author Marvin S. Addison
  * @since 4.0.0
@@ -19,7 +22,7 @@ public class PooledLdapConnectionFactoryHealthIndicator extends AbstractPoolHeal
     /**
      * Source of connections to validate.
      */
-    private final PooledConnectionFactory connectionFactory;
+    private final SharedConnectionFactory connectionFactory;
 
     /**
      * Connection validator.
@@ -27,7 +30,7 @@ public class PooledLdapConnectionFactoryHealthIndicator extends AbstractPoolHeal
     private final ConnectionValidator validator;
 
     public PooledLdapConnectionFactoryHealthIndicator(final long maxWait,
-                                                      final PooledConnectionFactory factory,
+                                                      final SharedConnectionFactory factory,
                                                       final ExecutorService executor,
                                                       final ConnectionValidator validator) {
         super(maxWait, executor);
@@ -54,11 +57,11 @@ public class PooledLdapConnectionFactoryHealthIndicator extends AbstractPoolHeal
 
     @Override
     protected int getIdleCount() {
-        return this.connectionFactory.availableCount();
+        return this.connectionFactory.getPool().availableCount();
     }
 
     @Override
     protected int getActiveCount() {
-        return this.connectionFactory.activeCount();
+        return this.connectionFactory.getPool().activeCount();
     }
 }
@@ -3,9 +3,12 @@ package org.apereo.cas.monitor.config;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.model.core.monitor.LdapMonitorProperties;
 import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.monitor.LdapConnectionPoolMeterBinder;
 import org.apereo.cas.monitor.PooledLdapConnectionFactoryHealthIndicator;
 import org.apereo.cas.util.LdapUtils;
+import org.apereo.cas.util.ldap.LdapConnectionPoolRegistry;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -15,6 +18,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.config.ListFactoryBean;
 import org.springframework.boot.actuate.autoconfigure.health.ConditionalOnEnabledHealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.actuate.health.CompositeHealthContributor;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -75,4 +79,10 @@ public class LdapMonitorConfiguration {
             .forEach(it -> contributors.put(it.getKey(), it.getValue()));
         return CompositeHealthContributor.fromMap((Map) contributors);
     }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "ldapConnectionPoolMeterBinder")
+    public MeterBinder ldapConnectionPoolMeterBinder() {
+        return new LdapConnectionPoolMeterBinder(LdapConnectionPoolRegistry.getInstance());
+    }
 }
@@ -74,7 +74,8 @@ public class LdapAuthenticationConfiguration {
                 }
                 return true;
             }).forEach(l -> {
-                val handler = LdapUtils.createLdapAuthenticationHandler(l, applicationContext, servicesManager, ldapPrincipalFactory);
+                val handler = LdapUtils.createLdapAuthenticationHandler(l, applicationContext, servicesManager,
+                    ldapPrincipalFactory, casProperties.getAuthn().getAttributeRepository());
                 handler.setState(l.getState());
                 handlers.add(handler);
             });
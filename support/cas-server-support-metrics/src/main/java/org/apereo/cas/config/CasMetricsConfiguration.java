@@ -1,9 +1,26 @@
 package org.apereo.cas.config;
 
+import org.apereo.cas.audit.AuditTrailExecutionPlan;
+import org.apereo.cas.authentication.attribute.AttributeRepositoryStatistics;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.logout.slo.SingleLogoutMessageDispatcher;
+import org.apereo.cas.monitor.AttributeRepositoryMeterBinder;
+import org.apereo.cas.monitor.AuditTrailManagerMeterBinder;
+import org.apereo.cas.monitor.GroovyScriptMeterBinder;
+import org.apereo.cas.monitor.PrincipalAttributeRepositoryMeterBinder;
+import org.apereo.cas.monitor.SingleLogoutMessageDispatcherMeterBinder;
+import org.apereo.cas.monitor.TicketRegistryCleanerMeterBinder;
+import org.apereo.cas.monitor.WebflowTranscoderMeterBinder;
+import org.apereo.cas.ticket.registry.TicketRegistryCleanerStatistics;
+import org.apereo.cas.util.scripting.CompiledGroovyScriptCache;
+import org.apereo.cas.web.flow.executor.WebflowTranscoderStatistics;
 
 import io.micrometer.core.aop.TimedAspect;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -22,4 +39,54 @@ public class CasMetricsConfiguration {
     public TimedAspect timedAspect(final MeterRegistry registry) {
         return new TimedAspect(registry);
     }
+
+    @Bean
+    @Autowired
+    public MeterBinder auditTrailManagerMeterBinder(
+        @Qualifier("auditTrailExecutionPlan")
+        final ObjectProvider<AuditTrailExecutionPlan> auditTrailExecutionPlan) {
+        return new AuditTrailManagerMeterBinder(auditTrailExecutionPlan);
+    }
+
+    @Bean
+    @Autowired
+    public MeterBinder singleLogoutMessageDispatcherMeterBinder(
+        @Qualifier(SingleLogoutMessageDispatcher.BEAN_NAME)
+        final ObjectProvider<SingleLogoutMessageDispatcher> singleLogoutMessageDispatcher) {
+        return new SingleLogoutMessageDispatcherMeterBinder(singleLogoutMessageDispatcher);
+    }
+
+    @Bean
+    @Autowired
+    public MeterBinder ticketRegistryCleanerMeterBinder(
+        @Qualifier(TicketRegistryCleanerStatistics.BEAN_NAME)
+        final ObjectProvider<TicketRegistryCleanerStatistics> ticketRegistryCleanerStatistics) {
+        return new TicketRegistryCleanerMeterBinder(ticketRegistryCleanerStatistics);
+    }
+
+    @Bean
+    @Autowired
+    public MeterBinder webflowTranscoderMeterBinder(
+        @Qualifier(WebflowTranscoderStatistics.BEAN_NAME)
+        final ObjectProvider<WebflowTranscoderStatistics> webflowTranscoderStatistics) {
+        return new WebflowTranscoderMeterBinder(webflowTranscoderStatistics);
+    }
+
+    @Bean
+    public MeterBinder groovyScriptMeterBinder() {
+        return new GroovyScriptMeterBinder(CompiledGroovyScriptCache.getInstance());
+    }
+
+    @Bean
+    public MeterBinder principalAttributeRepositoryMeterBinder() {
+        return new PrincipalAttributeRepositoryMeterBinder();
+    }
+
+    @Bean
+    @Autowired
+    public MeterBinder attributeRepositoryMeterBinder(
+        @Qualifier(AttributeRepositoryStatistics.BEAN_NAME)
+        final ObjectProvider<AttributeRepositoryStatistics> attributeRepositoryStatistics) {
+        return new AttributeRepositoryMeterBinder(attributeRepositoryStatistics);
+    }
 }
@@ -0,0 +1,48 @@
+package org.apereo.cas.monitor;
+
+import org.apereo.cas.authentication.attribute.AttributeRepositoryStatistics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link AttributeRepositoryMeterBinder} that exposes the time it takes
+ * for each attribute repository to produce a result, and the number of attribute repositories
+ * that did not produce a result in time, as metrics.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@RequiredArgsConstructor
+public class AttributeRepositoryMeterBinder implements MeterBinder {
+    private final ObjectProvider<AttributeRepositoryStatistics> attributeRepositoryStatistics;
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        attributeRepositoryStatistics.ifAvailable(statistics -> statistics.registerListener(new AttributeRepositoryStatistics.Listener() {
+            @Override
+            public void queried(final String repositoryId, final long durationInNanos) {
+                Timer.builder("cas.authn.attribute.repository.query")
+                    .description("Time it takes for an attribute repository to produce a result")
+                    .tag("repository", repositoryId)
+                    .register(registry)
+                    .record(durationInNanos, TimeUnit.NANOSECONDS);
+            }
+
+            @Override
+            public void timedOut(final String repositoryId) {
+                Counter.builder("cas.authn.attribute.repository.timeouts")
+                    .description("Number of attribute repositories that did not produce a result in time")
+                    .tag("repository", repositoryId)
+                    .register(registry)
+                    .increment();
+            }
+        }));
+    }
+}
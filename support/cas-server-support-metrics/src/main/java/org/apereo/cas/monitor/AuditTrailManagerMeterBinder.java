@@ -0,0 +1,68 @@
+package org.apereo.cas.monitor;
+
+import org.apereo.cas.audit.AuditTrailExecutionPlan;
+import org.apereo.cas.audit.spi.AbstractAuditTrailManager;
+import org.apereo.cas.audit.spi.AuditRecordPipeline;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * This is {@link AuditTrailManagerMeterBinder} that exposes the state of the
+ * asynchronous audit record pipeline of each registered audit trail manager,
+ * such as queue depth, batch size and flush latency, as metrics.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@RequiredArgsConstructor
+public class AuditTrailManagerMeterBinder implements MeterBinder {
+    private final ObjectProvider<AuditTrailExecutionPlan> auditTrailExecutionPlan;
+
+    private static ToDoubleFunction<AbstractAuditTrailManager> pipelineValue(
+        final ToDoubleFunction<AuditRecordPipeline> function) {
+        return manager -> manager.getAuditRecordPipeline().map(function::applyAsDouble).orElse(0D);
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        auditTrailExecutionPlan.ifAvailable(plan -> plan.getAuditTrailManagers()
+            .stream()
+            .filter(AbstractAuditTrailManager.class::isInstance)
+            .map(AbstractAuditTrailManager.class::cast)
+            .forEach(manager -> {
+                val name = manager.getClass().getSimpleName();
+                Gauge.builder("cas.audit.pipeline.queue.depth", manager, pipelineValue(AuditRecordPipeline::getQueueDepth))
+                    .description("Number of audit records waiting to be written")
+                    .tag("manager", name)
+                    .register(registry);
+                Gauge.builder("cas.audit.pipeline.batch.size", manager, pipelineValue(AuditRecordPipeline::getLastBatchSize))
+                    .description("Number of audit records written in the last batch")
+                    .tag("manager", name)
+                    .register(registry);
+                Gauge.builder("cas.audit.pipeline.flush.latency", manager,
+                        pipelineValue(AuditRecordPipeline::getLastFlushLatencyInMillis))
+                    .description("Time it took to write the last batch of audit records")
+                    .baseUnit("milliseconds")
+                    .tag("manager", name)
+                    .register(registry);
+                FunctionCounter.builder("cas.audit.pipeline.records.dropped", manager,
+                        pipelineValue(pipeline -> pipeline.getDroppedRecordCount().get()))
+                    .description("Number of audit records dropped because the queue was full")
+                    .tag("manager", name)
+                    .register(registry);
+                FunctionCounter.builder("cas.audit.pipeline.records.spilled", manager,
+                        pipelineValue(pipeline -> pipeline.getSpilledRecordCount().get()))
+                    .description("Number of audit records spilled to disk because the queue was full")
+                    .tag("manager", name)
+                    .register(registry);
+            }));
+    }
+}
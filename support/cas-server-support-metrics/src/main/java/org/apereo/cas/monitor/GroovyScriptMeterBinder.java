@@ -0,0 +1,45 @@
+package org.apereo.cas.monitor;
+
+import org.apereo.cas.util.scripting.CompiledGroovyScriptCache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link GroovyScriptMeterBinder} that exposes compilation time,
+ * cache hits and execution latency of each compiled inline groovy script as metrics.
+ * Scripts are tagged by the hash of their contents.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@RequiredArgsConstructor
+public class GroovyScriptMeterBinder implements MeterBinder {
+    private final CompiledGroovyScriptCache compiledGroovyScriptCache;
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        compiledGroovyScriptCache.addStatisticsListener(stats -> {
+            Gauge.builder("cas.groovy.script.compile.time", stats, s -> s.getCompileTimeInMillis().get())
+                .description("Time it took to compile the groovy script")
+                .baseUnit("milliseconds")
+                .tag("script", stats.getKey())
+                .register(registry);
+            FunctionCounter.builder("cas.groovy.script.cache.hits", stats, s -> s.getCacheHits().get())
+                .description("Number of times the compiled groovy script was found in the cache")
+                .tag("script", stats.getKey())
+                .register(registry);
+            FunctionTimer.builder("cas.groovy.script.execution", stats,
+                    s -> s.getExecutions().get(), s -> s.getTotalExecutionTimeInNanos().get(), TimeUnit.NANOSECONDS)
+                .description("Executions of the groovy script")
+                .tag("script", stats.getKey())
+                .register(registry);
+        });
+    }
+}
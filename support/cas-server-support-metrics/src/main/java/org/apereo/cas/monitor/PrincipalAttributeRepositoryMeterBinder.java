@@ -0,0 +1,25 @@
+package org.apereo.cas.monitor;
+
+import org.apereo.cas.authentication.attribute.PrincipalAttributeRepositoryContext;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * This is {@link PrincipalAttributeRepositoryMeterBinder} that exposes the number of
+ * attribute repository lookups that were avoided during principal resolution, because the attributes
+ * were already fetched by an authentication handler, as metrics.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+public class PrincipalAttributeRepositoryMeterBinder implements MeterBinder {
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("cas.authn.attribute.repository.lookups.avoided", PrincipalAttributeRepositoryContext.class,
+                context -> PrincipalAttributeRepositoryContext.getAvoidedLookups())
+            .description("Number of attribute repository lookups avoided by reusing attributes fetched during authentication")
+            .register(registry);
+    }
+}
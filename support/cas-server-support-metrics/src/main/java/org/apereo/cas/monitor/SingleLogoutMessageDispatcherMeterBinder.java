@@ -0,0 +1,61 @@
+package org.apereo.cas.monitor;
+
+import org.apereo.cas.logout.slo.DefaultSingleLogoutMessageDispatcher;
+import org.apereo.cas.logout.slo.SingleLogoutMessageDispatcher;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * This is {@link SingleLogoutMessageDispatcherMeterBinder} that exposes the state
+ * of the back-channel logout message dispatcher, such as the overall queue depth
+ * and the number of messages sent, failed and retried per application endpoint, as metrics.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@RequiredArgsConstructor
+public class SingleLogoutMessageDispatcherMeterBinder implements MeterBinder {
+    private final ObjectProvider<SingleLogoutMessageDispatcher> singleLogoutMessageDispatcher;
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        singleLogoutMessageDispatcher.ifAvailable(dispatcher -> {
+            if (dispatcher instanceof DefaultSingleLogoutMessageDispatcher) {
+                bindTo(registry, (DefaultSingleLogoutMessageDispatcher) dispatcher);
+            }
+        });
+    }
+
+    private static void bindTo(final MeterRegistry registry, final DefaultSingleLogoutMessageDispatcher dispatcher) {
+        Gauge.builder("cas.slo.dispatcher.queue.depth", dispatcher, DefaultSingleLogoutMessageDispatcher::getQueueDepth)
+            .description("Number of logout messages waiting to be delivered")
+            .register(registry);
+        dispatcher.registerEndpointListener(endpoint -> {
+            Gauge.builder("cas.slo.dispatcher.endpoint.queue.depth", endpoint, DefaultSingleLogoutMessageDispatcher.Endpoint::getQueueDepth)
+                .description("Number of logout messages waiting for or being sent to the endpoint")
+                .tag("endpoint", endpoint.getName())
+                .register(registry);
+            FunctionCounter.builder("cas.slo.dispatcher.messages.sent", endpoint, e -> e.getSentMessageCount().get())
+                .description("Number of logout messages delivered to the endpoint")
+                .tag("endpoint", endpoint.getName())
+                .register(registry);
+            FunctionCounter.builder("cas.slo.dispatcher.messages.failed", endpoint, e -> e.getFailedMessageCount().get())
+                .description("Number of logout messages discarded after all delivery attempts to the endpoint failed")
+                .tag("endpoint", endpoint.getName())
+                .register(registry);
+            FunctionCounter.builder("cas.slo.dispatcher.messages.retried", endpoint, e -> e.getRetriedMessageCount().get())
+                .description("Number of failed deliveries to the endpoint that were scheduled to be retried")
+                .tag("endpoint", endpoint.getName())
+                .register(registry);
+            FunctionCounter.builder("cas.slo.dispatcher.messages.coalesced", endpoint, e -> e.getCoalescedMessageCount().get())
+                .description("Number of logout messages to the endpoint coalesced with an identical message waiting for delivery")
+                .tag("endpoint", endpoint.getName())
+                .register(registry);
+        });
+    }
+}
@@ -0,0 +1,53 @@
+package org.apereo.cas.monitor;
+
+import org.apereo.cas.ticket.registry.TicketRegistryCleanerStatistics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * This is {@link TicketRegistryCleanerMeterBinder} that exposes what the ticket
+ * registry cleaner did during its last run, such as the number of tickets scanned and removed,
+ * the duration of the run and how long expired tickets remained in the registry, as metrics.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@RequiredArgsConstructor
+public class TicketRegistryCleanerMeterBinder implements MeterBinder {
+    private final ObjectProvider<TicketRegistryCleanerStatistics> ticketRegistryCleanerStatistics;
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        ticketRegistryCleanerStatistics.ifAvailable(statistics -> {
+            Gauge.builder("cas.ticket.registry.cleaner.scanned", statistics, TicketRegistryCleanerStatistics::getLastScannedTicketCount)
+                .description("Number of tickets scanned during the last cleaner run")
+                .register(registry);
+            Gauge.builder("cas.ticket.registry.cleaner.expired", statistics, TicketRegistryCleanerStatistics::getLastExpiredTicketCount)
+                .description("Number of expired tickets found during the last cleaner run")
+                .register(registry);
+            Gauge.builder("cas.ticket.registry.cleaner.deleted", statistics, TicketRegistryCleanerStatistics::getLastDeletedTicketCount)
+                .description("Number of tickets removed during the last cleaner run")
+                .register(registry);
+            Gauge.builder("cas.ticket.registry.cleaner.duration", statistics, TicketRegistryCleanerStatistics::getLastDurationInMillis)
+                .description("Time it took to complete the last cleaner run")
+                .baseUnit("milliseconds")
+                .register(registry);
+            Gauge.builder("cas.ticket.registry.cleaner.expiration.lag", statistics,
+                    TicketRegistryCleanerStatistics::getLastMaxExpirationLagInMillis)
+                .description("Longest time an expired ticket remained in the registry past its expiration, as of the last cleaner run")
+                .baseUnit("milliseconds")
+                .register(registry);
+            FunctionCounter.builder("cas.ticket.registry.cleaner.runs", statistics, s -> s.getRunCount().get())
+                .description("Number of completed cleaner runs")
+                .register(registry);
+            FunctionCounter.builder("cas.ticket.registry.cleaner.deleted.total", statistics, s -> s.getTotalDeletedTicketCount().get())
+                .description("Number of tickets removed by the cleaner across all runs")
+                .register(registry);
+        });
+    }
+}
@@ -0,0 +1,61 @@
+package org.apereo.cas.monitor;
+
+import org.apereo.cas.web.flow.executor.WebflowTranscoderStatistics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link WebflowTranscoderMeterBinder} that exposes the size of flow state
+ * managed on the client side, and the time it takes to encode and decode it, as metrics.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@RequiredArgsConstructor
+public class WebflowTranscoderMeterBinder implements MeterBinder {
+    private final ObjectProvider<WebflowTranscoderStatistics> webflowTranscoderStatistics;
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        webflowTranscoderStatistics.ifAvailable(statistics -> {
+            val size = DistributionSummary.builder("cas.webflow.state.size")
+                .description("Size of encoded flow state")
+                .baseUnit("bytes")
+                .publishPercentileHistogram()
+                .register(registry);
+            val encodeTimer = Timer.builder("cas.webflow.state.encode")
+                .description("Time it takes to encode flow state")
+                .publishPercentileHistogram()
+                .register(registry);
+            val decodeTimer = Timer.builder("cas.webflow.state.decode")
+                .description("Time it takes to decode flow state")
+                .publishPercentileHistogram()
+                .register(registry);
+            FunctionCounter.builder("cas.webflow.state.encoded.bytes", statistics, s -> s.getTotalEncodedBytes().get())
+                .description("Total size of flow state encoded")
+                .baseUnit("bytes")
+                .register(registry);
+            statistics.registerListener(new WebflowTranscoderStatistics.Listener() {
+                @Override
+                public void encoded(final long encodedBytes, final long durationInNanos) {
+                    size.record(encodedBytes);
+                    encodeTimer.record(durationInNanos, TimeUnit.NANOSECONDS);
+                }
+
+                @Override
+                public void decoded(final long encodedBytes, final long durationInNanos) {
+                    decodeTimer.record(durationInNanos, TimeUnit.NANOSECONDS);
+                }
+            });
+        });
+    }
+}
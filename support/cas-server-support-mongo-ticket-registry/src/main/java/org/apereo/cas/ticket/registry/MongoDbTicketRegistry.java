@@ -6,6 +6,7 @@ import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketDefinition;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.TicketState;
+import org.apereo.cas.ticket.serialization.BinaryTicketStringSerializer;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.DateTimeUtils;
 import org.apereo.cas.util.LoggingUtils;
@@ -180,6 +181,18 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
             .map(ticket -> decodeTicket(deserializeTicketFromMongoDocument(ticket)));
     }
 
+    @Override
+    public Collection<TicketRegistryPartition> getPartitions() {
+        return ticketCatalog.findAll()
+            .stream()
+            .map(this::getTicketCollectionInstanceByMetadata)
+            .distinct()
+            .map(collection -> TicketRegistryPartition.of(collection,
+                () -> StreamUtils.createStreamFromIterator(mongoTemplate.stream(new Query(), TicketHolder.class, collection))
+                    .map(ticket -> decodeTicket(deserializeTicketFromMongoDocument(ticket)))))
+            .collect(Collectors.toList());
+    }
+
     @Override
     public long sessionCount() {
         return countTicketsByTicketType(TicketGrantingTicket.class);
@@ -233,7 +246,9 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
         val encTicket = encodeTicket(ticket);
         val json = serializeTicketForMongoDocument(encTicket);
         if (StringUtils.isNotBlank(json)) {
-            LOGGER.trace("Serialized ticket into a JSON document as \n [{}]", JsonValue.readJSON(json).toString(Stringify.FORMATTED));
+            if (LOGGER.isTraceEnabled() && !json.startsWith(BinaryTicketStringSerializer.FORMAT_PREFIX)) {
+                LOGGER.trace("Serialized ticket into a JSON document as \n [{}]", JsonValue.readJSON(json).toString(Stringify.FORMATTED));
+            }
             val expireAt = getExpireAt(ticket);
             LOGGER.trace("Calculated expiration date for ticket ttl as [{}]", expireAt);
             return new TicketHolder(json, encTicket.getId(), encTicket.getClass().getName(), expireAt);
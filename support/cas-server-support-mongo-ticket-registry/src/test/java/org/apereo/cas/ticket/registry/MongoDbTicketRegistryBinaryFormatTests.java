@@ -0,0 +1,48 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.serialization.BinaryTicketStringSerializer;
+import org.apereo.cas.util.junit.EnabledIfPortOpen;
+
+import lombok.val;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Tag;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link MongoDbTicketRegistryBinaryFormatTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@TestPropertySource(properties = "cas.ticket.registry.core.serialization-format=BINARY")
+@EnabledIfPortOpen(port = 27017)
+@Tag("MongoDb")
+public class MongoDbTicketRegistryBinaryFormatTests extends MongoDbTicketRegistryTests {
+
+    @RepeatedTest(1)
+    public void verifyTicketStoredInBinaryFormat() {
+        val ticket = new TicketGrantingTicketImpl(ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        getNewTicketRegistry().addTicket(ticket);
+
+        val holders = getMongoDbTicketRegistryTemplate().getCollectionNames()
+            .stream()
+            .flatMap(name -> getMongoDbTicketRegistryTemplate().findAll(TicketHolder.class, name).stream())
+            .filter(holder -> holder.getTicketId().equals(ticketGrantingTicketId))
+            .collect(Collectors.toList());
+        assertEquals(1, holders.size());
+        assertTrue(holders.get(0).getJson().startsWith(BinaryTicketStringSerializer.FORMAT_PREFIX));
+
+        val result = getNewTicketRegistry().getTicket(ticketGrantingTicketId);
+        assertEquals(ticket, result);
+        getNewTicketRegistry().updateTicket(result);
+        assertEquals(ticket, getNewTicketRegistry().getTicket(ticketGrantingTicketId));
+    }
+}
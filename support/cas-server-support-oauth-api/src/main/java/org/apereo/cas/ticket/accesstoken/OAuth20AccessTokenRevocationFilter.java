@@ -0,0 +1,55 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import java.time.Duration;
+
+/**
+ * This is {@link OAuth20AccessTokenRevocationFilter} that tracks access tokens
+ * revoked before their expiration, so that access tokens introspected
+ * without a ticket registry lookup can be checked for revocation.
+ * The filter may report false positives, but it never reports
+ * a revoked access token as not revoked while the revocation is retained.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+public interface OAuth20AccessTokenRevocationFilter {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "accessTokenRevocationFilter";
+
+    /**
+     * Record the access token as revoked.
+     *
+     * @param accessTokenId the access token id
+     */
+    void revoke(String accessTokenId);
+
+    /**
+     * Whether the access token might have been revoked.
+     *
+     * @param accessTokenId the access token id
+     * @return false if the access token is definitely not revoked
+     */
+    boolean mightBeRevoked(String accessTokenId);
+
+    /**
+     * Gets the minimum length of time revocations are retained by this filter.
+     * Access tokens that are valid for longer than this period cannot be
+     * checked by this filter alone.
+     *
+     * @return the retention period
+     */
+    Duration getRetentionPeriod();
+
+    /**
+     * Whether revocations recorded by this filter are visible to all CAS nodes.
+     * Access tokens are not introspected from their claims with a filter that is not shared,
+     * unless the ticket registry is also kept in memory on this node.
+     *
+     * @return true/false
+     */
+    default boolean isShared() {
+        return false;
+    }
+}
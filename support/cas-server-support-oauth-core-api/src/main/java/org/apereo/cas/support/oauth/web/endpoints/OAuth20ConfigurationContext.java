@@ -23,6 +23,7 @@ import org.apereo.cas.support.oauth.web.views.OAuth20UserProfileViewRenderer;
 import org.apereo.cas.ticket.ExpirationPolicyBuilder;
 import org.apereo.cas.ticket.OAuth20TokenSigningAndEncryptionService;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenFactory;
+import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenRevocationFilter;
 import org.apereo.cas.ticket.code.OAuth20CodeFactory;
 import org.apereo.cas.ticket.device.OAuth20DeviceToken;
 import org.apereo.cas.ticket.device.OAuth20DeviceTokenFactory;
@@ -79,6 +80,8 @@ public class OAuth20ConfigurationContext {
 
     private final JwtBuilder accessTokenJwtBuilder;
 
+    private final OAuth20AccessTokenRevocationFilter accessTokenRevocationFilter;
+
     private final OAuth20AccessTokenResponseGenerator accessTokenResponseGenerator;
 
     private final ObjectProvider<List<OAuth20TokenRequestValidator>> accessTokenGrantRequestValidators;
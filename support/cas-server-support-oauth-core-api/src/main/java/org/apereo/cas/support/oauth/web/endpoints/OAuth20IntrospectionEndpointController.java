@@ -2,22 +2,28 @@ package org.apereo.cas.support.oauth.web.endpoints;
 
 import org.apereo.cas.audit.AuditableContext;
 import org.apereo.cas.authentication.AuthenticationManager;
+import org.apereo.cas.services.RegisteredServiceCipherExecutor;
 import org.apereo.cas.support.oauth.OAuth20Constants;
 import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
 import org.apereo.cas.support.oauth.util.OAuth20Utils;
 import org.apereo.cas.support.oauth.web.response.introspection.OAuth20IntrospectionAccessTokenResponse;
 import org.apereo.cas.ticket.InvalidTicketException;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessToken;
+import org.apereo.cas.ticket.registry.DefaultTicketRegistry;
+import org.apereo.cas.token.cipher.RegisteredServiceJwtTicketCipherExecutor;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.HttpRequestUtils;
 import org.apereo.cas.util.LoggingUtils;
 
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.JWTParser;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.pac4j.core.context.JEEContext;
 import org.pac4j.core.credentials.UsernamePasswordCredentials;
 import org.pac4j.core.credentials.extractor.BasicAuthExtractor;
+import org.springframework.aop.support.AopUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -28,6 +34,8 @@ import org.springframework.web.bind.annotation.PostMapping;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.text.ParseException;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -76,6 +84,13 @@ public class OAuth20IntrospectionEndpointController<T extends OAuth20Configurati
         return (ResponseEntity<OAuth20IntrospectionAccessTokenResponse>) new ResponseEntity(value, HttpStatus.BAD_REQUEST);
     }
 
+    private static String getRealmNames(final Object methods) {
+        return CollectionUtils.toCollection(methods)
+            .stream()
+            .map(Object::toString)
+            .collect(Collectors.joining(","));
+    }
+
     /**
      * Handle request.
      *
@@ -131,16 +146,21 @@ public class OAuth20IntrospectionEndpointController<T extends OAuth20Configurati
                     request.getParameter(OAuth20Constants.ACCESS_TOKEN));
 
                 LOGGER.debug("Located access token [{}] in the request", accessToken);
-                var ticket = (OAuth20AccessToken) null;
-                try {
-                    val token = extractAccessTokenFrom(accessToken);
-                    ticket = getConfigurationContext().getCentralAuthenticationService().getTicket(token, OAuth20AccessToken.class);
-                } catch (final InvalidTicketException e) {
-                    LOGGER.trace(e.getMessage(), e);
-                    LOGGER.info("Unable to fetch access token [{}]: [{}]", accessToken, e.getMessage());
+                val statelessIntrospection = introspectAccessTokenFromClaims(accessToken);
+                if (statelessIntrospection.isPresent()) {
+                    result = new ResponseEntity<>(statelessIntrospection.get(), HttpStatus.OK);
+                } else {
+                    var ticket = (OAuth20AccessToken) null;
+                    try {
+                        val token = extractAccessTokenFrom(accessToken);
+                        ticket = getConfigurationContext().getCentralAuthenticationService().getTicket(token, OAuth20AccessToken.class);
+                    } catch (final InvalidTicketException e) {
+                        LOGGER.trace(e.getMessage(), e);
+                        LOGGER.info("Unable to fetch access token [{}]: [{}]", accessToken, e.getMessage());
+                    }
+                    val introspect = createIntrospectionValidResponse(ticket);
+                    result = new ResponseEntity<>(introspect, HttpStatus.OK);
                 }
-                val introspect = createIntrospectionValidResponse(ticket);
-                result = new ResponseEntity<>(introspect, HttpStatus.OK);
             }
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
@@ -171,12 +191,7 @@ public class OAuth20IntrospectionEndpointController<T extends OAuth20Configurati
             introspect.setExp(introspect.getIat() + ticket.getExpirationPolicy().getTimeToLive());
 
             val methods = authentication.getAttributes().get(AuthenticationManager.AUTHENTICATION_METHOD_ATTRIBUTE);
-            val realmNames = CollectionUtils.toCollection(methods)
-                .stream()
-                .map(Object::toString)
-                .collect(Collectors.joining(","));
-
-            introspect.setRealmName(realmNames);
+            introspect.setRealmName(getRealmNames(methods));
             introspect.setTokenType(OAuth20Constants.TOKEN_TYPE_BEARER);
 
             val grant = authentication.getAttributes().getOrDefault(OAuth20Constants.GRANT_TYPE, new ArrayList<>(0));
@@ -189,6 +204,106 @@ public class OAuth20IntrospectionEndpointController<T extends OAuth20Configurati
         return introspect;
     }
 
+    /**
+     * Create introspection response from the claims of an access token created as a JWT.
+     *
+     * @param registeredService the registered service that owns the access token
+     * @param claims            the claims
+     * @return the OAuth introspection access token response
+     */
+    protected OAuth20IntrospectionAccessTokenResponse createIntrospectionValidResponse(final OAuthRegisteredService registeredService,
+                                                                                       final JWTClaimsSet claims) {
+        val introspect = new OAuth20IntrospectionAccessTokenResponse();
+        introspect.setScope("CAS");
+        introspect.setClientId(registeredService.getClientId());
+        CollectionUtils.firstElement(claims.getAudience()).ifPresent(aud -> introspect.setAud(aud.toString()));
+        introspect.setActive(true);
+        introspect.setSub(claims.getSubject());
+        introspect.setUniqueSecurityName(claims.getSubject());
+        introspect.setIat(claims.getIssueTime().toInstant().getEpochSecond());
+        introspect.setExp(claims.getExpirationTime().toInstant().getEpochSecond());
+        introspect.setRealmName(getRealmNames(claims.getClaim(AuthenticationManager.AUTHENTICATION_METHOD_ATTRIBUTE)));
+        introspect.setTokenType(OAuth20Constants.TOKEN_TYPE_BEARER);
+        CollectionUtils.firstElement(claims.getClaim(OAuth20Constants.GRANT_TYPE))
+            .ifPresent(grant -> introspect.setGrantType(grant.toString().toLowerCase()));
+        return introspect;
+    }
+
+    /**
+     * Introspect the access token from its claims without looking it up in the ticket registry.
+     * This is only possible when the access token is a JWT whose signature can be verified
+     * with the keys of its registered service or the default keys, and the access token
+     * is active and known not to be revoked.
+     *
+     * @param accessToken the access token
+     * @return the introspection response, or empty if the ticket registry must be consulted instead
+     */
+    protected Optional<OAuth20IntrospectionAccessTokenResponse> introspectAccessTokenFromClaims(final String accessToken) {
+        val revocationFilter = getConfigurationContext().getAccessTokenRevocationFilter();
+        val introspection = getConfigurationContext().getCasProperties().getAuthn().getOauth().getAccessToken().getIntrospection();
+        if (!introspection.isStateless() || revocationFilter == null) {
+            return Optional.empty();
+        }
+        if (!revocationFilter.isShared() && !isTicketRegistryLocal()) {
+            LOGGER.debug("Access token revocations are only tracked on this node while the ticket registry is shared; "
+                + "introspection requires a ticket registry lookup");
+            return Optional.empty();
+        }
+        try {
+            val serviceId = JWTParser.parse(accessToken).getHeader()
+                .getCustomParam(RegisteredServiceCipherExecutor.CUSTOM_HEADER_REGISTERED_SERVICE_ID);
+            if (serviceId == null) {
+                return Optional.empty();
+            }
+            val registeredService = getConfigurationContext().getServicesManager()
+                .findServiceBy(Long.parseLong(serviceId.toString()), OAuthRegisteredService.class);
+            if (registeredService == null || !isAccessTokenSignatureVerifiable(registeredService)) {
+                LOGGER.trace("Access token signature cannot be verified locally; introspection requires a ticket registry lookup");
+                return Optional.empty();
+            }
+            val claims = getConfigurationContext().getAccessTokenJwtBuilder().unpack(Optional.of(registeredService), accessToken);
+            val issuedAt = claims.getIssueTime();
+            val expiration = claims.getExpirationTime();
+            if (StringUtils.isBlank(claims.getJWTID()) || issuedAt == null || expiration == null
+                || !expiration.toInstant().isAfter(Instant.now())) {
+                return Optional.empty();
+            }
+            val validity = expiration.getTime() - issuedAt.getTime();
+            if (validity > revocationFilter.getRetentionPeriod().toMillis()) {
+                LOGGER.trace("Access token [{}] outlives the retention period of the revocation filter", claims.getJWTID());
+                return Optional.empty();
+            }
+            if (revocationFilter.mightBeRevoked(claims.getJWTID())) {
+                LOGGER.debug("Access token [{}] might be revoked and will be looked up in the ticket registry", claims.getJWTID());
+                return Optional.empty();
+            }
+            LOGGER.debug("Introspecting access token [{}] from its verified claims", claims.getJWTID());
+            return Optional.of(createIntrospectionValidResponse(registeredService, claims));
+        } catch (final ParseException e) {
+            LOGGER.trace("Access token is not a JWT: [{}]", e.getMessage());
+        } catch (final Exception e) {
+            LOGGER.debug("Unable to introspect access token from its claims: [{}]", e.getMessage());
+            LOGGER.trace(e.getMessage(), e);
+        }
+        return Optional.empty();
+    }
+
+    private boolean isTicketRegistryLocal() {
+        val ticketRegistry = getConfigurationContext().getTicketRegistry();
+        return ticketRegistry != null && DefaultTicketRegistry.class.isAssignableFrom(AopUtils.getTargetClass(ticketRegistry));
+    }
+
+    private boolean isAccessTokenSignatureVerifiable(final OAuthRegisteredService registeredService) {
+        val jwtBuilder = getConfigurationContext().getAccessTokenJwtBuilder();
+        val serviceCipherExecutor = jwtBuilder.getRegisteredServiceCipherExecutor();
+        if (serviceCipherExecutor.supports(registeredService)) {
+            return serviceCipherExecutor instanceof RegisteredServiceJwtTicketCipherExecutor
+                && ((RegisteredServiceJwtTicketCipherExecutor) serviceCipherExecutor)
+                .getTokenTicketCipherExecutorForService(registeredService).isEnabled();
+        }
+        return jwtBuilder.getDefaultTokenCipherExecutor().isEnabled();
+    }
+
     private Optional<ResponseEntity<OAuth20IntrospectionAccessTokenResponse>> validateIntrospectionRequest(
         final OAuthRegisteredService registeredService,
         final UsernamePasswordCredentials credentials,
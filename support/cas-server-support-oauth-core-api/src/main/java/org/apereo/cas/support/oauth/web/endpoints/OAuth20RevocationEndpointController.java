@@ -133,6 +133,10 @@ public class OAuth20RevocationEndpointController<T extends OAuth20ConfigurationC
      */
     private void revokeToken(final String token) {
         LOGGER.debug("Revoking token [{}]", token);
+        val revocationFilter = getConfigurationContext().getAccessTokenRevocationFilter();
+        if (revocationFilter != null && token.startsWith(OAuth20AccessToken.PREFIX)) {
+            revocationFilter.revoke(token);
+        }
         getConfigurationContext().getTicketRegistry().deleteTicket(token);
     }
 
@@ -0,0 +1,106 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketDestroyedEvent;
+import org.apereo.cas.util.spring.CasEventListener;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.context.event.EventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * This is {@link OAuth20DefaultAccessTokenRevocationFilter} that keeps revoked access tokens
+ * in a pair of bloom filters. Revocations are recorded in the current filter, which replaces
+ * the previous filter once the retention period has passed; a revocation is therefore retained
+ * for at least one and at most two retention periods, using a fixed amount of memory regardless
+ * of the number of access tokens issued. Access tokens issued to a ticket-granting ticket are
+ * recorded as revoked when the ticket-granting ticket is destroyed.
+ * <p>
+ * Revocations are kept in memory and are not shared between CAS nodes, so this filter is only
+ * used for stateless introspection when the ticket registry is kept in memory as well.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Slf4j
+public class OAuth20DefaultAccessTokenRevocationFilter implements OAuth20AccessTokenRevocationFilter, CasEventListener {
+    private final Object lock = new Object();
+
+    private final long capacity;
+
+    private final double falsePositiveProbability;
+
+    @Getter
+    private final Duration retentionPeriod;
+
+    @Setter
+    private Clock clock = Clock.systemUTC();
+
+    private volatile BloomFilter<CharSequence> current;
+
+    private volatile BloomFilter<CharSequence> previous;
+
+    private volatile long rotatedAt;
+
+    public OAuth20DefaultAccessTokenRevocationFilter(final long capacity, final double falsePositiveProbability,
+                                                     final Duration retentionPeriod) {
+        this.capacity = capacity;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.retentionPeriod = retentionPeriod;
+        this.current = newFilter();
+        this.previous = newFilter();
+        this.rotatedAt = clock.millis();
+    }
+
+    @Override
+    public void revoke(final String accessTokenId) {
+        rotateIfNecessary();
+        LOGGER.trace("Recording access token [{}] as revoked", accessTokenId);
+        current.put(accessTokenId);
+    }
+
+    @Override
+    public boolean mightBeRevoked(final String accessTokenId) {
+        rotateIfNecessary();
+        return current.mightContain(accessTokenId) || previous.mightContain(accessTokenId);
+    }
+
+    /**
+     * Record access tokens issued to the ticket-granting ticket as revoked.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleTicketGrantingTicketDestroyedEvent(final CasTicketGrantingTicketDestroyedEvent event) {
+        event.getTicketGrantingTicket().getDescendantTickets()
+            .stream()
+            .filter(id -> id.startsWith(OAuth20AccessToken.PREFIX))
+            .forEach(this::revoke);
+    }
+
+    private void rotateIfNecessary() {
+        if (clock.millis() - rotatedAt < retentionPeriod.toMillis()) {
+            return;
+        }
+        synchronized (lock) {
+            val now = clock.millis();
+            if (now - rotatedAt >= retentionPeriod.toMillis()) {
+                LOGGER.debug("Rotating access token revocation filter after [{}]", retentionPeriod);
+                previous = current;
+                current = newFilter();
+                rotatedAt = now;
+            }
+        }
+    }
+
+    private BloomFilter<CharSequence> newFilter() {
+        return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), capacity, falsePositiveProbability);
+    }
+}
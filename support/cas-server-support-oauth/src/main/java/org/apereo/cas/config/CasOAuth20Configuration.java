@@ -13,6 +13,7 @@ import org.apereo.cas.authentication.principal.PrincipalResolver;
 import org.apereo.cas.authentication.principal.ServiceFactory;
 import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.pac4j.DistributedJEESessionStore;
 import org.apereo.cas.services.RegisteredServiceCipherExecutor;
 import org.apereo.cas.services.ServicesManager;
@@ -88,7 +89,9 @@ import org.apereo.cas.ticket.TicketFactoryExecutionPlanConfigurer;
 import org.apereo.cas.ticket.UniqueTicketIdGenerator;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenExpirationPolicyBuilder;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenFactory;
+import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenRevocationFilter;
 import org.apereo.cas.ticket.accesstoken.OAuth20DefaultAccessTokenFactory;
+import org.apereo.cas.ticket.accesstoken.OAuth20DefaultAccessTokenRevocationFilter;
 import org.apereo.cas.ticket.accesstoken.OAuth20JwtBuilder;
 import org.apereo.cas.ticket.code.OAuth20CodeExpirationPolicyBuilder;
 import org.apereo.cas.ticket.code.OAuth20CodeFactory;
@@ -226,6 +229,8 @@ public class CasOAuth20Configuration {
             final TicketRegistry ticketRegistry,
             @Qualifier("accessTokenJwtBuilder")
             final JwtBuilder accessTokenJwtBuilder,
+            @Qualifier(OAuth20AccessTokenRevocationFilter.BEAN_NAME)
+            final OAuth20AccessTokenRevocationFilter accessTokenRevocationFilter,
             @Qualifier("defaultDeviceUserCodeFactory")
             final OAuth20DeviceUserCodeFactory defaultDeviceUserCodeFactory,
             @Qualifier("registeredServiceAccessStrategyEnforcer")
@@ -300,6 +305,7 @@ public class CasOAuth20Configuration {
                 .profileScopeToAttributesFilter(profileScopeToAttributesFilter)
                 .accessTokenGenerator(oauthTokenGenerator)
                 .accessTokenJwtBuilder(accessTokenJwtBuilder)
+                .accessTokenRevocationFilter(accessTokenRevocationFilter)
                 .accessTokenResponseGenerator(accessTokenResponseGenerator)
                 .deviceTokenExpirationPolicy(deviceTokenExpirationPolicy)
                 .accessTokenGrantRequestValidators(oauthTokenRequestValidators)
@@ -1065,6 +1071,17 @@ public class CasOAuth20Configuration {
             return new OAuth20DefaultAccessTokenFactory(accessTokenIdGenerator, accessTokenExpirationPolicy, accessTokenJwtBuilder, servicesManager);
         }
 
+        @Bean
+        @Autowired
+        @ConditionalOnMissingBean(name = OAuth20AccessTokenRevocationFilter.BEAN_NAME)
+        public OAuth20AccessTokenRevocationFilter accessTokenRevocationFilter(final CasConfigurationProperties casProperties) {
+            val accessToken = casProperties.getAuthn().getOauth().getAccessToken();
+            val introspection = accessToken.getIntrospection();
+            return new OAuth20DefaultAccessTokenRevocationFilter(introspection.getRevocationFilterCapacity(),
+                introspection.getRevocationFilterFalsePositiveProbability(),
+                Beans.newDuration(accessToken.getMaxTimeToLiveInSeconds()));
+        }
+
 
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
@@ -42,6 +42,7 @@ import org.apereo.cas.support.oauth.web.endpoints.OAuth20CallbackAuthorizeEndpoi
 import org.apereo.cas.support.oauth.web.endpoints.OAuth20DeviceUserCodeApprovalEndpointControllerTests;
 import org.apereo.cas.support.oauth.web.endpoints.OAuth20IntrospectionEndpointControllerTests;
 import org.apereo.cas.support.oauth.web.endpoints.OAuth20RevocationEndpointControllerTests;
+import org.apereo.cas.support.oauth.web.endpoints.OAuth20StatelessIntrospectionEndpointControllerTests;
 import org.apereo.cas.support.oauth.web.endpoints.OAuth20UserProfileEndpointControllerTests;
 import org.apereo.cas.support.oauth.web.mgmt.OAuth20TokenManagementEndpointTests;
 import org.apereo.cas.support.oauth.web.response.OAuth20DefaultCasClientRedirectActionBuilderTests;
@@ -68,6 +69,7 @@ import org.apereo.cas.ticket.TokenSigningAndEncryptionServiceTests;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenExpirationPolicyTests;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenSovereignExpirationPolicyTests;
 import org.apereo.cas.ticket.accesstoken.OAuth20DefaultAccessTokenFactoryTests;
+import org.apereo.cas.ticket.accesstoken.OAuth20DefaultAccessTokenRevocationFilterTests;
 import org.apereo.cas.ticket.accesstoken.OAuth20JwtBuilderTests;
 import org.apereo.cas.ticket.code.OAuth20DefaultOAuthCodeFactoryTests;
 import org.apereo.cas.ticket.device.OAuth20DefaultDeviceTokenFactoryTests;
@@ -117,8 +119,10 @@ import org.junit.platform.suite.api.Suite;
     OAuth20JwtAccessTokenCipherExecutorTests.class,
     OAuth20DefaultDeviceTokenFactoryTests.class,
     OAuth20DefaultAccessTokenFactoryTests.class,
+    OAuth20DefaultAccessTokenRevocationFilterTests.class,
     OAuth20AccessTokenAtHashGeneratorTests.class,
     OAuth20IntrospectionEndpointControllerTests.class,
+    OAuth20StatelessIntrospectionEndpointControllerTests.class,
     OAuth20TokenManagementEndpointTests.class,
     OAuth20JwtAccessTokenEncoderTests.class,
     OAuth20WebApplicationServiceTests.class,
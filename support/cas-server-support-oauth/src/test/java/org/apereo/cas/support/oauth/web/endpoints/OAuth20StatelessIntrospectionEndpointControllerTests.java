@@ -0,0 +1,113 @@
+package org.apereo.cas.support.oauth.web.endpoints;
+
+import org.apereo.cas.AbstractOAuth20Tests;
+import org.apereo.cas.support.oauth.OAuth20Constants;
+import org.apereo.cas.support.oauth.web.response.introspection.OAuth20IntrospectionAccessTokenResponse;
+import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenRevocationFilter;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.util.EncodingUtils;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.pac4j.core.context.HttpConstants;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.TestPropertySource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link OAuth20StatelessIntrospectionEndpointControllerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Tag("OAuth")
+@TestPropertySource(properties = {
+    "cas.authn.oauth.access-token.crypto.encryption.key=AZ5y4I9qzKPYUVNL2Td4RMbpg6Z-ldui8VEFg8hsj1M",
+    "cas.authn.oauth.access-token.crypto.signing.key=cAPyoHMrOMWrwydOXzBA-ufZQM-TilnLjbRgMQWlUlwFmy07bOtAgCIdNBma3c5P4ae_JV6n1OpOAYqSh2NkmQ",
+    "cas.authn.oauth.access-token.crypto.enabled=true",
+    "cas.authn.oauth.access-token.introspection.stateless=true"
+})
+public class OAuth20StatelessIntrospectionEndpointControllerTests extends AbstractOAuth20Tests {
+
+    @Autowired
+    @Qualifier("introspectionEndpointController")
+    private OAuth20IntrospectionEndpointController<OAuth20ConfigurationContext> introspectionEndpoint;
+
+    @Autowired
+    @Qualifier(OAuth20AccessTokenRevocationFilter.BEAN_NAME)
+    private OAuth20AccessTokenRevocationFilter accessTokenRevocationFilter;
+
+    @Test
+    public void verifyJwtAccessTokenWithoutTicketRegistry() {
+        val registeredService = addRegisteredService();
+        registeredService.setJwtAccessToken(true);
+        servicesManager.save(registeredService);
+
+        val mv = generateAccessTokenResponseAndGetModelAndView(registeredService);
+        val accessToken = mv.getModel().get(OAuth20Constants.ACCESS_TOKEN).toString();
+        val accessTokenId = extractAccessTokenFrom(accessToken);
+        ticketRegistry.deleteTicket(accessTokenId);
+
+        val body = introspect(accessToken);
+        assertNotNull(body);
+        assertTrue(body.isActive());
+        assertEquals(CLIENT_ID, body.getClientId());
+        assertEquals(SERVICE_URL, body.getAud());
+        assertEquals(OAuth20Constants.TOKEN_TYPE_BEARER, body.getTokenType());
+        assertTrue(body.getExp() > body.getIat());
+
+        accessTokenRevocationFilter.revoke(accessTokenId);
+        assertFalse(introspect(accessToken).isActive());
+    }
+
+    @Test
+    public void verifyJwtAccessTokenUsesSharedTicketRegistry() {
+        val registeredService = addRegisteredService();
+        registeredService.setJwtAccessToken(true);
+        servicesManager.save(registeredService);
+
+        val mv = generateAccessTokenResponseAndGetModelAndView(registeredService);
+        val accessToken = mv.getModel().get(OAuth20Constants.ACCESS_TOKEN).toString();
+        val accessTokenId = extractAccessTokenFrom(accessToken);
+
+        val context = introspectionEndpoint.getConfigurationContext();
+        val localTicketRegistry = context.getTicketRegistry();
+        try {
+            context.setTicketRegistry(mock(TicketRegistry.class, delegatesTo(localTicketRegistry)));
+            assertTrue(introspect(accessToken).isActive());
+            ticketRegistry.deleteTicket(accessTokenId);
+            assertFalse(introspect(accessToken).isActive());
+        } finally {
+            context.setTicketRegistry(localTicketRegistry);
+        }
+    }
+
+    @Test
+    public void verifyOpaqueAccessTokenUsesTicketRegistry() {
+        val registeredService = addRegisteredService();
+        val mv = generateAccessTokenResponseAndGetModelAndView(registeredService);
+        val accessToken = mv.getModel().get(OAuth20Constants.ACCESS_TOKEN).toString();
+        assertTrue(introspect(accessToken).isActive());
+
+        ticketRegistry.deleteTicket(accessToken);
+        assertFalse(introspect(accessToken).isActive());
+    }
+
+    private OAuth20IntrospectionAccessTokenResponse introspect(final String accessToken) {
+        val request = new MockHttpServletRequest();
+        val response = new MockHttpServletResponse();
+        val auth = CLIENT_ID + ':' + CLIENT_SECRET;
+        val value = EncodingUtils.encodeBase64(auth.getBytes(StandardCharsets.UTF_8));
+        request.addHeader(HttpConstants.AUTHORIZATION_HEADER, HttpConstants.BASIC_HEADER_PREFIX + value);
+        request.addParameter(OAuth20Constants.TOKEN, accessToken);
+        return introspectionEndpoint.handleRequest(request, response).getBody();
+    }
+}
@@ -0,0 +1,54 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketDestroyedEvent;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link OAuth20DefaultAccessTokenRevocationFilterTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Tag("OAuth")
+public class OAuth20DefaultAccessTokenRevocationFilterTests {
+    private static final Duration RETENTION = Duration.ofHours(1);
+
+    @Test
+    public void verifyRevocationRetained() {
+        val filter = new OAuth20DefaultAccessTokenRevocationFilter(1_000, 0.01, RETENTION);
+        filter.revoke("AT-1");
+        assertTrue(filter.mightBeRevoked("AT-1"));
+        assertFalse(filter.mightBeRevoked("AT-2"));
+
+        val now = Instant.now();
+        filter.setClock(Clock.fixed(now.plus(RETENTION).plusSeconds(1), ZoneOffset.UTC));
+        assertTrue(filter.mightBeRevoked("AT-1"));
+
+        filter.setClock(Clock.fixed(now.plus(RETENTION.multipliedBy(2)).plusSeconds(2), ZoneOffset.UTC));
+        assertFalse(filter.mightBeRevoked("AT-1"));
+    }
+
+    @Test
+    public void verifyTicketGrantingTicketDestroyed() {
+        val filter = new OAuth20DefaultAccessTokenRevocationFilter(1_000, 0.01, RETENTION);
+        val tgt = mock(TicketGrantingTicket.class);
+        when(tgt.getDescendantTickets()).thenReturn(new HashSet<>(List.of("AT-1", "RT-1")));
+        filter.handleTicketGrantingTicketDestroyedEvent(new CasTicketGrantingTicketDestroyedEvent(this, tgt));
+        assertTrue(filter.mightBeRevoked("AT-1"));
+        assertFalse(filter.mightBeRevoked("RT-1"));
+    }
+}
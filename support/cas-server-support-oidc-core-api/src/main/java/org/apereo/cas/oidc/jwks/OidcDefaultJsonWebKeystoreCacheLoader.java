@@ -156,4 +156,14 @@ public class OidcDefaultJsonWebKeystoreCacheLoader implements CacheLoader<String
         LOGGER.debug("Found public JSON web key as [{}]", key);
         return Optional.of(key);
     }
+
+    @Override
+    public Optional<PublicJsonWebKey> reload(final String issuer, final Optional<PublicJsonWebKey> oldValue) {
+        val result = load(issuer);
+        if (result.isEmpty() && oldValue.isPresent()) {
+            LOGGER.warn("Unable to reload JSON web keystore for issuer [{}]; the current JSON web key remains in use", issuer);
+            return oldValue;
+        }
+        return result;
+    }
 }
@@ -1,6 +1,7 @@
 package org.apereo.cas.oidc.token;
 
 import org.apereo.cas.oidc.issuer.OidcIssuerService;
+import org.apereo.cas.util.EncodingUtils;
 import org.apereo.cas.util.cipher.BaseStringCipherExecutor;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
@@ -13,6 +14,7 @@ import org.jose4j.jwe.KeyManagementAlgorithmIdentifiers;
 import org.jose4j.jwk.PublicJsonWebKey;
 
 import java.io.Serializable;
+import java.security.Key;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -43,26 +45,47 @@ public class OidcJwtAccessTokenCipherExecutor extends BaseStringCipherExecutor {
 
     @Override
     public String encode(final Serializable value, final Object[] parameters) {
-        getPublicJsonWebKey().ifPresent(jwks -> {
-            setSigningKey(jwks.getPrivateKey());
-
-            setEncryptionKey(jwks.getPublicKey());
-            setContentEncryptionAlgorithmIdentifier(ContentEncryptionAlgorithmIdentifiers.AES_128_CBC_HMAC_SHA_256);
-            setEncryptionAlgorithm(KeyManagementAlgorithmIdentifiers.RSA_OAEP_256);
-        });
+        getPublicJsonWebKey().ifPresent(this::configureJsonWebKey);
         return super.encode(value, parameters);
     }
 
     @Override
     public String decode(final Serializable value, final Object[] parameters) {
-        getPublicJsonWebKey().ifPresent(jwks -> {
-            setEncryptionKey(jwks.getPrivateKey());
+        getPublicJsonWebKey().ifPresent(this::configureJsonWebKey);
+        return super.decode(value, parameters);
+    }
+
+    @Override
+    protected Key getDecryptionKey() {
+        return getPublicJsonWebKey()
+            .map(PublicJsonWebKey::getPrivateKey)
+            .orElseGet(super::getDecryptionKey);
+    }
+
+    @Override
+    protected byte[] verifySignature(final byte[] value) {
+        val jwks = getPublicJsonWebKey();
+        if (jwks.isPresent()) {
+            return EncodingUtils.verifyJwsSignature(jwks.get().getPublicKey(), value);
+        }
+        return super.verifySignature(value);
+    }
+
+    /**
+     * Keys are only replaced when the keystore changes, and are the same
+     * for encoding and decoding operations so that both may safely run concurrently.
+     * Decryption and signature verification use the keystore directly.
+     *
+     * @param jwks the json web key
+     */
+    private void configureJsonWebKey(final PublicJsonWebKey jwks) {
+        if (getSigningKey() != jwks.getPrivateKey() || getEncryptionKey() != jwks.getPublicKey()) {
+            LOGGER.trace("Configuring cipher keys from JSON web key [{}]", jwks.getKeyId());
             setContentEncryptionAlgorithmIdentifier(ContentEncryptionAlgorithmIdentifiers.AES_128_CBC_HMAC_SHA_256);
             setEncryptionAlgorithm(KeyManagementAlgorithmIdentifiers.RSA_OAEP_256);
-
-            setSigningKey(jwks.getPublicKey());
-        });
-        return super.decode(value, parameters);
+            setEncryptionKey(jwks.getPublicKey());
+            setSigningKey(jwks.getPrivateKey());
+        }
     }
 
     private Optional<PublicJsonWebKey> getPublicJsonWebKey() {
@@ -19,7 +19,6 @@ import org.jose4j.jwe.KeyManagementAlgorithmIdentifiers;
 import org.jose4j.jwk.JsonWebKey;
 import org.jose4j.jwk.PublicJsonWebKey;
 
-import java.io.Serializable;
 import java.security.Key;
 import java.util.Objects;
 import java.util.Optional;
@@ -104,35 +103,26 @@ public class OidcRegisteredServiceJwtAccessTokenCipherExecutor extends OAuth20Re
     protected JwtTicketCipherExecutor createCipherExecutorInstance(final String encryptionKey, final String signingKey,
                                                                    final RegisteredService registeredService,
                                                                    final CipherOperationsStrategyType type) {
+        val signingJsonWebKey = EncodingUtils.isJsonWebKey(signingKey)
+            ? getSigningJsonWebKey(registeredService)
+            : Optional.<PublicJsonWebKey>empty();
+        val decryptionKey = StringUtils.isNotBlank(encryptionKey) ? getEncryptionKeyForDecryption(registeredService) : null;
+
         val cipher = new JwtTicketCipherExecutor(encryptionKey, signingKey,
             StringUtils.isNotBlank(encryptionKey), StringUtils.isNotBlank(signingKey), 0, 0) {
+            private final String signingAlgorithm = signingJsonWebKey
+                .map(jwk -> StringUtils.defaultIfBlank(jwk.getAlgorithm(), getSigningAlgorithmFor(jwk.getPrivateKey())))
+                .orElse(null);
+
             @Override
-            public String decode(final Serializable value, final Object[] parameters) {
-                if (parameters.length > 0) {
-                    val registeredService = (RegisteredService) parameters[0];
-                    setEncryptionKey(getEncryptionKeyForDecryption(registeredService));
-                }
-                return super.decode(value, parameters);
+            protected Key getDecryptionKey() {
+                return Optional.ofNullable(decryptionKey).orElseGet(super::getDecryptionKey);
             }
 
             @Override
             protected byte[] sign(final byte[] value) {
-                if (EncodingUtils.isJsonWebKey(signingKey)) {
-                    val oidcRegisteredService = OidcRegisteredService.class.cast(registeredService);
-                    val issuer = oidcIssuerService.determineIssuer(Optional.of(oidcRegisteredService));
-                    LOGGER.trace("Using issuer [{}] to determine signing key from default keystore cache", issuer);
-
-                    val jwks = defaultJsonWebKeystoreCache.get(issuer);
-                    if (Objects.requireNonNull(jwks).isPresent()) {
-                        val jws = jwks.get();
-                        val kid = jws.getKeyId();
-                        if (StringUtils.isNotBlank(kid)) {
-                            getCustomHeaders().put(JsonWebKey.KEY_ID_PARAMETER, kid);
-                        }
-                        val alg = StringUtils.defaultIfBlank(jws.getAlgorithm(), getSigningAlgorithmFor(jws.getPrivateKey()));
-                        getCustomHeaders().put(JsonWebKey.ALGORITHM_PARAMETER, alg);
-                        return signWith(value, alg);
-                    }
+                if (signingAlgorithm != null) {
+                    return signWith(value, signingAlgorithm);
                 }
                 return super.sign(value);
             }
@@ -140,11 +130,23 @@ public class OidcRegisteredServiceJwtAccessTokenCipherExecutor extends OAuth20Re
         if (EncodingUtils.isJsonWebKey(encryptionKey) || EncodingUtils.isJsonWebKey(signingKey)) {
             cipher.setEncryptionAlgorithm(KeyManagementAlgorithmIdentifiers.RSA_OAEP_256);
         }
-        cipher.setCustomHeaders(CollectionUtils.wrap(CUSTOM_HEADER_REGISTERED_SERVICE_ID, registeredService.getId()));
+        val headers = CollectionUtils.<String, Object>wrap(CUSTOM_HEADER_REGISTERED_SERVICE_ID, registeredService.getId());
+        signingJsonWebKey
+            .map(PublicJsonWebKey::getKeyId)
+            .filter(StringUtils::isNotBlank)
+            .ifPresent(kid -> headers.put(JsonWebKey.KEY_ID_PARAMETER, kid));
+        cipher.setCustomHeaders(headers);
         cipher.setStrategyType(type);
         return cipher;
     }
 
+    private Optional<PublicJsonWebKey> getSigningJsonWebKey(final RegisteredService registeredService) {
+        val oidcRegisteredService = OidcRegisteredService.class.cast(registeredService);
+        val issuer = oidcIssuerService.determineIssuer(Optional.of(oidcRegisteredService));
+        LOGGER.trace("Using issuer [{}] to determine signing key from default keystore cache", issuer);
+        return Objects.requireNonNull(defaultJsonWebKeystoreCache.get(issuer));
+    }
+
     private Key getEncryptionKeyForDecryption(final RegisteredService registeredService) {
         val svc = (OAuthRegisteredService) registeredService;
         if (svc instanceof OidcRegisteredService) {
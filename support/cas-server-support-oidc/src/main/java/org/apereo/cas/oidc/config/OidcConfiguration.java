@@ -73,6 +73,7 @@ import org.apereo.cas.support.oauth.web.views.OAuth20UserProfileViewRenderer;
 import org.apereo.cas.ticket.ExpirationPolicyBuilder;
 import org.apereo.cas.ticket.OAuth20TokenSigningAndEncryptionService;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenFactory;
+import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenRevocationFilter;
 import org.apereo.cas.ticket.accesstoken.OAuth20JwtBuilder;
 import org.apereo.cas.ticket.code.OAuth20CodeFactory;
 import org.apereo.cas.ticket.device.OAuth20DeviceTokenFactory;
@@ -245,7 +246,7 @@ public class OidcConfiguration {
             final CacheLoader<OAuthRegisteredService, Optional<PublicJsonWebKey>> oidcServiceJsonWebKeystoreCacheLoader,
             final CasConfigurationProperties casProperties) {
             return Caffeine.newBuilder()
-                .maximumSize(1)
+                .maximumSize(casProperties.getAuthn().getOidc().getJwks().getJwksCacheSize())
                 .expireAfter(new OidcServiceJsonWebKeystoreCacheExpirationPolicy(casProperties))
                 .build(oidcServiceJsonWebKeystoreCacheLoader);
         }
@@ -557,6 +558,8 @@ public class OidcConfiguration {
             final OAuth20CodeFactory defaultOAuthCodeFactory,
             @Qualifier("accessTokenJwtBuilder")
             final JwtBuilder accessTokenJwtBuilder,
+            @Qualifier(OAuth20AccessTokenRevocationFilter.BEAN_NAME)
+            final OAuth20AccessTokenRevocationFilter accessTokenRevocationFilter,
             @Qualifier("deviceTokenExpirationPolicy")
             final ExpirationPolicyBuilder deviceTokenExpirationPolicy,
             @Qualifier("oidcIssuerService")
@@ -632,6 +635,7 @@ public class OidcConfiguration {
                 .singleLogoutServiceLogoutUrlBuilder(singleLogoutServiceLogoutUrlBuilder)
                 .idTokenSigningAndEncryptionService(oidcTokenSigningAndEncryptionService)
                 .accessTokenJwtBuilder(accessTokenJwtBuilder)
+                .accessTokenRevocationFilter(accessTokenRevocationFilter)
                 .build();
         }
     }
@@ -286,7 +286,7 @@ public class OidcEndpointsConfiguration {
             final CasConfigurationProperties casProperties) {
             val oidc = casProperties.getAuthn().getOidc();
             return Caffeine.newBuilder().maximumSize(1)
-                .expireAfterWrite(Duration.ofMinutes(oidc.getJwks().getJwksCacheInMinutes()))
+                .refreshAfterWrite(Duration.ofMinutes(oidc.getJwks().getJwksCacheInMinutes()))
                 .build(oidcDefaultJsonWebKeystoreCacheLoader);
         }
 
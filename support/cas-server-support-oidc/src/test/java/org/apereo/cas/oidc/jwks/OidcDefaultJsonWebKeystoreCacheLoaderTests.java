@@ -86,6 +86,16 @@ public class OidcDefaultJsonWebKeystoreCacheLoaderTests extends AbstractOidcTest
         assertTrue(publicJsonWebKey2.isPresent());
     }
 
+    @Test
+    public void verifyReloadKeepsCurrentKey() throws Exception {
+        val gen = mock(OidcJsonWebKeystoreGeneratorService.class);
+        when(gen.generate()).thenReturn(null);
+        val loader = new OidcDefaultJsonWebKeystoreCacheLoader(gen);
+        val current = Optional.of(mock(PublicJsonWebKey.class));
+        assertSame(current, loader.reload("https://cas.example.org", current));
+        assertTrue(loader.reload("https://cas.example.org", Optional.empty()).isEmpty());
+    }
+
     @Test
     public void verifyNullResource() {
         val gen = mock(OidcJsonWebKeystoreGeneratorService.class);
@@ -38,6 +38,20 @@ public class OidcRegisteredServiceJwtAccessTokenCipherExecutorTests extends Abst
         assertEquals(at.getId(), decoded);
     }
 
+    @Test
+    public void verifyCipherExecutorCached() throws Exception {
+        val service = getOidcRegisteredService("whatever");
+        val executor = (OidcRegisteredServiceJwtAccessTokenCipherExecutor) oidcRegisteredServiceJwtAccessTokenCipherExecutor;
+        assertSame(executor.getTokenTicketCipherExecutorForService(service),
+            executor.getTokenTicketCipherExecutorForService(service));
+
+        val at = getAccessToken();
+        val encoded = executor.encode(at.getId(), Optional.of(service));
+        assertEquals(at.getId(), executor.decode(encoded, Optional.of(service)));
+        val jwks = oidcDefaultJsonWebKeystoreCache.get(oidcIssuerService.determineIssuer(Optional.of(service)));
+        assertEquals(jwks.get().getKeyId(), SignedJWT.parse(executor.encode(at.getId(), Optional.of(service))).getHeader().getKeyID());
+    }
+
     @Test
     public void verifyNoSigningKey() {
         val service = getOidcRegisteredService("whatever");
@@ -11,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.ldaptive.ConnectionFactory;
+import org.springframework.beans.factory.DisposableBean;
 
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -25,11 +26,16 @@ import java.util.Optional;
  */
 @Slf4j
 @RequiredArgsConstructor
-public class LdapPasswordlessUserAccountStore implements PasswordlessUserAccountStore {
+public class LdapPasswordlessUserAccountStore implements PasswordlessUserAccountStore, DisposableBean {
     private final ConnectionFactory connectionFactory;
 
     private final PasswordlessAuthenticationLdapAccountsProperties ldapProperties;
 
+    @Override
+    public void destroy() {
+        connectionFactory.close();
+    }
+
     @Override
     public Optional<PasswordlessUserAccount> findUser(final String username) {
         try {
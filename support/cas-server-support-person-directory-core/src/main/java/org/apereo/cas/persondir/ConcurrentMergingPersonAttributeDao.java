@@ -0,0 +1,173 @@
+package org.apereo.cas.persondir;
+
+import org.apereo.cas.authentication.attribute.AttributeRepositoryStatistics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.services.persondir.IPersonAttributeDao;
+import org.apereo.services.persondir.IPersonAttributeDaoFilter;
+import org.apereo.services.persondir.IPersonAttributes;
+import org.apereo.services.persondir.support.AbstractDefaultAttributePersonAttributeDao;
+import org.apereo.services.persondir.support.merger.IAttributeMerger;
+import org.apereo.services.persondir.support.merger.ReplacingAttributeAdder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link ConcurrentMergingPersonAttributeDao} that queries all attribute repositories
+ * concurrently and merges the results into a single result set. Results are merged in the order
+ * in which attribute repositories are declared, regardless of the order in which they complete,
+ * so the outcome of the configured {@link IAttributeMerger} is the same as when repositories are queried one after another.
+ * <p>
+ * Each attribute repository must produce a result before the configured deadline. Attribute repositories that fail
+ * or do not finish in time are skipped if exceptions are recovered, which allows for partial results; otherwise,
+ * the query fails altogether. If all attribute repositories are required to produce a result, any attribute repository
+ * that fails to do so causes the query to produce no result.
+ * Attribute repositories whose query depends on the results of other repositories must be cascaded
+ * instead, which runs them in their declared order.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Slf4j
+@Getter
+@Setter
+@RequiredArgsConstructor
+public class ConcurrentMergingPersonAttributeDao extends AbstractDefaultAttributePersonAttributeDao {
+    private final ExecutorService executorService;
+
+    private final AttributeRepositoryStatistics attributeRepositoryStatistics;
+
+    private List<IPersonAttributeDao> personAttributeDaos = new ArrayList<>(0);
+
+    private IAttributeMerger attributeMerger = new ReplacingAttributeAdder();
+
+    private Duration timeout = Duration.ofSeconds(5);
+
+    private boolean recoverExceptions = true;
+
+    private boolean requireAll;
+
+    private static String getRepositoryId(final IPersonAttributeDao dao) {
+        return String.join(",", dao.getId());
+    }
+
+    @Override
+    public Set<IPersonAttributes> getPeopleWithMultivaluedAttributes(final Map<String, List<Object>> query,
+                                                                     final IPersonAttributeDaoFilter filter) {
+        val daos = personAttributeDaos.stream()
+            .filter(dao -> filter == null || filter.choosePersonAttributeDao(dao))
+            .collect(Collectors.toList());
+        LOGGER.trace("Querying attribute repositories [{}] concurrently", daos);
+
+        val futures = daos.stream()
+            .map(dao -> executorService.submit(() -> queryAttributeRepository(dao, query, filter)))
+            .collect(Collectors.toList());
+        val deadline = System.nanoTime() + timeout.toNanos();
+
+        try {
+            Set<IPersonAttributes> resultPeople = null;
+            for (var i = 0; i < daos.size(); i++) {
+                val repositoryId = getRepositoryId(daos.get(i));
+                val currentPeople = getAttributeRepositoryResult(repositoryId, futures.get(i), deadline);
+                if (currentPeople == null || currentPeople.isEmpty()) {
+                    if (requireAll) {
+                        LOGGER.warn("Attribute repository [{}] did not produce a result, while all repositories are required to do so", repositoryId);
+                        return null;
+                    }
+                    continue;
+                }
+                resultPeople = resultPeople == null
+                    ? new LinkedHashSet<>(currentPeople)
+                    : attributeMerger.mergeResults(resultPeople, currentPeople);
+            }
+            LOGGER.debug("Aggregated person attributes from attribute repositories are [{}]", resultPeople);
+            return resultPeople;
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    @Override
+    public Set<String> getPossibleUserAttributeNames(final IPersonAttributeDaoFilter filter) {
+        val names = new LinkedHashSet<String>();
+        for (val dao : personAttributeDaos) {
+            if (filter == null || filter.choosePersonAttributeDao(dao)) {
+                val attributeNames = dao.getPossibleUserAttributeNames(filter);
+                if (attributeNames == null) {
+                    return null;
+                }
+                names.addAll(attributeNames);
+            }
+        }
+        return names;
+    }
+
+    @Override
+    public Set<String> getAvailableQueryAttributes(final IPersonAttributeDaoFilter filter) {
+        val names = new LinkedHashSet<String>();
+        personAttributeDaos
+            .stream()
+            .filter(dao -> filter == null || filter.choosePersonAttributeDao(dao))
+            .map(dao -> dao.getAvailableQueryAttributes(filter))
+            .filter(Objects::nonNull)
+            .forEach(names::addAll);
+        return names;
+    }
+
+    private Set<IPersonAttributes> queryAttributeRepository(final IPersonAttributeDao dao,
+                                                            final Map<String, List<Object>> query,
+                                                            final IPersonAttributeDaoFilter filter) {
+        val start = System.nanoTime();
+        try {
+            return dao.getPeopleWithMultivaluedAttributes(query, filter);
+        } finally {
+            attributeRepositoryStatistics.recordQuery(getRepositoryId(dao), System.nanoTime() - start);
+        }
+    }
+
+    private Set<IPersonAttributes> getAttributeRepositoryResult(final String repositoryId,
+                                                                final Future<Set<IPersonAttributes>> future,
+                                                                final long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException e) {
+            future.cancel(true);
+            attributeRepositoryStatistics.recordTimeout(repositoryId);
+            return handleAttributeRepositoryFailure(repositoryId,
+                new IllegalStateException("Attribute repository " + repositoryId + " did not produce a result within " + timeout));
+        } catch (final ExecutionException e) {
+            return handleAttributeRepositoryFailure(repositoryId, e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return handleAttributeRepositoryFailure(repositoryId, e);
+        }
+    }
+
+    private Set<IPersonAttributes> handleAttributeRepositoryFailure(final String repositoryId, final Throwable failure) {
+        if (!recoverExceptions) {
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            throw new IllegalStateException(failure);
+        }
+        LOGGER.warn("Attribute repository [{}] failed to produce a result and will be skipped: [{}]", repositoryId, failure.getMessage());
+        LOGGER.debug(failure.getMessage(), failure);
+        return null;
+    }
+}
@@ -2,13 +2,16 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.authentication.CoreAuthenticationUtils;
 import org.apereo.cas.authentication.attribute.AttributeDefinitionStore;
+import org.apereo.cas.authentication.attribute.AttributeRepositoryStatistics;
 import org.apereo.cas.authentication.attribute.DefaultAttributeDefinitionStore;
 import org.apereo.cas.authentication.principal.PrincipalFactory;
 import org.apereo.cas.authentication.principal.PrincipalFactoryUtils;
 import org.apereo.cas.authentication.principal.PrincipalResolutionExecutionPlanConfigurer;
 import org.apereo.cas.authentication.principal.PrincipalResolver;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.model.core.authentication.PrincipalAttributesCoreProperties;
 import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.persondir.ConcurrentMergingPersonAttributeDao;
 import org.apereo.cas.persondir.DefaultPersonDirectoryAttributeRepositoryPlan;
 import org.apereo.cas.persondir.PersonDirectoryAttributeRepositoryCustomizer;
 import org.apereo.cas.persondir.PersonDirectoryAttributeRepositoryPlan;
@@ -18,6 +21,7 @@ import org.apereo.cas.util.function.FunctionUtils;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.apereo.services.persondir.IPersonAttributeDao;
 import org.apereo.services.persondir.support.AbstractAggregatingDefaultQueryPersonAttributeDao;
 import org.apereo.services.persondir.support.CachingPersonAttributeDaoImpl;
@@ -28,6 +32,7 @@ import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.annotation.Bean;
@@ -40,6 +45,9 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -181,6 +189,28 @@ public class CasPersonDirectoryConfiguration {
             return impl;
         }
 
+        @ConditionalOnMissingBean(name = AttributeRepositoryStatistics.BEAN_NAME)
+        @Bean
+        public AttributeRepositoryStatistics attributeRepositoryStatistics() {
+            return new AttributeRepositoryStatistics();
+        }
+
+        @ConditionalOnMissingBean(name = "attributeRepositoryExecutor")
+        @ConditionalOnProperty(prefix = "cas.authn.attribute-repository.core", name = "aggregation", havingValue = "CONCURRENT")
+        @Bean
+        @Autowired
+        public ExecutorService attributeRepositoryExecutor(final CasConfigurationProperties casProperties) {
+            val core = casProperties.getAuthn().getAttributeRepository().getCore();
+            val threadFactory = new BasicThreadFactory.Builder()
+                .namingPattern("cas-attribute-repository-%d")
+                .daemon(true)
+                .build();
+            val poolSize = Math.max(1, core.getPoolSize());
+            return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, core.getQueueCapacity())),
+                threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+        }
+
         @Bean
         @ConditionalOnMissingBean(name = "aggregatingAttributeRepository")
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
@@ -188,15 +218,29 @@ public class CasPersonDirectoryConfiguration {
         public IPersonAttributeDao aggregatingAttributeRepository(
             final CasConfigurationProperties casProperties,
             @Qualifier("personDirectoryAttributeRepositoryPlan")
-            final PersonDirectoryAttributeRepositoryPlan personDirectoryAttributeRepositoryPlan) {
-            val aggregate = getAggregateAttributeRepository(casProperties);
-
+            final PersonDirectoryAttributeRepositoryPlan personDirectoryAttributeRepositoryPlan,
+            @Qualifier("attributeRepositoryExecutor")
+            final ObjectProvider<ExecutorService> attributeRepositoryExecutor,
+            @Qualifier(AttributeRepositoryStatistics.BEAN_NAME)
+            final AttributeRepositoryStatistics attributeRepositoryStatistics) {
             val properties = casProperties.getAuthn().getAttributeRepository();
             val attributeMerger = CoreAuthenticationUtils.getAttributeMerger(properties.getCore().getMerger());
             LOGGER.trace("Configured merging strategy for attribute sources is [{}]", attributeMerger);
-            aggregate.setMerger(attributeMerger);
-
             val list = personDirectoryAttributeRepositoryPlan.getAttributeRepositories();
+
+            if (properties.getCore().getAggregation() == PrincipalAttributesCoreProperties.AggregationStrategyTypes.CONCURRENT) {
+                val concurrent = new ConcurrentMergingPersonAttributeDao(attributeRepositoryExecutor.getObject(), attributeRepositoryStatistics);
+                concurrent.setAttributeMerger(attributeMerger);
+                concurrent.setPersonAttributeDaos(list);
+                concurrent.setRequireAll(properties.getCore().isRequireAllRepositorySources());
+                concurrent.setRecoverExceptions(properties.getCore().isRecoverExceptions());
+                concurrent.setTimeout(Beans.newDuration(properties.getCore().getTimeout()));
+                LOGGER.debug("Configured attribute repository sources [{}] to be queried concurrently", list);
+                return concurrent;
+            }
+
+            val aggregate = getAggregateAttributeRepository(casProperties);
+            aggregate.setMerger(attributeMerger);
             aggregate.setPersonAttributeDaos(list);
 
             aggregate.setRequireAll(properties.getCore().isRequireAllRepositorySources());
@@ -3,6 +3,7 @@ package org.apereo.cas;
 
 import org.apereo.cas.config.CasPersonDirectoryConfigurationCachingAttributeRepositoryTests;
 import org.apereo.cas.config.CasPersonDirectoryConfigurationCascadeAggregationTests;
+import org.apereo.cas.config.CasPersonDirectoryConfigurationConcurrentAggregationTests;
 import org.apereo.cas.config.CasPersonDirectoryConfigurationMergeAggregationTests;
 
 import org.junit.platform.suite.api.SelectClasses;
@@ -32,6 +33,7 @@ import org.junit.platform.suite.api.Suite;
     CasPersonDirectoryConfigurationCachingAttributeRepositoryTests.class,
     CasPersonDirectoryConfigurationMergeAggregationTests.class,
     CasPersonDirectoryConfigurationCascadeAggregationTests.class,
+    CasPersonDirectoryConfigurationConcurrentAggregationTests.class,
     DefaultAttributeDefinitionStoreTests.class,
     JdbcSingleRowAttributeRepositoryPostgresTests.class
 })
@@ -0,0 +1,153 @@
+package org.apereo.cas.config;
+
+import org.apereo.cas.BasePrincipalAttributeRepositoryTests;
+import org.apereo.cas.authentication.attribute.AttributeRepositoryStatistics;
+import org.apereo.cas.persondir.ConcurrentMergingPersonAttributeDao;
+
+import lombok.val;
+import org.apereo.services.persondir.IPersonAttributeDao;
+import org.apereo.services.persondir.IPersonAttributeDaoFilter;
+import org.apereo.services.persondir.IPersonAttributes;
+import org.apereo.services.persondir.support.StubPersonAttributeDao;
+import org.apereo.services.persondir.support.merger.MultivaluedAttributeMerger;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link CasPersonDirectoryConfigurationConcurrentAggregationTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@SpringBootTest(classes = BasePrincipalAttributeRepositoryTests.SharedTestConfiguration.class, properties = {
+    "cas.authn.attribute-repository.stub.attributes.uid=cas",
+    "cas.authn.attribute-repository.stub.attributes.givenName=apereo-cas",
+    "cas.authn.attribute-repository.stub.attributes.eppn=casuser",
+
+    "cas.authn.attribute-repository.groovy[0].location=classpath:/GroovyAttributeRepository.groovy",
+    "cas.authn.attribute-repository.groovy[0].order=1",
+
+    "cas.authn.attribute-repository.json[0].location=classpath:/json-attribute-repository.json",
+    "cas.authn.attribute-repository.json[0].order=2",
+
+    "cas.authn.attribute-repository.script[0].location=classpath:/GroovyAttributeRepository.groovy",
+    "cas.authn.attribute-repository.script[0].order=2",
+
+    "cas.authn.attribute-repository.core.aggregation=CONCURRENT",
+    "cas.authn.attribute-repository.core.merger=MULTIVALUED",
+    "cas.authn.attribute-repository.core.timeout=PT10S",
+
+    "cas.authn.attribute-repository.core.expiration-time=0"
+})
+@Tag("Attributes")
+public class CasPersonDirectoryConfigurationConcurrentAggregationTests {
+    @Autowired
+    @Qualifier("aggregatingAttributeRepository")
+    private IPersonAttributeDao aggregatingAttributeRepository;
+
+    @Autowired
+    @Qualifier("attributeRepositoryExecutor")
+    private ExecutorService attributeRepositoryExecutor;
+
+    @Autowired
+    @Qualifier(AttributeRepositoryStatistics.BEAN_NAME)
+    private AttributeRepositoryStatistics attributeRepositoryStatistics;
+
+    private static IPersonAttributeDao getSlowAttributeRepository(final String id, final Map<String, List<Object>> attributes) {
+        val dao = new StubPersonAttributeDao(attributes) {
+            @Override
+            public Set<IPersonAttributes> getPeopleWithMultivaluedAttributes(final Map<String, List<Object>> query,
+                                                                             final IPersonAttributeDaoFilter filter) {
+                try {
+                    Thread.sleep(2_000);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.getPeopleWithMultivaluedAttributes(query, filter);
+            }
+        };
+        dao.setId(id);
+        return dao;
+    }
+
+    private static IPersonAttributeDao getAttributeRepository(final String id, final Map<String, List<Object>> attributes) {
+        val dao = new StubPersonAttributeDao(attributes);
+        dao.setId(id);
+        return dao;
+    }
+
+    @Test
+    public void verifyOperation() {
+        assertTrue(aggregatingAttributeRepository instanceof ConcurrentMergingPersonAttributeDao);
+        val person = aggregatingAttributeRepository.getPerson("casuser", IPersonAttributeDaoFilter.alwaysChoose());
+        assertNotNull(person);
+        assertNotNull(person.getAttributeValue("uid"));
+        assertNotNull(person.getAttributeValue("givenName"));
+        assertEquals(2, person.getAttributeValues("eppn").size());
+        assertNotNull(person.getAttributeValue("username"));
+        assertNotNull(person.getAttributeValue("likes"));
+        assertNotNull(person.getAttributeValue("oldName"));
+        assertNotNull(person.getAttributeValue("newName"));
+        assertEquals(5, person.getAttributeValues("id").size());
+        assertTrue(attributeRepositoryStatistics.getQueryCount().get() > 0);
+    }
+
+    @Test
+    public void verifyExecutorIsBounded() {
+        assertTrue(attributeRepositoryExecutor instanceof ThreadPoolExecutor);
+        val executor = (ThreadPoolExecutor) attributeRepositoryExecutor;
+        assertEquals(100, executor.getQueue().remainingCapacity() + executor.getQueue().size());
+        assertTrue(executor.getRejectedExecutionHandler() instanceof ThreadPoolExecutor.CallerRunsPolicy);
+    }
+
+    @Test
+    public void verifyMergeOrder() {
+        val dao = new ConcurrentMergingPersonAttributeDao(attributeRepositoryExecutor, new AttributeRepositoryStatistics());
+        dao.setAttributeMerger(new MultivaluedAttributeMerger());
+        dao.setPersonAttributeDaos(List.of(
+            getSlowAttributeRepository("first", Map.of("name", List.of("first"))),
+            getAttributeRepository("second", Map.of("name", List.of("second")))));
+        val person = dao.getPerson("casuser", IPersonAttributeDaoFilter.alwaysChoose());
+        assertNotNull(person);
+        assertEquals(List.of("first", "second"), person.getAttributeValues("name"));
+    }
+
+    @Test
+    public void verifyTimeoutWithPartialResult() {
+        val statistics = new AttributeRepositoryStatistics();
+        val dao = new ConcurrentMergingPersonAttributeDao(attributeRepositoryExecutor, statistics);
+        dao.setTimeout(Duration.ofMillis(200));
+        dao.setPersonAttributeDaos(List.of(
+            getSlowAttributeRepository("slow", Map.of("slow", List.of("value"))),
+            getAttributeRepository("fast", Map.of("fast", List.of("value")))));
+        val person = dao.getPerson("casuser", IPersonAttributeDaoFilter.alwaysChoose());
+        assertNotNull(person);
+        assertNull(person.getAttributeValue("slow"));
+        assertNotNull(person.getAttributeValue("fast"));
+        assertEquals(1, statistics.getTimeoutCount().get());
+
+        dao.setRequireAll(true);
+        assertNull(dao.getPerson("casuser", IPersonAttributeDaoFilter.alwaysChoose()));
+    }
+
+    @Test
+    public void verifyTimeoutWithoutRecovery() {
+        val dao = new ConcurrentMergingPersonAttributeDao(attributeRepositoryExecutor, new AttributeRepositoryStatistics());
+        dao.setTimeout(Duration.ofMillis(200));
+        dao.setRecoverExceptions(false);
+        dao.setPersonAttributeDaos(List.of(getSlowAttributeRepository("slow", Map.of("slow", List.of("value")))));
+        assertThrows(IllegalStateException.class, () -> dao.getPerson("casuser", IPersonAttributeDaoFilter.alwaysChoose()));
+    }
+}
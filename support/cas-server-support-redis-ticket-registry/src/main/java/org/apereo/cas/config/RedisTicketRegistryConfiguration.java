@@ -1,10 +1,13 @@
 package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.redis.core.RedisObjectFactory;
 import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.registry.RedisLockRepository;
 import org.apereo.cas.ticket.registry.RedisTicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.support.LockRepository;
 import org.apereo.cas.util.CoreTicketUtils;
 
 import lombok.val;
@@ -19,6 +22,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 
 /**
  * This is {@link RedisTicketRegistryConfiguration}.
@@ -60,4 +64,16 @@ public class RedisTicketRegistryConfiguration {
         r.setCipherExecutor(CoreTicketUtils.newTicketRegistryCipherExecutor(redis.getCrypto(), "redis"));
         return r;
     }
+
+    @Bean
+    @Autowired
+    @ConditionalOnProperty(prefix = "cas.ticket.registry.core", name = "locking-mode", havingValue = "DISTRIBUTED")
+    public LockRepository ticketRegistryLockRepository(
+        final CasConfigurationProperties casProperties,
+        @Qualifier("redisTicketConnectionFactory")
+        final RedisConnectionFactory redisTicketConnectionFactory) {
+        val core = casProperties.getTicket().getRegistry().getCore();
+        return new RedisLockRepository(new StringRedisTemplate(redisTicketConnectionFactory),
+            Beans.newDuration(core.getLockTimeout()), Beans.newDuration(core.getLockLeaseDuration()));
+    }
 }
@@ -0,0 +1,73 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.registry.support.LockRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * This is {@link RedisLockRepository} that obtains a cluster-wide lock per key
+ * in Redis. Callers wait up to the lock timeout to obtain a lock. Locks are leased
+ * for a separate and longer amount of time so a crashed node can never hold on to
+ * a lock indefinitely, and are only released by their owner.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RedisLockRepository implements LockRepository {
+    private static final String CAS_LOCK_PREFIX = "CAS_LOCK:";
+
+    private static final long LOCK_POLL_INTERVAL = 25;
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+
+    private final StringRedisTemplate client;
+
+    private final Duration lockTimeout;
+
+    private final Duration lockLeaseDuration;
+
+    @Override
+    public <T> Optional<T> execute(final String lockKey, final Supplier<T> consumer) {
+        val redisKey = CAS_LOCK_PREFIX + lockKey;
+        val owner = UUID.randomUUID().toString();
+        if (!acquire(redisKey, owner)) {
+            LOGGER.warn("Unable to obtain lock [{}] within [{}]", lockKey, lockTimeout);
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(consumer.get());
+        } finally {
+            client.execute(RELEASE_SCRIPT, List.of(redisKey), owner);
+        }
+    }
+
+    private boolean acquire(final String redisKey, final String owner) {
+        val deadline = System.currentTimeMillis() + lockTimeout.toMillis();
+        do {
+            if (Boolean.TRUE.equals(client.opsForValue().setIfAbsent(redisKey, owner, lockLeaseDuration))) {
+                return true;
+            }
+            try {
+                Thread.sleep(LOCK_POLL_INTERVAL);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        } while (System.currentTimeMillis() < deadline);
+        return false;
+    }
+}
@@ -1,27 +1,68 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.ticket.ServiceTicket;
 import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.serialization.SerializationUtils;
 
+import com.google.common.collect.Iterators;
+import com.google.common.collect.MapMaker;
 import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
  * Key-value ticket registry implementation that stores tickets in redis keyed on the ticket ID.
+ * Tickets are also tracked in sorted sets, scored by their expiration time, per ticket type and
+ * per principal for ticket-granting tickets. These indexes are maintained as tickets are added, updated
+ * and removed so that session counts and user session lookups do not need to scan the entire registry.
+ * Reading all tickets iterates over keys lazily and fetches tickets in batches.
+ * Services tracked by ticket-granting tickets are kept in a separate hash per ticket-granting ticket,
+ * so granting a service ticket appends a single entry rather than rewriting all tracked services.
+ * Updates to the hash are additive; entries are only removed once they are known to have been
+ * tracked by the same ticket-granting ticket instance, so that copies of a ticket-granting ticket
+ * whose services were never loaded (i.e. reached through a child ticket) cannot erase tracked services.
  *
  * @author serv
  * @since 5.1.0
@@ -31,32 +72,77 @@ import java.util.stream.StreamSupport;
 public class RedisTicketRegistry extends AbstractTicketRegistry {
     private static final String CAS_TICKET_PREFIX = "CAS_TICKET:";
 
+    private static final String CAS_TICKET_TYPE_INDEX_PREFIX = "CAS_TICKET_TYPE:";
+
+    private static final String CAS_TICKET_PRINCIPAL_INDEX_PREFIX = "CAS_TICKET_PRINCIPAL:";
+
+    private static final String CAS_TICKET_SERVICES_PREFIX = "CAS_TICKET_SERVICES:";
+
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * Add the member to the index, trim members that have expired and
+     * expire the index itself along with its last remaining member.
+     */
+    private static final byte[] INDEX_SCRIPT = ("redis.call('zadd', KEYS[1], ARGV[1], ARGV[2]); "
+        + "redis.call('zremrangebyscore', KEYS[1], '-inf', '(' .. ARGV[3]); "
+        + "local last = redis.call('zrange', KEYS[1], -1, -1, 'withscores'); "
+        + "if last[2] then redis.call('pexpireat', KEYS[1], math.floor(tonumber(last[2]))) end; "
+        + "return 1").getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Add the tracked service to the hash, refresh its expiration and return the number of tracked services.
+     */
+    private static final byte[] TRACK_SERVICE_SCRIPT = ("redis.call('hset', KEYS[1], ARGV[1], ARGV[2]); "
+        + "redis.call('pexpire', KEYS[1], ARGV[3]); "
+        + "return redis.call('hlen', KEYS[1])").getBytes(StandardCharsets.UTF_8);
+
     private final RedisTemplate<String, Ticket> client;
 
+    /**
+     * Identifiers of services known to be tracked in redis, per ticket-granting ticket instance.
+     */
+    private final Map<TicketGrantingTicket, Set<String>> knownTrackedServices = new MapMaker().weakKeys().makeMap();
+
+    /**
+     * Ticket types, keyed by the ticket prefix tracked in the type indexes.
+     */
+    private final Map<String, Class<? extends Ticket>> indexedTicketTypes = new ConcurrentHashMap<>();
+
     @Override
-    @SuppressWarnings("java:S2583")
     public long deleteAll() {
-        val redisKeys = client.keys(getPatternTicketRedisKey());
-        val size = Objects.requireNonNull(redisKeys).size();
-        this.client.delete(redisKeys);
-        return size;
+        deleteKeysMatching(CAS_TICKET_TYPE_INDEX_PREFIX + '*');
+        deleteKeysMatching(CAS_TICKET_PRINCIPAL_INDEX_PREFIX + '*');
+        deleteKeysMatching(CAS_TICKET_SERVICES_PREFIX + '*');
+        return deleteKeysMatching(getPatternTicketRedisKey());
     }
 
     @Override
     public boolean deleteSingleTicket(final String ticketId) {
         val redisKey = getTicketRedisKey(encodeTicketId(ticketId));
-        this.client.delete(redisKey);
+        client.executePipelined((RedisCallback<Object>) connection -> {
+            connection.del(serialize(redisKey), serialize(getTrackedServicesRedisKey(ticketId)));
+            connection.zRem(serialize(getTypeIndexKey(getTicketPrefix(ticketId))), serialize(redisKey));
+            return null;
+        });
         return true;
     }
 
+    @Override
+    public int deleteTicket(final Ticket ticket) {
+        val count = super.deleteTicket(ticket);
+        getPrincipalIndexKey(ticket).ifPresent(indexKey -> {
+            val redisKey = getTicketRedisKey(encodeTicketId(ticket.getId()));
+            client.execute((RedisCallback<Long>) connection -> connection.zRem(serialize(indexKey), serialize(redisKey)));
+        });
+        return count;
+    }
+
     @Override
     public void addTicketInternal(final Ticket ticket) {
         try {
             LOGGER.debug("Adding ticket [{}]", ticket);
-            val redisKey = getTicketRedisKey(encodeTicketId(ticket.getId()));
-            val encodeTicket = encodeTicket(ticket);
-            val timeout = getTimeout(ticket);
-            this.client.boundValueOps(redisKey).set(encodeTicket, timeout, TimeUnit.SECONDS);
+            storeTicket(ticket, null);
         } catch (final Exception e) {
             LOGGER.error("Failed to add [{}]", ticket);
             LoggingUtils.error(LOGGER, e);
@@ -70,6 +156,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
             val t = this.client.boundValueOps(redisKey).get();
             if (t != null) {
                 val result = decodeTicket(t);
+                loadTrackedServices(Collections.singletonList(result));
                 if (predicate.test(result)) {
                     return result;
                 }
@@ -93,31 +180,23 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
 
     @Override
     public Stream<? extends Ticket> stream() {
-        return getKeysStream()
-            .map(redisKey -> {
-                val ticket = this.client.boundValueOps(redisKey).get();
-                if (ticket == null) {
-                    this.client.delete(redisKey);
-                    return null;
-                }
-                return ticket;
-            })
-            .filter(Objects::nonNull)
-            .map(this::decodeTicket)
-            .filter(Objects::nonNull);
+        val connection = Objects.requireNonNull(client.getConnectionFactory()).getConnection();
+        val cursor = connection.scan(ScanOptions.scanOptions().match(getPatternTicketRedisKey()).count(BATCH_SIZE).build());
+        val batches = Iterators.partition(cursor, BATCH_SIZE);
+        return StreamSupport
+            .stream(Spliterators.spliteratorUnknownSize(batches, Spliterator.ORDERED), false)
+            .flatMap(keys -> getTickets(connection, keys))
+            .onClose(() -> {
+                IOUtils.closeQuietly(cursor);
+                connection.close();
+            });
     }
 
     @Override
     public Ticket updateTicket(final Ticket ticket) {
         try {
             LOGGER.debug("Updating ticket [{}]", ticket);
-            val encodeTicket = this.encodeTicket(ticket);
-            val redisKey = getTicketRedisKey(encodeTicketId(ticket.getId()));
-            LOGGER.debug("Fetched redis key [{}] for ticket [{}]", redisKey, ticket);
-
-            val timeout = getTimeout(ticket);
-            client.boundValueOps(redisKey).set(encodeTicket, timeout, TimeUnit.SECONDS);
-            return encodeTicket;
+            return storeTicket(ticket, null);
         } catch (final Exception e) {
             LOGGER.error("Failed to update [{}]", ticket);
             LoggingUtils.error(LOGGER, e);
@@ -125,6 +204,78 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
         return null;
     }
 
+    @Override
+    public Ticket updateTicketGrantingTicket(final TicketGrantingTicket ticketGrantingTicket, final Ticket grantedTicket) {
+        if (!isTrackedServicesExcluded() || !ticketGrantingTicket.getServices().containsKey(grantedTicket.getId())) {
+            return updateTicket(ticketGrantingTicket);
+        }
+        try {
+            LOGGER.debug("Updating ticket [{}] that has granted [{}]", ticketGrantingTicket, grantedTicket.getId());
+            return storeTicket(ticketGrantingTicket, grantedTicket.getId());
+        } catch (final Exception e) {
+            LOGGER.error("Failed to update [{}]", ticketGrantingTicket);
+            LoggingUtils.error(LOGGER, e);
+        }
+        return null;
+    }
+
+    @Override
+    public long sessionCount() {
+        return countIndexedTickets(TicketGrantingTicket.class);
+    }
+
+    @Override
+    public long serviceTicketCount() {
+        return countIndexedTickets(ServiceTicket.class);
+    }
+
+    @Override
+    public long countSessionsFor(final String principalId) {
+        return getLiveIndexMembers(getPrincipalIndexKey(principalId)).size();
+    }
+
+    @Override
+    public Stream<? extends Ticket> getSessionsFor(final String principalId) {
+        val members = getLiveIndexMembers(getPrincipalIndexKey(principalId));
+        if (members.isEmpty()) {
+            return Stream.empty();
+        }
+        val tickets = client.execute((RedisCallback<List<Ticket>>) connection -> {
+            val results = new ArrayList<Ticket>(members.size());
+            Iterators.partition(members.iterator(), BATCH_SIZE)
+                .forEachRemaining(keys -> getTickets(connection, keys).forEach(results::add));
+            return results;
+        });
+        return Objects.requireNonNull(tickets)
+            .stream()
+            .filter(TicketGrantingTicket.class::isInstance)
+            .filter(ticket -> ((TicketGrantingTicket) ticket).getAuthentication().getPrincipal().getId().equalsIgnoreCase(principalId));
+    }
+
+    @Override
+    protected int deleteChildren(final TicketGrantingTicket ticket) {
+        val services = ticket.getServices();
+        if (services == null || services.isEmpty()) {
+            return 0;
+        }
+        val results = client.executePipelined((RedisCallback<Object>) connection -> {
+            services.keySet().forEach(ticketId -> {
+                val redisKey = serialize(getTicketRedisKey(encodeTicketId(ticketId)));
+                connection.del(redisKey);
+                connection.zRem(serialize(getTypeIndexKey(getTicketPrefix(ticketId))), redisKey);
+            });
+            return null;
+        });
+        val count = (int) IntStream.range(0, results.size())
+            .filter(i -> i % 2 == 0)
+            .mapToObj(results::get)
+            .filter(Long.class::isInstance)
+            .mapToLong(Long.class::cast)
+            .sum();
+        LOGGER.debug("Removed [{}] service ticket(s) of ticket-granting ticket [{}]", count, ticket.getId());
+        return count;
+    }
+
     /**
      * If not time out value is specified, expire the ticket immediately.
      *
@@ -149,19 +300,310 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
         return CAS_TICKET_PREFIX + '*';
     }
 
+    private static String getTypeIndexKey(final String prefix) {
+        return CAS_TICKET_TYPE_INDEX_PREFIX + prefix;
+    }
+
     /**
-     * Get a stream of all CAS-related keys from Redis DB.
+     * Serialize the ticket, excluding services tracked by the ticket and any of its parent ticket-granting tickets.
+     * Tracked services are stored and loaded separately.
      *
-     * @return stream of all CAS-related keys from Redis DB
+     * @param ticket the ticket
+     * @return the serialized ticket
      */
-    private Stream<String> getKeysStream() {
-        val cursor = Objects.requireNonNull(client.getConnectionFactory()).getConnection()
-            .scan(ScanOptions.scanOptions().match(getPatternTicketRedisKey()).build());
-        return StreamSupport
-            .stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED), false)
-            .map(key -> (String) client.getKeySerializer().deserialize(key))
-            .collect(Collectors.toSet())
+    @SneakyThrows
+    private static byte[] serializeWithoutTrackedServices(final Ticket ticket) {
+        val trackedServices = Collections.newSetFromMap(new IdentityHashMap<>());
+        var ticketGrantingTicket = ticket instanceof TicketGrantingTicket ? (TicketGrantingTicket) ticket : ticket.getTicketGrantingTicket();
+        while (ticketGrantingTicket != null) {
+            trackedServices.add(ticketGrantingTicket.getServices());
+            ticketGrantingTicket = ticketGrantingTicket.getTicketGrantingTicket();
+        }
+        val bytes = new ByteArrayOutputStream();
+        try (val out = new TrackedServicesExcludingObjectOutputStream(bytes, trackedServices)) {
+            out.writeObject(ticket);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static String getTicketPrefix(final String ticketId) {
+        return StringUtils.substringBefore(ticketId, "-");
+    }
+
+    private static byte[] serialize(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String getTrackedServicesRedisKey(final String ticketId) {
+        return CAS_TICKET_SERVICES_PREFIX + encodeTicketId(ticketId);
+    }
+
+    private boolean isTrackedServicesExcluded() {
+        return isCipherExecutorEnabled() || client.getValueSerializer() instanceof JdkSerializationRedisSerializer;
+    }
+
+    private byte[] encodeTrackedService(final String ticketId, final Service service) {
+        val entry = ImmutablePair.of(ticketId, service);
+        return isCipherExecutorEnabled()
+            ? SerializationUtils.serializeAndEncodeObject(cipherExecutor, entry)
+            : SerializationUtils.serialize(entry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Pair<String, Service> decodeTrackedService(final byte[] value) {
+        return isCipherExecutorEnabled()
+            ? SerializationUtils.decodeAndDeserializeObject(value, cipherExecutor, Pair.class)
+            : SerializationUtils.deserialize(value, Pair.class);
+    }
+
+    private void writeTrackedServices(final RedisConnection connection, final TicketGrantingTicket ticketGrantingTicket, final long timeout) {
+        val key = serialize(getTrackedServicesRedisKey(ticketGrantingTicket.getId()));
+        val services = new LinkedHashMap<>(ticketGrantingTicket.getServices());
+        if (!services.isEmpty()) {
+            val entries = new HashMap<byte[], byte[]>(services.size());
+            services.forEach((id, service) -> entries.put(serialize(encodeTicketId(id)), encodeTrackedService(id, service)));
+            connection.hMSet(key, entries);
+        }
+        val removed = knownTrackedServices.getOrDefault(ticketGrantingTicket, Set.of())
+            .stream()
+            .filter(id -> !services.containsKey(id))
+            .map(id -> serialize(encodeTicketId(id)))
+            .toArray(byte[][]::new);
+        if (removed.length > 0) {
+            connection.hDel(key, removed);
+        }
+        connection.expire(key, timeout);
+    }
+
+    private void rememberTrackedServices(final TicketGrantingTicket ticketGrantingTicket) {
+        knownTrackedServices.put(ticketGrantingTicket, new HashSet<>(ticketGrantingTicket.getServices().keySet()));
+    }
+
+    private void loadTrackedServices(final List<Ticket> tickets) {
+        val ticketGrantingTickets = tickets
             .stream()
-        .onClose(() -> IOUtils.closeQuietly(cursor));
+            .filter(TicketGrantingTicket.class::isInstance)
+            .map(TicketGrantingTicket.class::cast)
+            .collect(Collectors.toList());
+        if (ticketGrantingTickets.isEmpty()) {
+            return;
+        }
+        val results = client.execute((RedisCallback<List<Object>>) connection -> {
+            connection.openPipeline();
+            ticketGrantingTickets.forEach(ticket -> connection.hGetAll(serialize(getTrackedServicesRedisKey(ticket.getId()))));
+            return connection.closePipeline();
+        });
+        for (var i = 0; i < ticketGrantingTickets.size() && results != null && i < results.size(); i++) {
+            val ticketGrantingTicket = ticketGrantingTickets.get(i);
+            val entries = (Map<?, ?>) results.get(i);
+            if (entries != null) {
+                entries.values().forEach(value -> {
+                    val service = decodeTrackedService((byte[]) value);
+                    ticketGrantingTicket.getServices().put(service.getKey(), service.getValue());
+                });
+            }
+            rememberTrackedServices(ticketGrantingTicket);
+        }
+    }
+
+    private String getPrincipalIndexKey(final String principalId) {
+        return CAS_TICKET_PRINCIPAL_INDEX_PREFIX + encodeTicketId(principalId.toLowerCase());
+    }
+
+    private Optional<String> getPrincipalIndexKey(final Ticket ticket) {
+        if (ticket instanceof TicketGrantingTicket) {
+            val authentication = ((TicketGrantingTicket) ticket).getAuthentication();
+            if (authentication != null && authentication.getPrincipal() != null) {
+                return Optional.of(getPrincipalIndexKey(authentication.getPrincipal().getId()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Ticket storeTicket(final Ticket ticket, final String grantedTicketId) {
+        val ticketKey = getTicketRedisKey(encodeTicketId(ticket.getId()));
+        LOGGER.debug("Storing ticket [{}] with redis key [{}]", ticket, ticketKey);
+        val redisKey = serialize(ticketKey);
+
+        val storedTicket = isCipherExecutorEnabled()
+            ? new DefaultEncodedTicket(encodeTicketId(ticket.getId()),
+                (byte[]) cipherExecutor.encode(serializeWithoutTrackedServices(ticket)), ticket.getPrefix())
+            : ticket;
+        val value = isTrackedServicesExcluded() && !isCipherExecutorEnabled()
+            ? serializeWithoutTrackedServices(ticket)
+            : Objects.requireNonNull(serializeTicket(storedTicket));
+
+        val timeout = getTimeout(ticket);
+        val now = System.currentTimeMillis();
+        val expiresAt = now + TimeUnit.SECONDS.toMillis(timeout);
+        val indexes = new ArrayList<String>();
+        indexes.add(getTypeIndexKey(ticket.getPrefix()));
+        getPrincipalIndexKey(ticket).ifPresent(indexes::add);
+
+        val ticketGrantingTicket = ticket instanceof TicketGrantingTicket ? (TicketGrantingTicket) ticket : null;
+        val results = client.executePipelined((RedisCallback<Object>) connection -> {
+            connection.setEx(redisKey, timeout, value);
+            indexes.forEach(index -> connection.eval(INDEX_SCRIPT, ReturnType.INTEGER, 1,
+                serialize(index), serialize(String.valueOf(expiresAt)), redisKey, serialize(String.valueOf(now))));
+            if (ticketGrantingTicket != null && grantedTicketId != null) {
+                val service = ticketGrantingTicket.getServices().get(grantedTicketId);
+                connection.eval(TRACK_SERVICE_SCRIPT, ReturnType.INTEGER, 1,
+                    serialize(getTrackedServicesRedisKey(ticketGrantingTicket.getId())),
+                    serialize(encodeTicketId(grantedTicketId)), encodeTrackedService(grantedTicketId, service),
+                    serialize(String.valueOf(TimeUnit.SECONDS.toMillis(timeout))));
+            } else if (ticketGrantingTicket != null) {
+                writeTrackedServices(connection, ticketGrantingTicket, timeout);
+            }
+            return null;
+        });
+
+        if (ticketGrantingTicket != null && grantedTicketId != null) {
+            val trackedServices = (Long) results.get(results.size() - 1);
+            if (trackedServices == null || trackedServices != ticketGrantingTicket.getServices().size()) {
+                LOGGER.debug("Tracked services of [{}] are out of sync and will be reconciled", ticketGrantingTicket.getId());
+                client.executePipelined((RedisCallback<Object>) connection -> {
+                    writeTrackedServices(connection, ticketGrantingTicket, timeout);
+                    return null;
+                });
+            }
+        }
+        if (ticketGrantingTicket != null) {
+            rememberTrackedServices(ticketGrantingTicket);
+        }
+        return storedTicket;
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] serializeTicket(final Ticket ticket) {
+        return ((RedisSerializer<Ticket>) client.getValueSerializer()).serialize(ticket);
+    }
+
+    /**
+     * Count live tickets of the given type across all type indexes.
+     * The type tracked by each index is determined once from one of its tickets.
+     *
+     * @param type the ticket type
+     * @return the count
+     */
+    private long countIndexedTickets(final Class<? extends Ticket> type) {
+        val count = client.execute((RedisCallback<Long>) connection -> {
+            var total = 0L;
+            val now = System.currentTimeMillis();
+            try (val cursor = connection.scan(ScanOptions.scanOptions().match(getTypeIndexKey("*")).count(BATCH_SIZE).build())) {
+                while (cursor.hasNext()) {
+                    val indexKey = cursor.next();
+                    val indexed = Objects.requireNonNullElse(connection.zCount(indexKey, now, Double.POSITIVE_INFINITY), 0L);
+                    if (indexed > 0 && getIndexedTicketType(connection, indexKey, now).filter(type::isAssignableFrom).isPresent()) {
+                        total += indexed;
+                    }
+                }
+            } catch (final Exception e) {
+                LoggingUtils.error(LOGGER, e);
+            }
+            return total;
+        });
+        return Objects.requireNonNullElse(count, 0L);
+    }
+
+    private Optional<Class<? extends Ticket>> getIndexedTicketType(final RedisConnection connection, final byte[] indexKey, final long now) {
+        val prefix = StringUtils.removeStart(new String(indexKey, StandardCharsets.UTF_8), CAS_TICKET_TYPE_INDEX_PREFIX);
+        val type = indexedTicketTypes.get(prefix);
+        if (type != null) {
+            return Optional.of(type);
+        }
+        val members = connection.zRangeByScore(indexKey, now, Double.POSITIVE_INFINITY, 0, 1);
+        if (members == null || members.isEmpty()) {
+            return Optional.empty();
+        }
+        return getTickets(connection, new ArrayList<>(members))
+            .findFirst()
+            .map(ticket -> {
+                indexedTicketTypes.put(prefix, ticket.getClass());
+                return ticket.getClass();
+            });
+    }
+
+    /**
+     * Get the members of the index whose tickets still exist, removing members whose tickets are gone.
+     *
+     * @param indexKey the index key
+     * @return the live members
+     */
+    private List<byte[]> getLiveIndexMembers(final String indexKey) {
+        val members = client.execute((RedisCallback<List<byte[]>>) connection -> {
+            val key = serialize(indexKey);
+            val indexed = connection.zRangeByScore(key, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+            if (indexed == null || indexed.isEmpty()) {
+                return List.of();
+            }
+            val candidates = new ArrayList<>(indexed);
+            connection.openPipeline();
+            candidates.forEach(connection::exists);
+            val results = connection.closePipeline();
+            val live = new ArrayList<byte[]>(candidates.size());
+            val stale = new ArrayList<byte[]>();
+            for (var i = 0; i < candidates.size(); i++) {
+                if (i < results.size() && Boolean.TRUE.equals(results.get(i))) {
+                    live.add(candidates.get(i));
+                } else {
+                    stale.add(candidates.get(i));
+                }
+            }
+            if (!stale.isEmpty()) {
+                LOGGER.trace("Removing [{}] stale member(s) from index [{}]", stale.size(), indexKey);
+                connection.zRem(key, stale.toArray(byte[][]::new));
+            }
+            return live;
+        });
+        return Objects.requireNonNullElse(members, List.of());
+    }
+
+    private Stream<Ticket> getTickets(final RedisConnection connection, final List<byte[]> keys) {
+        val values = connection.mGet(keys.toArray(byte[][]::new));
+        if (values == null) {
+            return Stream.empty();
+        }
+        val tickets = values
+            .stream()
+            .filter(Objects::nonNull)
+            .map(value -> (Ticket) client.getValueSerializer().deserialize(value))
+            .filter(Objects::nonNull)
+            .map(this::decodeTicket)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+        loadTrackedServices(tickets);
+        return tickets.stream();
+    }
+
+    private long deleteKeysMatching(final String pattern) {
+        val count = client.execute((RedisCallback<Long>) connection -> {
+            var deleted = 0L;
+            try (val cursor = connection.scan(ScanOptions.scanOptions().match(pattern).count(BATCH_SIZE).build())) {
+                val batches = Iterators.partition(cursor, BATCH_SIZE);
+                while (batches.hasNext()) {
+                    val result = connection.del(batches.next().toArray(byte[][]::new));
+                    deleted += Objects.requireNonNullElse(result, 0L);
+                }
+            } catch (final Exception e) {
+                LoggingUtils.error(LOGGER, e);
+            }
+            return deleted;
+        });
+        return Objects.requireNonNullElse(count, 0L);
+    }
+
+    private static class TrackedServicesExcludingObjectOutputStream extends ObjectOutputStream {
+        private final Collection<Object> trackedServices;
+
+        TrackedServicesExcludingObjectOutputStream(final OutputStream out, final Collection<Object> trackedServices) throws IOException {
+            super(out);
+            this.trackedServices = trackedServices;
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(final Object obj) {
+            return trackedServices.contains(obj) ? new HashMap<>(0) : obj;
+        }
     }
 }
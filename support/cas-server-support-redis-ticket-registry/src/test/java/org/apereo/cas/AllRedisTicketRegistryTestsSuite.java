@@ -1,5 +1,6 @@
 package org.apereo.cas;
 
+import org.apereo.cas.ticket.registry.RedisLockRepositoryTests;
 import org.apereo.cas.ticket.registry.RedisSentinelServerTicketRegistryTests;
 import org.apereo.cas.ticket.registry.RedisServerTicketRegistryTests;
 
@@ -14,7 +15,8 @@ import org.junit.platform.suite.api.Suite;
  */
 @SelectClasses({
     RedisServerTicketRegistryTests.class,
-    RedisSentinelServerTicketRegistryTests.class
+    RedisSentinelServerTicketRegistryTests.class,
+    RedisLockRepositoryTests.class
 })
 @Suite
 public class AllRedisTicketRegistryTestsSuite {
@@ -0,0 +1,35 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.config.RedisTicketRegistryConfiguration;
+import org.apereo.cas.ticket.registry.support.LockRepository;
+import org.apereo.cas.util.junit.EnabledIfPortOpen;
+
+import lombok.Getter;
+import org.junit.jupiter.api.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * This is {@link RedisLockRepositoryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@SpringBootTest(classes = {
+    RedisTicketRegistryConfiguration.class,
+    BaseTicketRegistryTests.SharedTestConfiguration.class
+}, properties = {
+    "cas.ticket.registry.redis.host=localhost",
+    "cas.ticket.registry.redis.port=6379",
+    "cas.ticket.registry.core.locking-mode=DISTRIBUTED",
+    "cas.ticket.registry.core.lock-timeout=PT1S"
+})
+@EnabledIfPortOpen(port = 6379)
+@Getter
+@Tag("Redis")
+public class RedisLockRepositoryTests extends BaseLockRepositoryTests {
+    @Autowired
+    @Qualifier(LockRepository.BEAN_NAME)
+    private LockRepository lockRepository;
+}
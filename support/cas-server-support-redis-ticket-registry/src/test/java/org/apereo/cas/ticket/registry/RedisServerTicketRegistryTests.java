@@ -1,9 +1,12 @@
 package org.apereo.cas.ticket.registry;
 
 import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.proxy.ProxyGrantingTicket;
+import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
 import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.junit.EnabledIfPortOpen;
@@ -69,4 +72,105 @@ public class RedisServerTicketRegistryTests extends BaseRedisSentinelTicketRegis
         });
     }
 
+    @RepeatedTest(1)
+    public void verifySessionIndexes() {
+        val registry = getNewTicketRegistry();
+        registry.deleteAll();
+        val principalId = "casuser-" + ticketGrantingTicketId;
+        val authn = CoreAuthenticationTestUtils.getAuthentication(principalId);
+        val tgt = new TicketGrantingTicketImpl(ticketGrantingTicketId, authn, new HardTimeoutExpirationPolicy(60));
+        registry.addTicket(tgt);
+        registry.addTicket(new TicketGrantingTicketImpl(ticketGrantingTicketId + "-other",
+            CoreAuthenticationTestUtils.getAuthentication(), new HardTimeoutExpirationPolicy(60)));
+        val st = tgt.grantServiceTicket(serviceTicketId, RegisteredServiceTestUtils.getService(),
+            NeverExpiresExpirationPolicy.INSTANCE, false, true);
+        registry.addTicket(st);
+        registry.updateTicket(tgt);
+
+        assertEquals(2, registry.sessionCount());
+        assertEquals(1, registry.serviceTicketCount());
+        assertEquals(1, registry.countSessionsFor(principalId));
+        assertEquals(1, registry.countSessionsFor(principalId.toUpperCase()));
+        assertEquals(tgt.getId(), registry.getSessionsFor(principalId).findFirst().orElseThrow().getId());
+
+        assertEquals(2, registry.deleteTicket(tgt.getId()));
+        assertEquals(1, registry.sessionCount());
+        assertEquals(0, registry.serviceTicketCount());
+        assertEquals(0, registry.countSessionsFor(principalId));
+        assertEquals(0, registry.getSessionsFor(principalId).count());
+        assertEquals(1, registry.deleteAll());
+    }
+
+    @RepeatedTest(1)
+    public void verifySessionIndexesAfterSingleTicketDeletion() {
+        val registry = new RedisTicketRegistry(ticketRedisTemplate);
+        registry.deleteAll();
+        val principalId = "casuser-" + ticketGrantingTicketId;
+        val tgt = new TicketGrantingTicketImpl(ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication(principalId), new HardTimeoutExpirationPolicy(60));
+        registry.addTicket(tgt);
+        val st = tgt.grantServiceTicket(serviceTicketId, RegisteredServiceTestUtils.getService(),
+            NeverExpiresExpirationPolicy.INSTANCE, false, true);
+        tgt.getServices().put(serviceTicketId + "-gone", RegisteredServiceTestUtils.getService());
+        registry.addTicket(st);
+        registry.updateTicket(tgt);
+        assertEquals(1, registry.countSessionsFor(principalId));
+
+        assertTrue(registry.deleteSingleTicket(tgt.getId()));
+        assertEquals(0, registry.countSessionsFor(principalId));
+        assertEquals(0, registry.getSessionsFor(principalId).count());
+        assertEquals(0, registry.sessionCount());
+        assertEquals(1, registry.deleteChildren(tgt));
+        assertEquals(0, registry.serviceTicketCount());
+    }
+
+    @RepeatedTest(1)
+    public void verifyServicesTrackedSeparately() {
+        val registry = getNewTicketRegistry();
+        val tgt = new TicketGrantingTicketImpl(ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication(), new HardTimeoutExpirationPolicy(60));
+        registry.addTicket(tgt);
+        for (var i = 0; i < 3; i++) {
+            val st = tgt.grantServiceTicket(serviceTicketId + '-' + i, RegisteredServiceTestUtils.getService("service" + i),
+                NeverExpiresExpirationPolicy.INSTANCE, false, true);
+            registry.updateTicketGrantingTicket(tgt, st);
+            registry.addTicket(st);
+        }
+        val st = tgt.grantServiceTicket(serviceTicketId + "-again", RegisteredServiceTestUtils.getService("service0"),
+            NeverExpiresExpirationPolicy.INSTANCE, false, true);
+        registry.updateTicketGrantingTicket(tgt, st);
+        registry.addTicket(st);
+
+        val found = registry.getTicket(tgt.getId(), TicketGrantingTicket.class);
+        assertEquals(tgt.getServices().keySet(), found.getServices().keySet());
+        assertEquals(3, found.getServices().size());
+        assertEquals(4, registry.deleteTicket(found));
+        assertNull(registry.getTicket(st.getId()));
+    }
+
+    @RepeatedTest(1)
+    public void verifyTrackedServicesSurviveProxyGrantingTicketDeletion() {
+        val registry = getNewTicketRegistry();
+        val authn = CoreAuthenticationTestUtils.getAuthentication();
+        registry.addTicket(new TicketGrantingTicketImpl(ticketGrantingTicketId, authn, new HardTimeoutExpirationPolicy(60)));
+        val tgt = registry.getTicket(ticketGrantingTicketId, TicketGrantingTicket.class);
+        val st = tgt.grantServiceTicket(serviceTicketId, RegisteredServiceTestUtils.getService("proxied"),
+            NeverExpiresExpirationPolicy.INSTANCE, false, true);
+        registry.updateTicketGrantingTicket(tgt, st);
+        registry.addTicket(st);
+        val pgt = st.grantProxyGrantingTicket(proxyGrantingTicketId, authn, NeverExpiresExpirationPolicy.INSTANCE);
+        registry.addTicket(pgt);
+        registry.updateTicket(tgt);
+
+        val foundPgt = registry.getTicket(proxyGrantingTicketId, ProxyGrantingTicket.class);
+        assertNotNull(foundPgt);
+        assertTrue(registry.deleteTicket(foundPgt) > 0);
+        assertNull(registry.getTicket(proxyGrantingTicketId));
+
+        val found = registry.getTicket(ticketGrantingTicketId, TicketGrantingTicket.class);
+        assertNotNull(found);
+        assertEquals(tgt.getServices().keySet(), found.getServices().keySet());
+        assertTrue(found.getProxyGrantingTickets().isEmpty());
+        assertTrue(registry.deleteTicket(found) > 0);
+    }
 }
@@ -0,0 +1,49 @@
+package org.apereo.cas.web.report;
+
+import org.apereo.cas.authentication.principal.PrincipalAttributesRepositoryCache;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.web.BaseCasActuatorEndpoint;
+
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.Map;
+
+/**
+ * This is {@link PrincipalAttributesRepositoryCacheEndpoint}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Endpoint(id = "principalAttributesCache", enableByDefault = false)
+public class PrincipalAttributesRepositoryCacheEndpoint extends BaseCasActuatorEndpoint {
+    private final PrincipalAttributesRepositoryCache principalAttributesRepositoryCache;
+
+    public PrincipalAttributesRepositoryCacheEndpoint(final CasConfigurationProperties casProperties,
+                                                      final PrincipalAttributesRepositoryCache principalAttributesRepositoryCache) {
+        super(casProperties);
+        this.principalAttributesRepositoryCache = principalAttributesRepositoryCache;
+    }
+
+    /**
+     * Collect statistics of the principal attributes cache.
+     *
+     * @return the statistics
+     */
+    @ReadOperation
+    @Operation(summary = "Provide statistics about the principal attributes cache, such as hits, misses, load latency and evictions")
+    public Map<String, Object> statistics() {
+        return principalAttributesRepositoryCache.getStatistics();
+    }
+
+    /**
+     * Invalidate the principal attributes cache.
+     */
+    @DeleteOperation
+    @Operation(summary = "Invalidate all cached principal attributes")
+    public void invalidate() {
+        principalAttributesRepositoryCache.invalidate();
+    }
+}
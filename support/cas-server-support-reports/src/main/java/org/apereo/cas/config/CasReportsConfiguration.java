@@ -4,6 +4,7 @@ import org.apereo.cas.CentralAuthenticationService;
 import org.apereo.cas.audit.AuditTrailExecutionPlan;
 import org.apereo.cas.authentication.AuthenticationEventExecutionPlan;
 import org.apereo.cas.authentication.AuthenticationSystemSupport;
+import org.apereo.cas.authentication.principal.PrincipalAttributesRepositoryCache;
 import org.apereo.cas.authentication.principal.PrincipalFactory;
 import org.apereo.cas.authentication.principal.PrincipalResolver;
 import org.apereo.cas.authentication.principal.ServiceFactory;
@@ -23,6 +24,7 @@ import org.apereo.cas.web.report.CasInfoEndpointContributor;
 import org.apereo.cas.web.report.CasReleaseAttributesReportEndpoint;
 import org.apereo.cas.web.report.CasResolveAttributesReportEndpoint;
 import org.apereo.cas.web.report.CasRuntimeModulesEndpoint;
+import org.apereo.cas.web.report.PrincipalAttributesRepositoryCacheEndpoint;
 import org.apereo.cas.web.report.RegisteredAuthenticationHandlersEndpoint;
 import org.apereo.cas.web.report.RegisteredAuthenticationPoliciesEndpoint;
 import org.apereo.cas.web.report.RegisteredServicesEndpoint;
@@ -178,6 +180,16 @@ public class CasReportsConfiguration {
         return new CasResolveAttributesReportEndpoint(casProperties, defaultPrincipalResolver);
     }
 
+    @Bean
+    @ConditionalOnAvailableEndpoint
+    @Autowired
+    public PrincipalAttributesRepositoryCacheEndpoint principalAttributesRepositoryCacheEndpoint(
+        @Qualifier(PrincipalAttributesRepositoryCache.DEFAULT_BEAN_NAME)
+        final PrincipalAttributesRepositoryCache principalAttributesRepositoryCache,
+        final CasConfigurationProperties casProperties) {
+        return new PrincipalAttributesRepositoryCacheEndpoint(casProperties, principalAttributesRepositoryCache);
+    }
+
     @Autowired
     @Bean
     @ConditionalOnAvailableEndpoint
@@ -6,6 +6,7 @@ import org.apereo.cas.web.report.CasReleaseAttributesReportEndpointTests;
 import org.apereo.cas.web.report.CasResolveAttributesReportEndpointTests;
 import org.apereo.cas.web.report.CasRuntimeModulesEndpointTests;
 import org.apereo.cas.web.report.LoggingConfigurationEndpointTests;
+import org.apereo.cas.web.report.PrincipalAttributesRepositoryCacheEndpointTests;
 import org.apereo.cas.web.report.RegisteredAuthenticationHandlersEndpointTests;
 import org.apereo.cas.web.report.RegisteredAuthenticationPoliciesEndpointTests;
 import org.apereo.cas.web.report.RegisteredServicesEndpointTests;
@@ -42,6 +43,7 @@ import org.junit.platform.suite.api.Suite;
     CasInfoEndpointContributorTests.class,
     RegisteredAuthenticationPoliciesEndpointTests.class,
     CasResolveAttributesReportEndpointTests.class,
+    PrincipalAttributesRepositoryCacheEndpointTests.class,
     CasReleaseAttributesReportEndpointTests.class
 })
 @Suite
@@ -0,0 +1,57 @@
+package org.apereo.cas.web.report;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.authentication.principal.PrincipalAttributesRepositoryCache;
+import org.apereo.cas.authentication.principal.cache.CachingPrincipalAttributesRepository;
+import org.apereo.cas.util.CollectionUtils;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link PrincipalAttributesRepositoryCacheEndpointTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@TestPropertySource(properties = "management.endpoint.principalAttributesCache.enabled=true")
+@Tag("ActuatorEndpoint")
+public class PrincipalAttributesRepositoryCacheEndpointTests extends AbstractCasEndpointTests {
+    @Autowired
+    @Qualifier("principalAttributesRepositoryCacheEndpoint")
+    private PrincipalAttributesRepositoryCacheEndpoint endpoint;
+
+    @Autowired
+    @Qualifier(PrincipalAttributesRepositoryCache.DEFAULT_BEAN_NAME)
+    private PrincipalAttributesRepositoryCache principalAttributesRepositoryCache;
+
+    @Test
+    public void verifyOperation() {
+        endpoint.invalidate();
+        val before = endpoint.statistics();
+        val service = CoreAuthenticationTestUtils.getRegisteredService();
+        val repository = new CachingPrincipalAttributesRepository(TimeUnit.MINUTES.name(), 5);
+        val principal = CoreAuthenticationTestUtils.getPrincipal("casuser");
+        principalAttributesRepositoryCache.fetchAttributes(service, repository, principal,
+            () -> CollectionUtils.wrap("name", List.of("CAS")));
+        principalAttributesRepositoryCache.fetchAttributes(service, repository, principal,
+            () -> CollectionUtils.wrap("name", List.of("Other")));
+
+        val statistics = endpoint.statistics();
+        assertEquals(1L, statistics.get("size"));
+        assertEquals(1L, (long) statistics.get("hitCount") - (long) before.get("hitCount"));
+        assertEquals(1L, (long) statistics.get("missCount") - (long) before.get("missCount"));
+
+        endpoint.invalidate();
+        assertEquals(0L, endpoint.statistics().get("size"));
+    }
+}
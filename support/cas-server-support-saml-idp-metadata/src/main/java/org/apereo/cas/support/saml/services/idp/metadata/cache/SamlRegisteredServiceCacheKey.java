@@ -40,16 +40,25 @@ public class SamlRegisteredServiceCacheKey implements Serializable {
 
     private final transient CriteriaSet criteriaSet;
 
+    private final boolean resolvedPerEntity;
+
     @Getter(AccessLevel.PACKAGE)
     private final String cacheKey;
 
     public SamlRegisteredServiceCacheKey(final SamlRegisteredService registeredService,
                                          final CriteriaSet criteriaSet) {
-        this.cacheKey = getCacheKeyForRegisteredService(registeredService, criteriaSet);
+        this(registeredService, criteriaSet, false);
+    }
+
+    public SamlRegisteredServiceCacheKey(final SamlRegisteredService registeredService,
+                                         final CriteriaSet criteriaSet,
+                                         final boolean resolvedPerEntity) {
+        this.cacheKey = getCacheKeyForRegisteredService(registeredService, criteriaSet, resolvedPerEntity);
         LOGGER.trace("Calculated service cache key [{}]", cacheKey);
         this.id = buildRegisteredServiceCacheKey(this.cacheKey);
         this.registeredService = registeredService;
         this.criteriaSet = criteriaSet;
+        this.resolvedPerEntity = resolvedPerEntity;
     }
     
     private static String buildRegisteredServiceCacheKey(final String key) {
@@ -59,13 +68,17 @@ public class SamlRegisteredServiceCacheKey implements Serializable {
     }
 
     private static String getCacheKeyForRegisteredService(final SamlRegisteredService service,
-                                                          final CriteriaSet criteriaSet) {
+                                                          final CriteriaSet criteriaSet,
+                                                          final boolean resolvedPerEntity) {
         val entityId = criteriaSet.contains(EntityIdCriterion.class)
             ? Objects.requireNonNull(criteriaSet.get(EntityIdCriterion.class)).getEntityId()
             : service.getServiceId();
         if (SamlUtils.isDynamicMetadataQueryConfigured(service.getMetadataLocation())) {
             return entityId;
         }
+        if (resolvedPerEntity) {
+            return service.getMetadataLocation() + KEY_SEPARATOR + entityId;
+        }
         return service.getMetadataLocation();
     }
 }
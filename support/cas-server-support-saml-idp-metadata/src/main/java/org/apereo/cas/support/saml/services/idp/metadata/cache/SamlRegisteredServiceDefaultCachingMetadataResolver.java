@@ -11,7 +11,6 @@ import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.collect.Iterables;
 import lombok.Getter;
 import lombok.SneakyThrows;
-import lombok.Synchronized;
 import lombok.experimental.SuperBuilder;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -30,6 +29,11 @@ import java.util.Optional;
  * An adaptation of metadata resolver which handles the resolution of metadata resources
  * inside a cache. It basically is a fancy wrapper around a cache, and constructs the cache
  * semantics before processing the resolution of metadata for a SAML service.
+ * Resolution does not block on a global lock. Concurrent requests for the same cache key
+ * share a single load of the metadata resolver, while requests for other service providers
+ * proceed independently. Once a cached resolver reaches its refresh interval, the next request
+ * triggers a reload in the background and the current resolver continues to serve requests
+ * until the reloaded resolver replaces it.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
@@ -49,13 +53,25 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
     public SamlRegisteredServiceDefaultCachingMetadataResolver(final Duration metadataCacheExpiration,
                                                                final SamlRegisteredServiceMetadataResolverCacheLoader loader,
                                                                final OpenSamlConfigBean openSamlConfigBean) {
+        this(metadataCacheExpiration, metadataCacheExpiration.dividedBy(2), loader, openSamlConfigBean);
+    }
+
+    public SamlRegisteredServiceDefaultCachingMetadataResolver(final Duration metadataCacheExpiration,
+                                                               final Duration metadataCacheRefreshInterval,
+                                                               final SamlRegisteredServiceMetadataResolverCacheLoader loader,
+                                                               final OpenSamlConfigBean openSamlConfigBean) {
         this.openSamlConfigBean = openSamlConfigBean;
         this.chainingMetadataResolverCacheLoader = loader;
-        this.cache = Caffeine.newBuilder()
+        val builder = Caffeine.newBuilder()
             .maximumSize(MAX_CACHE_SIZE)
             .recordStats()
-            .expireAfter(new SamlRegisteredServiceMetadataExpirationPolicy(metadataCacheExpiration))
-            .build(this.chainingMetadataResolverCacheLoader);
+            .expireAfter(new SamlRegisteredServiceMetadataExpirationPolicy(metadataCacheExpiration));
+        if (metadataCacheRefreshInterval.isNegative() || metadataCacheRefreshInterval.isZero()) {
+            LOGGER.debug("Metadata resolvers will not be refreshed in the background, and are reloaded once expired");
+        } else {
+            builder.refreshAfterWrite(metadataCacheRefreshInterval);
+        }
+        this.cache = builder.build(this.chainingMetadataResolverCacheLoader);
     }
 
     @SneakyThrows
@@ -65,18 +81,16 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
     }
 
     @Override
-    @Synchronized
     public MetadataResolver resolve(final SamlRegisteredService service, final CriteriaSet criteriaSet) {
         LOGGER.debug("Resolving metadata for [{}] at [{}]", service.getName(), service.getMetadataLocation());
-        val cacheKey = new SamlRegisteredServiceCacheKey(service, criteriaSet);
+        val cacheKey = newCacheKey(service, criteriaSet);
         LOGGER.trace("Locating cached metadata resolver using key [{}] for service [{}]", cacheKey.getId(), service.getName());
         return FunctionUtils.doAndRetry(retryContext -> {
             val resolver = locateAndCacheMetadataResolver(service, cacheKey);
 
             val result = isMetadataResolverAcceptable(resolver, criteriaSet);
             if (!result.isValid()) {
-                val count = countResolvableEntityDescriptors(resolver);
-                if (count == 1) {
+                if (cacheKey.isResolvedPerEntity() || countResolvableEntityDescriptors(resolver) <= 1) {
                     invalidate(service, criteriaSet);
                 }
                 LOGGER.warn("SAML metadata resolver [{}] obtained from the cache is "
@@ -99,10 +113,15 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
     @Override
     public void invalidate(final SamlRegisteredService service, final CriteriaSet criteriaSet) {
         LOGGER.trace("Invalidating cache for [{}].", service.getName());
-        val k = new SamlRegisteredServiceCacheKey(service, criteriaSet);
+        val k = newCacheKey(service, criteriaSet);
         this.cache.invalidate(k);
     }
 
+    private SamlRegisteredServiceCacheKey newCacheKey(final SamlRegisteredService service, final CriteriaSet criteriaSet) {
+        return new SamlRegisteredServiceCacheKey(service, criteriaSet,
+            chainingMetadataResolverCacheLoader.isMetadataResolvedPerEntity(service, criteriaSet));
+    }
+
     /**
      * Is metadata resolver resolvable.
      *
@@ -159,7 +178,7 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
      */
     Optional<MetadataResolver> resolveIfPresent(final SamlRegisteredService service,
                                                 final CriteriaSet criteriaSet) {
-        val cacheKey = new SamlRegisteredServiceCacheKey(service, criteriaSet);
+        val cacheKey = newCacheKey(service, criteriaSet);
         return Optional.ofNullable(this.cache.getIfPresent(cacheKey));
     }
 
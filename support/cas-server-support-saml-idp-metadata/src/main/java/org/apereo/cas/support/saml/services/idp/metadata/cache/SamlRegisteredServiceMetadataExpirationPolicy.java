@@ -70,8 +70,9 @@ public class SamlRegisteredServiceMetadataExpirationPolicy implements Expiry<Sam
     public long expireAfterUpdate(@NonNull final SamlRegisteredServiceCacheKey cacheKey,
                                   @NonNull final MetadataResolver chainingMetadataResolver,
                                   final long currentTime, final long currentDuration) {
-        LOGGER.trace("Cache expiration duration after updates is set to [{}] nanoseconds", currentDuration);
-        return currentDuration;
+        val duration = expireAfterCreate(cacheKey, chainingMetadataResolver, currentTime);
+        LOGGER.trace("Cache expiration duration after updates is set to [{}] nanoseconds", duration);
+        return duration;
     }
 
     @Override
@@ -2,27 +2,33 @@ package org.apereo.cas.support.saml.services.idp.metadata.cache;
 
 import org.apereo.cas.support.saml.OpenSamlConfigBean;
 import org.apereo.cas.support.saml.SamlException;
+import org.apereo.cas.support.saml.services.SamlRegisteredService;
 import org.apereo.cas.support.saml.services.idp.metadata.plan.SamlRegisteredServiceMetadataResolutionPlan;
 import org.apereo.cas.util.http.HttpClient;
 import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
 
 import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.google.common.util.concurrent.Striped;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
-import lombok.Synchronized;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import net.shibboleth.utilities.java.support.resolver.CriteriaSet;
+import org.apache.commons.lang3.StringUtils;
 import org.opensaml.saml.metadata.resolver.ChainingMetadataResolver;
 import org.opensaml.saml.metadata.resolver.MetadataResolver;
 
 import java.util.ArrayList;
 import java.util.Objects;
+import java.util.concurrent.locks.Lock;
 
 /**
  * This is {@link SamlRegisteredServiceMetadataResolverCacheLoader} that uses Guava's cache loading strategy
  * to keep track of metadata resources and resolvers. The cache loader here supports loading
  * metadata resources from SAML services, supports dynamic metadata queries and is able
  * to run various validation filters on the metadata before finally caching the resolver.
+ * Loads that share the same metadata location are serialized, since they may share backup files
+ * and downloaded resources, while loads for other metadata locations run concurrently.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
@@ -30,6 +36,7 @@ import java.util.Objects;
 @Slf4j
 @RequiredArgsConstructor
 public class SamlRegisteredServiceMetadataResolverCacheLoader implements CacheLoader<SamlRegisteredServiceCacheKey, MetadataResolver> {
+    private static final int METADATA_LOCATION_LOCK_STRIPES = 64;
 
     /**
      * The Config bean.
@@ -43,10 +50,41 @@ public class SamlRegisteredServiceMetadataResolverCacheLoader implements CacheLo
 
     private final SamlRegisteredServiceMetadataResolutionPlan metadataResolutionPlan;
 
+    private final Striped<Lock> metadataLocationLocks = Striped.lazyWeakLock(METADATA_LOCATION_LOCK_STRIPES);
+
+    /**
+     * Whether the metadata resolved for the service only carries the requested entity.
+     *
+     * @param service     the service
+     * @param criteriaSet the criteria set
+     * @return true/false
+     */
+    public boolean isMetadataResolvedPerEntity(final SamlRegisteredService service, final CriteriaSet criteriaSet) {
+        return metadataResolutionPlan.getRegisteredMetadataResolvers()
+            .stream()
+            .filter(Objects::nonNull)
+            .anyMatch(r -> r.isMetadataResolvedPerEntity(service, criteriaSet));
+    }
+
     @Override
-    @Synchronized
-    @SneakyThrows
     public ChainingMetadataResolver load(final SamlRegisteredServiceCacheKey cacheKey) {
+        val lock = metadataLocationLocks.get(StringUtils.defaultString(cacheKey.getRegisteredService().getMetadataLocation()));
+        lock.lock();
+        try {
+            return loadMetadataResolver(cacheKey);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Build and initialize the chaining metadata resolver for the cache key.
+     *
+     * @param cacheKey the cache key
+     * @return the chaining metadata resolver
+     */
+    @SneakyThrows
+    protected ChainingMetadataResolver loadMetadataResolver(final SamlRegisteredServiceCacheKey cacheKey) {
         val metadataResolver = new ChainingMetadataResolver();
 
         val service = cacheKey.getRegisteredService();
@@ -79,7 +117,6 @@ public class SamlRegisteredServiceMetadataResolverCacheLoader implements CacheLo
 
         LOGGER.debug("Metadata resolvers active for this request are [{}]", metadataResolvers);
         return metadataResolver;
-
     }
 }
 
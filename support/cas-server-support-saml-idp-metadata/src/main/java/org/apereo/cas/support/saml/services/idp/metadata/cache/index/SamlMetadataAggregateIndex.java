@@ -0,0 +1,309 @@
+package org.apereo.cas.support.saml.services.idp.metadata.cache.index;
+
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.opensaml.saml.saml2.metadata.EntitiesDescriptor;
+import org.opensaml.saml.saml2.metadata.EntityDescriptor;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLEventFactory;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.events.Attribute;
+import javax.xml.stream.events.Namespace;
+import javax.xml.stream.events.StartElement;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * This is {@link SamlMetadataAggregateIndex} that indexes a SAML metadata aggregate by entity id.
+ * The aggregate is read once in a single streaming pass, and every entity descriptor found in the aggregate
+ * is written to an index file as a standalone document, carrying the namespace declarations and validity
+ * attributes it inherits from its enclosing entities descriptors. Looking up an entity descriptor
+ * reads back the bytes of that entity alone, so the aggregate as a whole is never held in memory.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Slf4j
+@Getter
+public class SamlMetadataAggregateIndex implements Closeable {
+    private static final String ATTRIBUTE_ENTITY_ID = "entityID";
+
+    private static final QName ATTRIBUTE_VALID_UNTIL = new QName("validUntil");
+
+    private static final QName ATTRIBUTE_CACHE_DURATION = new QName("cacheDuration");
+
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+    private static final XMLEventFactory EVENT_FACTORY = XMLEventFactory.newFactory();
+
+    private final File source;
+
+    private final long sourceLastModified;
+
+    private final long sourceLength;
+
+    private final File indexFile;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<String, EntityDescriptorRange> entityDescriptors;
+
+    @Getter(AccessLevel.NONE)
+    private final FileChannel channel;
+
+    @Getter(AccessLevel.NONE)
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Getter(AccessLevel.NONE)
+    private boolean closed;
+
+    private SamlMetadataAggregateIndex(final File source, final long sourceLastModified, final long sourceLength,
+                                       final File indexFile, final Map<String, EntityDescriptorRange> entityDescriptors) throws IOException {
+        this.source = source;
+        this.sourceLastModified = sourceLastModified;
+        this.sourceLength = sourceLength;
+        this.indexFile = indexFile;
+        this.entityDescriptors = entityDescriptors;
+        this.channel = FileChannel.open(indexFile.toPath(), StandardOpenOption.READ);
+    }
+
+    /**
+     * Build the index for the given metadata file.
+     *
+     * @param source the metadata file
+     * @return the index, or empty if the metadata is not an aggregate of entity descriptors
+     * @throws Exception the exception
+     */
+    public static Optional<SamlMetadataAggregateIndex> build(final File source) throws Exception {
+        val lastModified = source.lastModified();
+        val length = source.length();
+
+        val inputFactory = XMLInputFactory.newFactory();
+        inputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.TRUE);
+        inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+
+        val indexFile = File.createTempFile("saml-metadata-index-", ".xml");
+        var indexed = false;
+        try (val input = new BufferedInputStream(Files.newInputStream(source.toPath()));
+             val output = FileChannel.open(indexFile.toPath(), StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            val entityDescriptors = new HashMap<String, EntityDescriptorRange>();
+            val reader = inputFactory.createXMLEventReader(input);
+            try {
+                indexed = indexEntityDescriptors(reader, output, entityDescriptors);
+            } finally {
+                reader.close();
+            }
+            if (indexed) {
+                LOGGER.debug("Indexed [{}] entity descriptor(s) from metadata aggregate [{}]", entityDescriptors.size(), source);
+                return Optional.of(new SamlMetadataAggregateIndex(source, lastModified, length, indexFile, entityDescriptors));
+            }
+            LOGGER.debug("Metadata [{}] is not an aggregate of entity descriptors and will not be indexed", source);
+            return Optional.empty();
+        } finally {
+            if (!indexed) {
+                Files.deleteIfExists(indexFile.toPath());
+            }
+        }
+    }
+
+    private static boolean indexEntityDescriptors(final XMLEventReader reader, final FileChannel output,
+                                                  final Map<String, EntityDescriptorRange> entityDescriptors) throws Exception {
+        val ancestors = new ArrayDeque<StartElement>();
+        var offset = 0L;
+        while (reader.hasNext()) {
+            val event = reader.nextEvent();
+            if (event.isStartElement()) {
+                val element = event.asStartElement();
+                if (ancestors.isEmpty() && !EntitiesDescriptor.DEFAULT_ELEMENT_NAME.equals(element.getName())) {
+                    return false;
+                }
+                if (EntityDescriptor.DEFAULT_ELEMENT_NAME.equals(element.getName())) {
+                    val entityIdAttribute = element.getAttributeByName(new QName(ATTRIBUTE_ENTITY_ID));
+                    val entityId = entityIdAttribute != null ? entityIdAttribute.getValue() : null;
+                    val entityDescriptor = writeEntityDescriptor(reader, element, ancestors);
+                    if (StringUtils.isBlank(entityId) || entityDescriptors.containsKey(entityId)) {
+                        LOGGER.warn("Skipped indexing entity descriptor with missing or duplicate entity id [{}]", entityId);
+                    } else {
+                        writeFully(output, entityDescriptor, offset);
+                        entityDescriptors.put(entityId, new EntityDescriptorRange(offset, entityDescriptor.length));
+                        offset += entityDescriptor.length;
+                    }
+                } else {
+                    ancestors.push(element);
+                }
+            } else if (event.isEndElement() && !ancestors.isEmpty()) {
+                ancestors.pop();
+            }
+        }
+        return true;
+    }
+
+    private static byte[] writeEntityDescriptor(final XMLEventReader reader, final StartElement element,
+                                                final Deque<StartElement> ancestors) throws Exception {
+        val bytes = new ByteArrayOutputStream();
+        val writer = OUTPUT_FACTORY.createXMLEventWriter(bytes, StandardCharsets.UTF_8.name());
+        try {
+            writer.add(inheritFromAncestors(element, ancestors));
+            var depth = 1;
+            while (depth > 0 && reader.hasNext()) {
+                val event = reader.nextEvent();
+                if (event.isStartElement()) {
+                    depth++;
+                } else if (event.isEndElement()) {
+                    depth--;
+                }
+                writer.add(event);
+            }
+            writer.flush();
+        } finally {
+            writer.close();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static StartElement inheritFromAncestors(final StartElement element, final Deque<StartElement> ancestors) {
+        val namespaces = new LinkedHashMap<String, Namespace>();
+        val attributes = new LinkedHashMap<QName, Attribute>();
+        val iterator = ancestors.descendingIterator();
+        while (iterator.hasNext()) {
+            val ancestor = iterator.next();
+            ancestor.getNamespaces().forEachRemaining(namespace -> namespaces.put(namespace.getPrefix(), namespace));
+            if (EntitiesDescriptor.DEFAULT_ELEMENT_NAME.equals(ancestor.getName())) {
+                Optional.ofNullable(ancestor.getAttributeByName(ATTRIBUTE_VALID_UNTIL))
+                    .ifPresent(attribute -> attributes.put(ATTRIBUTE_VALID_UNTIL, attribute));
+                Optional.ofNullable(ancestor.getAttributeByName(ATTRIBUTE_CACHE_DURATION))
+                    .ifPresent(attribute -> attributes.put(ATTRIBUTE_CACHE_DURATION, attribute));
+            }
+        }
+        element.getNamespaces().forEachRemaining(namespace -> namespaces.put(namespace.getPrefix(), namespace));
+        element.getAttributes().forEachRemaining(attribute -> attributes.put(attribute.getName(), attribute));
+        return EVENT_FACTORY.createStartElement(element.getName(), attributes.values().iterator(), namespaces.values().iterator());
+    }
+
+    private static void writeFully(final FileChannel output, final byte[] bytes, final long offset) throws IOException {
+        val buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            output.write(buffer, offset + buffer.position());
+        }
+    }
+
+    /**
+     * Gets the standalone entity descriptor document for the given entity id.
+     * Reads that are in progress hold off closing the index until they complete.
+     *
+     * @param entityId the entity id
+     * @return the entity descriptor, if found in the aggregate
+     * @throws ClosedChannelException if the index has been closed
+     * @throws IOException            the exception
+     */
+    public Optional<byte[]> getEntityDescriptor(final String entityId) throws IOException {
+        val range = entityDescriptors.get(entityId);
+        if (range == null) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            if (closed) {
+                throw new ClosedChannelException();
+            }
+            val buffer = ByteBuffer.allocate(range.getLength());
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, range.getOffset() + buffer.position()) < 0) {
+                    throw new EOFException("Unable to read entity descriptor " + entityId + " from " + indexFile);
+                }
+            }
+            return Optional.of(buffer.array());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the entity ids found in the aggregate.
+     *
+     * @return the entity ids
+     */
+    public Set<String> getEntityIds() {
+        return Collections.unmodifiableSet(entityDescriptors.keySet());
+    }
+
+    /**
+     * Retain only the given entity ids in the index, discarding all other entity descriptors.
+     * This is used to drop entity descriptors that did not pass metadata signature validation,
+     * and is expected to be invoked before the index is shared.
+     *
+     * @param entityIds the entity ids to retain
+     * @return the number of entity descriptors discarded
+     */
+    public int retainEntityIds(final Collection<String> entityIds) {
+        val count = entityDescriptors.size();
+        entityDescriptors.keySet().retainAll(entityIds);
+        return count - entityDescriptors.size();
+    }
+
+    /**
+     * Whether the metadata file has changed or disappeared since the index was built.
+     *
+     * @return true/false
+     */
+    public boolean isStale() {
+        return !source.exists() || source.lastModified() != sourceLastModified || source.length() != sourceLength;
+    }
+
+    /**
+     * Close the index once all reads in progress have completed, and remove the index file.
+     */
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            if (!closed) {
+                closed = true;
+                channel.close();
+                Files.deleteIfExists(indexFile.toPath());
+            }
+        } catch (final Exception e) {
+            LoggingUtils.warn(LOGGER, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class EntityDescriptorRange {
+        private final long offset;
+
+        private final int length;
+    }
+}
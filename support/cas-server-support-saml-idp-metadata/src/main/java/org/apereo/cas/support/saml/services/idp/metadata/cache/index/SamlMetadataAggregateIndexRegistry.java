@@ -0,0 +1,125 @@
+package org.apereo.cas.support.saml.services.idp.metadata.cache.index;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * This is {@link SamlMetadataAggregateIndexRegistry} that keeps track of metadata aggregate indexes,
+ * so that all registered services which point to the same aggregate share a single index.
+ * Indexes are built at most once per aggregate at any given time, and are discarded once they expire
+ * or once the metadata file they were built from changes.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Slf4j
+public class SamlMetadataAggregateIndexRegistry implements Closeable {
+    private static final long MAXIMUM_INDEX_COUNT = 100;
+
+    private final Cache<IndexKey, SamlMetadataAggregateIndex> indexes;
+
+    public SamlMetadataAggregateIndexRegistry(final Duration expiration) {
+        this.indexes = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_INDEX_COUNT)
+            .expireAfterWrite(expiration)
+            .removalListener((IndexKey key, SamlMetadataAggregateIndex index, RemovalCause cause) -> {
+                if (index != null) {
+                    LOGGER.debug("Removing metadata aggregate index for [{}] due to [{}]", key, cause);
+                    index.close();
+                }
+            })
+            .build();
+    }
+
+    @SneakyThrows
+    private static SamlMetadataAggregateIndex buildIndex(final File source, final Consumer<SamlMetadataAggregateIndex> verifier) {
+        val index = SamlMetadataAggregateIndex.build(source).orElse(null);
+        if (index != null) {
+            try {
+                verifier.accept(index);
+            } catch (final Throwable e) {
+                index.close();
+                throw e;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Gets the index built previously for the given metadata file,
+     * as long as the file has not changed since.
+     *
+     * @param source        the metadata file
+     * @param discriminator the discriminator that separates indexes of the same file built under different validation rules
+     * @return the index
+     * @throws IOException the exception
+     */
+    public Optional<SamlMetadataAggregateIndex> getIndexIfPresent(final File source, final String discriminator) throws IOException {
+        val key = new IndexKey(source.getCanonicalPath(), discriminator);
+        val index = indexes.getIfPresent(key);
+        if (index != null && index.isStale()) {
+            LOGGER.debug("Metadata aggregate [{}] has changed since it was indexed", source);
+            indexes.asMap().remove(key, index);
+            return Optional.empty();
+        }
+        return Optional.ofNullable(index);
+    }
+
+    /**
+     * Gets the index for the given metadata file, building it if necessary.
+     * Concurrent requests for the same file share a single index build. The verifier
+     * is invoked once the file is known to be an aggregate and before the index is shared,
+     * and may discard entity descriptors from the index that cannot be trusted.
+     *
+     * @param source        the metadata file
+     * @param discriminator the discriminator that separates indexes of the same file built under different validation rules
+     * @param verifier      the verifier
+     * @return the index, or empty if the metadata file is not an aggregate
+     * @throws IOException the exception
+     */
+    public Optional<SamlMetadataAggregateIndex> getIndex(final File source, final String discriminator,
+                                                         final Consumer<SamlMetadataAggregateIndex> verifier) throws IOException {
+        val existing = getIndexIfPresent(source, discriminator);
+        if (existing.isPresent()) {
+            return existing;
+        }
+        val key = new IndexKey(source.getCanonicalPath(), discriminator);
+        return Optional.ofNullable(indexes.get(key, k -> buildIndex(source, verifier)));
+    }
+
+    /**
+     * Invalidate all indexes.
+     */
+    public void invalidate() {
+        indexes.invalidateAll();
+    }
+
+    @Override
+    public void close() {
+        invalidate();
+        indexes.cleanUp();
+    }
+
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    @ToString
+    private static class IndexKey {
+        private final String source;
+
+        private final String discriminator;
+    }
+}
@@ -6,16 +6,24 @@ import org.apereo.cas.support.saml.OpenSamlConfigBean;
 import org.apereo.cas.support.saml.SamlUtils;
 import org.apereo.cas.support.saml.services.SamlRegisteredService;
 import org.apereo.cas.support.saml.services.idp.metadata.SamlMetadataDocument;
+import org.apereo.cas.support.saml.services.idp.metadata.cache.index.SamlMetadataAggregateIndex;
+import org.apereo.cas.support.saml.services.idp.metadata.cache.index.SamlMetadataAggregateIndexRegistry;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.ResourceUtils;
 import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
 
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import net.shibboleth.utilities.java.support.resolver.CriteriaSet;
 import org.apache.commons.lang3.StringUtils;
+import org.jooq.lambda.Unchecked;
+import org.opensaml.core.criterion.EntityIdCriterion;
+import org.opensaml.saml.common.xml.SAMLConstants;
 import org.opensaml.saml.metadata.resolver.filter.MetadataFilter;
 import org.opensaml.saml.metadata.resolver.filter.MetadataFilterChain;
 import org.opensaml.saml.metadata.resolver.filter.impl.EntityRoleFilter;
@@ -28,9 +36,17 @@ import org.opensaml.saml.saml2.metadata.SPSSODescriptor;
 import org.springframework.core.io.Resource;
 
 import javax.xml.namespace.QName;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.channels.ClosedChannelException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 /**
  * This is {@link BaseSamlRegisteredServiceMetadataResolver}.
@@ -41,6 +57,9 @@ import java.util.List;
 @Slf4j
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class BaseSamlRegisteredServiceMetadataResolver implements SamlRegisteredServiceMetadataResolver {
+    private static final byte[] EMPTY_METADATA_AGGREGATE = ("<EntitiesDescriptor xmlns=\"" + SAMLConstants.SAML20MD_NS + "\"/>")
+        .getBytes(StandardCharsets.UTF_8);
+
     /**
      * The Saml idp properties.
      */
@@ -51,6 +70,14 @@ public abstract class BaseSamlRegisteredServiceMetadataResolver implements SamlR
      */
     protected final OpenSamlConfigBean configBean;
 
+    /**
+     * The registry of metadata aggregate indexes,
+     * if metadata aggregates should be indexed by entity id.
+     */
+    @Getter
+    @Setter
+    private SamlMetadataAggregateIndexRegistry metadataAggregateIndexRegistry;
+
     private static void buildEntityRoleFilterIfNeeded(final SamlRegisteredService service, final List<MetadataFilter> metadataFilterList) {
         if (StringUtils.isNotBlank(service.getMetadataCriteriaRoles())) {
             val roles = new ArrayList<QName>();
@@ -105,6 +132,10 @@ public abstract class BaseSamlRegisteredServiceMetadataResolver implements SamlR
         }
     }
 
+    private static String getMetadataAggregateIndexDiscriminator(final SamlRegisteredService service) {
+        return StringUtils.defaultString(service.getMetadataSignatureLocation()) + '|' + service.isRequireSignedRoot();
+    }
+
     /**
      * Build signature validation filter if needed.
      *
@@ -194,13 +225,29 @@ public abstract class BaseSamlRegisteredServiceMetadataResolver implements SamlR
     protected void configureAndInitializeSingleMetadataResolver(final AbstractMetadataResolver metadataProvider,
                                                                 final SamlRegisteredService service,
                                                                 final List<MetadataFilter> metadataFilterList) throws Exception {
+        configureAndInitializeSingleMetadataResolver(metadataProvider, service, metadataFilterList, true);
+    }
+
+    /**
+     * Build single metadata resolver metadata resolver.
+     *
+     * @param metadataProvider          the metadata provider
+     * @param service                   the service
+     * @param metadataFilterList        the metadata filter list
+     * @param validateMetadataSignature whether the metadata signature should be validated
+     * @throws Exception the exception
+     */
+    protected void configureAndInitializeSingleMetadataResolver(final AbstractMetadataResolver metadataProvider,
+                                                                final SamlRegisteredService service,
+                                                                final List<MetadataFilter> metadataFilterList,
+                                                                final boolean validateMetadataSignature) throws Exception {
         val md = samlIdPProperties.getMetadata();
         metadataProvider.setParserPool(this.configBean.getParserPool());
         metadataProvider.setFailFastInitialization(md.getCore().isFailFast());
         metadataProvider.setRequireValidMetadata(md.getCore().isRequireValidMetadata());
         metadataProvider.setId(metadataProvider.getClass().getCanonicalName());
 
-        buildMetadataFilters(service, metadataProvider, metadataFilterList);
+        buildMetadataFilters(service, metadataProvider, metadataFilterList, validateMetadataSignature);
 
         LOGGER.debug("Initializing metadata resolver from [{}]", service.getMetadataLocation());
         metadataProvider.initialize();
@@ -229,8 +276,25 @@ public abstract class BaseSamlRegisteredServiceMetadataResolver implements SamlR
      */
     protected void buildMetadataFilters(final SamlRegisteredService service, final AbstractMetadataResolver metadataProvider,
                                         final List<MetadataFilter> metadataFilterList) throws Exception {
+        buildMetadataFilters(service, metadataProvider, metadataFilterList, true);
+    }
+
+    /**
+     * Build metadata filters.
+     *
+     * @param service                   the service
+     * @param metadataProvider          the metadata provider
+     * @param metadataFilterList        the metadata filter list
+     * @param validateMetadataSignature whether the metadata signature should be validated
+     * @throws Exception the exception
+     */
+    protected void buildMetadataFilters(final SamlRegisteredService service, final AbstractMetadataResolver metadataProvider,
+                                        final List<MetadataFilter> metadataFilterList,
+                                        final boolean validateMetadataSignature) throws Exception {
         buildRequiredValidUntilFilterIfNeeded(service, metadataFilterList);
-        buildSignatureValidationFilterIfNeeded(service, metadataFilterList);
+        if (validateMetadataSignature) {
+            buildSignatureValidationFilterIfNeeded(service, metadataFilterList);
+        }
 
         buildEntityRoleFilterIfNeeded(service, metadataFilterList);
         buildPredicateFilterIfNeeded(service, metadataFilterList);
@@ -272,4 +336,124 @@ public abstract class BaseSamlRegisteredServiceMetadataResolver implements SamlR
                 service.getMetadataLocation());
         }
     }
+
+    @Override
+    public boolean isMetadataResolvedPerEntity(final SamlRegisteredService service, final CriteriaSet criteriaSet) {
+        return isMetadataAggregateIndexingEnabled(service, criteriaSet) && supports(service);
+    }
+
+    /**
+     * Whether metadata for the requested entity should be resolved from a metadata aggregate index.
+     *
+     * @param service     the service
+     * @param criteriaSet the criteria set
+     * @return true/false
+     */
+    protected boolean isMetadataAggregateIndexingEnabled(final SamlRegisteredService service, final CriteriaSet criteriaSet) {
+        return metadataAggregateIndexRegistry != null
+            && criteriaSet.contains(EntityIdCriterion.class)
+            && StringUtils.isNotBlank(Objects.requireNonNull(criteriaSet.get(EntityIdCriterion.class)).getEntityId());
+    }
+
+    /**
+     * Build a metadata resolver for the requested entity from the metadata aggregate index
+     * built for the given metadata file, indexing the metadata file if necessary.
+     *
+     * @param service      the service
+     * @param criteriaSet  the criteria set
+     * @param metadataFile the metadata file
+     * @return the metadata resolver, or empty if the metadata file is not an aggregate
+     * @throws Exception the exception
+     */
+    protected Optional<AbstractMetadataResolver> buildIndexedMetadataResolver(final SamlRegisteredService service,
+                                                                              final CriteriaSet criteriaSet,
+                                                                              final File metadataFile) throws Exception {
+        val verifier = Unchecked.<SamlMetadataAggregateIndex>consumer(index -> verifyMetadataAggregateSignature(service, index));
+        val discriminator = getMetadataAggregateIndexDiscriminator(service);
+        try {
+            return buildIndexedMetadataResolver(service, criteriaSet,
+                metadataAggregateIndexRegistry.getIndex(metadataFile, discriminator, verifier));
+        } catch (final ClosedChannelException e) {
+            LOGGER.debug("Metadata aggregate index for [{}] was discarded while in use and will be rebuilt", metadataFile);
+            return buildIndexedMetadataResolver(service, criteriaSet,
+                metadataAggregateIndexRegistry.getIndex(metadataFile, discriminator, verifier));
+        }
+    }
+
+    /**
+     * Build a metadata resolver for the requested entity from the metadata aggregate index
+     * built previously for the given metadata file, if the index is still current.
+     *
+     * @param service      the service
+     * @param criteriaSet  the criteria set
+     * @param metadataFile the metadata file
+     * @return the metadata resolver, or empty if no current index exists
+     * @throws Exception the exception
+     */
+    protected Optional<AbstractMetadataResolver> getIndexedMetadataResolverIfPresent(final SamlRegisteredService service,
+                                                                                     final CriteriaSet criteriaSet,
+                                                                                     final File metadataFile) throws Exception {
+        val index = metadataAggregateIndexRegistry.getIndexIfPresent(metadataFile, getMetadataAggregateIndexDiscriminator(service));
+        try {
+            return buildIndexedMetadataResolver(service, criteriaSet, index);
+        } catch (final ClosedChannelException e) {
+            LOGGER.debug("Metadata aggregate index for [{}] was discarded while in use", metadataFile);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Verify the signatures of the metadata aggregate, if the service requires metadata signature validation.
+     * This is done once per aggregate index, since the entity descriptors materialized from the index
+     * can no longer be validated against the signatures of the aggregate. Entity descriptors that
+     * are removed by signature validation are discarded from the index so they are never resolved.
+     *
+     * @param service the service
+     * @param index   the metadata aggregate index
+     * @throws Exception the exception
+     */
+    protected void verifyMetadataAggregateSignature(final SamlRegisteredService service,
+                                                    final SamlMetadataAggregateIndex index) throws Exception {
+        val metadataFilterList = new ArrayList<MetadataFilter>(1);
+        buildSignatureValidationFilterIfNeeded(service, metadataFilterList);
+        if (metadataFilterList.isEmpty()) {
+            return;
+        }
+        LOGGER.debug("Validating signatures of metadata aggregate [{}]", index.getSource());
+        try (val input = Files.newInputStream(index.getSource().toPath())) {
+            val metadataResolver = new InMemoryResourceMetadataResolver(input, configBean);
+            metadataResolver.setId(metadataResolver.getClass().getCanonicalName());
+            metadataResolver.setFailFastInitialization(true);
+            addMetadataFiltersToMetadataResolver(metadataResolver, metadataFilterList);
+            try {
+                metadataResolver.initialize();
+                val trustedEntityIds = new HashSet<String>();
+                metadataResolver.forEach(entityDescriptor -> trustedEntityIds.add(entityDescriptor.getEntityID()));
+                val discarded = index.retainEntityIds(trustedEntityIds);
+                if (discarded > 0) {
+                    LOGGER.warn("Discarded [{}] entity descriptor(s) from metadata aggregate [{}] that failed signature validation",
+                        discarded, index.getSource());
+                }
+            } finally {
+                metadataResolver.destroy();
+            }
+        }
+    }
+
+    private Optional<AbstractMetadataResolver> buildIndexedMetadataResolver(final SamlRegisteredService service,
+                                                                            final CriteriaSet criteriaSet,
+                                                                            final Optional<SamlMetadataAggregateIndex> index) throws Exception {
+        if (index.isEmpty()) {
+            return Optional.empty();
+        }
+        val entityId = Objects.requireNonNull(criteriaSet.get(EntityIdCriterion.class)).getEntityId();
+        val entityDescriptor = index.get().getEntityDescriptor(entityId);
+        if (entityDescriptor.isEmpty()) {
+            LOGGER.debug("Entity [{}] cannot be found in metadata aggregate [{}]", entityId, index.get().getSource());
+        }
+        val metadata = entityDescriptor.orElse(EMPTY_METADATA_AGGREGATE);
+        val metadataResolver = new InMemoryResourceMetadataResolver(new ByteArrayInputStream(metadata), configBean);
+        configureAndInitializeSingleMetadataResolver(metadataResolver, service, new ArrayList<>(0), false);
+        return Optional.of(metadataResolver);
+    }
 }
@@ -45,6 +45,12 @@ public class FileSystemResourceMetadataResolver extends BaseSamlRegisteredServic
             val metadataResource = ResourceUtils.getResourceFrom(metadataLocation);
 
             val metadataFile = metadataResource.getFile();
+            if (!metadataFile.isDirectory() && isMetadataAggregateIndexingEnabled(service, criteriaSet)) {
+                val indexedResolver = buildIndexedMetadataResolver(service, criteriaSet, metadataFile);
+                if (indexedResolver.isPresent()) {
+                    return CollectionUtils.wrap(indexedResolver.get());
+                }
+            }
             val metadataResolver = getMetadataResolver(metadataResource, metadataFile);
             configureAndInitializeSingleMetadataResolver(metadataResolver, service);
             return CollectionUtils.wrap(metadataResolver);
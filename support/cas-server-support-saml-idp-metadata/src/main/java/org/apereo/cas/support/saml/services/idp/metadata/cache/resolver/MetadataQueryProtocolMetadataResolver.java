@@ -51,6 +51,11 @@ public class MetadataQueryProtocolMetadataResolver extends UrlResourceMetadataRe
         return SamlUtils.isDynamicMetadataQueryConfigured(service.getMetadataLocation());
     }
 
+    @Override
+    protected boolean isMetadataAggregateIndexingEnabled(final SamlRegisteredService service, final CriteriaSet criteriaSet) {
+        return false;
+    }
+
     @Override
     protected boolean shouldHttpResponseStatusBeProcessed(final HttpStatus status) {
         return true;
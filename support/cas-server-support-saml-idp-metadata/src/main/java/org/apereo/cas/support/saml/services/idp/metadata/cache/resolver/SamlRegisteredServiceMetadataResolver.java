@@ -44,6 +44,18 @@ public interface SamlRegisteredServiceMetadataResolver {
      */
     boolean supports(SamlRegisteredService service);
 
+    /**
+     * Whether the metadata resolved for the service only carries the requested entity,
+     * in which case resolvers must be cached per entity rather than per metadata location.
+     *
+     * @param service     the service
+     * @param criteriaSet the criteria set
+     * @return true/false
+     */
+    default boolean isMetadataResolvedPerEntity(final SamlRegisteredService service, final CriteriaSet criteriaSet) {
+        return false;
+    }
+
     /**
      * Save or update metadata document in the source.
      *
@@ -22,7 +22,6 @@ import lombok.val;
 import net.shibboleth.utilities.java.support.resolver.CriteriaSet;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOCase;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.filefilter.AndFileFilter;
 import org.apache.commons.io.filefilter.CanReadFileFilter;
 import org.apache.commons.io.filefilter.CanWriteFileFilter;
@@ -42,8 +41,8 @@ import org.springframework.http.HttpStatus;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collection;
 
@@ -93,10 +92,18 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
             RegisteredServiceAccessStrategyUtils.ensureServiceAccessIsAllowed(service);
 
             val metadataLocation = getMetadataLocationForService(service, criteriaSet);
-            LOGGER.info("Loading SAML metadata from [{}]", metadataLocation);
             val metadataResource = new UrlResource(metadataLocation);
 
             val backupFile = getMetadataBackupFile(metadataResource, service);
+            val indexingEnabled = isMetadataAggregateIndexingEnabled(service, criteriaSet);
+            if (indexingEnabled) {
+                val indexedResolver = getIndexedMetadataResolverIfPresent(service, criteriaSet, backupFile);
+                if (indexedResolver.isPresent()) {
+                    LOGGER.debug("Resolved SAML metadata from the index of metadata aggregate [{}]", metadataLocation);
+                    return CollectionUtils.wrap(indexedResolver.get());
+                }
+            }
+            LOGGER.info("Loading SAML metadata from [{}]", metadataLocation);
             if (backupFile.exists() && samlIdPProperties.getMetadata().getHttp().isForceMetadataRefresh()) {
                 cleanUpExpiredBackupMetadataFilesFor(metadataResource, service);
             }
@@ -107,6 +114,16 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
             response = fetchMetadata(service, metadataLocation, criteriaSet, backupFile);
             val status = HttpStatus.valueOf(response.getStatusLine().getStatusCode());
             if (shouldHttpResponseStatusBeProcessed(status)) {
+                if (indexingEnabled) {
+                    writeMetadataResponseToBackupFile(response, backupFile);
+                    val indexedResolver = buildIndexedMetadataResolver(service, criteriaSet, backupFile);
+                    if (indexedResolver.isPresent()) {
+                        return CollectionUtils.wrap(indexedResolver.get());
+                    }
+                    val metadataProvider = new InMemoryResourceMetadataResolver(backupFile, configBean);
+                    configureAndInitializeSingleMetadataResolver(metadataProvider, service);
+                    return CollectionUtils.wrap(metadataProvider);
+                }
                 val metadataProvider = getMetadataResolverFromResponse(response, backupFile);
                 configureAndInitializeSingleMetadataResolver(metadataProvider, service);
                 return CollectionUtils.wrap(metadataProvider);
@@ -175,16 +192,31 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
      */
     protected AbstractMetadataResolver getMetadataResolverFromResponse(final HttpResponse response,
                                                                        final File backupFile) throws Exception {
+        writeMetadataResponseToBackupFile(response, backupFile);
+        return new InMemoryResourceMetadataResolver(backupFile, configBean);
+    }
+
+    /**
+     * Write the metadata carried by the response to the backup file.
+     * The metadata is streamed to a temporary file that then replaces the backup file,
+     * so that concurrent readers never observe a partially written backup file.
+     *
+     * @param response   the response
+     * @param backupFile the backup file
+     * @throws Exception the exception
+     */
+    protected void writeMetadataResponseToBackupFile(final HttpResponse response, final File backupFile) throws Exception {
         val entity = response.getEntity();
-        val result = IOUtils.toString(entity.getContent(), StandardCharsets.UTF_8);
         val path = backupFile.toPath();
         LOGGER.trace("Writing metadata to file at [{}]", path);
-        try (val output = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-            IOUtils.write(result, output);
-            output.flush();
+        val temporaryFile = Files.createTempFile(path.getParent(), backupFile.getName(), ".tmp");
+        try (val input = entity.getContent()) {
+            Files.copy(input, temporaryFile, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temporaryFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
         }
         EntityUtils.consume(entity);
-        return new InMemoryResourceMetadataResolver(backupFile, configBean);
     }
 
     /**
@@ -4,6 +4,7 @@ import org.apereo.cas.support.saml.services.SamlIdPEntityIdAuthenticationService
 import org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredServiceCacheKeyTests;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredServiceDefaultCachingMetadataResolverTests;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredServiceMetadataResolverCacheLoaderTests;
+import org.apereo.cas.support.saml.services.idp.metadata.cache.index.SamlMetadataAggregateIndexTests;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.ClasspathResourceMetadataResolverTests;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.FileSystemResourceMetadataResolverTests;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.GroovyResourceMetadataResolverTests;
@@ -32,7 +33,8 @@ import org.junit.platform.suite.api.Suite;
     SamlRegisteredServiceDefaultCachingMetadataResolverTests.class,
     SamlRegisteredServiceMetadataResolverCacheLoaderTests.class,
     FileSystemResourceMetadataResolverTests.class,
-    JsonResourceMetadataResolverTests.class
+    JsonResourceMetadataResolverTests.class,
+    SamlMetadataAggregateIndexTests.class
 })
 @Suite
 public class SamlIdPMetadataTestsSuite {
@@ -3,7 +3,9 @@ package org.apereo.cas.support.saml.services.idp.metadata.cache;
 import org.apereo.cas.support.saml.SamlException;
 import org.apereo.cas.support.saml.services.BaseSamlIdPServicesTests;
 import org.apereo.cas.support.saml.services.SamlRegisteredService;
+import org.apereo.cas.support.saml.services.idp.metadata.cache.index.SamlMetadataAggregateIndexRegistry;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.ClasspathResourceMetadataResolver;
+import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.FileSystemResourceMetadataResolver;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.MetadataQueryProtocolMetadataResolver;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.UrlResourceMetadataResolver;
 import org.apereo.cas.support.saml.services.idp.metadata.plan.DefaultSamlRegisteredServiceMetadataResolutionPlan;
@@ -11,16 +13,23 @@ import org.apereo.cas.util.MockWebServer;
 
 import lombok.val;
 import net.shibboleth.utilities.java.support.resolver.CriteriaSet;
+import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.opensaml.core.criterion.EntityIdCriterion;
+import org.opensaml.saml.metadata.resolver.MetadataResolver;
 import org.opensaml.saml.criterion.EntityRoleCriterion;
 import org.opensaml.saml.saml2.metadata.SPSSODescriptor;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 
+import java.io.File;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -67,6 +76,44 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolverTests extends Ba
         }
     }
 
+    @Test
+    public void verifyIndexedAggregateCachedPerEntity() throws Exception {
+        val file = File.createTempFile("saml-metadata-aggregate", ".xml");
+        FileUtils.copyInputStreamToFile(new ClassPathResource("aggregate-md.xml").getInputStream(), file);
+
+        val aggregateRegisteredService = new SamlRegisteredService();
+        aggregateRegisteredService.setName("AggregateMetadata");
+        aggregateRegisteredService.setId(1000);
+        aggregateRegisteredService.setServiceId("https://.+");
+        aggregateRegisteredService.setMetadataLocation(file.getCanonicalPath());
+
+        try (val registry = new SamlMetadataAggregateIndexRegistry(Duration.ofMinutes(5))) {
+            val fileSystemResolver = new FileSystemResourceMetadataResolver(casProperties.getAuthn().getSamlIdp(), openSamlConfigBean);
+            fileSystemResolver.setMetadataAggregateIndexRegistry(registry);
+            val resolutionPlan = new DefaultSamlRegisteredServiceMetadataResolutionPlan();
+            resolutionPlan.registerMetadataResolver(fileSystemResolver);
+            val cacheLoader = new SamlRegisteredServiceMetadataResolverCacheLoader(openSamlConfigBean, httpClient, resolutionPlan);
+            val resolver = new SamlRegisteredServiceDefaultCachingMetadataResolver(Duration.ofMinutes(1), cacheLoader, openSamlConfigBean);
+
+            val criteriaSet1 = getCriteriaFor("https://issues.shibboleth.net/shibboleth");
+            val criteriaSet2 = getCriteriaFor("https://mfa-auth.dev.phenoapp.com/Saml2");
+            val resolver1 = resolver.resolve(aggregateRegisteredService, criteriaSet1);
+            val resolver2 = resolver.resolve(aggregateRegisteredService, criteriaSet2);
+            assertNotSame(resolver1, resolver2);
+            assertNotNull(resolver1.resolveSingle(criteriaSet1));
+            assertNotNull(resolver2.resolveSingle(criteriaSet2));
+            assertSame(resolver1, resolver.resolve(aggregateRegisteredService, criteriaSet1));
+            assertSame(resolver2, resolver.resolve(aggregateRegisteredService, criteriaSet2));
+
+            val criteriaSet3 = getCriteriaFor("unknown-service-provider");
+            assertThrows(SamlException.class, () -> resolver.resolve(aggregateRegisteredService, criteriaSet3));
+            assertFalse(resolver.resolveIfPresent(aggregateRegisteredService, criteriaSet3).isPresent());
+            assertSame(resolver1, resolver.resolve(aggregateRegisteredService, criteriaSet1));
+            assertSame(resolver2, resolver.resolve(aggregateRegisteredService, criteriaSet2));
+            resolver.invalidate();
+        }
+    }
+
     @Test
     public void verifyCacheValidityForAggregates() {
         val criteriaSet1 = getCriteriaFor("https://issues.shibboleth.net/shibboleth");
@@ -202,4 +249,42 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolverTests extends Ba
         assertEquals(2, stats3.loadSuccessCount());
         assertEquals(1, stats3.hitCount());
     }
+
+    @Test
+    public void verifyConcurrentResolutionSharesLoad() throws Exception {
+        val criteriaSet = getCriteriaFor("https://carmenwiki.osu.edu/shibboleth");
+
+        val service = new SamlRegisteredService();
+        service.setName("Example");
+        service.setId(1000);
+        service.setServiceId("https://carmenwiki.osu.edu/shibboleth");
+        service.setMetadataLocation("classpath:sample-sp.xml");
+
+        val resolutionPlan = new DefaultSamlRegisteredServiceMetadataResolutionPlan();
+        resolutionPlan.registerMetadataResolver(
+            new ClasspathResourceMetadataResolver(casProperties.getAuthn().getSamlIdp(), openSamlConfigBean));
+        val cacheLoader = new SamlRegisteredServiceMetadataResolverCacheLoader(openSamlConfigBean, httpClient, resolutionPlan);
+        val resolver = new SamlRegisteredServiceDefaultCachingMetadataResolver(Duration.ofMinutes(1), cacheLoader, openSamlConfigBean);
+
+        val executor = Executors.newFixedThreadPool(8);
+        try {
+            val tasks = new ArrayList<Callable<MetadataResolver>>();
+            for (var i = 0; i < 16; i++) {
+                tasks.add(() -> resolver.resolve(service, criteriaSet));
+            }
+            val results = executor.invokeAll(tasks);
+            val first = results.get(0).get();
+            assertNotNull(first);
+            for (val result : results) {
+                assertSame(first, result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+        val stats = resolver.getCacheStatistics();
+        assertEquals(1, stats.loadSuccessCount());
+        assertEquals(0, stats.loadFailureCount());
+        resolver.invalidate();
+    }
 }
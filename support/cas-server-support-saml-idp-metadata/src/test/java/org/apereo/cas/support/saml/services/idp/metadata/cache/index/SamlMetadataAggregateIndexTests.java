@@ -0,0 +1,204 @@
+package org.apereo.cas.support.saml.services.idp.metadata.cache.index;
+
+import org.apereo.cas.configuration.model.support.saml.idp.SamlIdPProperties;
+import org.apereo.cas.support.saml.services.BaseSamlIdPServicesTests;
+import org.apereo.cas.support.saml.services.SamlRegisteredService;
+import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.FileSystemResourceMetadataResolver;
+import org.apereo.cas.util.EncodingUtils;
+
+import lombok.val;
+import net.shibboleth.utilities.java.support.resolver.CriteriaSet;
+import net.shibboleth.utilities.java.support.xml.SerializeSupport;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opensaml.core.criterion.EntityIdCriterion;
+import org.opensaml.core.xml.util.XMLObjectSupport;
+import org.opensaml.saml.criterion.EntityRoleCriterion;
+import org.opensaml.saml.saml2.metadata.EntitiesDescriptor;
+import org.opensaml.saml.saml2.metadata.SPSSODescriptor;
+import org.opensaml.security.credential.CredentialSupport;
+import org.opensaml.xmlsec.SignatureSigningParameters;
+import org.opensaml.xmlsec.signature.support.SignatureConstants;
+import org.opensaml.xmlsec.signature.support.SignatureSupport;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.channels.ClosedChannelException;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPairGenerator;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link SamlMetadataAggregateIndexTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Tag("SAMLMetadata")
+public class SamlMetadataAggregateIndexTests extends BaseSamlIdPServicesTests {
+    private static final String ENTITY_ID = "https://issues.shibboleth.net/shibboleth";
+
+    private static SamlIdPProperties PROPERTIES;
+
+    @BeforeAll
+    public static void setup() throws Exception {
+        PROPERTIES = new SamlIdPProperties();
+        val path = new FileSystemResource(FileUtils.getTempDirectory()).getFile().getCanonicalPath();
+        PROPERTIES.getMetadata().getFileSystem().setLocation(path);
+    }
+
+    private static File copyToTempFile(final String resource) throws Exception {
+        val file = File.createTempFile("saml-metadata-aggregate", ".xml");
+        FileUtils.copyInputStreamToFile(new ClassPathResource(resource).getInputStream(), file);
+        return file;
+    }
+
+    private static String getEntityDescriptor(final String entityId, final String id) {
+        return "<md:EntityDescriptor entityID=\"" + entityId + "\" ID=\"" + id + "\">"
+            + "<md:SPSSODescriptor protocolSupportEnumeration=\"urn:oasis:names:tc:SAML:2.0:protocol\">"
+            + "<md:AssertionConsumerService Binding=\"urn:oasis:names:tc:SAML:2.0:bindings:HTTP-POST\" "
+            + "Location=\"" + entityId + "/acs\" index=\"1\"/>"
+            + "</md:SPSSODescriptor></md:EntityDescriptor>";
+    }
+
+    private static CriteriaSet getCriteriaFor(final String entityId) {
+        val criteriaSet = new CriteriaSet();
+        criteriaSet.add(new EntityIdCriterion(entityId));
+        criteriaSet.add(new EntityRoleCriterion(SPSSODescriptor.DEFAULT_ELEMENT_NAME));
+        return criteriaSet;
+    }
+
+    @Test
+    public void verifyIndexBuilt() throws Exception {
+        val file = copyToTempFile("aggregate-md.xml");
+        val index = SamlMetadataAggregateIndex.build(file).orElseThrow();
+        try {
+            assertEquals(2, index.getEntityIds().size());
+            assertTrue(index.getEntityIds().contains(ENTITY_ID));
+            val entity = new String(index.getEntityDescriptor(ENTITY_ID).orElseThrow(), StandardCharsets.UTF_8);
+            assertTrue(entity.contains(ENTITY_ID));
+            assertTrue(entity.contains("validUntil=\"2091-12-06T18:41:22Z\""));
+            assertTrue(index.getEntityDescriptor("unknown-entity").isEmpty());
+            assertFalse(index.isStale());
+        } finally {
+            index.close();
+        }
+        assertFalse(index.getIndexFile().exists());
+        assertThrows(ClosedChannelException.class, () -> index.getEntityDescriptor(ENTITY_ID));
+        assertTrue(index.getEntityDescriptor("unknown-entity").isEmpty());
+    }
+
+    @Test
+    public void verifyEntityDescriptorIsNotIndexed() throws Exception {
+        val file = copyToTempFile("sample-sp.xml");
+        assertTrue(SamlMetadataAggregateIndex.build(file).isEmpty());
+    }
+
+    @Test
+    public void verifyRegistrySharesIndex() throws Exception {
+        val file = copyToTempFile("aggregate-md.xml");
+        try (val registry = new SamlMetadataAggregateIndexRegistry(Duration.ofMinutes(5))) {
+            assertTrue(registry.getIndexIfPresent(file, "test").isEmpty());
+            val index = registry.getIndex(file, "test", f -> {
+            }).orElseThrow();
+            assertSame(index, registry.getIndex(file, "test", f -> fail("Index should not be built again")).orElseThrow());
+            assertSame(index, registry.getIndexIfPresent(file, "test").orElseThrow());
+
+            assertTrue(file.setLastModified(file.lastModified() - 10_000));
+            assertTrue(registry.getIndexIfPresent(file, "test").isEmpty());
+            assertNotSame(index, registry.getIndex(file, "test", f -> {
+            }).orElseThrow());
+        }
+    }
+
+    @Test
+    public void verifyResolverUsesIndex() throws Exception {
+        val file = copyToTempFile("aggregate-md.xml");
+        try (val registry = new SamlMetadataAggregateIndexRegistry(Duration.ofMinutes(5))) {
+            val resolver = new FileSystemResourceMetadataResolver(PROPERTIES, openSamlConfigBean);
+            resolver.setMetadataAggregateIndexRegistry(registry);
+
+            val service = new SamlRegisteredService();
+            service.setName("AggregateMetadata");
+            service.setServiceId("https://.+");
+            service.setMetadataLocation(file.getCanonicalPath());
+
+            val criteriaSet = getCriteriaFor(ENTITY_ID);
+            val resolvers = resolver.resolve(service, criteriaSet);
+            assertEquals(1, resolvers.size());
+            val entity = resolvers.iterator().next().resolveSingle(criteriaSet);
+            assertNotNull(entity);
+            assertEquals(ENTITY_ID, entity.getEntityID());
+            assertTrue(registry.getIndexIfPresent(file, "|true").isPresent());
+
+            val unknownCriteria = getCriteriaFor("unknown-entity");
+            val unknownResolvers = resolver.resolve(service, unknownCriteria);
+            assertEquals(1, unknownResolvers.size());
+            assertNull(unknownResolvers.iterator().next().resolveSingle(unknownCriteria));
+        }
+    }
+
+    @Test
+    public void verifyTamperedEntityIsNotIndexed() throws Exception {
+        val keyPair = KeyPairGenerator.getInstance("RSA");
+        keyPair.initialize(2048);
+        val keys = keyPair.generateKeyPair();
+        val publicKey = File.createTempFile("saml-metadata-public-key", ".pem");
+        FileUtils.write(publicKey, "-----BEGIN PUBLIC KEY-----\n"
+            + EncodingUtils.encodeBase64(keys.getPublic().getEncoded(), true)
+            + "\n-----END PUBLIC KEY-----\n", StandardCharsets.UTF_8);
+
+        val trustedEntityId = "https://trusted.example.org";
+        val tamperedEntityId = "https://tampered.example.org";
+        val aggregate = "<md:EntitiesDescriptor xmlns:md=\"urn:oasis:names:tc:SAML:2.0:metadata\" Name=\"aggregate\">"
+            + getEntityDescriptor(trustedEntityId, "trusted")
+            + getEntityDescriptor(tamperedEntityId, "tampered")
+            + "</md:EntitiesDescriptor>";
+        val entities = (EntitiesDescriptor) XMLObjectSupport.unmarshallFromInputStream(openSamlConfigBean.getParserPool(),
+            new ByteArrayInputStream(aggregate.getBytes(StandardCharsets.UTF_8)));
+        val parameters = new SignatureSigningParameters();
+        parameters.setSigningCredential(CredentialSupport.getSimpleCredential(keys.getPublic(), keys.getPrivate()));
+        parameters.setSignatureAlgorithm(SignatureConstants.ALGO_ID_SIGNATURE_RSA_SHA256);
+        parameters.setSignatureReferenceDigestMethod(SignatureConstants.ALGO_ID_DIGEST_SHA256);
+        parameters.setSignatureCanonicalizationAlgorithm(SignatureConstants.ALGO_ID_C14N_EXCL_OMIT_COMMENTS);
+        for (val entity : entities.getEntityDescriptors()) {
+            SignatureSupport.signObject(entity, parameters);
+        }
+        val signed = SerializeSupport.nodeToString(XMLObjectSupport.marshall(entities))
+            .replace(tamperedEntityId + "/acs", "https://attacker.example.org/acs");
+        val file = File.createTempFile("saml-metadata-aggregate", ".xml");
+        FileUtils.write(file, signed, StandardCharsets.UTF_8);
+
+        try (val registry = new SamlMetadataAggregateIndexRegistry(Duration.ofMinutes(5))) {
+            val resolver = new FileSystemResourceMetadataResolver(PROPERTIES, openSamlConfigBean);
+            resolver.setMetadataAggregateIndexRegistry(registry);
+
+            val service = new SamlRegisteredService();
+            service.setName("SignedAggregateMetadata");
+            service.setServiceId("https://.+");
+            service.setRequireSignedRoot(false);
+            service.setMetadataLocation(file.getCanonicalPath());
+            service.setMetadataSignatureLocation("file:" + publicKey.getCanonicalPath());
+
+            val trustedCriteria = getCriteriaFor(trustedEntityId);
+            val trusted = resolver.resolve(service, trustedCriteria);
+            assertEquals(1, trusted.size());
+            assertNotNull(trusted.iterator().next().resolveSingle(trustedCriteria));
+
+            val tamperedCriteria = getCriteriaFor(tamperedEntityId);
+            val tampered = resolver.resolve(service, tamperedCriteria);
+            assertEquals(1, tampered.size());
+            assertNull(tampered.iterator().next().resolveSingle(tamperedCriteria));
+
+            val index = registry.getIndexIfPresent(file, "file:" + publicKey.getCanonicalPath() + "|false").orElseThrow();
+            assertEquals(1, index.getEntityIds().size());
+            assertTrue(index.getEntityIds().contains(trustedEntityId));
+        }
+    }
+}
@@ -22,6 +22,7 @@ import org.apereo.cas.support.saml.services.idp.metadata.SamlRegisteredServiceMe
 import org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredServiceCachingMetadataResolver;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredServiceDefaultCachingMetadataResolver;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredServiceMetadataResolverCacheLoader;
+import org.apereo.cas.support.saml.services.idp.metadata.cache.index.SamlMetadataAggregateIndexRegistry;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.ClasspathResourceMetadataResolver;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.FileSystemResourceMetadataResolver;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.GroovyResourceMetadataResolver;
@@ -56,6 +57,7 @@ import org.springframework.boot.actuate.autoconfigure.endpoint.condition.Conditi
 import org.springframework.boot.actuate.autoconfigure.health.ConditionalOnEnabledHealthIndicator;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.ConfigurableApplicationContext;
@@ -158,20 +160,38 @@ public class SamlIdPMetadataConfiguration {
     @Configuration(value = "SamlIdPMetadataResolutionConfiguration", proxyBeanMethods = false)
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     public static class SamlIdPMetadataResolutionConfiguration {
+        @ConditionalOnMissingBean(name = "samlMetadataAggregateIndexRegistry")
+        @ConditionalOnProperty(name = "cas.authn.saml-idp.metadata.core.aggregate-index-enabled", havingValue = "true")
+        @Bean(destroyMethod = "close")
+        @Autowired
+        public SamlMetadataAggregateIndexRegistry samlMetadataAggregateIndexRegistry(final CasConfigurationProperties casProperties) {
+            val core = casProperties.getAuthn().getSamlIdp().getMetadata().getCore();
+            return new SamlMetadataAggregateIndexRegistry(Beans.newDuration(core.getAggregateIndexExpiration()));
+        }
+
         @ConditionalOnMissingBean(name = "samlRegisteredServiceMetadataResolvers")
         @Bean
         @Autowired
         public SamlRegisteredServiceMetadataResolutionPlan samlRegisteredServiceMetadataResolvers(
             final ObjectProvider<List<SamlRegisteredServiceMetadataResolutionPlanConfigurer>> configurersList,
             final CasConfigurationProperties casProperties,
+            @Qualifier("samlMetadataAggregateIndexRegistry")
+            final ObjectProvider<SamlMetadataAggregateIndexRegistry> samlMetadataAggregateIndexRegistry,
             @Qualifier(OpenSamlConfigBean.DEFAULT_BEAN_NAME)
             final OpenSamlConfigBean openSamlConfigBean) {
             val plan = new DefaultSamlRegisteredServiceMetadataResolutionPlan();
             val samlIdp = casProperties.getAuthn().getSamlIdp();
             plan.registerMetadataResolver(new MetadataQueryProtocolMetadataResolver(samlIdp, openSamlConfigBean));
             plan.registerMetadataResolver(new JsonResourceMetadataResolver(samlIdp, openSamlConfigBean));
-            plan.registerMetadataResolver(new FileSystemResourceMetadataResolver(samlIdp, openSamlConfigBean));
-            plan.registerMetadataResolver(new UrlResourceMetadataResolver(samlIdp, openSamlConfigBean));
+
+            val fileSystemResolver = new FileSystemResourceMetadataResolver(samlIdp, openSamlConfigBean);
+            val urlResolver = new UrlResourceMetadataResolver(samlIdp, openSamlConfigBean);
+            samlMetadataAggregateIndexRegistry.ifAvailable(registry -> {
+                fileSystemResolver.setMetadataAggregateIndexRegistry(registry);
+                urlResolver.setMetadataAggregateIndexRegistry(registry);
+            });
+            plan.registerMetadataResolver(fileSystemResolver);
+            plan.registerMetadataResolver(urlResolver);
             plan.registerMetadataResolver(new ClasspathResourceMetadataResolver(samlIdp, openSamlConfigBean));
             plan.registerMetadataResolver(new GroovyResourceMetadataResolver(samlIdp, openSamlConfigBean));
 
@@ -3,6 +3,7 @@ package org.apereo.cas.config;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.redis.core.RedisObjectFactory;
 import org.apereo.cas.web.support.RedisThrottledSubmissionHandlerInterceptorAdapter;
+import org.apereo.cas.web.support.RedisThrottledSubmissionStore;
 import org.apereo.cas.web.support.ThrottledSubmissionHandlerConfigurationContext;
 import org.apereo.cas.web.support.ThrottledSubmissionHandlerInterceptor;
 
@@ -17,7 +18,9 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
 
 /**
  * This is {@link CasRedisThrottlingConfiguration}.
@@ -40,20 +43,31 @@ public class CasRedisThrottlingConfiguration {
 
     @Bean
     @ConditionalOnMissingBean(name = "throttleRedisTemplate")
-    public RedisTemplate throttleRedisTemplate(
+    public StringRedisTemplate throttleRedisTemplate(
         @Qualifier("redisThrottleConnectionFactory")
         final RedisConnectionFactory redisThrottleConnectionFactory) {
-        return RedisObjectFactory.newRedisTemplate(redisThrottleConnectionFactory);
+        return new StringRedisTemplate(redisThrottleConnectionFactory);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "redisThrottledSubmissionStore")
+    @Autowired
+    public RedisThrottledSubmissionStore redisThrottledSubmissionStore(
+        final CasConfigurationProperties casProperties,
+        @Qualifier("throttleRedisTemplate")
+        final StringRedisTemplate throttleRedisTemplate) {
+        val failure = casProperties.getAuthn().getThrottle().getFailure();
+        return new RedisThrottledSubmissionStore(throttleRedisTemplate, Duration.ofSeconds(Math.max(failure.getRangeSeconds(), 1)));
     }
 
     @Autowired
     @Bean
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
     public ThrottledSubmissionHandlerInterceptor authenticationThrottle(
-        @Qualifier("throttleRedisTemplate")
-        final RedisTemplate throttleRedisTemplate,
+        @Qualifier("redisThrottledSubmissionStore")
+        final RedisThrottledSubmissionStore redisThrottledSubmissionStore,
         @Qualifier("authenticationThrottlingConfigurationContext")
         final ThrottledSubmissionHandlerConfigurationContext authenticationThrottlingConfigurationContext) {
-        return new RedisThrottledSubmissionHandlerInterceptorAdapter(authenticationThrottlingConfigurationContext, throttleRedisTemplate);
+        return new RedisThrottledSubmissionHandlerInterceptorAdapter(authenticationThrottlingConfigurationContext, redisThrottledSubmissionStore);
     }
 }
@@ -1,58 +1,48 @@
 package org.apereo.cas.web.support;
 
-import org.apereo.cas.audit.RedisAuditTrailManager;
-
+import lombok.extern.slf4j.Slf4j;
 import lombok.val;
-import org.apereo.inspektr.audit.AuditActionContext;
+import org.apache.commons.lang3.StringUtils;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
-import org.springframework.data.redis.core.BoundValueOperations;
-import org.springframework.data.redis.core.RedisTemplate;
 
 import javax.servlet.http.HttpServletRequest;
-import java.util.Comparator;
-import java.util.Objects;
-import java.util.Set;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.Date;
 
 /**
  * Works in conjunction with a redis database to
  * block attempts to dictionary attack users.
+ * Failed attempts are tracked per IP address and username
+ * in a {@link RedisThrottledSubmissionStore}.
  *
  * @author Misagh Moayyed
  * @since 6.1.0
  */
+@Slf4j
 @SuppressWarnings("JavaUtilDate")
 public class RedisThrottledSubmissionHandlerInterceptorAdapter extends AbstractInspektrAuditHandlerInterceptorAdapter {
-    private final transient RedisTemplate redisTemplate;
+    private static final String ATTRIBUTE_FAILURE_RECORDED = RedisThrottledSubmissionHandlerInterceptorAdapter.class.getName() + ".failureRecorded";
+
+    private final transient RedisThrottledSubmissionStore throttledSubmissionStore;
 
     public RedisThrottledSubmissionHandlerInterceptorAdapter(final ThrottledSubmissionHandlerConfigurationContext configurationContext,
-                                                             final RedisTemplate redisTemplate) {
+                                                             final RedisThrottledSubmissionStore throttledSubmissionStore) {
         super(configurationContext);
-        this.redisTemplate = redisTemplate;
+        this.throttledSubmissionStore = throttledSubmissionStore;
+    }
+
+    @Override
+    public void recordSubmissionFailure(final HttpServletRequest request) {
+        if (request.getAttribute(ATTRIBUTE_FAILURE_RECORDED) != null) {
+            LOGGER.trace("Submission failure is already recorded for this request");
+            return;
+        }
+        request.setAttribute(ATTRIBUTE_FAILURE_RECORDED, Boolean.TRUE);
+        throttledSubmissionStore.recordFailure(constructKey(request), new Date());
     }
 
     @Override
     public boolean exceedsThreshold(final HttpServletRequest request) {
-        val clientInfo = ClientInfoHolder.getClientInfo();
-        val remoteAddress = clientInfo.getClientIpAddress();
-
-        val keys = (Set<String>) this.redisTemplate.keys(RedisAuditTrailManager.CAS_AUDIT_CONTEXT_PREFIX + '*');
-        val failures = Objects.requireNonNull(keys)
-            .stream()
-            .map((Function<String, BoundValueOperations>) this.redisTemplate::boundValueOps)
-            .map(BoundValueOperations::get)
-            .map(AuditActionContext.class::cast)
-            .filter(audit ->
-                audit.getPrincipal().equalsIgnoreCase(getUsernameParameterFromRequest(request))
-                    && audit.getClientIpAddress().equalsIgnoreCase(remoteAddress)
-                    && audit.getActionPerformed().equalsIgnoreCase(getConfigurationContext().getAuthenticationFailureCode())
-                    && audit.getApplicationCode().equalsIgnoreCase(getConfigurationContext().getApplicationCode())
-                    && audit.getWhenActionWasPerformed().compareTo(getFailureInRangeCutOffDate()) >= 0)
-            .sorted(Comparator.comparing(AuditActionContext::getWhenActionWasPerformed).reversed())
-            .limit(2)
-            .map(AuditActionContext::getWhenActionWasPerformed)
-            .collect(Collectors.toList());
+        val failures = throttledSubmissionStore.getFailures(constructKey(request), getFailureInRangeCutOffDate(), 2);
         return calculateFailureThresholdRateAndCompare(failures);
     }
 
@@ -60,4 +50,17 @@ public class RedisThrottledSubmissionHandlerInterceptorAdapter extends AbstractI
     public String getName() {
         return "RedisThrottle";
     }
+
+    /**
+     * Construct the key that tracks failures for the request,
+     * based on the application code, client IP address and username.
+     *
+     * @param request the request
+     * @return the key
+     */
+    protected String constructKey(final HttpServletRequest request) {
+        val remoteAddress = ClientInfoHolder.getClientInfo().getClientIpAddress();
+        val username = StringUtils.defaultString(getUsernameParameterFromRequest(request)).toLowerCase();
+        return getConfigurationContext().getApplicationCode() + ':' + remoteAddress + ':' + username;
+    }
 }
@@ -0,0 +1,94 @@
+package org.apereo.cas.web.support;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link RedisThrottledSubmissionStore} that keeps track of failed authentication
+ * attempts in Redis, using one sorted set per throttling key scored by the time of each failure.
+ * Recording a failure adds the entry, trims entries that fall outside the failure range and refreshes
+ * the expiration of the key in a single atomic script. Looking up the most recent failures is a single
+ * range query by score whose cost does not depend on how many failures or audit records exist overall.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+@SuppressWarnings("JavaUtilDate")
+public class RedisThrottledSubmissionStore {
+    /**
+     * Prefix of the redis keys that hold authentication failures.
+     */
+    public static final String CAS_THROTTLE_PREFIX = "CasThrottleFailures:";
+
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('zadd', KEYS[1], ARGV[1], ARGV[2]); "
+            + "redis.call('zremrangebyscore', KEYS[1], '-inf', '(' .. ARGV[3]); "
+            + "redis.call('pexpire', KEYS[1], ARGV[4]); "
+            + "return redis.call('zcard', KEYS[1])", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final Duration failureRange;
+
+    /**
+     * Record an authentication failure for the given key.
+     *
+     * @param key  the key
+     * @param when the time of the failure
+     * @return the number of failures tracked for the key within the failure range
+     */
+    public long recordFailure(final String key, final Date when) {
+        val redisKey = CAS_THROTTLE_PREFIX + key;
+        val score = when.getTime();
+        val member = score + ":" + UUID.randomUUID();
+        val cutoff = score - failureRange.toMillis();
+        val expiration = Math.max(1, failureRange.toMillis());
+        val count = redisTemplate.execute(RECORD_SCRIPT, List.of(redisKey),
+            String.valueOf(score), member, String.valueOf(cutoff), String.valueOf(expiration));
+        LOGGER.debug("Recorded authentication failure for [{}]; [{}] failure(s) are tracked", redisKey, count);
+        return Objects.requireNonNullElse(count, 0L);
+    }
+
+    /**
+     * Gets the most recent failures for the given key
+     * that occurred on or after the given cutoff date, most recent first.
+     *
+     * @param key    the key
+     * @param cutoff the cutoff
+     * @param count  the maximum number of failures to return
+     * @return the failures
+     */
+    public List<Date> getFailures(final String key, final Date cutoff, final int count) {
+        val results = redisTemplate.opsForZSet().reverseRangeByScoreWithScores(CAS_THROTTLE_PREFIX + key,
+            cutoff.getTime(), Double.POSITIVE_INFINITY, 0, count);
+        return Objects.requireNonNull(results)
+            .stream()
+            .map(ZSetOperations.TypedTuple::getScore)
+            .filter(Objects::nonNull)
+            .map(score -> new Date(score.longValue()))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Remove all failures tracked for the given key.
+     *
+     * @param key the key
+     */
+    public void removeFailures(final String key) {
+        redisTemplate.delete(CAS_THROTTLE_PREFIX + key);
+    }
+}
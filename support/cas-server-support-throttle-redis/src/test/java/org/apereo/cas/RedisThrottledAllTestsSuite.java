@@ -1,6 +1,7 @@
 package org.apereo.cas;
 
 import org.apereo.cas.web.support.RedisThrottledSubmissionHandlerInterceptorAdapterTests;
+import org.apereo.cas.web.support.RedisThrottledSubmissionStoreTests;
 
 import org.junit.platform.suite.api.SelectClasses;
 import org.junit.platform.suite.api.Suite;
@@ -11,7 +12,10 @@ import org.junit.platform.suite.api.Suite;
  * @author Misagh Moayyed
  * @since 6.1.0
  */
-@SelectClasses(RedisThrottledSubmissionHandlerInterceptorAdapterTests.class)
+@SelectClasses({
+    RedisThrottledSubmissionHandlerInterceptorAdapterTests.class,
+    RedisThrottledSubmissionStoreTests.class
+})
 @Suite
 public class RedisThrottledAllTestsSuite {
 }
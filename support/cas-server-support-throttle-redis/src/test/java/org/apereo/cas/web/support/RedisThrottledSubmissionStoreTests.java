@@ -0,0 +1,69 @@
+package org.apereo.cas.web.support;
+
+import org.apereo.cas.config.CasRedisThrottlingConfiguration;
+import org.apereo.cas.config.CasSupportRedisAuditConfiguration;
+import org.apereo.cas.util.junit.EnabledIfPortOpen;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link RedisThrottledSubmissionStoreTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Tag("Redis")
+@SpringBootTest(classes = {
+    CasRedisThrottlingConfiguration.class,
+    CasSupportRedisAuditConfiguration.class,
+    BaseThrottledSubmissionHandlerInterceptorAdapterTests.SharedTestConfiguration.class
+},
+    properties = {
+        "cas.authn.throttle.failure.range-seconds=5",
+        "cas.audit.redis.host=localhost",
+        "cas.audit.redis.port=6379"
+    })
+@EnabledIfPortOpen(port = 6379)
+@SuppressWarnings("JavaUtilDate")
+public class RedisThrottledSubmissionStoreTests {
+    @Autowired
+    @Qualifier("redisThrottledSubmissionStore")
+    private RedisThrottledSubmissionStore redisThrottledSubmissionStore;
+
+    @Test
+    public void verifyRecentFailures() {
+        val key = UUID.randomUUID().toString();
+        val now = System.currentTimeMillis();
+        assertEquals(1, redisThrottledSubmissionStore.recordFailure(key, new Date(now - 2000)));
+        assertEquals(2, redisThrottledSubmissionStore.recordFailure(key, new Date(now - 1000)));
+        assertEquals(3, redisThrottledSubmissionStore.recordFailure(key, new Date(now)));
+
+        val failures = redisThrottledSubmissionStore.getFailures(key, new Date(now - 1500), 2);
+        assertEquals(2, failures.size());
+        assertEquals(now, failures.get(0).getTime());
+        assertEquals(now - 1000, failures.get(1).getTime());
+
+        assertTrue(redisThrottledSubmissionStore.getFailures(key, new Date(now + 1000), 2).isEmpty());
+        redisThrottledSubmissionStore.removeFailures(key);
+        assertTrue(redisThrottledSubmissionStore.getFailures(key, new Date(0), 2).isEmpty());
+    }
+
+    @Test
+    public void verifyFailuresOutsideRangeAreTrimmed() {
+        val key = UUID.randomUUID().toString();
+        val now = System.currentTimeMillis();
+        redisThrottledSubmissionStore.recordFailure(key, new Date(now - 10_000));
+        assertEquals(1, redisThrottledSubmissionStore.recordFailure(key, new Date(now)));
+        assertEquals(1, redisThrottledSubmissionStore.getFailures(key, new Date(0), 2).size());
+    }
+}
@@ -5,16 +5,23 @@ import org.apereo.cas.services.RegisteredServiceCipherExecutor;
 import org.apereo.cas.services.RegisteredServiceProperty.RegisteredServiceProperties;
 import org.apereo.cas.util.CollectionUtils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 
+import java.time.Duration;
 import java.util.Optional;
 
 /**
  * This is {@link RegisteredServiceJwtTicketCipherExecutor}.
+ * Cipher executors built for registered services are cached and reused
+ * for as long as the keys and cipher strategy assigned to the service remain the same.
  *
  * @author Misagh Moayyed
  * @since 5.3.0
@@ -22,6 +29,14 @@ import java.util.Optional;
 @Slf4j
 @NoArgsConstructor
 public class RegisteredServiceJwtTicketCipherExecutor extends JwtTicketCipherExecutor implements RegisteredServiceCipherExecutor {
+    private static final long MAXIMUM_CACHED_CIPHER_EXECUTORS = 1_000;
+
+    private static final Duration CACHED_CIPHER_EXECUTOR_EXPIRATION = Duration.ofHours(1);
+
+    private final Cache<CipherExecutorKey, JwtTicketCipherExecutor> cipherExecutors = Caffeine.newBuilder()
+        .maximumSize(MAXIMUM_CACHED_CIPHER_EXECUTORS)
+        .expireAfterAccess(CACHED_CIPHER_EXECUTOR_EXPIRATION)
+        .build();
 
     @Override
     public String decode(final String data, final Optional<RegisteredService> service) {
@@ -68,7 +83,23 @@ public class RegisteredServiceJwtTicketCipherExecutor extends JwtTicketCipherExe
         val encryptionKey = getEncryptionKey(registeredService).orElse(StringUtils.EMPTY);
         val signingKey = getSigningKey(registeredService).orElse(StringUtils.EMPTY);
         val order = getCipherOperationsStrategyType(registeredService).orElse(CipherOperationsStrategyType.ENCRYPT_AND_SIGN);
-        return createCipherExecutorInstance(encryptionKey, signingKey, registeredService, order);
+        if (!isCipherExecutorCacheable(registeredService)) {
+            return createCipherExecutorInstance(encryptionKey, signingKey, registeredService, order);
+        }
+        val key = new CipherExecutorKey(registeredService.getId(), encryptionKey, signingKey, order);
+        return cipherExecutors.get(key, k -> createCipherExecutorInstance(encryptionKey, signingKey, registeredService, order));
+    }
+
+    /**
+     * Whether the cipher executor created for the service may be cached and shared
+     * between operations. Cipher executors that carry state from one operation
+     * to the next must not be cached.
+     *
+     * @param registeredService the registered service
+     * @return true/false
+     */
+    protected boolean isCipherExecutorCacheable(final RegisteredService registeredService) {
+        return true;
     }
 
     /**
@@ -163,4 +194,16 @@ public class RegisteredServiceJwtTicketCipherExecutor extends JwtTicketCipherExe
     protected RegisteredServiceProperties getEncryptionKeyRegisteredServiceProperty() {
         return RegisteredServiceProperties.TOKEN_AS_SERVICE_TICKET_ENCRYPTION_KEY;
     }
+
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static class CipherExecutorKey {
+        private final long registeredServiceId;
+
+        private final String encryptionKey;
+
+        private final String signingKey;
+
+        private final CipherOperationsStrategyType strategyType;
+    }
 }
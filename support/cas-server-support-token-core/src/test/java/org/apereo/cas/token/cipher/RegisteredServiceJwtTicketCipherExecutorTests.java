@@ -38,4 +38,24 @@ public class RegisteredServiceJwtTicketCipherExecutorTests {
             new DefaultRegisteredServiceProperty(BaseStringCipherExecutor.CipherOperationsStrategyType.SIGN_AND_ENCRYPT.name()));
         assertTrue(c.getCipherOperationsStrategyType(service).isPresent());
     }
+
+    @Test
+    public void verifyCipherExecutorCachedPerService() {
+        val service = RegisteredServiceTestUtils.getRegisteredService();
+        service.getProperties().put(RegisteredServiceProperties.TOKEN_AS_SERVICE_TICKET_SIGNING_KEY.getPropertyName(),
+            new DefaultRegisteredServiceProperty("cAPyoHMrOMWrwydOXzBA-ufZQM-TilnLjbRgMQWlUlwFmy07bOtAgCIdNBma3c5P4ae_JV6n1OpOAYqSh2NkmQ"));
+        service.getProperties().put(RegisteredServiceProperties.TOKEN_AS_SERVICE_TICKET_ENCRYPTION_KEY.getPropertyName(),
+            new DefaultRegisteredServiceProperty("AZ5y4I9qzKPYUVNL2Td4RMbpg6Z-ldui8VEFg8hsj1M"));
+        val c = new RegisteredServiceJwtTicketCipherExecutor();
+        val cipher = c.getTokenTicketCipherExecutorForService(service);
+        assertTrue(cipher.isEnabled());
+        assertSame(cipher, c.getTokenTicketCipherExecutorForService(service));
+
+        val token = c.encode("Value", Optional.of(service));
+        assertEquals("Value", c.decode(token, Optional.of(service)));
+
+        service.getProperties().put(RegisteredServiceProperties.TOKEN_AS_SERVICE_TICKET_SIGNING_KEY.getPropertyName(),
+            new DefaultRegisteredServiceProperty("1H_V4Sv1j3illEshWVwIv56PWpvb4h9FNh3sEV9GGzfAuRtTN54RAU1hVSYbMF3hsy6AgH1LJVuWy0u70r9Ccg"));
+        assertNotSame(cipher, c.getTokenTicketCipherExecutorForService(service));
+    }
 }
@@ -0,0 +1,59 @@
+package org.apereo.cas.config;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.hz.HazelcastConfigurationFactory;
+import org.apereo.cas.web.flow.executor.FlowExecutionStateStore;
+import org.apereo.cas.web.flow.executor.HazelcastFlowExecutionStateStore;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.instance.impl.HazelcastInstanceFactory;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ScopedProxyMode;
+
+/**
+ * This is {@link HazelcastWebflowExecutionStoreConfiguration} that stores webflow executions in Hazelcast.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@EnableConfigurationProperties(CasConfigurationProperties.class)
+@Slf4j
+@Configuration(value = "hazelcastWebflowExecutionStoreConfiguration", proxyBeanMethods = false)
+public class HazelcastWebflowExecutionStoreConfiguration {
+    private static final String MAP_NAME = "webflowExecutions";
+
+    @Bean(destroyMethod = "shutdown")
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    @ConditionalOnMissingBean(name = "casWebflowExecutionHazelcastInstance")
+    @Autowired
+    public HazelcastInstance casWebflowExecutionHazelcastInstance(final CasConfigurationProperties casProperties) {
+        val store = casProperties.getWebflow().getSession().getStore();
+        val hz = store.getHazelcast();
+        val timeToLive = Beans.newDuration(store.getTimeToLive());
+        LOGGER.debug("Creating Hazelcast instance to store webflow executions in map [{}]", MAP_NAME);
+        val mapConfig = HazelcastConfigurationFactory.buildMapConfig(hz, MAP_NAME, timeToLive.getSeconds());
+        val config = HazelcastConfigurationFactory.build(hz, mapConfig);
+        return HazelcastInstanceFactory.getOrCreateHazelcastInstance(config);
+    }
+
+    @Bean
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    @Autowired
+    public FlowExecutionStateStore flowExecutionStateStore(
+        final CasConfigurationProperties casProperties,
+        @Qualifier("casWebflowExecutionHazelcastInstance")
+        final HazelcastInstance casWebflowExecutionHazelcastInstance) {
+        val store = casProperties.getWebflow().getSession().getStore();
+        return new HazelcastFlowExecutionStateStore(casWebflowExecutionHazelcastInstance.getMap(MAP_NAME),
+            Beans.newDuration(store.getTimeToLive()));
+    }
+}
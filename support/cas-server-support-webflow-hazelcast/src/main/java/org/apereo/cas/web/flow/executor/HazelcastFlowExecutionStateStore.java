@@ -0,0 +1,36 @@
+package org.apereo.cas.web.flow.executor;
+
+import com.hazelcast.map.IMap;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link HazelcastFlowExecutionStateStore} that keeps flow execution snapshots
+ * in a distributed Hazelcast map. Snapshots are evicted from the map once their time-to-live has passed.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@RequiredArgsConstructor
+public class HazelcastFlowExecutionStateStore implements FlowExecutionStateStore {
+    private final IMap<String, byte[]> storage;
+
+    private final Duration timeToLive;
+
+    @Override
+    public void put(final String key, final byte[] state) {
+        storage.set(key, state, timeToLive.getSeconds(), TimeUnit.SECONDS);
+    }
+
+    @Override
+    public byte[] get(final String key) {
+        return storage.get(key);
+    }
+
+    @Override
+    public void remove(final String key) {
+        storage.delete(key);
+    }
+}
@@ -0,0 +1,44 @@
+package org.apereo.cas.web.flow.executor;
+
+import org.apereo.cas.config.HazelcastWebflowExecutionStoreConfiguration;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link HazelcastFlowExecutionStateStoreTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Tag("Hazelcast")
+@SpringBootTest(classes = {
+    RefreshAutoConfiguration.class,
+    HazelcastWebflowExecutionStoreConfiguration.class
+}, properties = "cas.webflow.session.store.hazelcast.cluster.core.instance-name=webflowExecutionStore")
+public class HazelcastFlowExecutionStateStoreTests {
+    @Autowired
+    @Qualifier(FlowExecutionStateStore.BEAN_NAME)
+    private FlowExecutionStateStore flowExecutionStateStore;
+
+    @Test
+    public void verifyOperation() {
+        val key = UUID.randomUUID().toString();
+        val state = "flow-state".getBytes(StandardCharsets.UTF_8);
+        assertNull(flowExecutionStateStore.get(key));
+        flowExecutionStateStore.put(key, state);
+        assertArrayEquals(state, flowExecutionStateStore.get(key));
+        flowExecutionStateStore.remove(key);
+        assertNull(flowExecutionStateStore.get(key));
+    }
+}
@@ -0,0 +1,59 @@
+package org.apereo.cas.config;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.redis.core.RedisObjectFactory;
+import org.apereo.cas.web.flow.executor.FlowExecutionStateStore;
+import org.apereo.cas.web.flow.executor.RedisFlowExecutionStateStore;
+
+import lombok.val;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * This is {@link RedisWebflowExecutionStoreConfiguration} that stores webflow executions in Redis.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@EnableConfigurationProperties(CasConfigurationProperties.class)
+@Configuration(value = "redisWebflowExecutionStoreConfiguration", proxyBeanMethods = false)
+public class RedisWebflowExecutionStoreConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(name = "redisWebflowExecutionConnectionFactory")
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    @Autowired
+    public RedisConnectionFactory redisWebflowExecutionConnectionFactory(final CasConfigurationProperties casProperties) {
+        val redis = casProperties.getWebflow().getSession().getStore().getRedis();
+        return RedisObjectFactory.newRedisConnectionFactory(redis);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "redisWebflowExecutionTemplate")
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    public RedisTemplate<String, byte[]> redisWebflowExecutionTemplate(
+        @Qualifier("redisWebflowExecutionConnectionFactory")
+        final RedisConnectionFactory redisWebflowExecutionConnectionFactory) {
+        return RedisObjectFactory.newRedisTemplate(redisWebflowExecutionConnectionFactory);
+    }
+
+    @Bean
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    @Autowired
+    public FlowExecutionStateStore flowExecutionStateStore(
+        final CasConfigurationProperties casProperties,
+        @Qualifier("redisWebflowExecutionTemplate")
+        final RedisTemplate<String, byte[]> redisWebflowExecutionTemplate) {
+        val store = casProperties.getWebflow().getSession().getStore();
+        return new RedisFlowExecutionStateStore(redisWebflowExecutionTemplate, Beans.newDuration(store.getTimeToLive()));
+    }
+}
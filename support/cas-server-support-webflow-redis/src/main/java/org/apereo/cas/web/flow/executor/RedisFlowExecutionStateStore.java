@@ -0,0 +1,37 @@
+package org.apereo.cas.web.flow.executor;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * This is {@link RedisFlowExecutionStateStore} that keeps flow execution snapshots in Redis.
+ * Snapshots expire in Redis once their time-to-live has passed.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@RequiredArgsConstructor
+public class RedisFlowExecutionStateStore implements FlowExecutionStateStore {
+    private static final String KEY_PREFIX = "CAS_WEBFLOW_EXECUTION:";
+
+    private final RedisTemplate<String, byte[]> template;
+
+    private final Duration timeToLive;
+
+    @Override
+    public void put(final String key, final byte[] state) {
+        template.opsForValue().set(KEY_PREFIX + key, state, timeToLive);
+    }
+
+    @Override
+    public byte[] get(final String key) {
+        return template.opsForValue().get(KEY_PREFIX + key);
+    }
+
+    @Override
+    public void remove(final String key) {
+        template.delete(KEY_PREFIX + key);
+    }
+}
@@ -0,0 +1,49 @@
+package org.apereo.cas.web.flow.executor;
+
+import org.apereo.cas.config.RedisWebflowExecutionStoreConfiguration;
+import org.apereo.cas.util.junit.EnabledIfPortOpen;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link RedisFlowExecutionStateStoreTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.5.0
+ */
+@Tag("Redis")
+@EnabledIfPortOpen(port = 6379)
+@SpringBootTest(classes = {
+    RefreshAutoConfiguration.class,
+    RedisWebflowExecutionStoreConfiguration.class
+}, properties = {
+    "cas.webflow.session.store.redis.host=localhost",
+    "cas.webflow.session.store.redis.port=6379"
+})
+public class RedisFlowExecutionStateStoreTests {
+    @Autowired
+    @Qualifier(FlowExecutionStateStore.BEAN_NAME)
+    private FlowExecutionStateStore flowExecutionStateStore;
+
+    @Test
+    public void verifyOperation() {
+        val key = UUID.randomUUID().toString();
+        val state = "flow-state".getBytes(StandardCharsets.UTF_8);
+        assertNull(flowExecutionStateStore.get(key));
+        flowExecutionStateStore.put(key, state);
+        assertArrayEquals(state, flowExecutionStateStore.get(key));
+        flowExecutionStateStore.remove(key);
+        assertNull(flowExecutionStateStore.get(key));
+    }
+}
@@ -143,8 +143,7 @@ public class WSFederationClaimsReleasePolicy extends AbstractRegisteredServiceAt
                                                       final Map<String, List<Object>> resolvedAttributes,
                                                       final Map<String, List<Object>> attributesToRelease) {
         val args = CollectionUtils.wrap("attributes", resolvedAttributes, "logger", LOGGER);
-        script.setBinding(args);
-        val result = script.execute(args.values().toArray(), Object.class);
+        val result = script.execute(args, args.values().toArray(), Object.class, true);
         if (result != null) {
             LOGGER.debug("Mapped attribute [{}] to [{}] from script", attributeName, result);
             attributesToRelease.put(attributeName, CollectionUtils.wrapList(result));